@@ -12,11 +12,11 @@ import com.achelos.task.logging.LoggingConnector;
 import com.achelos.task.logging.ReportDutInfoFields;
 import com.achelos.task.logging.ReportMetadataFields;
 import com.achelos.task.micsverifier.MICSVerifier;
+import com.achelos.task.micsverifier.SpecificationSnapshot;
 import com.achelos.task.testcaseexecutionengine.TestCaseRunner;
 import com.achelos.task.testsuitesetup.TestSuiteSetup;
 import com.achelos.task.utilities.DateTimeUtils;
 import com.achelos.task.utilities.FileUtils;
-import com.achelos.task.xmlparser.configparsing.ConfigParser;
 import com.achelos.task.xmlparser.datastructures.configuration.GlobalConfigChecker;
 import com.achelos.task.xmlparser.datastructures.configuration.GlobalConfigParameter;
 import com.achelos.task.xmlparser.datastructures.configuration.GlobalConfigParameterNames;
@@ -31,6 +31,11 @@ import jakarta.xml.bind.DatatypeConverter;
  */
 public class TaskTestTool {
 
+	/**
+	 * Maximum time to wait for the loggers to write the queued log entries at the end of the execution.
+	 */
+	private static final long LOGGER_DRAIN_TIMEOUT_MILLISECONDS = 10000;
+
 	private final MICSVerifier micsVerifier;
 	private final HashMap<String, GlobalConfigParameter> globalConfiguration;
 	private final LoggingConnector logger;
@@ -47,7 +52,7 @@ public class TaskTestTool {
 		this.logger = logger;
 
 		this.logger.info("TaSK: Parsing the global configuration file.");
-		globalConfiguration = ConfigParser.parseGlobalConfig(configFile);
+		globalConfiguration = SpecificationSnapshot.parseGlobalConfig(configFile);
 		if (globalConfiguration.isEmpty()) {
 			throw new Exception("Unable to parse the global configuration file.");
 		}
@@ -61,6 +66,9 @@ public class TaskTestTool {
 			throw new Exception("Specification directory contained in the global configuration file does not exist.");
 		}
 		this.logger.debug("TaSK: Successfully read specification directory from the global configuration file.");
+		var snapshotDirectoryPath = GlobalConfigChecker.getGlobalConfigParameter(globalConfiguration,
+				GlobalConfigParameterNames.SpecificationSnapshotDirectory).getValueAsString();
+		var snapshotDirectory = snapshotDirectoryPath.isEmpty() ? null : new File(snapshotDirectoryPath);
 
 		this.logger.info("TaSK: Initializing the MICS verifier.");
 		// Modules 1 and 2
@@ -69,7 +77,7 @@ public class TaskTestTool {
 		// Parse the Test case definitions (Specifications in the xml format)
 		// Parse the application specific profiles
 		// Parse the TR specifications
-		micsVerifier = initializeMicsVerifier(specificationDir, configFile);
+		micsVerifier = initializeMicsVerifier(specificationDir, configFile, snapshotDirectory);
 		if (micsVerifier == null) {
 			throw new Exception("Unable to initialize the MICS verifier.");
 		}
@@ -204,17 +212,16 @@ public class TaskTestTool {
 					DateTimeUtils.getISOFormattedTimeStamp());
 			logger.tellLogger(BasicLogger.MSG_METADATA, entry);
 
-			waitForLogger();
+			waitForLogger(logger);
 		}
 	}
 
-	private static void waitForLogger() {
+	private static void waitForLogger(final LoggingConnector logger) {
 		// We need to wait for the logger to finish because end time in the XML/PDF report is sometimes missing.
-		try {
-			final int sleepTime = 1000;
-			Thread.sleep(sleepTime);
-		} catch (InterruptedException e) {
-			// Do nothing.
+		if (!logger.drain(LOGGER_DRAIN_TIMEOUT_MILLISECONDS)) {
+			// Passed to the loggers which are still able to write it.
+			logger.error("Not all log entries have been written within " + LOGGER_DRAIN_TIMEOUT_MILLISECONDS
+					+ " ms.");
 		}
 	}
 
@@ -243,7 +250,7 @@ public class TaskTestTool {
 			var entry = new AbstractMap.SimpleEntry<>(ReportMetadataFields.END_OF_EXECUTION,
 					DateTimeUtils.getISOFormattedTimeStamp());
 			logger.tellLogger(BasicLogger.MSG_METADATA, entry);
-			waitForLogger();
+			waitForLogger(logger);
 		}
 	}
 
@@ -277,11 +284,12 @@ public class TaskTestTool {
 		var testSuite = new TestSuiteRun("TaSK TLS TestSuite", testRunPlanConfig.getTestCases());
 
 		// Execute the test cases
-		var testCaseRunner = new TestCaseRunner();
+		var testCaseRunner = new TestCaseRunner(testRunPlanConfig);
 		testCaseRunner.executeTestCases(testSuite);
 	}
 
-	private static MICSVerifier initializeMicsVerifier(final File specificationDir, final File globalConfig) {
+	private static MICSVerifier initializeMicsVerifier(final File specificationDir, final File globalConfig,
+			final File snapshotDirectory) {
 		// Configuration Files
 		// Application Specifications
 		var applicationSpecificationList = new LinkedList<File>();
@@ -326,10 +334,10 @@ public class TaskTestTool {
 		final var testProfiles = new File(specificationDir, "TestProfiles.xml");
 		final var tlsConfigData = new File(specificationDir, "TlsConfigurationData.xml");
 
-		// Initialize the MICS verifier with these files.
-		MICSVerifier micsVerifier = new MICSVerifier(applicationSpecificationList,
-				applicationMappingList, testCasesDir, testProfiles, globalConfig,
-				tlsConfigData);
+		// Initialize the MICS verifier with these files, unless they have been parsed before.
+		MICSVerifier micsVerifier = new MICSVerifier(SpecificationSnapshot.loadConfiguration(
+				applicationSpecificationList, applicationMappingList, testCasesDir, testProfiles, globalConfig,
+				tlsConfigData, snapshotDirectory));
 
 		return micsVerifier;
 	}
@@ -48,6 +48,11 @@ public abstract class AbstractTestCase implements IStepExecution {
 		this.testCasePurpose = testCasePurpose;
 	}
 
+	/**
+	 * Execution group of all test cases which share the state of the DUT.
+	 */
+	public static final String DUT_EXECUTION_GROUP = "DUT";
+
 	/**
 	 * Access to logger.
 	 */
@@ -60,11 +65,44 @@ public abstract class AbstractTestCase implements IStepExecution {
 
 	/**
 	 * Performs basic test case initialization.
+	 *
+	 * @param configuration the configuration of the test run the test case belongs to
 	 */
-	public AbstractTestCase() {
+	public AbstractTestCase(final TestRunPlanConfiguration configuration) {
 		currentState = TestCaseState.IDLE;
 		logger = LoggingConnector.getInstance();
-		configuration = TestRunPlanConfiguration.getInstance();
+		this.configuration = configuration;
+	}
+
+	/**
+	 * Performs basic test case initialization without the configuration of the test run, which has to be set by
+	 * {@link #setConfiguration(TestRunPlanConfiguration)} before the test case is executed. Only use this constructor
+	 * for test cases which cannot be created with their configuration.
+	 */
+	protected AbstractTestCase() {
+		this(null);
+	}
+
+	/**
+	 * Gets the configuration of the test run the test case belongs to.
+	 *
+	 * @return the configuration of the test run the test case belongs to.
+	 */
+	public final TestRunPlanConfiguration getConfiguration() {
+		return configuration;
+	}
+
+	/**
+	 * Sets the configuration of the test run the test case belongs to, if the test case has been created without.
+	 *
+	 * @param configuration the configuration of the test run the test case belongs to
+	 * @throws IllegalStateException if the test case already belongs to a test run
+	 */
+	public final void setConfiguration(final TestRunPlanConfiguration configuration) {
+		if (this.configuration != null) {
+			throw new IllegalStateException("Test case " + testCaseId + " already belongs to a test run.");
+		}
+		this.configuration = configuration;
 	}
 
 
@@ -93,6 +131,17 @@ public abstract class AbstractTestCase implements IStepExecution {
 		this.testCaseId = testCaseId;
 	}
 
+	/**
+	 * Gets the execution group of the test case. Test cases of the same execution group are never executed
+	 * concurrently, but one after another in the order they were queued. By default all test cases share the state of
+	 * the DUT. Test cases which are independent of any other test case may return null.
+	 *
+	 * @return the execution group of the test case or null if the test case may run concurrently to any other.
+	 */
+	public String getExecutionGroup() {
+		return DUT_EXECUTION_GROUP;
+	}
+
 	/**
 	 * This method will be called before the actual {@link #preProcessing()} starts. It could be used to auto-generate
 	 * the calls, used to establish a connection to the card.
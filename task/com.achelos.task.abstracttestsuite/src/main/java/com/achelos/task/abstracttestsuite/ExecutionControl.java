@@ -6,9 +6,12 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 
 import com.achelos.task.logging.BasicLogger;
+import com.achelos.task.logging.LogScopedTaskRunner;
 import com.achelos.task.logging.LoggingConnector;
 
 
@@ -48,12 +51,27 @@ public final class ExecutionControl {
 	}
 
 	/**
-	 * Queue the given test cases for execution.
+	 * Queue the given test cases for execution. The test cases are executed one after another.
 	 *
 	 * @param tcs the test cases to execute
 	 * @return list of test case runs if the test case execution is successfully queued, null otherwise.
 	 */
 	public List<TestCaseRun> addAll(final Collection<AbstractTestCase> tcs) {
+		return addAll(tcs, 1);
+	}
+
+	/**
+	 * Queue the given test cases for execution on at most the given number of workers. Test cases of the same
+	 * execution group (see {@link AbstractTestCase#getExecutionGroup()}) are executed one after another in the order
+	 * they are given. While executed concurrently, the log entries of each test case are distributed as one block, in
+	 * the order of the given test cases.
+	 *
+	 * @param tcs the test cases to execute
+	 * @param parallelism the maximum number of test cases to execute at the same time
+	 * @return list of test case runs in the order of the given test cases if the test case execution is successfully
+	 *         queued, null otherwise.
+	 */
+	public List<TestCaseRun> addAll(final Collection<AbstractTestCase> tcs, final int parallelism) {
 		if (tcs == null || tcs.isEmpty()) {
 			return null;
 		}
@@ -67,17 +85,44 @@ public final class ExecutionControl {
 
 
 		try {
-			// 3. Create execution job (and put it into the job group) for every test case run
-			run2tc.forEach((run, tc) -> executorJobs.add(createExecutorJob(tc, run)));
-			// 4. Start all the jobs
-			executorJobs.forEach(Runnable::run);
+			if (parallelism <= 1) {
+				// 3. Create execution job (and put it into the job group) for every test case run
+				run2tc.forEach((run, tc) -> executorJobs.add(createExecutorJob(tc, run)));
+				// 4. Start all the jobs
+				executorJobs.forEach(Runnable::run);
+			} else {
+				runConcurrently(run2tc, parallelism);
+			}
 			return new ArrayList<>(run2tc.keySet());
 		} catch (Exception e) {
-			System.err.println("Couldn't queue test case executions" + e);
+			LoggingConnector.getInstance().error("Couldn't queue test case executions.", e);
 		}
 		return null;
 	}
 
+	/**
+	 * Execute the given test cases on a bounded pool of workers, see {@link LogScopedTaskRunner}. The execution group of
+	 * a test case is its lane, test cases without an execution group get a lane of their own.
+	 *
+	 * @param run2tc the test case runs and their test cases in queuing order
+	 * @param parallelism the maximum number of lanes to execute at the same time
+	 * @throws InterruptedException if the current thread is interrupted while waiting for the workers
+	 */
+	private void runConcurrently(final LinkedHashMap<TestCaseRun, AbstractTestCase> run2tc, final int parallelism)
+			throws InterruptedException {
+		final List<Callable<Object>> jobs = new ArrayList<>(run2tc.size());
+		final List<String> executionGroups = new ArrayList<>(run2tc.size());
+		run2tc.forEach((run, tc) -> {
+			jobs.add(Executors.callable(createExecutorJob(tc, run)));
+			executionGroups.add(tc.getExecutionGroup());
+		});
+		for (var outcome : LogScopedTaskRunner.run("TestCaseWorker", parallelism, jobs, executionGroups)) {
+			if (outcome.isFailed()) {
+				LoggingConnector.getInstance().error("Test case execution failed.", outcome.getFailure());
+			}
+		}
+	}
+
 	/**
 	 * @param tc the test case to execute
 	 * @return test case run if the test case execution is successfully queued, null otherwise.
@@ -89,7 +134,7 @@ public final class ExecutionControl {
 			job.run();
 			return testCaseRun;
 		} catch (Exception e) {
-			System.err.println("Couldn't queue execution for: " + testCaseRun + e);
+			LoggingConnector.getInstance().error("Couldn't queue execution for: " + testCaseRun, e);
 		}
 		return null;
 	}
@@ -127,7 +172,7 @@ public final class ExecutionControl {
 					logger.tellLogger(BasicLogger.MSG_TESTCASE_ENDED, testCaseRun);
 				}
 			} catch (Exception e) {
-				System.err.println("Cannot print test case run summary" + e);
+				LoggingConnector.getInstance().error("Cannot print test case run summary.", e);
 			}
 		};
 
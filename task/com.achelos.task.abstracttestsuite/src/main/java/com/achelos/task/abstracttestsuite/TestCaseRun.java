@@ -2,7 +2,6 @@ package com.achelos.task.abstracttestsuite;
 
 import java.time.Duration;
 import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -179,8 +178,7 @@ public class TestCaseRun {
 	 * @return a human-readable formatted date time for output in a log file
 	 */
 	public final String getStartTimeFormatted() {
-		return DateTimeFormatter.ofPattern(DateTimeUtils.ISO_8601_DATE_TIME_PATTERN_MILLISECONDS)
-				.format(startTimestamp);
+		return DateTimeUtils.ISO_8601_DATE_TIME_FORMATTER_MILLISECONDS.format(startTimestamp);
 	}
 
 	/**
@@ -1,6 +1,7 @@
 package com.achelos.task.commandlineexecution.applications.certgenerator;
 
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -10,6 +11,8 @@ import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.PosixFilePermissions;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
 
 import com.achelos.task.configuration.TestRunPlanConfiguration;
 import com.achelos.task.logging.LoggingConnector;
@@ -20,7 +23,11 @@ import com.achelos.task.logging.LoggingConnector;
  */
 public class CertGeneratorExecutor {
 
-	private static boolean certsGenerated = false;
+	/**
+	 * Certificate directories of the test runs for which the certificates have been generated. The certificates contain
+	 * the OCSP and CRL responder ports of the test run, so they are generated once per test run.
+	 */
+	private static final Set<File> GENERATED_CERTIFICATE_DIRECTORIES = new HashSet<>();
 	private static final String SCRIPT_RESOURCE_PATH = "generate_crl_ocsp_certificates.sh";
 	private static final String CONFIGURATION_TEMPLATE_RESOURCE_PATH = "certificate_template.cnf";
 	private final Path script;
@@ -120,8 +127,8 @@ public class CertGeneratorExecutor {
 	 * It reads the certificate generator script file and certificate template file from resources.
 	 * Generates the certificate for OCSP/CRL request.
 	 * This method uses the OCSP responder port, CRL responder port, OpenSSL executable path and
-	 * CLR OCSP certificate directory from global configuration file to execute the script.
-	 * Prints the execution results into debug output.
+	 * CLR OCSP certificate directory from the run configuration to execute the script.
+	 * Prints the execution results into debug output. The certificates are generated once per test run.
 	 *
 	 * @param logger the {@link LoggingConnector} instance to use for logging.
 	 * @param configuration the global configuration file.
@@ -130,14 +137,16 @@ public class CertGeneratorExecutor {
 	 */
 	public static void generateOcspCrlCertificates(final LoggingConnector logger,
 													final TestRunPlanConfiguration configuration) throws IOException {
-		if (!certsGenerated) {
-			var certGenerator = new CertGeneratorExecutor(logger, configuration);
-			certGenerator.execute();
-			certGenerator.printResults();
-			certsGenerated = true;
-		} else {
-			logger.debug("CertGeneratorExecutor: Generation skipped since certificates were generated previously.");
+		synchronized (GENERATED_CERTIFICATE_DIRECTORIES) {
+			if (!GENERATED_CERTIFICATE_DIRECTORIES.contains(configuration.getCrlOcspCertDirectory())) {
+				var certGenerator = new CertGeneratorExecutor(logger, configuration);
+				certGenerator.execute();
+				certGenerator.printResults();
+				GENERATED_CERTIFICATE_DIRECTORIES.add(configuration.getCrlOcspCertDirectory());
+				return;
+			}
 		}
+		logger.debug("CertGeneratorExecutor: Generation skipped since certificates were generated previously.");
 
 	}
 
@@ -7,11 +7,15 @@ import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import com.achelos.task.commandlineexecution.applications.certgenerator.CertGeneratorExecutor;
 import com.achelos.task.commandlineexecution.genericcommandlineexecution.Executor;
+import com.achelos.task.commandlineexecution.genericcommandlineexecution.PortAllocator;
+import com.achelos.task.commandlineexecution.genericcommandlineexecution.ReadinessCondition;
 import com.achelos.task.commandlineexecution.genericcommandlineexecution.RunLogger;
 import com.achelos.task.commons.enums.TlsCipherSuite;
+import com.achelos.task.configuration.TestRunPlanConfiguration;
 import com.achelos.task.logging.LoggingConnector;
 
 /**
@@ -19,20 +23,70 @@ import com.achelos.task.logging.LoggingConnector;
  */
 public class CRLExecutor extends RunLogger {
 
+	/**
+	 * Maximum time to wait for the CRL server to start serving in milliseconds.
+	 */
+	private static final long STARTUP_TIMEOUT_MILLISECONDS = 3000;
+	/**
+	 * Maximum time to wait for the CRL server to terminate in milliseconds.
+	 */
+	private static final long SHUTDOWN_TIMEOUT_MILLISECONDS = 3000;
+	/**
+	 * Message logged by the CRL server as soon as it is serving.
+	 */
+	private static final String SERVING_MESSAGE = "Serving HTTP on";
+	/**
+	 * Environment variable disabling the output buffering of Python.
+	 */
+	private static final String PYTHON_UNBUFFERED_VARIABLE = "PYTHONUNBUFFERED";
+
 	/**
 	 * Default constructor.
 	 * 
 	 * @param testCaseName the test case name
 	 * @param logger the logger to use
+	 * @param configuration the configuration of the test run the test case belongs to
 	 */
-	public CRLExecutor(final String testCaseName, final LoggingConnector logger)	throws IOException,
-																					URISyntaxException {
-		super(testCaseName, Executor.CRL, logger);
-		CertGeneratorExecutor.generateOcspCrlCertificates(logger, getConfiguration());
+	public CRLExecutor(final String testCaseName, final LoggingConnector logger,
+			final TestRunPlanConfiguration configuration) throws IOException, URISyntaxException {
+		this(testCaseName, logger, configuration, null);
 	}
 
 	/**
-	 * Starts the CRL server on the port of the CRL responder as specified in the global configuration file.
+	 * Constructor for a CRL server listening on the given leased port.
+	 * 
+	 * @param testCaseName the test case name
+	 * @param logger the logger to use
+	 * @param configuration the configuration of the test run the test case belongs to
+	 * @param portLease the lease of the port to listen on, closed in {@link #cleanAndExit()} or if the construction
+	 *        fails
+	 */
+	public CRLExecutor(final String testCaseName, final LoggingConnector logger,
+			final TestRunPlanConfiguration configuration, final PortAllocator.PortLease portLease)
+			throws IOException, URISyntaxException {
+		super(testCaseName, Executor.CRL, logger, configuration, portLease);
+		try {
+			CertGeneratorExecutor.generateOcspCrlCertificates(logger, getConfiguration());
+		} catch (IOException | RuntimeException e) {
+			releasePortLease();
+			throw e;
+		}
+	}
+
+	/**
+	 * Returns the port the CRL server listens on. Unless a port lease has been passed to the constructor, this is the
+	 * port of the CRL responder of the run configuration, which is leased for the whole test run.
+	 * 
+	 * @return the port of the CRL server.
+	 */
+	public final int getPort() {
+		return getServicePort(getConfiguration().getCrlResponderPort());
+	}
+
+	/**
+	 * Starts the CRL server on the port of the CRL responder.
+	 * 
+	 * @see #getPort()
 	 * 
 	 * @param cipherSuite the cipher suite to get CRL/OCSP directory with matching key type.
 	 * @throws Exception may throws an exception if CRL server is unable to start.
@@ -44,7 +98,7 @@ public class CRLExecutor extends RunLogger {
 
 		String path = getConfiguration().getCrlOcspCertDirectoryWithMatchingKeyType(cipherSuite).getAbsolutePath();
 		path += "/root-ca/crl/";
-		var port = getConfiguration().getCrlResponderPort();
+		var port = getPort();
 
 		// command.add("cd " + path);
 		command.add("python3");
@@ -54,10 +108,12 @@ public class CRLExecutor extends RunLogger {
 		command.add(Integer.toString(port));
 
 
-		start(command, null, new File(path));
-		// We add a small delay for the process to finish
-		final int finishProcessDelay = 3000;
-		startSleepTimer(finishProcessDelay);
+		// Disable the output buffering of Python in any case, as the serving message signals the readiness.
+		start(command, null, new File(path), Map.of(PYTHON_UNBUFFERED_VARIABLE, "1"));
+		if (!waitUntilReady(ReadinessCondition.logMessage(SERVING_MESSAGE).or(ReadinessCondition.listeningPort(port)),
+				STARTUP_TIMEOUT_MILLISECONDS)) {
+			logDebug("CRL server is not serving on port " + port + " after " + STARTUP_TIMEOUT_MILLISECONDS + " ms.");
+		}
 	}
 
 	/**
@@ -72,10 +128,11 @@ public class CRLExecutor extends RunLogger {
 		final List<String> command = new ArrayList<>(Arrays.asList(commands.split(" ")));
 
 
-		start(command, null, null);
-		// We add a small delay for the process to finish
-		final int finishProcessDelay = 3000;
-		startSleepTimer(finishProcessDelay);
+		start(command, null, null, Map.of(PYTHON_UNBUFFERED_VARIABLE, "1"));
+		if (!waitUntilReady(ReadinessCondition.logMessage(SERVING_MESSAGE).or(ReadinessCondition.processExit()),
+				STARTUP_TIMEOUT_MILLISECONDS)) {
+			logDebug("CRL server is not serving after " + STARTUP_TIMEOUT_MILLISECONDS + " ms.");
+		}
 	}
 
 	/**
@@ -83,12 +140,8 @@ public class CRLExecutor extends RunLogger {
 	 */
 	@Override
 	public final void stop() {
-		final int delay = 1000;
-		startSleepTimer(delay);
-		destroy();
-		while (isRunning()) {
+		if (!destroyAndWait(SHUTDOWN_TIMEOUT_MILLISECONDS)) {
 			logDebug("CRL process is still alive.");
-			startSleepTimer(delay);
 		}
 		super.removeShutdownHook();
 	}
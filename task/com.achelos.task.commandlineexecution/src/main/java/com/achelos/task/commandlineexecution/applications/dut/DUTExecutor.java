@@ -2,19 +2,14 @@ package com.achelos.task.commandlineexecution.applications.dut;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
-import java.util.Arrays;
 import java.util.Timer;
 import java.util.TimerTask;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 import com.achelos.task.commandlineexecution.genericcommandlineexecution.Executor;
 import com.achelos.task.commandlineexecution.genericcommandlineexecution.GenericCommandLineExecution;
 import com.achelos.task.commandlineexecution.genericcommandlineexecution.IterationCounter;
+import com.achelos.task.commandlineexecution.genericcommandlineexecution.ReadinessCondition;
+import com.achelos.task.configuration.TestRunPlanConfiguration;
 import com.achelos.task.dutcommandgenerators.DUTCommandGenerator;
 import com.achelos.task.logging.BasicLogger;
 
@@ -24,6 +19,11 @@ import com.achelos.task.logging.BasicLogger;
  * IP address and port is possible.
  */
 public class DUTExecutor extends GenericCommandLineExecution {
+	/**
+	 * Maximum time to wait for a previously started DUT process to terminate before starting the next one in
+	 * milliseconds.
+	 */
+	private static final long PREVIOUS_PROCESS_TIMEOUT_MILLISECONDS = 2000;
 	private final DUTCommandGenerator dutCommandGenerator;
 
 	/**
@@ -32,10 +32,12 @@ public class DUTExecutor extends GenericCommandLineExecution {
 	 *
 	 * @param testCaseName the test case name
 	 * @param log the logger to use for logging.
+	 * @param configuration the configuration of the test run the test case belongs to.
 	 * @param dutCommandGenerator Command Generator for DUT ApplicationType.
 	 */
-	public DUTExecutor(final String testCaseName, final BasicLogger log, final DUTCommandGenerator dutCommandGenerator) throws IOException, URISyntaxException {
-		super(Executor.DUT, testCaseName, log);
+	public DUTExecutor(final String testCaseName, final BasicLogger log, final TestRunPlanConfiguration configuration,
+			final DUTCommandGenerator dutCommandGenerator) throws IOException, URISyntaxException {
+		super(Executor.DUT, testCaseName, log, configuration);
 		setIterationCounter(null);
 		this.dutCommandGenerator = dutCommandGenerator;
 	}
@@ -56,8 +58,10 @@ public class DUTExecutor extends GenericCommandLineExecution {
 	 */
 	public final void start(final boolean isSessionResumption)
 			throws Exception {
-		// Add a small delay to let DUT to store logs to file in order in case of session resumption.
-		startSleepTimer(2000);
+		// Let a previously started DUT store its logs to file in order in case of session resumption.
+		if (isRunning() && !waitUntilReady(ReadinessCondition.processExit(), PREVIOUS_PROCESS_TIMEOUT_MILLISECONDS)) {
+			logDebug("Previous " + getExecutor().getName() + " process is still running.");
+		}
 
 		// Get Command to call the DUT.
 		var commands = dutCommandGenerator.connectToServer(isSessionResumption);
@@ -100,22 +104,10 @@ public class DUTExecutor extends GenericCommandLineExecution {
 		logDebug("Reset current " + getExecutor().getName() + " configuration.");
 		
 		if (isRunning()) {
-			int dutExecutableTimeoutSeconds = getConfiguration().getDutExecutableTimeout();
-			ExecutorService executor = Executors.newSingleThreadExecutor();
-			try {
-				executor.invokeAny(Arrays.asList(new WaitForRunningProcess()),
-						dutExecutableTimeoutSeconds,
-						TimeUnit.SECONDS);
-			} catch (InterruptedException | ExecutionException | TimeoutException e) {
-				logDebug("Waiting for the " + getExecutor().getName() + " has been interrupted.");
-			} // Timeout of given time in seconds.
-			executor.shutdown();
-			try {
-				if (!executor.awaitTermination(500, TimeUnit.MILLISECONDS)) {
-					executor.shutdownNow();
-				}
-			} catch (InterruptedException e) {
-				executor.shutdownNow();
+			final long dutExecutableTimeoutMilliseconds = getConfiguration().getDutExecutableTimeout() * 1000L;
+			if (!waitUntilReady(ReadinessCondition.processExit(), dutExecutableTimeoutMilliseconds)) {
+				logDebug(getExecutor().getName() + " did not terminate within " + dutExecutableTimeoutMilliseconds
+						+ " ms.");
 			}
 		}
 
@@ -124,21 +116,6 @@ public class DUTExecutor extends GenericCommandLineExecution {
 
 	}
 	
-	private class WaitForRunningProcess implements Callable<String> {
-		@Override
-		public String call() throws Exception {
-			try {
-				while (isRunning()) {
-					final int sleepTimeMilliSeconds = 100;
-					Thread.sleep(sleepTimeMilliSeconds);
-				}
-			} catch (InterruptedException e) {
-				// do nothing.
-			}
-			return null;
-		}
-	}
-
 	/**
 	 * Stops the DUT executor process after 60 seconds if not stopped already. De-registers a previously-registered
 	 * virtual-machine shutdown hook.
@@ -12,7 +12,9 @@ import java.util.TimerTask;
 import com.achelos.task.commandlineexecution.applications.certgenerator.CertGeneratorExecutor;
 import com.achelos.task.commandlineexecution.genericcommandlineexecution.Executor;
 import com.achelos.task.commandlineexecution.genericcommandlineexecution.GenericCommandLineExecution;
+import com.achelos.task.commandlineexecution.genericcommandlineexecution.ReadinessCondition;
 import com.achelos.task.commons.enums.TlsCipherSuite;
+import com.achelos.task.configuration.TestRunPlanConfiguration;
 import com.achelos.task.configuration.TlsTestToolCertificateTypes;
 import com.achelos.task.logging.LoggingConnector;
 
@@ -22,20 +24,39 @@ import com.achelos.task.logging.LoggingConnector;
  */
 public class OCSPRequestExecutor extends GenericCommandLineExecution {
 
+	private final Integer ocspResponderPort;
+
 	/**
 	 * Default constructor.
 	 * 
 	 * @param testCaseName the test case name
 	 * @param logger the logger to use
+	 * @param configuration the configuration of the test run the test case belongs to
 	 */
-	public OCSPRequestExecutor(final String testCaseName, final LoggingConnector logger)	throws IOException,
-																					URISyntaxException {
-		super(Executor.OCSPREQUEST, testCaseName, logger);
+	public OCSPRequestExecutor(final String testCaseName, final LoggingConnector logger,
+			final TestRunPlanConfiguration configuration) throws IOException, URISyntaxException {
+		this(testCaseName, logger, configuration, null);
+	}
+
+	/**
+	 * Constructor for requests to an OCSP responder listening on the given port.
+	 * 
+	 * @param testCaseName the test case name
+	 * @param logger the logger to use
+	 * @param configuration the configuration of the test run the test case belongs to
+	 * @param ocspResponderPort the port of the OCSP responder, or null to use the port of the OCSP responder as
+	 *        specified in the global configuration file
+	 */
+	public OCSPRequestExecutor(final String testCaseName, final LoggingConnector logger,
+			final TestRunPlanConfiguration configuration, final Integer ocspResponderPort)
+			throws IOException, URISyntaxException {
+		super(Executor.OCSPREQUEST, testCaseName, logger, configuration);
+		this.ocspResponderPort = ocspResponderPort;
 		CertGeneratorExecutor.generateOcspCrlCertificates(logger, getConfiguration());
 	}
 
 	/**
-	 * Starts the OCSP request executor on the port of the OCSP responder as specified in the global configuration file.
+	 * Starts the OCSP request executor on the port of the OCSP responder.
 	 * 
 	 * @param cipherSuite the cipher suite to get CRL/OCSP directory with matching key type.
 	 * @param certType the certificate type to select. 
@@ -46,7 +67,7 @@ public class OCSPRequestExecutor extends GenericCommandLineExecution {
 		final List<String> command = new ArrayList<>();
 
 		String path = getConfiguration().getCrlOcspCertDirectoryWithMatchingKeyType(cipherSuite).getAbsolutePath();
-		var port = getConfiguration().getOcspResponderPort();
+		var port = ocspResponderPort != null ? ocspResponderPort : getConfiguration().getOcspResponderPort();
 		var opensslExecutable = getConfiguration().getOpenSSLExecutable();
 
 		command.add(opensslExecutable);
@@ -84,9 +105,11 @@ public class OCSPRequestExecutor extends GenericCommandLineExecution {
 		}
 		
 		start(command, logFile, null);
-		// We add a small delay for the process to finish
-		final int finishProcessDelay = 3000;
-		startSleepTimer(finishProcessDelay);
+		// Wait for the request to be completed
+		final long finishProcessTimeout = 3000;
+		if (!waitUntilReady(ReadinessCondition.processExit(), finishProcessTimeout)) {
+			logDebug("OCSP request has not been completed after " + finishProcessTimeout + " ms.");
+		}
 
 	}
 
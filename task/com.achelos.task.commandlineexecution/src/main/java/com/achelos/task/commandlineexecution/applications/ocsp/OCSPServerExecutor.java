@@ -9,8 +9,11 @@ import java.util.List;
 
 import com.achelos.task.commandlineexecution.applications.certgenerator.CertGeneratorExecutor;
 import com.achelos.task.commandlineexecution.genericcommandlineexecution.Executor;
+import com.achelos.task.commandlineexecution.genericcommandlineexecution.PortAllocator;
+import com.achelos.task.commandlineexecution.genericcommandlineexecution.ReadinessCondition;
 import com.achelos.task.commandlineexecution.genericcommandlineexecution.RunLogger;
 import com.achelos.task.commons.enums.TlsCipherSuite;
+import com.achelos.task.configuration.TestRunPlanConfiguration;
 import com.achelos.task.logging.LoggingConnector;
 
 /**
@@ -18,19 +21,67 @@ import com.achelos.task.logging.LoggingConnector;
  */
 public class OCSPServerExecutor extends RunLogger {
 
+	/**
+	 * Maximum time to wait for the OCSP responder to accept connections in milliseconds.
+	 */
+	private static final long STARTUP_TIMEOUT_MILLISECONDS = 3000;
+	/**
+	 * Maximum time to wait for the OCSP responder to terminate in milliseconds.
+	 */
+	private static final long SHUTDOWN_TIMEOUT_MILLISECONDS = 3000;
+	/**
+	 * Message logged by the OCSP responder of OpenSSL 1.1 and 3.x as soon as it accepts connections. The port is not
+	 * probed, as the responder logs each connection without request as a failure.
+	 */
+	private static final String ACCEPTING_MESSAGE = "^ACCEPT |[Ww]aiting for OCSP client connections";
+
 	/**
 	 * Default constructor.
 	 * 
 	 * @param testCaseName the test case name
 	 * @param logger the logger to use
+	 * @param configuration the configuration of the test run the test case belongs to
+	 */
+	public OCSPServerExecutor(final String testCaseName, final LoggingConnector logger,
+			final TestRunPlanConfiguration configuration) throws IOException {
+		this(testCaseName, logger, configuration, null);
+	}
+
+	/**
+	 * Constructor for an OCSP responder listening on the given leased port.
+	 * 
+	 * @param testCaseName the test case name
+	 * @param logger the logger to use
+	 * @param configuration the configuration of the test run the test case belongs to
+	 * @param portLease the lease of the port to listen on, closed in {@link #cleanAndExit()} or if the construction
+	 *        fails
+	 */
+	public OCSPServerExecutor(final String testCaseName, final LoggingConnector logger,
+			final TestRunPlanConfiguration configuration, final PortAllocator.PortLease portLease)
+			throws IOException {
+		super(testCaseName, Executor.OCSPSERVER, logger, configuration, portLease);
+		try {
+			CertGeneratorExecutor.generateOcspCrlCertificates(logger, getConfiguration());
+		} catch (IOException | RuntimeException e) {
+			releasePortLease();
+			throw e;
+		}
+	}
+
+	/**
+	 * Returns the port the OCSP responder listens on. Unless a port lease has been passed to the constructor, this is
+	 * the port of the OCSP responder of the run configuration, which is leased for the whole test run.
+	 * 
+	 * @return the port of the OCSP responder.
 	 */
-	public OCSPServerExecutor(final String testCaseName, final LoggingConnector logger) throws IOException {
-		super(testCaseName, Executor.OCSPSERVER, logger);
-		CertGeneratorExecutor.generateOcspCrlCertificates(logger, getConfiguration());
+	public final int getPort() {
+		return getServicePort(getConfiguration().getOcspResponderPort());
 	}
 
 	/**
-	 * Starts the OCSP executor on the port of the OCSP responder as specified in the global configuration file.
+	 * Starts the OCSP executor on the port of the OCSP responder.
+	 * 
+	 * @see #getPort()
 	 * 
 	 * @param cipherSuite the cipher suite to get CRL/OCSP directory with matching key type.
 	 * @throws Exception may throws an exception if OCSP executor is unable to start.
@@ -41,7 +92,7 @@ public class OCSPServerExecutor extends RunLogger {
 		final List<String> command = new ArrayList<>();
 
 		String path = getConfiguration().getCrlOcspCertDirectoryWithMatchingKeyType(cipherSuite).getAbsolutePath();
-		var port = getConfiguration().getOcspResponderPort();
+		var port = getPort();
 		var opensslExecutable = getConfiguration().getOpenSSLExecutable();
 
 		command.add(opensslExecutable);
@@ -59,9 +110,7 @@ public class OCSPServerExecutor extends RunLogger {
 		command.add("-text");
 
 		start(command, null, null);
-		// We add a small delay for the process to finish
-		final int finishProcessDelay = 3000;
-		startSleepTimer(finishProcessDelay);
+		waitUntilAccepting();
 	}
 
 	/**
@@ -77,9 +126,17 @@ public class OCSPServerExecutor extends RunLogger {
 
 
 		start(command, null, null);
-		// We add a small delay for the process to finish
-		final int finishProcessDelay = 3000;
-		startSleepTimer(finishProcessDelay);
+		waitUntilAccepting();
+	}
+
+	/**
+	 * Wait until the OCSP responder accepts connections or has terminated.
+	 */
+	private void waitUntilAccepting() {
+		if (!waitUntilReady(ReadinessCondition.logMessage(ACCEPTING_MESSAGE).or(ReadinessCondition.processExit()),
+				STARTUP_TIMEOUT_MILLISECONDS)) {
+			logDebug("OCSP responder is not accepting connections after " + STARTUP_TIMEOUT_MILLISECONDS + " ms.");
+		}
 	}
 
 	/**
@@ -88,12 +145,8 @@ public class OCSPServerExecutor extends RunLogger {
 	@Override
 	public final void stop() {
 		stopLogQueueProducer();
-		final int delay = 1000;
-		startSleepTimer(delay);
-		destroy();
-		while (isRunning()) {
+		if (!destroyAndWait(SHUTDOWN_TIMEOUT_MILLISECONDS)) {
 			logDebug("OCSP process is still alive.");
-			startSleepTimer(delay);
 		}
 		super.removeShutdownHook();
 	}
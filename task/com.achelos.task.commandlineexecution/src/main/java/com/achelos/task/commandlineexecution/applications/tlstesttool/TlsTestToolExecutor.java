@@ -24,6 +24,8 @@ import com.achelos.task.commandlineexecution.applications.tlstesttool.configurat
 import com.achelos.task.commandlineexecution.applications.tlstesttool.messagetextresources.TestToolResource;
 import com.achelos.task.commandlineexecution.genericcommandlineexecution.Executor;
 import com.achelos.task.commandlineexecution.genericcommandlineexecution.IterationCounter;
+import com.achelos.task.commandlineexecution.genericcommandlineexecution.PortAllocator;
+import com.achelos.task.commandlineexecution.genericcommandlineexecution.ReadinessCondition;
 import com.achelos.task.commandlineexecution.genericcommandlineexecution.RunLogger;
 import com.achelos.task.commons.certificatehelper.CertificateHelper;
 import com.achelos.task.commons.certificatehelper.TlsSignatureAlgorithmWithHash;
@@ -60,6 +62,15 @@ public class TlsTestToolExecutor extends RunLogger {
 	 */
 	public static final String TLS_TEST_TOOL_LOCAL_HOST_AS_SERVER = "127.0.0.1";
 	private static final int A_0XFF = 0xff;
+	/**
+	 * Maximum time to wait for the TLS Test Tool to be ready after starting it. If the readiness cannot be detected, the
+	 * test case continues after this time, like it did with the former fixed startup delay.
+	 */
+	private static final long STARTUP_TIMEOUT_MILLISECONDS = 3000;
+	/**
+	 * Log level of the TLS Test Tool at which it logs its readiness.
+	 */
+	private static final TlsTestToolLogLevel READINESS_LOG_LEVEL = TlsTestToolLogLevel.high;
 	private final TlsTestToolConfiguration config;
 	private final TestRunPlanConfiguration configuration;
 	private TlsTestToolMode mode;
@@ -69,15 +80,32 @@ public class TlsTestToolExecutor extends RunLogger {
 	 *
 	 * @param testCaseName test case name
 	 * @param logger the logging connector
+	 * @param configuration the configuration of the test run the test case belongs to
 	 * @throws URISyntaxException
 	 * @throws IOException
 	 */
-	public TlsTestToolExecutor(final String testCaseName, final LoggingConnector logger)
-																							throws IOException,
-																							URISyntaxException {
-		super(testCaseName, Executor.TLSTESTTOOL, logger);
+	public TlsTestToolExecutor(final String testCaseName, final LoggingConnector logger,
+			final TestRunPlanConfiguration configuration) throws IOException, URISyntaxException {
+		this(testCaseName, logger, configuration, null);
+	}
+
+	/**
+	 * Constructor for starting TLS Test Tool, listening on the given leased port when used as a server.
+	 *
+	 * @param testCaseName test case name
+	 * @param logger the logging connector
+	 * @param configuration the configuration of the test run the test case belongs to
+	 * @param serverPortLease the lease of the port to listen on when used as a server, closed in
+	 *        {@link #cleanAndExit()}
+	 * @throws URISyntaxException
+	 * @throws IOException
+	 */
+	public TlsTestToolExecutor(final String testCaseName, final LoggingConnector logger,
+			final TestRunPlanConfiguration configuration, final PortAllocator.PortLease serverPortLease)
+			throws IOException, URISyntaxException {
+		super(testCaseName, Executor.TLSTESTTOOL, logger, configuration, serverPortLease);
 		config = new TlsTestToolConfiguration();
-		configuration = TestRunPlanConfiguration.getInstance();
+		this.configuration = configuration;
 	}
 
 	/**
@@ -95,8 +123,13 @@ public class TlsTestToolExecutor extends RunLogger {
 		// Reset the flag to indicate that the entire protocol is not available.
 		processLoggingOutputDone = false;
 
+		// The TLS Test Tool only logs its readiness at the log level high.
 		final TlsTestToolLogLevel logLevel = configuration.getLogLevel();
-		setLogLevel(logLevel);
+		if (logLevel != READINESS_LOG_LEVEL) {
+			logDebug("Starting the TLS Test Tool with log level " + READINESS_LOG_LEVEL.getValue()
+					+ " instead of the configured log level " + logLevel.getValue() + " to detect its readiness.");
+		}
+		setLogLevel(READINESS_LOG_LEVEL);
 
 		final String tlsSecretFile = configuration.getTlsSecretFile();
 		addConfigOption(TlsTestToolConfigurationOption.TLSSECRETFILE, tlsSecretFile);
@@ -148,9 +181,25 @@ public class TlsTestToolExecutor extends RunLogger {
 		command.add("--configFile=" + configurationFile);
 
 		start(command, null, new File(testToolWorkingDir));
-		// We add a small delay for the process to finish
-		final int finishProcessDelay = 3000;
-		startSleepTimer(finishProcessDelay);
+		if (!waitUntilReady(getReadinessCondition(), STARTUP_TIMEOUT_MILLISECONDS)) {
+			logDebug("TLS Test Tool did not signal readiness within " + STARTUP_TIMEOUT_MILLISECONDS + " ms.");
+		}
+	}
+
+
+	/**
+	 * The TLS Test Tool is ready as soon as it listens for the DUT (server mode) or has connected to the DUT (client
+	 * mode). The port is not probed in server mode, as the TLS Test Tool would take the probing connection for the
+	 * connection of the DUT. Both messages are regular expressions, like for {@link #findMessageMatch(String)}.
+	 *
+	 * @return the condition signalling that the TLS Test Tool is ready.
+	 */
+	private ReadinessCondition getReadinessCondition() {
+		final TestToolResource readinessMessage = mode == TlsTestToolMode.server
+				? TestToolResource.Waiting_TCP_IP_conn_port
+				: TestToolResource.TCP_IP_Conn_to_established;
+		return ReadinessCondition.logMessage(readinessMessage.getInternalToolOutputMessage())
+				.or(ReadinessCondition.processExit());
 	}
 
 
@@ -510,11 +559,11 @@ public class TlsTestToolExecutor extends RunLogger {
 
 		if (cipherSuite != null) {
 			/* Find out which signature algorithm is used in selected cipher suite */
-			if (TlsCipherSuite.filterByName("RSA").contains(cipherSuite)) {
+			if (TlsCipherSuite.getRsaCipherSuites().contains(cipherSuite)) {
 				signatureAlgorithm = TlsSignatureAlgorithm.rsa;
-			} else if (TlsCipherSuite.filterByName("ECDSA").contains(cipherSuite)) {
+			} else if (TlsCipherSuite.getEcdsaCipherSuites().contains(cipherSuite)) {
 				signatureAlgorithm = TlsSignatureAlgorithm.ecdsa;
-			} else if (TlsCipherSuite.filterByName("DSS").contains(cipherSuite)) {
+			} else if (TlsCipherSuite.getDssCipherSuites().contains(cipherSuite)) {
 				signatureAlgorithm = TlsSignatureAlgorithm.dsa;
 			}
 		} else if (signatureAlgorithmWithHash != null) {
@@ -620,12 +669,32 @@ public class TlsTestToolExecutor extends RunLogger {
 
 
 	/**
-	 * Method takes the value for port from global parameters and specifies host=127.0.0.1 and taken port for the TLS
-	 * Test Tool when used as a server.
+	 * Returns the port the TLS Test Tool listens on when used as a server. Unless a port lease has been passed to the
+	 * constructor, this is the TLS Test Tool port of the run configuration. It is leased for the whole test run, unless
+	 * it is fixed by the call arguments of the DUT. Then it is leased until {@link #cleanAndExit()}.
+	 *
+	 * @return the port of the TLS Test Tool when used as a server.
+	 * @throws IOException if the port could not be leased
+	 * @see TestRunPlanConfiguration#isTlsTestToolPortFixed()
 	 */
-	public final void setServerHostAndPort() {
+	public final int getServerPort() throws IOException {
+		if (configuration.isTlsTestToolPortFixed()) {
+			return getLeasedPort(configuration.getTlsTestToolPort());
+		}
+		return getServicePort(configuration.getTlsTestToolPort());
+	}
+
+
+	/**
+	 * Method takes the leased server port and specifies host=127.0.0.1 and taken port for the TLS Test Tool when used
+	 * as a server.
+	 *
+	 * @throws IOException if the port could not be leased
+	 * @see #getServerPort()
+	 */
+	public final void setServerHostAndPort() throws IOException {
 		checkServerMode();
-		final String port = Integer.toString(configuration.getTlsTestToolPort());
+		final String port = Integer.toString(getServerPort());
 		logInfo("Setup TLS Test Tool address and port to: " + TLS_TEST_TOOL_LOCAL_HOST_AS_SERVER + ":" + port);
 		setHostAndPort(TLS_TEST_TOOL_LOCAL_HOST_AS_SERVER, port);
 	}
@@ -685,14 +754,13 @@ public class TlsTestToolExecutor extends RunLogger {
 	 *
 	 * @throws IOException
 	 */
-	@SuppressWarnings("unchecked")
 	public final void resetProperties() throws IOException {
 		logDebug("Reset current TLS Test Tool configuration.");
 		processLoggingOutput();
 		// Check if there is a need for storing log messages for later usage.
 		// Simply support only one element in the optional parameter
 		if (null != getIterationCounter() && processLoggingOutputDone) {
-			writeLogsToFile((ArrayList<LogBean>) getLogBeanList().clone());
+			writeLogsToFile(getLogBeanList());
 		}
 		resetLog();
 		config.clear();
@@ -704,9 +772,8 @@ public class TlsTestToolExecutor extends RunLogger {
 	 *
 	 * @throws IOException
 	 */
-	@SuppressWarnings("unchecked")
 	public final void saveInitialHandshakeLogs() throws IOException {
-		writeLogsToFile((ArrayList<LogBean>) getLogBeanList().clone());
+		writeLogsToFile(getLogBeanList());
 		clearLogBeanList();
 		clearLogList();
 	}
@@ -719,7 +786,7 @@ public class TlsTestToolExecutor extends RunLogger {
 	 */
 	@Override
 	public final TestRunPlanConfiguration getConfiguration() {
-		return TestRunPlanConfiguration.getInstance();
+		return configuration;
 	}
 
 
@@ -1291,7 +1358,7 @@ public class TlsTestToolExecutor extends RunLogger {
 			throw new IllegalArgumentException("TLS Test Tool mode is invalid");
 		}
 		logDebug("Analyzing the value of " + searchString + ".");
-		final LogBean logBean = findMessage(searchString);
+		final LogBean logBean = findKeyValue(searchString, true);
 		return extractExtensionData(searchString, logBean, expectedExtensionType);
 	}
 
@@ -1311,7 +1378,7 @@ public class TlsTestToolExecutor extends RunLogger {
 			throw new IllegalArgumentException("TLS Test Tool mode is invalid");
 		}
 		logDebug("Analyzing the value of " + searchString + ".");
-		final LogBean logBean = findMessage(searchString);
+		final LogBean logBean = findKeyValue(searchString, true);
 		return extractExtensionData(logBean);
 	}
 
@@ -1345,7 +1412,7 @@ public class TlsTestToolExecutor extends RunLogger {
 		final List<String> foundMatches = new ArrayList<>();
 
 		logInfo("Searching for '" + key + "'");
-		final List<LogBean> logEntries = findMessages(key);
+		final List<LogBean> logEntries = findKeyValues(key);
 
 		if (logEntries != null) {
 			for (final LogBean logEntry : logEntries) {
@@ -1416,11 +1483,12 @@ public class TlsTestToolExecutor extends RunLogger {
 	public final byte[] findExtensionTypeLogged(final String searchString,
 			final TlsExtensionTypes expectedExtensionType) throws IOException {
 		logDebug("Analyzing the value of " + searchString + ".");
-		final LogBean logBean = findMessage(searchString);
+		final LogBean logBean = findKeyValue(searchString, true);
 		if (null != logBean) {
-			final String[] messageParts = logBean.getMessage().split("=", 2);
-			if (messageParts.length == 2) {
-				final byte[] extensions = StringTools.toByteArray(messageParts[1].replace(" ", ""));
+			final String message = logBean.getMessage();
+			final int separator = message.indexOf('=');
+			if (separator >= 0) {
+				final byte[] extensions = StringTools.toByteArray(message, separator + 1, message.length());
 				if (4 > extensions.length) {
 					return null;
 				}
@@ -1538,7 +1606,7 @@ public class TlsTestToolExecutor extends RunLogger {
 		if ((null == strValue) || !strValue.matches("^(\\p{XDigit}{2} ?)*$")) {
 			return null;
 		}
-		return StringTools.toByteArray(strValue.replace(" ", ""));
+		return StringTools.toByteArray(strValue);
 	}
 
 
@@ -1578,16 +1646,11 @@ public class TlsTestToolExecutor extends RunLogger {
 		final List<String> foundMatches = new ArrayList<>();
 
 		logInfo("Searching for '" + sessionCacheKey + "'.");
-		final List<LogBean> logEntries = findMessages(sessionCacheKey);
+		final List<LogBean> logEntries = findKeyValues(sessionCacheKey);
 
 		if (logEntries != null) {
 			for (final LogBean logEntry : logEntries) {
-				int index = logEntry.getMessage().indexOf("=");
-				if (index == -1) {
-					log(logLevel, "Couldn't convert key: " + sessionCacheKey
-							+ ". The expected syntax differs from the found one.");
-				}
-				foundMatches.add(logEntry.getMessage().substring(index + 1));
+				foundMatches.add(logEntry.getMessage().substring(sessionCacheKey.length() + 1));
 			}
 		}
 		if (foundMatches.isEmpty()) {
@@ -1668,8 +1731,8 @@ public class TlsTestToolExecutor extends RunLogger {
 			logError("The EncryptedExtension message was not received.");
 			return false;
 		}
-		final LogBean logBean = findMessage(
-				TestToolResource.EncryptedExtension_extensions.getInternalToolOutputMessage());
+		final LogBean logBean = findKeyValue(
+				TestToolResource.EncryptedExtension_extensions.getInternalToolOutputMessage(), true);
 		if (getValue(TestToolResource.EncryptedExtension_extensions.getInternalToolOutputMessage()) == null) {
 			return false;
 		}
@@ -1723,9 +1786,10 @@ public class TlsTestToolExecutor extends RunLogger {
 		if (null == logBean) {
 			logError("Log message for " + searchString + " not found.");
 		} else {
-			final String[] messageParts = logBean.getMessage().split("=", 2);
-			if (messageParts.length == 2) {
-				final byte[] extensions = StringTools.toByteArray(messageParts[1].replace(" ", ""));
+			final String message = logBean.getMessage();
+			final int separator = message.indexOf('=');
+			if (separator >= 0) {
+				final byte[] extensions = StringTools.toByteArray(message, separator + 1, message.length());
 				if (4 > extensions.length) {
 					logError("Extensions value is too short.");
 					return null;
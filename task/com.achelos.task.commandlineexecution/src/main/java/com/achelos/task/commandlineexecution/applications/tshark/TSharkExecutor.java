@@ -8,16 +8,15 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 import java.util.Scanner;
-import java.util.concurrent.*;
 import java.util.regex.Pattern;
 
 import com.achelos.task.commandlineexecution.applications.tshark.exception.TSharkException;
 import com.achelos.task.commandlineexecution.applications.tshark.helper.TSharkParameters;
 import com.achelos.task.commandlineexecution.genericcommandlineexecution.Executor;
 import com.achelos.task.commandlineexecution.genericcommandlineexecution.GenericCommandLineExecution;
+import com.achelos.task.commandlineexecution.genericcommandlineexecution.ReadinessCondition;
 import com.achelos.task.configuration.TestRunPlanConfiguration;
 import com.achelos.task.logging.LoggingConnector;
 
@@ -26,7 +25,18 @@ import com.achelos.task.logging.LoggingConnector;
  * Class for running the TShark in a separate process.
  */
 public class TSharkExecutor extends GenericCommandLineExecution {
-	private BufferedReader stdOut;
+	/**
+	 * Maximum time to wait for Dumpcap to start capturing in milliseconds.
+	 */
+	private static final long STARTUP_TIMEOUT_MILLISECONDS = 5000;
+	/**
+	 * Maximum time to wait for Dumpcap to terminate in milliseconds.
+	 */
+	private static final long SHUTDOWN_TIMEOUT_MILLISECONDS = 3000;
+	/**
+	 * Message logged by Dumpcap as soon as it is capturing.
+	 */
+	private static final String CAPTURING_MESSAGE = "Capturing";
 	private File processErrorOutput = null;
 	private final TSharkParameters tSharkSettings;
 	private final TestRunPlanConfiguration configuration;
@@ -36,15 +46,15 @@ public class TSharkExecutor extends GenericCommandLineExecution {
 	 *
 	 * @param testCaseName The test case name.
 	 * @param log The logger to use
+	 * @param configuration The configuration of the test run the test case belongs to.
 	 * @throws FileNotFoundException if the Dumpcap output file cannot be created
 	 * @throws TSharkException if TShark parameters are not correct
 	 */
-	public TSharkExecutor(final String testCaseName, final LoggingConnector log)
-																					throws FileNotFoundException,
-																					TSharkException {
-		super(Executor.TSHARK, testCaseName, log);
-		configuration = TestRunPlanConfiguration.getInstance();
-		tSharkSettings = new TSharkParameters();
+	public TSharkExecutor(final String testCaseName, final LoggingConnector log,
+			final TestRunPlanConfiguration configuration) throws FileNotFoundException, TSharkException {
+		super(Executor.TSHARK, testCaseName, log, configuration);
+		this.configuration = configuration;
+		tSharkSettings = new TSharkParameters(configuration);
 	}
 
 
@@ -98,76 +108,31 @@ public class TSharkExecutor extends GenericCommandLineExecution {
 				start(command, processErrorOutput, tSharkFile.getParentFile());
 
 				logDebug("Wait until TShark is started successfully");
-				// Add a small delay for the process to start
-				final int finishProcessDelay = 3000;
-				startSleepTimer(finishProcessDelay);
-//				Thread.sleep(500); //TODO @snl @far what is the optimal value for that, maybe make it customizable from ExampleGlobalConfig
-				// All executors use startSleepTimer method because some times process takes a little bit time to start.
-
+				// Wait for Dumpcap to capture to prevent errors on non-captured network traffic
+				if (!waitUntilReady(ReadinessCondition.logMessage(CAPTURING_MESSAGE).or(ReadinessCondition.processExit()),
+						STARTUP_TIMEOUT_MILLISECONDS)) {
+					logDebug("TShark is not capturing after " + STARTUP_TIMEOUT_MILLISECONDS + " ms.");
+				}
 			} catch (IOException e) {
 				logError("An error occurred while executing TShark Dumpcap:  " + e.getMessage());
 				throw new FileNotFoundException("An error occurred while executing TShark Dumpcap: " + e.getMessage());
 			}
 
-			try {
-				// We need to wait to let TShark startup (prevent errors on
-				// non-captured network traffic)
-				stdOut = new BufferedReader(
-						new InputStreamReader(new FileInputStream(processErrorOutput), StandardCharsets.UTF_8));
-
-				ExecutorService executor = Executors.newSingleThreadExecutor();
-				Callable<Object> task = new Callable<Object>() {
-					@Override
-					public Object call() throws Exception {
-						try {
-							while (!stdOut.ready()) {
-								Thread.sleep(100);
-								if (Thread.interrupted()) {
-									return null;
-								}
-							}
-
-						} catch (InterruptedException e) {
-							//do nothing
-						}
-						return null;
-					}
-				};
-				Collection<Callable<Object>> collection = new ArrayList<Callable<Object>>();
-				collection.add(task);
-				executor.invokeAny(collection, 2, TimeUnit.SECONDS);
-
-				executor.shutdown();
-				try {
-					if (!executor.awaitTermination(500, TimeUnit.MILLISECONDS)) {
-						executor.shutdownNow();
-					}
-				} catch (InterruptedException e) {
-					executor.shutdownNow();
+			try (BufferedReader stdOut = new BufferedReader(
+					new InputStreamReader(new FileInputStream(processErrorOutput), StandardCharsets.UTF_8))) {
+				String startMessage = stdOut.readLine();
+				if (null == startMessage) {
+					logError("An error occurred while starting TShark.");
+					return;
 				}
-
-				if (stdOut.ready()) {
-					String startMessage = stdOut.readLine();
-					if (null == startMessage) {
-						return;
-					}
-					// startMessage == "Capturing"
-					if (!startMessage.contains("Capturing") && !"Capturing".contains(startMessage)) {
-						logError("An error occurred while starting TShark.");
-						throw new TSharkException("Error reason: " + startMessage);
-					}
-				} else {
+				// startMessage == "Capturing"
+				if (!startMessage.contains(CAPTURING_MESSAGE) && !CAPTURING_MESSAGE.contains(startMessage)) {
 					logError("An error occurred while starting TShark.");
+					throw new TSharkException("Error reason: " + startMessage);
 				}
 			} catch (IOException e) {
 				logError("An error occurred while starting TShark.");
 				throw new TSharkException("Error reason: " + e);
-			} catch (ExecutionException e) {
-				e.printStackTrace();
-			} catch (InterruptedException e) {
-				e.printStackTrace();
-			} catch (TimeoutException e) {
-				e.printStackTrace();
 			}
 		}
 	}
@@ -179,12 +144,9 @@ public class TSharkExecutor extends GenericCommandLineExecution {
 	@Override
 	public final void stop() {
 		if (configuration.isTsharkEnabled()) {
-			final int delay = 1000;
-			startSleepTimer(delay); // wait some time to give Wireshark the chance to collect all network traffic.
-			destroy();
-			while (isRunning()) {
+			// Dumpcap writes all captured packets to the capture file when terminated.
+			if (!destroyAndWait(SHUTDOWN_TIMEOUT_MILLISECONDS)) {
 				logDebug("TShark process is still alive.");
-				startSleepTimer(delay);
 			}
 			super.removeShutdownHook();
 		}
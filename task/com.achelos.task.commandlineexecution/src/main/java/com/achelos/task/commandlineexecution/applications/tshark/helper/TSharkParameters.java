@@ -15,9 +15,10 @@ public class TSharkParameters {
 	/**
 	 * Create a new instance.
 	 *
+	 * @param configuration the configuration of the test run to read the parameters from
 	 */
-	public TSharkParameters() {
-		this.configuration = TestRunPlanConfiguration.getInstance();
+	public TSharkParameters(final TestRunPlanConfiguration configuration) {
+		this.configuration = configuration;
 	}
 
 
@@ -0,0 +1,311 @@
+package com.achelos.task.commandlineexecution.genericcommandlineexecution;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import com.achelos.task.configuration.TestRunPlanConfiguration;
+import com.achelos.task.logging.BasicLogger;
+import com.achelos.task.logging.LoggingConnector;
+
+
+/**
+ * Writes the log files of the executors in the background, so test cases do not wait for the file system.
+ * <p>
+ * The lines of a file are appended in the order they were submitted. All writes submitted meanwhile are performed in
+ * one batch, in which each file is opened once. Files whose name ends with {@link #GZIP_SUFFIX} are written
+ * compressed, each batch as a separate gzip member, which gzip readers decompress as one stream.
+ * </p>
+ * <p>
+ * The pending writes are tracked per test run, so a test run only waits for its own log files in
+ * {@link #drain(TestRunPlanConfiguration, long)}. The written files of a test run are synchronized to the storage
+ * device once when the test run is drained, instead of after every batch.
+ * </p>
+ */
+public final class AsyncLogFileWriter {
+
+	/**
+	 * Suffix of the names of files which are written compressed.
+	 */
+	public static final String GZIP_SUFFIX = ".gz";
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+	/**
+	 * Maximum time to wait for pending writes when the JVM exits.
+	 */
+	private static final long SHUTDOWN_TIMEOUT_MILLISECONDS = 10000;
+
+	private static AsyncLogFileWriter instance;
+
+	private final BlockingQueue<Job> queue = new LinkedBlockingQueue<>();
+	/**
+	 * Progress of the test runs with jobs which have not been drained yet, by test run, guarded by this.
+	 */
+	private final Map<TestRunPlanConfiguration, RunProgress> runs = new IdentityHashMap<>();
+
+	/**
+	 * @return the AsyncLogFileWriter singleton instance.
+	 */
+	public static synchronized AsyncLogFileWriter getInstance() {
+		if (instance == null) {
+			instance = new AsyncLogFileWriter();
+		}
+		return instance;
+	}
+
+	/**
+	 * Private constructor for the singleton class. Starts the writer thread. The thread serves all test cases, so it
+	 * does not inherit the log scope of the test case which happens to start it.
+	 */
+	private AsyncLogFileWriter() {
+		final Thread writer = new Thread(null, this::run, "Log file writer", 0, false);
+		writer.setDaemon(true);
+		writer.start();
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+			try {
+				drainAll(SHUTDOWN_TIMEOUT_MILLISECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}, "Log file writer shutdown"));
+	}
+
+
+	/**
+	 * Append the given lines to the given file in the background. The lines are converted by their
+	 * {@link Object#toString()} method when they are written, so they must not be modified afterwards.
+	 *
+	 * @param run the configuration of the test run the file belongs to
+	 * @param file the file to append to
+	 * @param lines the lines to append, copied by this method
+	 * @param trailer text to append after the lines, may be empty
+	 */
+	public void append(final TestRunPlanConfiguration run, final File file, final List<?> lines,
+			final String trailer) {
+		final Job job = new Job(run, file, lines.toArray(), trailer);
+		synchronized (this) {
+			runs.computeIfAbsent(run, key -> new RunProgress()).submitted++;
+		}
+		queue.add(job);
+	}
+
+
+	/**
+	 * Wait until all writes submitted so far for the given test run have been completed, and synchronize the files
+	 * written for it to the storage device. Writes of other test runs are not waited for.
+	 *
+	 * @param run the configuration of the test run
+	 * @param timeoutMilliseconds the maximum time to wait in milliseconds
+	 * @return true if all writes of the test run have been completed.
+	 * @throws InterruptedException if the current thread is interrupted while waiting
+	 */
+	public boolean drain(final TestRunPlanConfiguration run, final long timeoutMilliseconds)
+			throws InterruptedException {
+		final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMilliseconds);
+		final Set<File> files;
+		final boolean isDrained;
+		synchronized (this) {
+			final RunProgress progress = runs.get(run);
+			if (progress == null) {
+				return true;
+			}
+			isDrained = awaitCompletion(progress, progress.submitted, deadline);
+			files = progress.takeWrittenFiles();
+			if (progress.isCompleted()) {
+				runs.remove(run);
+			}
+		}
+		sync(files);
+		return isDrained;
+	}
+
+
+	/**
+	 * Wait until all writes submitted so far have been completed, and synchronize all written files to the storage
+	 * device.
+	 *
+	 * @param timeoutMilliseconds the maximum time to wait in milliseconds
+	 * @return true if all writes have been completed.
+	 * @throws InterruptedException if the current thread is interrupted while waiting
+	 */
+	private boolean drainAll(final long timeoutMilliseconds) throws InterruptedException {
+		final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMilliseconds);
+		final Set<File> files = new LinkedHashSet<>();
+		boolean isDrained = true;
+		synchronized (this) {
+			// Waiting releases the lock, so test runs may be added or drained meanwhile.
+			for (final RunProgress progress : new ArrayList<>(runs.values())) {
+				isDrained &= awaitCompletion(progress, progress.submitted, deadline);
+				files.addAll(progress.takeWrittenFiles());
+			}
+		}
+		sync(files);
+		return isDrained;
+	}
+
+
+	/**
+	 * Wait until the given number of jobs of a test run have been completed. Must be called while holding the lock of
+	 * this writer.
+	 *
+	 * @param progress the progress of the test run
+	 * @param target the number of jobs to wait for
+	 * @param deadline the value of {@link System#nanoTime()} at which to give up
+	 * @return true if the jobs have been completed.
+	 * @throws InterruptedException if the current thread is interrupted while waiting
+	 */
+	private boolean awaitCompletion(final RunProgress progress, final long target, final long deadline)
+			throws InterruptedException {
+		while (progress.completed < target) {
+			final long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+			if (remaining <= 0) {
+				return false;
+			}
+			wait(remaining);
+		}
+		return true;
+	}
+
+
+	/**
+	 * Synchronize the given files to the storage device.
+	 *
+	 * @param files the files to synchronize
+	 */
+	private static void sync(final Set<File> files) {
+		for (final File file : files) {
+			try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE)) {
+				channel.force(true);
+			} catch (IOException e) {
+				LoggingConnector.getInstance().log(System.currentTimeMillis(), BasicLogger.ERROR,
+						"Unable to synchronize the log file " + file + ".", e);
+			}
+		}
+	}
+
+
+	/**
+	 * Loop of the writer thread: take all pending jobs, write them grouped by file and count them as completed for
+	 * their test runs once their file has been written.
+	 */
+	private void run() {
+		final List<Job> batch = new ArrayList<>();
+		while (true) {
+			try {
+				batch.add(queue.take());
+			} catch (InterruptedException e) {
+				return;
+			}
+			queue.drainTo(batch);
+
+			final Map<File, List<Job>> jobsByFile = new LinkedHashMap<>();
+			for (final Job job : batch) {
+				jobsByFile.computeIfAbsent(job.file, file -> new ArrayList<>()).add(job);
+			}
+			for (final Map.Entry<File, List<Job>> entry : jobsByFile.entrySet()) {
+				boolean isWritten = false;
+				try {
+					write(entry.getKey(), entry.getValue());
+					isWritten = true;
+				} catch (IOException | RuntimeException e) {
+					LoggingConnector.getInstance().log(System.currentTimeMillis(), BasicLogger.ERROR,
+							"Unable to write the log file " + entry.getKey() + ".", e);
+				}
+				// Complete the jobs of each file right away, so a drained test run does not wait for the whole batch.
+				synchronized (this) {
+					for (final Job job : entry.getValue()) {
+						final RunProgress progress = runs.get(job.run);
+						progress.completed++;
+						if (isWritten) {
+							progress.writtenFiles.add(job.file);
+						}
+					}
+					notifyAll();
+				}
+			}
+			batch.clear();
+		}
+	}
+
+
+	/**
+	 * Append the lines of the given jobs to the file.
+	 *
+	 * @param file the file to append to
+	 * @param jobs the jobs of this file in the order they were submitted
+	 * @throws IOException if the file cannot be written
+	 */
+	private static void write(final File file, final List<Job> jobs) throws IOException {
+		// Closing the writer finishes the gzip member and releases its deflater, also if writing fails.
+		try (FileOutputStream fileStream = new FileOutputStream(file, true);
+				OutputStream stream = file.getName().endsWith(GZIP_SUFFIX)
+						? new GZIPOutputStream(fileStream, BUFFER_SIZE)
+						: fileStream;
+				Writer writer = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8),
+						BUFFER_SIZE)) {
+			for (final Job job : jobs) {
+				for (final Object line : job.lines) {
+					writer.write(line.toString());
+					writer.write(System.lineSeparator());
+				}
+				writer.write(job.trailer);
+			}
+		}
+	}
+
+
+	/**
+	 * Number of submitted and completed jobs of a test run and the files written since it was drained last.
+	 */
+	private static final class RunProgress {
+		private long submitted = 0;
+		private long completed = 0;
+		private Set<File> writtenFiles = new LinkedHashSet<>();
+
+		boolean isCompleted() {
+			return completed == submitted;
+		}
+
+		Set<File> takeWrittenFiles() {
+			final Set<File> files = writtenFiles;
+			writtenFiles = new LinkedHashSet<>();
+			return files;
+		}
+	}
+
+
+	/**
+	 * Lines to be appended to a file of a test run.
+	 */
+	private static final class Job {
+		private final TestRunPlanConfiguration run;
+		private final File file;
+		private final Object[] lines;
+		private final String trailer;
+
+		Job(final TestRunPlanConfiguration run, final File file, final Object[] lines, final String trailer) {
+			this.run = run;
+			this.file = file;
+			this.lines = lines;
+			this.trailer = trailer;
+		}
+	}
+}
@@ -1,19 +1,17 @@
 package com.achelos.task.commandlineexecution.genericcommandlineexecution;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
 import java.lang.ProcessBuilder.Redirect;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import com.achelos.task.configuration.TestRunPlanConfiguration;
@@ -28,9 +26,11 @@ import com.achelos.task.utilities.logging.LogBean;
 public class GenericCommandLineExecution extends Logging {
 
 	private Process process;
-	private Thread shutdownHookThread = null;
-	private final List<String> logList = new ArrayList<>();
 	private ArrayList<LogBean> logBeanList = new ArrayList<>();
+	/**
+	 * Incremented whenever the log bean list is cleared or replaced, i.e. positions within the list become invalid.
+	 */
+	private int logBeanListGeneration = 0;
 	private long exitValue = -1;
 	protected boolean processLoggingOutputDone = false;
 	private File outputFile = null;
@@ -43,10 +43,26 @@ public class GenericCommandLineExecution extends Logging {
 	 */
 	protected static final long PROCESS_EXIT_VALUE_OK = 0;
 	/**
-	 * Queue for passing log lines from receiver thread to test suite. Implementation MUST be thread-safe!
+	 * Output of the process, if it is not redirected to a file. The lines below {@link #processedLines} have been
+	 * processed, the processed lines starting at {@link #logListStart} form the log list.
+	 */
+	private final ProcessOutputCapture output;
+	private int processedLines = 0;
+	private int logListStart = 0;
+	/**
+	 * Maximum time to wait for the remaining output of a terminated process.
 	 */
-	private final Queue<String> logQueue;
-	private Thread logQueueProducer;
+	private static final long OUTPUT_DRAIN_TIMEOUT_MILLISECONDS = 1000;
+	/**
+	 * Maximum time between two checks of a {@link ReadinessCondition}, for conditions which are not signalled by log
+	 * output.
+	 */
+	private static final long READINESS_POLL_INTERVAL_MILLISECONDS = 50;
+	/**
+	 * File the output of the process is redirected to and the position up to which it has been checked for readiness.
+	 */
+	private File redirectedOutputFile = null;
+	private long redirectedOutputOffset = 0;
 
 	/**
 	 * Default constructor to start simulation in a new process.
@@ -54,12 +70,14 @@ public class GenericCommandLineExecution extends Logging {
 	 * @param executor Currently running executor.
 	 * @param testCaseName Currently running test case name.
 	 * @param logger The logger to use to log messages.
+	 * @param configuration The configuration of the test run the test case belongs to.
 	 */
-	public GenericCommandLineExecution(final Executor executor, final String testCaseName, final BasicLogger logger) {
+	public GenericCommandLineExecution(final Executor executor, final String testCaseName, final BasicLogger logger,
+			final TestRunPlanConfiguration configuration) {
 		super(logger, executor);
-		logQueue = new ConcurrentLinkedQueue<>();
+		output = new ProcessOutputCapture(executor.getName() + " for " + testCaseName, getLogger());
 		this.testCaseName = testCaseName;
-		configuration = TestRunPlanConfiguration.getInstance();
+		this.configuration = configuration;
 		iterationCounter = null;
 	}
 
@@ -76,8 +94,8 @@ public class GenericCommandLineExecution extends Logging {
 	 * null for default.
 	 * </p>
 	 * <p>
-	 * Note: This constructor also spawns a thread that handles output from the process as it arrives, and terminates
-	 * when the input stream closes (process termination).
+	 * Note: This method also starts a task that handles output from the process as it arrives, and terminates when the
+	 * input stream closes (process termination).
 	 * </p>
 	 *
 	 * @param command The commands to execute.
@@ -87,9 +105,26 @@ public class GenericCommandLineExecution extends Logging {
 	 */
 	protected void start(final List<String> command, final File outputFile, final File workingDirectory)
 			throws IOException {
+		start(command, outputFile, workingDirectory, Collections.emptyMap());
+	}
+
+
+	/**
+	 * Starts a simulation in a new process with additional environment variables.
+	 *
+	 * @param command The commands to execute.
+	 * @param outputFile The output file if the output should be written directly to file, null otherwise.
+	 * @param workingDirectory The working directory of process or null.
+	 * @param environment The environment variables to set for the process in addition to the inherited ones.
+	 * @throws IOException Throws IOException is thrown if process failed to start.
+	 * @see #start(List, File, File)
+	 */
+	protected void start(final List<String> command, final File outputFile, final File workingDirectory,
+			final Map<String, String> environment) throws IOException {
 		logDebug("Starting " + getExecutor().getName() + " with parameters : " + command);
 		ProcessBuilder processBuilder = new ProcessBuilder();
 		processBuilder.command(command);
+		processBuilder.environment().putAll(environment);
 		if (workingDirectory != null) {
 			processBuilder.directory(workingDirectory);
 			logDebug(getExecutor().getName() + " working directory : " + workingDirectory);
@@ -97,24 +132,18 @@ public class GenericCommandLineExecution extends Logging {
 
 		processBuilder.redirectErrorStream(true);
 
+		redirectedOutputFile = outputFile;
+		redirectedOutputOffset = 0;
 		if (outputFile != null) {
 			processBuilder.redirectOutput(Redirect.appendTo(outputFile));
+			redirectedOutputOffset = outputFile.length();
 		}
 
 		process = processBuilder.start();
 
-		shutdownHookThread = new Thread() {
-			@Override
-			public void run() {
-				process.destroy();
-			}
-		};
-		Runtime.getRuntime().addShutdownHook(shutdownHookThread);
+		LiveProcesses.add(process);
 		if (outputFile == null) {
-			/* Start output handler thread */
-			LogQueueProducer prod = new LogQueueProducer(process.getInputStream(), logQueue, getLogger());
-			logQueueProducer = new Thread(prod, getExecutor().getName() + " for " + getTestCaseName());
-			logQueueProducer.start();
+			output.capture(process.getInputStream());
 		}
 
 		if (!process.isAlive()) {
@@ -130,67 +159,119 @@ public class GenericCommandLineExecution extends Logging {
 	 * @return {@link List} containing log messages parsed so far. Must not be modified.
 	 */
 	protected List<String> getLogList() {
-		return Collections.unmodifiableList(logList);
+		return output.lines(logListStart, processedLines);
 	}
 
+
 	/**
-	 * A runnable that reads lines from an {@link InputStream} and appends them to a {@link Queue}. Note that you MUST
-	 * use a thread-safe queue implementation if you want to run the {@link LogQueueProducer} in one thread and consume
-	 * the lines in another.
+	 * Fetch standard error and standard output of the simulation and append available lines to the internal list of log
+	 * lines.
+	 *
+	 * @return a view of the lines read, may be empty if no new data was available.
 	 */
-	private static class LogQueueProducer implements Runnable {
-		private final BufferedReader reader;
-		private final Queue<String> queue;
-		private final BasicLogger log;
-
-		/**
-		 * @param source the stream to read from
-		 * @param queue append read lines to this queue, MUST be thread-safe if the {@link LogQueueProducer} is run in a
-		 * separate thread
-		 * @param log
-		 */
-		LogQueueProducer(final InputStream source, final Queue<String> queue, final BasicLogger log) {
-			reader = new BufferedReader(new InputStreamReader(source, StandardCharsets.UTF_8));
-			this.queue = queue;
-			this.log = log;
-		}
+	protected final List<String> processLogQueue() {
+		final int from = processedLines;
+		processedLines = output.size();
+		return output.lines(from, processedLines);
+	}
 
 
-		/**
-		 * Read lines from the reader as they become available and push them into the queue.
-		 */
-		@Override
-		public void run() {
-			String line;
-			try {
-				line = reader.readLine();
-				while (line != null) {
-					queue.add(line);
-					line = reader.readLine();
+	/**
+	 * Wait until the started process satisfies the given readiness condition, the process has terminated or the given
+	 * timeout has elapsed. If the output of the process is redirected to a file, the lines appended to the file are
+	 * checked. Otherwise the lines received meanwhile are checked and added to the log bean list.
+	 *
+	 * @param condition the condition signalling that the process is ready
+	 * @param timeoutMilliseconds the maximum time to wait in milliseconds
+	 * @return true if the condition is satisfied, false if the process terminated or the timeout elapsed before.
+	 */
+	protected final boolean waitUntilReady(final ReadinessCondition condition, final long timeoutMilliseconds) {
+		final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMilliseconds);
+		try {
+			while (true) {
+				final boolean alive = isRunning();
+				final List<String> newLines;
+				if (redirectedOutputFile != null) {
+					newLines = readRedirectedOutput();
+				} else {
+					newLines = processLogQueue();
+					addLogBeanList(LogBean.convertToLogBeanList(newLines));
+				}
+				if (condition.isReady(newLines, alive)) {
+					return true;
+				}
+				if (!alive && !output.isCapturing()) {
+					return false;
 				}
-				reader.close();
-			} catch (IOException e) {
-				log.log(System.currentTimeMillis(), BasicLogger.ERROR, "An error occurred while reading log into queue:", e);
-				e.printStackTrace();
+				final long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+				if (remaining <= 0) {
+					return false;
+				}
+				output.awaitLines(processedLines, Math.min(remaining, READINESS_POLL_INTERVAL_MILLISECONDS));
 			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			logInfo("Waiting for the " + getExecutor().getName() + " to be ready has been interrupted.");
+			return false;
 		}
+	}
 
+
+	/**
+	 * Read the complete lines appended to the file the output of the process is redirected to since the last call.
+	 *
+	 * @return the new lines, may be empty if no complete line has been appended.
+	 */
+	private List<String> readRedirectedOutput() {
+		try (var file = new RandomAccessFile(redirectedOutputFile, "r")) {
+			final long length = file.length();
+			if (length <= redirectedOutputOffset) {
+				return Collections.emptyList();
+			}
+			final byte[] data = new byte[(int) (length - redirectedOutputOffset)];
+			file.seek(redirectedOutputOffset);
+			file.readFully(data);
+			int end = data.length;
+			while (end > 0 && data[end - 1] != '\n') {
+				end--;
+			}
+			if (end == 0) {
+				return Collections.emptyList();
+			}
+			redirectedOutputOffset += end;
+			return List.of(new String(data, 0, end, StandardCharsets.UTF_8).split("\\r?\\n"));
+		} catch (IOException e) {
+			logDebug("Unable to read the output of " + getExecutor().getName() + ": " + e.getMessage());
+			return Collections.emptyList();
+		}
 	}
 
+
 	/**
-	 * Fetch standard error and standard output of the simulation and append available lines to the internal list of log
-	 * lines.
+	 * Stop the process and wait until it has terminated and its output has been received completely. If the process
+	 * does not terminate within the given timeout, it is killed forcibly.
 	 *
-	 * @return the list containing the lines read, may be empty if no new data was available.
+	 * @param timeoutMilliseconds the maximum time to wait for the termination in milliseconds
+	 * @return true if the process has terminated.
 	 */
-	protected final List<String> processLogQueue() {
-		final List<String> newMessages = new LinkedList<>();
-		while (!logQueue.isEmpty()) {
-			final String s = logQueue.poll();
-			newMessages.add(s);
+	protected final boolean destroyAndWait(final long timeoutMilliseconds) {
+		if (isNull()) {
+			return true;
 		}
-		logList.addAll(newMessages);
-		return newMessages;
+		try {
+			process.destroy();
+			if (!process.waitFor(timeoutMilliseconds, TimeUnit.MILLISECONDS)) {
+				logDebug(getExecutor().getName() + " did not terminate within " + timeoutMilliseconds
+						+ " ms and is killed.");
+				process.destroyForcibly();
+				process.waitFor(timeoutMilliseconds, TimeUnit.MILLISECONDS);
+			}
+			output.join(timeoutMilliseconds);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			logInfo("Waiting for the " + getExecutor().getName() + " to terminate has been interrupted.");
+		}
+		return !isRunning();
 	}
 
 
@@ -204,7 +285,7 @@ public class GenericCommandLineExecution extends Logging {
 	 * @return list containing {@link LogBean} or null
 	 * @throws IOException
 	 */
-	protected ArrayList<LogBean> processLoggingOutput(final boolean handleNoLogAsError,
+	protected List<LogBean> processLoggingOutput(final boolean handleNoLogAsError,
 			final boolean tlsLogListComplete)
 			throws IOException {
 		if (processLoggingOutputDone) {
@@ -245,7 +326,8 @@ public class GenericCommandLineExecution extends Logging {
 	 * Clears current logs.
 	 */
 	protected void clearLogList() {
-		logList.clear();
+		logListStart = processedLines;
+		output.release(logListStart);
 	}
 
 
@@ -276,6 +358,11 @@ public class GenericCommandLineExecution extends Logging {
 		// timeout or so
 		if (!isNull()) {
 			exitValue = exitValue();
+			try {
+				output.join(OUTPUT_DRAIN_TIMEOUT_MILLISECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
 			processLogQueue();
 			removeShutdownHook(); // This is important for releasing the object
 			setNull();
@@ -303,11 +390,11 @@ public class GenericCommandLineExecution extends Logging {
 
 
 	/**
-	 * Removes the shutdown hook.
+	 * Removes the process from the processes destroyed by the shutdown hook.
 	 */
 	protected final void removeShutdownHook() {
-		if (null != shutdownHookThread && Runtime.getRuntime().removeShutdownHook(shutdownHookThread)) {
-			shutdownHookThread = null;
+		if (!isNull()) {
+			LiveProcesses.remove(process);
 		}
 	}
 
@@ -379,10 +466,42 @@ public class GenericCommandLineExecution extends Logging {
 
 
 	/**
-	 * @return The log bean list.
+	 * Returns a view of the log bean list instead of a copy. The view must only be used by the thread executing the test
+	 * case, like the log bean list itself. Entries added to the list later are visible in the view. When the list is
+	 * cleared or replaced, the view keeps the entries it has shown so far and no longer reflects the list.
+	 *
+	 * @return an unmodifiable view of the log bean list.
 	 */
-	protected final ArrayList<LogBean> getLogBeanList() {
-		return new ArrayList<>(logBeanList);
+	protected final List<LogBean> getLogBeanList() {
+		return Collections.unmodifiableList(logBeanList);
+	}
+
+
+	/**
+	 * @return the number of entries in the log bean list.
+	 */
+	protected final int getLogBeanCount() {
+		return logBeanList.size();
+	}
+
+
+	/**
+	 * @param index the position of the entry in the log bean list
+	 * @return the entry of the log bean list at the given position.
+	 */
+	protected final LogBean getLogBean(final int index) {
+		return logBeanList.get(index);
+	}
+
+
+	/**
+	 * Positions within the log bean list remain valid as long as the generation returned by this method does not
+	 * change.
+	 *
+	 * @return the generation of the log bean list, which changes whenever the list is cleared or replaced.
+	 */
+	protected final int getLogBeanListGeneration() {
+		return logBeanListGeneration;
 	}
 
 
@@ -390,7 +509,9 @@ public class GenericCommandLineExecution extends Logging {
 	 * Clears log bean list.
 	 */
 	protected final void clearLogBeanList() {
-		logBeanList.clear();
+		// Replace the list instead of clearing it, so views returned by getLogBeanList() keep their entries.
+		logBeanList = new ArrayList<>();
+		logBeanListGeneration++;
 	}
 
 
@@ -422,6 +543,7 @@ public class GenericCommandLineExecution extends Logging {
 	 */
 	protected void setLogBeanList(final ArrayList<LogBean> logBeanList) {
 		this.logBeanList = logBeanList;
+		logBeanListGeneration++;
 
 	}
 
@@ -456,7 +578,7 @@ public class GenericCommandLineExecution extends Logging {
 	 * @return
 	 */
 	protected boolean hasQueueLogs() {
-		return !logQueue.isEmpty();
+		return processedLines < output.size();
 	}
 
 
@@ -478,10 +600,24 @@ public class GenericCommandLineExecution extends Logging {
 	 * @throws IOException
 	 */
 	protected File createLogFile() throws IOException {
+		return createLogFile("");
+	}
+
+
+	/**
+	 * Create a filename for log files from test case name and log file suffix, followed by the given suffix, e.g. the
+	 * suffix of a compressed file.
+	 *
+	 * @param additionalSuffix the suffix appended to the file extension of the executor, may be empty
+	 * @return The output file where logs will be written.
+	 * @throws IOException
+	 */
+	protected File createLogFile(final String additionalSuffix) throws IOException {
 		String iterationSuffix = getIterationSuffix();
 		var file = Paths
 				.get(configuration.getReportDirectory().getAbsolutePath(), testCaseName, testCaseName
-						+ getExecutor().getLogFileName() + iterationSuffix + getExecutor().getFileExtension())
+						+ getExecutor().getLogFileName() + iterationSuffix + getExecutor().getFileExtension()
+						+ additionalSuffix)
 				.toFile();
 		var mkdirResult = file.getParentFile().mkdirs();
 		if (!mkdirResult) {
@@ -519,10 +655,12 @@ public class GenericCommandLineExecution extends Logging {
 	}
 
 
+	/**
+	 * Stop capturing the output of the process. Output written by the process afterwards is discarded.
+	 */
 	protected void stopLogQueueProducer() {
-		logDebug("Stopping " + logQueueProducer.getName() + ".");
-		logQueueProducer.stop();
-		logDebug("Stopped " + logQueueProducer.getName() + ".");
+		logDebug("Stopping to capture the output of " + getExecutor().getName() + ".");
+		output.cancel();
 	}
 
 	/**
@@ -540,4 +678,30 @@ public class GenericCommandLineExecution extends Logging {
 		this.iterationCounter = iterationCounter;
 	}
 
+
+
+	/**
+	 * The processes started by all executions which have neither terminated nor been cleaned up yet. A single shutdown
+	 * hook destroys them when the JVM exits, instead of registering a hook per process.
+	 */
+	private static final class LiveProcesses {
+		private static final Set<Process> PROCESSES = ConcurrentHashMap.newKeySet();
+
+		static {
+			Runtime.getRuntime().addShutdownHook(new Thread(() -> PROCESSES.forEach(Process::destroy),
+					"Destroy started processes"));
+		}
+
+		private LiveProcesses() {
+		}
+
+		static void add(final Process process) {
+			PROCESSES.add(process);
+			process.onExit().thenRun(() -> PROCESSES.remove(process));
+		}
+
+		static void remove(final Process process) {
+			PROCESSES.remove(process);
+		}
+	}
 }
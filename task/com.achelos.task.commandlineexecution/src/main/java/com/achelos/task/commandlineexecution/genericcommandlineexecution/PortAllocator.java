@@ -0,0 +1,238 @@
+package com.achelos.task.commandlineexecution.genericcommandlineexecution;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Hands out the local ports used by the services of a test run. A port is leased to exactly one owner at a time and
+ * returned to the allocator when the lease is closed.
+ * <p>
+ * Besides being reserved within this process, a leased port is locked by a lock file in {@link #LOCK_DIRECTORY}, which
+ * is shared by all TaSK processes of the host. So neither owners within the same process nor test runs of other TaSK
+ * processes on the same host collide on their ports. The services are started by external
+ * tools binding the port themselves, so a process other than TaSK may still take a free port between the lease and the
+ * bind.
+ * </p>
+ */
+public final class PortAllocator {
+
+	/**
+	 * Directory containing the lock files of the leased ports, shared by all TaSK processes of the host.
+	 */
+	public static final Path LOCK_DIRECTORY = Path.of(System.getProperty("java.io.tmpdir"), "TaSK-ports");
+
+	private static final int MAXIMUM_ATTEMPTS = 100;
+	/**
+	 * Maximum time to wait for a port leased to another owner in milliseconds.
+	 */
+	private static final long LEASE_TIMEOUT_MILLISECONDS = 300000;
+	/**
+	 * Time between two attempts to lock a port locked by another process in milliseconds.
+	 */
+	private static final long LOCK_RETRY_INTERVAL_MILLISECONDS = 100;
+
+	private static PortAllocator instance;
+
+	private final Set<Integer> leasedPorts;
+
+	/**
+	 * @return the PortAllocator singleton instance.
+	 */
+	public static synchronized PortAllocator getInstance() {
+		if (instance == null) {
+			instance = new PortAllocator();
+		}
+		return instance;
+	}
+
+	/**
+	 * Private constructor for the singleton class.
+	 */
+	private PortAllocator() {
+		leasedPorts = new HashSet<>();
+	}
+
+	/**
+	 * Lease a free ephemeral port of the local host which is not leased to another owner of this or another TaSK
+	 * process.<br>
+	 * Only use ephemeral ports for services whose address is not known to the DUT in advance, e.g. if the port is passed
+	 * to the DUT, to another executor of the test case or to the certificates generated for the test run.
+	 *
+	 * @return the lease of the port.
+	 * @throws IOException if no free port could be found.
+	 */
+	public PortLease leaseFreePort() throws IOException {
+		for (int attempt = 0; attempt < MAXIMUM_ATTEMPTS; attempt++) {
+			// Bind all addresses as the services do, and keep the port bound until it is locked.
+			try (var socket = new ServerSocket(0)) {
+				final int port = socket.getLocalPort();
+				if (!reserve(port)) {
+					continue;
+				}
+				final FileChannel lock = tryLock(port);
+				if (lock != null) {
+					return new PortLease(port, lock);
+				}
+				release(port);
+			}
+		}
+		throw new IOException("Unable to find a free port after " + MAXIMUM_ATTEMPTS + " attempts.");
+	}
+
+	/**
+	 * Lease the given port exclusively. If the port is currently leased to another owner, this method waits until it is
+	 * released, but at most {@value #LEASE_TIMEOUT_MILLISECONDS} ms.<br>
+	 * Use this for services whose port is fixed by the global configuration, e.g. because it is contained in the call
+	 * arguments of the DUT.
+	 *
+	 * @param port the port to lease
+	 * @return the lease of the port.
+	 * @throws IOException if the port is not released in time or the current thread is interrupted while waiting.
+	 */
+	public PortLease leasePort(final int port) throws IOException {
+		return leasePort(port, LEASE_TIMEOUT_MILLISECONDS);
+	}
+
+	/**
+	 * Lease the given port exclusively. If the port is currently leased to another owner, this method waits until it is
+	 * released, but at most the given time.
+	 *
+	 * @param port the port to lease
+	 * @param timeoutMilliseconds the maximum time to wait for the port in milliseconds
+	 * @return the lease of the port.
+	 * @throws IOException if the port is not released in time or the current thread is interrupted while waiting.
+	 */
+	public PortLease leasePort(final int port, final long timeoutMilliseconds) throws IOException {
+		final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMilliseconds);
+		try {
+			synchronized (this) {
+				while (!reserve(port)) {
+					wait(remainingMilliseconds(port, deadline, timeoutMilliseconds));
+				}
+			}
+			try {
+				FileChannel lock = tryLock(port);
+				while (lock == null) {
+					Thread.sleep(Math.min(LOCK_RETRY_INTERVAL_MILLISECONDS,
+							remainingMilliseconds(port, deadline, timeoutMilliseconds)));
+					lock = tryLock(port);
+				}
+				return new PortLease(port, lock);
+			} catch (IOException | InterruptedException | RuntimeException e) {
+				release(port);
+				throw e;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while waiting for port " + port + " to be released.", e);
+		}
+	}
+
+	/**
+	 * @return the milliseconds remaining until the deadline.
+	 * @throws IOException if the deadline has passed.
+	 */
+	private static long remainingMilliseconds(final int port, final long deadline, final long timeoutMilliseconds)
+			throws IOException {
+		final long remainingMilliseconds = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+		if (remainingMilliseconds <= 0) {
+			throw new IOException("Port " + port + " is still in use by another test case after waiting "
+					+ timeoutMilliseconds + " ms. Check that no other test run uses the same port.");
+		}
+		return remainingMilliseconds;
+	}
+
+	/**
+	 * Reserve the given port within this process.
+	 *
+	 * @param port the port to reserve
+	 * @return false, if the port is already leased to another owner of this process.
+	 */
+	private synchronized boolean reserve(final int port) {
+		return leasedPorts.add(port);
+	}
+
+	/**
+	 * Lock the given port against other processes, the port has to be reserved within this process.
+	 *
+	 * @param port the port to lock
+	 * @return the channel of the locked lock file, which releases the lock when closed, or null if the port is locked
+	 *         by another process.
+	 * @throws IOException if the lock file cannot be opened.
+	 */
+	private static FileChannel tryLock(final int port) throws IOException {
+		Files.createDirectories(LOCK_DIRECTORY);
+		final FileChannel channel = FileChannel.open(LOCK_DIRECTORY.resolve("port-" + port + ".lock"),
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+		try {
+			final FileLock lock = channel.tryLock();
+			if (lock != null) {
+				return channel;
+			}
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+		channel.close();
+		return null;
+	}
+
+	/**
+	 * Return the given port to the allocator.
+	 *
+	 * @param port the port to release
+	 */
+	private synchronized void release(final int port) {
+		leasedPorts.remove(port);
+		notifyAll();
+	}
+
+	/**
+	 * A port leased from the {@link PortAllocator}. The port is returned to the allocator by closing the lease.
+	 */
+	public final class PortLease implements AutoCloseable {
+		private final int port;
+		private final FileChannel lock;
+		private boolean released;
+
+		private PortLease(final int port, final FileChannel lock) {
+			this.port = port;
+			this.lock = lock;
+		}
+
+		/**
+		 * @return the leased port.
+		 */
+		public int getPort() {
+			return port;
+		}
+
+		/**
+		 * Return the port to the allocator. Closing an already closed lease has no effect.
+		 */
+		@Override
+		public void close() {
+			synchronized (PortAllocator.this) {
+				if (released) {
+					return;
+				}
+				released = true;
+				try {
+					lock.close();
+				} catch (IOException e) {
+					// The lock is released by closing the channel in any case.
+				}
+				release(port);
+			}
+		}
+	}
+}
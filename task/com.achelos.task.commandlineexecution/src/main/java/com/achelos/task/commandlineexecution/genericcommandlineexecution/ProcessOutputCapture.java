@@ -0,0 +1,346 @@
+package com.achelos.task.commandlineexecution.genericcommandlineexecution;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.achelos.task.logging.BasicLogger;
+
+
+/**
+ * Captures the output of processes line by line. The lines are appended to a chunked storage, which is never copied
+ * while it grows. Readers keep their own position within the storage and obtain views of the lines instead of copies.
+ * <p>
+ * The output is read by tasks of a pool of daemon threads shared by all captures, so a thread is only occupied while
+ * a process is running and no thread is created per process once the pool has warmed up. The lines are appended by
+ * one capture task at a time and may be read concurrently by any other thread.
+ * </p>
+ */
+final class ProcessOutputCapture {
+
+	/**
+	 * Number of lines per chunk of the storage.
+	 */
+	private static final int CHUNK_SIZE = 256;
+	private static final int INITIAL_CHUNK_COUNT = 4;
+
+	private static final ExecutorService CAPTURE_POOL = Executors.newCachedThreadPool(new CaptureThreadFactory());
+
+	private final String name;
+	private final BasicLogger log;
+
+	/**
+	 * Only written by the capture task. The array is replaced when it is grown, the chunks are never moved.
+	 */
+	private volatile String[][] chunks = new String[INITIAL_CHUNK_COUNT][];
+	/**
+	 * Number of lines appended so far. Written after the line has been stored, so readers may access all lines below.
+	 */
+	private volatile int size = 0;
+	/**
+	 * Number of lines at the beginning of the storage which have been released and must not be accessed anymore.
+	 */
+	private volatile int released = 0;
+
+	/**
+	 * Monitor notified by the capture task whenever new lines have been appended or the output has ended.
+	 */
+	private final Object monitor = new Object();
+	private Capture current = null;
+	/**
+	 * Held while a line is appended or lines are released, so the capture tasks of consecutive streams never append
+	 * concurrently and the chunks array is not replaced while lines are released.
+	 */
+	private final Object appendLock = new Object();
+
+	/**
+	 * @param name the name of the captured process, used for logging
+	 * @param log the logger to log read errors to
+	 */
+	ProcessOutputCapture(final String name, final BasicLogger log) {
+		this.name = name;
+		this.log = log;
+	}
+
+
+	/**
+	 * Start capturing the given stream. The lines are appended behind the lines captured so far. A capture of a
+	 * previous stream which is still running, e.g. because the remaining output of a terminated process is still
+	 * being read, continues, but is not regarded by {@link #isCapturing()}, {@link #cancel()} and {@link #join(long)}
+	 * anymore.
+	 *
+	 * @param source the stream to read from
+	 */
+	void capture(final InputStream source) {
+		final Capture capture = new Capture(source);
+		synchronized (monitor) {
+			current = capture;
+		}
+		CAPTURE_POOL.execute(capture);
+	}
+
+
+	/**
+	 * @return true if a stream is being captured, i.e. its end has neither been reached nor the capture been cancelled.
+	 */
+	boolean isCapturing() {
+		synchronized (monitor) {
+			return current != null && !current.done;
+		}
+	}
+
+
+	/**
+	 * Cancel the current capture. The capture task stops after the line it is currently reading, at the latest when
+	 * the process terminates.
+	 */
+	void cancel() {
+		synchronized (monitor) {
+			if (current != null) {
+				current.cancel();
+			}
+		}
+	}
+
+
+	/**
+	 * Wait until the current capture has ended.
+	 *
+	 * @param timeoutMilliseconds the maximum time to wait in milliseconds
+	 * @return true if no stream is being captured anymore.
+	 * @throws InterruptedException if the current thread is interrupted while waiting
+	 */
+	boolean join(final long timeoutMilliseconds) throws InterruptedException {
+		final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMilliseconds);
+		synchronized (monitor) {
+			while (current != null && !current.done) {
+				final long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+				if (remaining <= 0) {
+					return false;
+				}
+				monitor.wait(remaining);
+			}
+		}
+		return true;
+	}
+
+
+	/**
+	 * Wait until more than the given number of lines have been captured, the current capture has ended or the timeout
+	 * has elapsed.
+	 *
+	 * @param known the number of lines already known to the caller
+	 * @param timeoutMilliseconds the maximum time to wait in milliseconds
+	 * @throws InterruptedException if the current thread is interrupted while waiting
+	 */
+	void awaitLines(final int known, final long timeoutMilliseconds) throws InterruptedException {
+		if (timeoutMilliseconds <= 0) {
+			return;
+		}
+		synchronized (monitor) {
+			if (size <= known && current != null && !current.done) {
+				monitor.wait(timeoutMilliseconds);
+			}
+		}
+	}
+
+
+	/**
+	 * @return the number of lines captured so far.
+	 */
+	int size() {
+		return size;
+	}
+
+
+	/**
+	 * Returns a view of the captured lines in the given range. The view is not copied and remains valid until the lines
+	 * are released.
+	 *
+	 * @param from the position of the first line, inclusive
+	 * @param to the position of the last line, exclusive, must not exceed {@link #size()}
+	 * @return an unmodifiable view of the lines.
+	 */
+	List<String> lines(final int from, final int to) {
+		if (from < released || to > size || from > to) {
+			throw new IndexOutOfBoundsException("Lines " + from + " to " + to + " are not available, captured lines: "
+					+ released + " to " + size + ".");
+		}
+		return new LineView(chunks, from, to);
+	}
+
+
+	/**
+	 * Release the lines below the given position, so the chunks containing only released lines may be garbage
+	 * collected. Views of released lines must not be used anymore.
+	 *
+	 * @param position the position of the first line that is still needed
+	 */
+	void release(final int position) {
+		// Hold the append lock, so the chunks are not released in an array which is being replaced by a grown copy.
+		synchronized (appendLock) {
+			final String[][] current = chunks;
+			for (int chunk = released / CHUNK_SIZE; chunk < position / CHUNK_SIZE; chunk++) {
+				current[chunk] = null;
+			}
+			released = Math.max(released, position);
+		}
+	}
+
+
+	/**
+	 * Append a line. Only called by a capture task holding the append lock.
+	 *
+	 * @param line the line to append
+	 */
+	private void append(final String line) {
+		final int position = size;
+		final int chunk = position / CHUNK_SIZE;
+		String[][] current = chunks;
+		if (chunk == current.length) {
+			current = Arrays.copyOf(current, 2 * current.length);
+			chunks = current;
+		}
+		if (current[chunk] == null) {
+			current[chunk] = new String[CHUNK_SIZE];
+		}
+		current[chunk][position % CHUNK_SIZE] = line;
+		size = position + 1;
+	}
+
+
+	private void signal() {
+		synchronized (monitor) {
+			monitor.notifyAll();
+		}
+	}
+
+
+	/**
+	 * Unmodifiable view of a range of the captured lines.
+	 */
+	private static final class LineView extends AbstractList<String> implements RandomAccess {
+		private final String[][] chunks;
+		private final int from;
+		private final int to;
+
+		LineView(final String[][] chunks, final int from, final int to) {
+			this.chunks = chunks;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		public String get(final int index) {
+			if (index < 0 || index >= size()) {
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+			}
+			final int position = from + index;
+			return chunks[position / CHUNK_SIZE][position % CHUNK_SIZE];
+		}
+
+		@Override
+		public int size() {
+			return to - from;
+		}
+	}
+
+
+	/**
+	 * Task reading the lines of one stream. It ends when the end of the stream has been reached or it has been
+	 * cancelled.
+	 */
+	private final class Capture implements Runnable {
+		private final InputStream source;
+		private final BufferedReader reader;
+		private volatile boolean cancelled = false;
+		/**
+		 * Guarded by the monitor of the enclosing capture.
+		 */
+		private boolean done = false;
+
+		Capture(final InputStream source) {
+			this.source = source;
+			reader = new BufferedReader(new InputStreamReader(source, StandardCharsets.UTF_8));
+		}
+
+		/**
+		 * Request the task to stop. Closing the stream makes a pending read return early, if the platform supports it.
+		 * The stream is closed directly, because closing the reader would wait for a pending read.
+		 */
+		void cancel() {
+			cancelled = true;
+			try {
+				source.close();
+			} catch (IOException e) {
+				// The task stops anyway.
+			}
+		}
+
+		/**
+		 * Read lines from the stream as they become available and append them. Waiting readers are signalled once all
+		 * lines available so far have been appended.
+		 */
+		@Override
+		public void run() {
+			try {
+				String line = reader.readLine();
+				while (line != null) {
+					synchronized (appendLock) {
+						if (cancelled) {
+							break;
+						}
+						append(line);
+					}
+					if (!reader.ready()) {
+						signal();
+					}
+					line = reader.readLine();
+				}
+			} catch (IOException e) {
+				if (!cancelled) {
+					log.log(System.currentTimeMillis(), BasicLogger.ERROR,
+							"An error occurred while reading the output of " + name + ":", e);
+				}
+			} finally {
+				try {
+					reader.close();
+				} catch (IOException e) {
+					// Nothing left to read.
+				}
+				synchronized (monitor) {
+					done = true;
+					monitor.notifyAll();
+				}
+			}
+		}
+	}
+
+
+	/**
+	 * Creates the daemon threads of the capture pool, so that a capture never prevents the JVM from exiting. The
+	 * threads are reused for the processes of all test cases, so they do not inherit the log scope of the test case
+	 * which happens to start them.
+	 */
+	private static final class CaptureThreadFactory implements ThreadFactory {
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(final Runnable task) {
+			final Thread thread = new Thread(null, task, "Process output capture " + count.incrementAndGet(), 0, false);
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package com.achelos.task.commandlineexecution.genericcommandlineexecution;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.List;
+import java.util.regex.Pattern;
+
+
+/**
+ * Condition signalling that a process started by a {@link GenericCommandLineExecution} is ready to be used.
+ *
+ * @see GenericCommandLineExecution#waitUntilReady(ReadinessCondition, long)
+ */
+@FunctionalInterface
+public interface ReadinessCondition {
+
+	/**
+	 * Timeout for a single connection attempt of {@link #listeningPort(int)} in milliseconds.
+	 */
+	int PORT_PROBE_TIMEOUT_MILLISECONDS = 100;
+
+	/**
+	 * Checks whether the process is ready.
+	 *
+	 * @param newLogLines the lines logged by the process since the last check
+	 * @param processAlive whether the process is still running
+	 * @return true if the process is ready.
+	 */
+	boolean isReady(List<String> newLogLines, boolean processAlive);
+
+	/**
+	 * @param other the other condition
+	 * @return a condition which is satisfied as soon as this or the other condition is satisfied.
+	 */
+	default ReadinessCondition or(final ReadinessCondition other) {
+		return (newLogLines, processAlive) -> isReady(newLogLines, processAlive)
+				|| other.isReady(newLogLines, processAlive);
+	}
+
+	/**
+	 * @param regex the regular expression to search for
+	 * @return a condition which is satisfied as soon as the process logs a line containing the given regular
+	 *         expression.
+	 */
+	static ReadinessCondition logMessage(final String regex) {
+		final Pattern pattern = Pattern.compile(regex);
+		return (newLogLines, processAlive) -> {
+			for (final String line : newLogLines) {
+				if (pattern.matcher(line).find()) {
+					return true;
+				}
+			}
+			return false;
+		};
+	}
+
+	/**
+	 * Do not use this condition for services which log or reject connections without request, as the probing connection
+	 * is visible to the process. The port is only probed while the process is running, as another process may listen
+	 * on the port if the process failed to bind it.
+	 *
+	 * @param port the local port to probe
+	 * @return a condition which is satisfied as soon as the process is running and a connection to the given local port
+	 *         can be established.
+	 */
+	static ReadinessCondition listeningPort(final int port) {
+		return (newLogLines, processAlive) -> {
+			if (!processAlive) {
+				return false;
+			}
+			try (var socket = new Socket()) {
+				socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), PORT_PROBE_TIMEOUT_MILLISECONDS);
+				return true;
+			} catch (IOException e) {
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * @return a condition which is satisfied as soon as the process has terminated.
+	 */
+	static ReadinessCondition processExit() {
+		return (newLogLines, processAlive) -> !processAlive;
+	}
+}
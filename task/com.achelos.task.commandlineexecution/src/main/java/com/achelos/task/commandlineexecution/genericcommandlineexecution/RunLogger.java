@@ -1,24 +1,20 @@
 package com.achelos.task.commandlineexecution.genericcommandlineexecution;
 
-import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
+import java.io.StringWriter;
 import java.io.Writer;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Timer;
 import java.util.TimerTask;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
+import com.achelos.task.configuration.TestRunPlanConfiguration;
 import com.achelos.task.logging.BasicLogger;
 import com.achelos.task.logging.LoggingConnector;
 import com.achelos.task.utilities.logging.LogBean;
@@ -29,15 +25,94 @@ import com.achelos.task.utilities.logging.LogBean;
  */
 public abstract class RunLogger extends GenericCommandLineExecution {
 
+	private PortAllocator.PortLease portLease;
+	/**
+	 * Searches performed on the log so far, by search key. Each search remembers how far it has scanned the log bean
+	 * list, so repeated searches only check the entries added since.
+	 */
+	private final Map<String, LogSearch> logSearches = new HashMap<>();
+	/**
+	 * Index of the key-value-pairs in the log, updated with the entries added since the last lookup.
+	 */
+	private final LogKeyIndex logKeyIndex = new LogKeyIndex();
+
 	/**
 	 * Start a simulation in a new process.
 	 *
 	 * @param testCaseName Test case name that is going to be executed.
 	 * @param executor Current running executor.
 	 * @param log Logger to use for logging.
+	 * @param configuration The configuration of the test run the test case belongs to.
+	 */
+	public RunLogger(final String testCaseName, final Executor executor, final BasicLogger log,
+			final TestRunPlanConfiguration configuration) {
+		this(testCaseName, executor, log, configuration, null);
+	}
+
+	/**
+	 * Start a simulation in a new process, whose service uses the given port lease.
+	 *
+	 * @param testCaseName Test case name that is going to be executed.
+	 * @param executor Current running executor.
+	 * @param log Logger to use for logging.
+	 * @param configuration The configuration of the test run the test case belongs to.
+	 * @param portLease the port lease to use, which is closed in {@link #cleanAndExit()}, or null to use the port of
+	 *        the run configuration or to lease the configured port on first use.
 	 */
-	public RunLogger(final String testCaseName, final Executor executor, final BasicLogger log) {
-		super(executor, testCaseName, log);
+	public RunLogger(final String testCaseName, final Executor executor, final BasicLogger log,
+			final TestRunPlanConfiguration configuration, final PortAllocator.PortLease portLease) {
+		super(executor, testCaseName, log, configuration);
+		this.portLease = portLease;
+	}
+
+
+	/**
+	 * Returns the port of the service started by this executor. This is the port of the lease passed to the
+	 * constructor, if any, otherwise the given port of the run configuration, which is leased for the whole test run.
+	 *
+	 * @param configuredPort the port as specified in the run configuration.
+	 * @return the port of the service.
+	 */
+	protected final synchronized int getServicePort(final int configuredPort) {
+		return portLease != null ? portLease.getPort() : configuredPort;
+	}
+
+	/**
+	 * Returns the port of the service started by this executor. This is the port of the lease passed to the
+	 * constructor, if any, otherwise the given port is leased exclusively, waiting until it is released by the
+	 * executors of other test cases or test runs. The executor is not locked while waiting, so it can still be cleaned
+	 * up. Use this for a port which is fixed by the global configuration and therefore not leased for the test run.
+	 *
+	 * @param configuredPort the port as specified in the global configuration file.
+	 * @return the leased port.
+	 * @throws IOException if the port could not be leased.
+	 */
+	protected final int getLeasedPort(final int configuredPort) throws IOException {
+		synchronized (this) {
+			if (portLease != null) {
+				return portLease.getPort();
+			}
+		}
+		final PortAllocator.PortLease lease = PortAllocator.getInstance().leasePort(configuredPort);
+		synchronized (this) {
+			if (portLease == null) {
+				portLease = lease;
+				return lease.getPort();
+			}
+		}
+		lease.close();
+		return getLeasedPort(configuredPort);
+	}
+
+	/**
+	 * Return the port leased by this executor to the {@link PortAllocator}. This is done in {@link #cleanAndExit()}
+	 * and has to be done by subclasses whose construction fails after the port lease has been passed.
+	 */
+	protected final synchronized void releasePortLease() {
+		if (portLease != null) {
+			portLease.close();
+			portLease = null;
+		}
 	}
 
 
@@ -61,7 +136,7 @@ public abstract class RunLogger extends GenericCommandLineExecution {
 	 * @return list containing {@link LogBean} or null
 	 * @throws IOException
 	 */
-	protected final ArrayList<LogBean> processLoggingOutput() throws IOException {
+	protected final List<LogBean> processLoggingOutput() throws IOException {
 		return processLoggingOutput(true, false);
 	}
 
@@ -158,16 +233,69 @@ public abstract class RunLogger extends GenericCommandLineExecution {
 	protected final LogBean findMessage(final String message, final boolean match, final boolean handleNoLogAsError)
 			throws IOException {
 
+		// Search the given message in the log bean entries which have not been searched yet
+		final LogSearch search = logSearches.computeIfAbsent((match ? "match:" : "contains:") + message,
+				key -> new LogSearch(message, match));
+		return findLogEntry("message: \"" + message + "\"", search::advance, handleNoLogAsError);
+	}
+
+
+	/**
+	 * Searches the log for the first key-value-pair with the given key, i.e. a log message starting with the key
+	 * followed by "=", and returns either the found element or null.
+	 *
+	 * @param key the key to search for.
+	 * @param handleNoLogAsError This method allows the user to decide if a missing log leads to an error or not e.g.
+	 * due to an expected TLS process abortion.
+	 * @return found element or null.
+	 * @throws IOException
+	 */
+	protected final LogBean findKeyValue(final String key, final boolean handleNoLogAsError) throws IOException {
+		return findLogEntry("key: \"" + key + "\"", () -> logKeyIndex.first(key), handleNoLogAsError);
+	}
+
+
+	/**
+	 * Searches the complete log for all key-value-pairs with the given key, i.e. log messages starting with the key
+	 * followed by "=". Waits for the process to terminate.
+	 *
+	 * @param key the key to search for.
+	 * @return all found elements in the order they were logged, or null if none was found.
+	 * @throws IOException
+	 */
+	protected final List<LogBean> findKeyValues(final String key) throws IOException {
+		processLoggingOutput();
+		final List<LogBean> found = logKeyIndex.all(key);
+		if (found.isEmpty()) {
+			return null;
+		}
+		return found;
+	}
+
+
+	/**
+	 * Looks up an entry in the log bean list. If it has not been logged yet, the lookup is repeated for each new log
+	 * line until the entry is found, the process terminates or the maximum wait time for reading a log message has
+	 * elapsed.
+	 *
+	 * @param description the description of the entry for logging.
+	 * @param lookup returns the entry or null if it has not been logged yet.
+	 * @param handleNoLogAsError This method allows the user to decide if a missing log leads to an error or not e.g.
+	 * due to an expected TLS process abortion.
+	 * @return found element or null.
+	 * @throws IOException
+	 */
+	private LogBean findLogEntry(final String description, final Supplier<LogBean> lookup,
+			final boolean handleNoLogAsError) throws IOException {
+
 		// Fetch the current global log bean list if it has not been done yet
-		if (getLogBeanList().isEmpty() && !isNull()) {
+		if (getLogBeanCount() == 0 && !isNull()) {
 			setLogBeanList(LogBean.convertToLogBeanList(processLogQueue()));
 		}
 
-		// Search the given message in the current global log bean list
-		for (final LogBean item : getLogBeanList()) {
-			if ((match && item.getMessage().matches(message)) || (!match && item.getMessage().contains(message))) {
-				return item;
-			}
+		final LogBean found = lookup.get();
+		if (found != null) {
+			return found;
 		}
 
 		// Cancel here, if the process does not run anymore,
@@ -175,33 +303,18 @@ public abstract class RunLogger extends GenericCommandLineExecution {
 		if (isNull()) {
 			return null;
 		}
-		List<Future<LogBean>> future;
-		ExecutorService executor = Executors.newSingleThreadExecutor();
-		try {
-			int maxWaitTime = getConfiguration().getMaximumWaitTimeForReadingLogMessage();
-			logDebug("Search message: \"" + message + "\" in " + maxWaitTime + " seconds.");
-			future = executor.invokeAll(Arrays.asList(new SearchLogMessage(match, message)), maxWaitTime,
-					TimeUnit.SECONDS);
-			executor.shutdown();
-			try {
-			    if (!executor.awaitTermination(500, TimeUnit.MILLISECONDS)) {
-			    	executor.shutdownNow();
-			    } 
-			} catch (InterruptedException e) {
-				executor.shutdownNow();
-			}
-			if (future.get(0).isCancelled()) {
-				logDebug("Timed out while searching the message: \"" + message + "\" in " + maxWaitTime + " seconds.");
-				return null;
-			}
-			LogBean logBean = future.get(0).get();
-			if (logBean != null) {
-				return logBean;
-			}
-		} catch (InterruptedException | ExecutionException e1) {
-			return null;
-		} // Timeout of given time in seconds.
 
+		// Search the new log bean entries as soon as they are received
+		int maxWaitTime = getConfiguration().getMaximumWaitTimeForReadingLogMessage();
+		logDebug("Search " + description + " in " + maxWaitTime + " seconds.");
+		if (waitUntilReady((newLogLines, processAlive) -> lookup.get() != null,
+				TimeUnit.SECONDS.toMillis(maxWaitTime))) {
+			return lookup.get();
+		}
+		if (isRunning()) {
+			logDebug("Timed out while searching the " + description + " in " + maxWaitTime + " seconds.");
+			return null;
+		}
 
 		// Indicate that the log bean list is already complete here
 		processLoggingOutput(handleNoLogAsError, true);
@@ -210,50 +323,95 @@ public abstract class RunLogger extends GenericCommandLineExecution {
 		return null;
 	}
 
-	private class SearchLogMessage implements Callable<LogBean> {
-		private final boolean match;
+	/**
+	 * Incremental search of a message in the log bean list.
+	 */
+	private final class LogSearch {
 		private final String message;
-
-		SearchLogMessage(final boolean match, final String message) {
-			this.match = match;
+		private final Pattern pattern;
+		private int generation;
+		private int searchedEntries = 0;
+		private LogBean result = null;
+
+		/**
+		 * @param message the message to search for
+		 * @param match indicates that the whole log message must match the given regular expression, otherwise the
+		 * log message must contain the given message.
+		 */
+		LogSearch(final String message, final boolean match) {
 			this.message = message;
+			pattern = match ? Pattern.compile(message) : null;
+			generation = getLogBeanListGeneration();
 		}
 
-		@Override
-		public LogBean call() throws Exception {
-			do {
-				// If the process does not run anymore, wait until the process is completely
-				// terminated and run this loop one last time
-				if (!isRunning()) {
-					try {
-						waitFor();
-					} catch (final InterruptedException e) {
-						logInfo("Waiting for the " + getExecutor().getName() + " has been interrupted.");
-					}
+		/**
+		 * Search the entries added to the log bean list since the last call. If the list has been cleared or replaced
+		 * meanwhile, the search starts over.
+		 *
+		 * @return the first entry matching the message or null.
+		 */
+		LogBean advance() {
+			if (generation != getLogBeanListGeneration()) {
+				generation = getLogBeanListGeneration();
+				searchedEntries = 0;
+				result = null;
+			}
+			while (result == null && searchedEntries < getLogBeanCount()) {
+				final LogBean item = getLogBean(searchedEntries++);
+				if (pattern != null ? pattern.matcher(item.getMessage()).matches()
+						: item.getMessage().contains(message)) {
+					result = item;
 				}
+			}
+			return result;
+		}
+	}
 
-				// Fetch the new log bean entries ...
-				final ArrayList<LogBean> tlsLogBeanNew = LogBean.convertToLogBeanList(processLogQueue());
+	/**
+	 * Index of the key-value-pairs in the log bean list by key. Each entry of the list is indexed once.
+	 */
+	private final class LogKeyIndex {
+		private final Map<String, List<LogBean>> entriesByKey = new HashMap<>();
+		private int generation = getLogBeanListGeneration();
+		private int indexedEntries = 0;
+
+		/**
+		 * Index the entries added to the log bean list since the last call. If the list has been cleared or replaced
+		 * meanwhile, the index is rebuilt.
+		 */
+		private void update() {
+			if (generation != getLogBeanListGeneration()) {
+				generation = getLogBeanListGeneration();
+				indexedEntries = 0;
+				entriesByKey.clear();
+			}
+			while (indexedEntries < getLogBeanCount()) {
+				final LogBean item = getLogBean(indexedEntries++);
+				final int separator = item.getMessage().indexOf('=');
+				if (separator > 0) {
+					entriesByKey.computeIfAbsent(item.getMessage().substring(0, separator), key -> new ArrayList<>())
+							.add(item);
+				}
+			}
+		}
 
-				// ... And add them to the global log bean list
-				addLogBeanList(tlsLogBeanNew);
+		/**
+		 * @param key the key to look up
+		 * @return the first entry with the given key or null.
+		 */
+		LogBean first(final String key) {
+			update();
+			final List<LogBean> entries = entriesByKey.get(key);
+			return entries == null ? null : entries.get(0);
+		}
 
-				// Search the given message only in the new fetched log bean entries
-				for (final LogBean item : tlsLogBeanNew) {
-					if ((match && item.getMessage().matches(message))
-							|| (!match && item.getMessage().contains(message))) {
-						return item;
-					}
-				}
-				try {
-					// Allow the thread to perform a context-switch. Avoid non-busy wait.
-					final int sleepTimeMilliSeconds = 100;
-					Thread.sleep(sleepTimeMilliSeconds);
-				} catch (InterruptedException e) {
-					throw e;
-				}
-			} while (isRunning() || hasQueueLogs());
-			return null;
+		/**
+		 * @param key the key to look up
+		 * @return all entries with the given key in the order they were logged.
+		 */
+		List<LogBean> all(final String key) {
+			update();
+			return new ArrayList<>(entriesByKey.getOrDefault(key, List.of()));
 		}
 	}
 
@@ -285,7 +443,7 @@ public abstract class RunLogger extends GenericCommandLineExecution {
 	 */
 	protected final String getValue(final String key, final long logLevel) throws IOException {
 		logDebug("Searching for '" + key + "'");
-		final LogBean logEntry = findMessage(key);
+		final LogBean logEntry = findKeyValue(key, true);
 
 		return getValue(key, logEntry, logLevel);
 
@@ -403,7 +561,7 @@ public abstract class RunLogger extends GenericCommandLineExecution {
 	 */
 	public final void logActualMessage(final LogBean actualMessage) {
 		if (actualMessage != null) {
-			if (actualMessage.getTimestamp() != null) {
+			if (actualMessage.hasTimestamp()) {
 				logInfo("Actual log message: (" + actualMessage.getTimestampString() + "): "
 						+ actualMessage.getMessage());
 			} else {
@@ -455,29 +613,26 @@ public abstract class RunLogger extends GenericCommandLineExecution {
 
 
 	/**
-	 * Method handles a whole list of log beans and writes the information persistent to the file system.
+	 * Method handles a whole list of log beans and writes the information persistent to the file system. The file is
+	 * created immediately, the log beans are appended to it in the background by the {@link AsyncLogFileWriter}.
 	 *
 	 * @param list The log history filled with information during test case iterations
 	 * @throws IOException
 	 */
-	protected void writeLogsToFile(final ArrayList<LogBean> list) throws IOException {
+	protected void writeLogsToFile(final List<LogBean> list) throws IOException {
 		if (null == list) {
 			return;
 		}
 
-		File logFile = createLogFile();
-		boolean append = getLogFile().exists();
-		try (Writer writer = new BufferedWriter(
-				new OutputStreamWriter(new FileOutputStream(logFile, append), StandardCharsets.UTF_8))) {
-			for (final LogBean item : list) {
-				final String logLine = item.toString();
-				// Write information to the file
-				writer.write(logLine);
-				writer.write(System.lineSeparator());
-			}
-			logFileCreated();
-			logEndOfIteration(writer);
+		final File logFile = createLogFile(
+				getConfiguration().isExecutorLogCompressionEnabled() ? AsyncLogFileWriter.GZIP_SUFFIX : "");
+		if (!logFile.exists() && !logFile.createNewFile()) {
+			logDebug("Unable to create log file: " + logFile);
 		}
+		final StringWriter endOfIteration = new StringWriter();
+		logFileCreated();
+		logEndOfIteration(endOfIteration);
+		AsyncLogFileWriter.getInstance().append(getConfiguration(), logFile, list, endOfIteration.toString());
 	}
 
 	/**
@@ -509,6 +664,8 @@ public abstract class RunLogger extends GenericCommandLineExecution {
 				logError("An error occurred while trying to process the logging dump", e);
 				clearLogList();
 			}
+		} finally {
+			releasePortLease();
 		}
 		resetLog();
 	}
@@ -0,0 +1,153 @@
+package genericcommandlineexecution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.achelos.task.commandlineexecution.genericcommandlineexecution.AsyncLogFileWriter;
+import com.achelos.task.configuration.TestRunPlanConfiguration;
+import com.achelos.task.logging.BasicLogger;
+import com.achelos.task.logging.LoggingConnector;
+import com.achelos.task.xmlparser.configparsing.ConfigParser;
+
+
+class TestAsyncLogFileWriter {
+
+	private static final long TIMEOUT_MILLISECONDS = 10000;
+	private static final String NEW_LINE = System.lineSeparator();
+
+	private Path reportDirectory;
+	private TestRunPlanConfiguration run;
+	private RecordingLogger recorder;
+
+	@BeforeEach
+	void createRun() throws IOException {
+		LoggingConnector.getInstance("DEBUG");
+		recorder = new RecordingLogger();
+		LoggingConnector.addLogger(List.of(recorder));
+		reportDirectory = Files.createTempDirectory(null);
+		var globalConfig = reportDirectory.resolve("GlobalConfig.xml");
+		var content = Files.readString(Path.of("../data/configuration/ExampleGlobalConfig.xml"));
+		content = replaceParameter(content, "tls_test_tool_path", "/path/to/tool");
+		content = replaceParameter(content, "report_directory", reportDirectory.toString());
+		content = replaceParameter(content, "specification_directory",
+				new File("../data/specification").getAbsolutePath());
+		Files.writeString(globalConfig, content);
+		run = TestRunPlanConfiguration.parseRunPlanConfiguration(
+				new File("../data/testrunplan/TRP_ExampleMICS_Server.xml"),
+				ConfigParser.parseGlobalConfig(globalConfig.toFile()), reportDirectory.toString());
+	}
+
+	@AfterEach
+	void removeRecorder() {
+		LoggingConnector.removeLogger(recorder);
+	}
+
+	@Test
+	void testLinesAreAppendedInSubmissionOrder() throws Exception {
+		var file = reportDirectory.resolve("ordered.log").toFile();
+		var expected = new StringBuilder();
+		for (int i = 0; i < 200; i++) {
+			AsyncLogFileWriter.getInstance().append(run, file, List.of("job " + i + " a", "job " + i + " b"),
+					"end " + i + NEW_LINE);
+			expected.append("job " + i + " a" + NEW_LINE + "job " + i + " b" + NEW_LINE + "end " + i + NEW_LINE);
+		}
+
+		assertTrue(AsyncLogFileWriter.getInstance().drain(run, TIMEOUT_MILLISECONDS));
+		assertEquals(expected.toString(), Files.readString(file.toPath(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void testCompressedFileIsCompleteWhenDrained() throws Exception {
+		var file = reportDirectory.resolve("compressed.log" + AsyncLogFileWriter.GZIP_SUFFIX).toFile();
+
+		AsyncLogFileWriter.getInstance().append(run, file, List.of("first"), "");
+		assertTrue(AsyncLogFileWriter.getInstance().drain(run, TIMEOUT_MILLISECONDS));
+		// Each drained batch is a complete gzip member.
+		assertEquals("first" + NEW_LINE, readCompressed(file));
+
+		AsyncLogFileWriter.getInstance().append(run, file, List.of("second"), "trailer");
+		assertTrue(AsyncLogFileWriter.getInstance().drain(run, TIMEOUT_MILLISECONDS));
+		assertEquals("first" + NEW_LINE + "second" + NEW_LINE + "trailer", readCompressed(file));
+	}
+
+	@Test
+	void testFailedWriteIsLoggedAndClosesTheFile() throws Exception {
+		var file = reportDirectory.resolve("failed.log" + AsyncLogFileWriter.GZIP_SUFFIX).toFile();
+		var failingLine = new Object() {
+			@Override
+			public String toString() {
+				throw new IllegalStateException("Unable to format the line.");
+			}
+		};
+
+		AsyncLogFileWriter.getInstance().append(run, file, List.of("before", failingLine, "skipped"), "");
+		assertTrue(AsyncLogFileWriter.getInstance().drain(run, TIMEOUT_MILLISECONDS),
+				"A failed write is not completed.");
+		AsyncLogFileWriter.getInstance().append(run, file, List.of("after"), "");
+		assertTrue(AsyncLogFileWriter.getInstance().drain(run, TIMEOUT_MILLISECONDS));
+		LoggingConnector.getInstance().flush();
+
+		assertTrue(recorder.getMessages().contains("Unable to write the log file " + file + "."),
+				"The failed write has not been logged.");
+		// The gzip member of the failed write has been finished, so the following member can be read.
+		assertEquals("before" + NEW_LINE + "after" + NEW_LINE, readCompressed(file));
+	}
+
+	@Test
+	void testUnwritableFileIsLogged() throws Exception {
+		var file = reportDirectory.resolve("missing").resolve("unwritable.log").toFile();
+
+		AsyncLogFileWriter.getInstance().append(run, file, List.of("lost"), "");
+
+		assertTrue(AsyncLogFileWriter.getInstance().drain(run, TIMEOUT_MILLISECONDS));
+		LoggingConnector.getInstance().flush();
+		assertTrue(recorder.getMessages().contains("Unable to write the log file " + file + "."),
+				"The failed write has not been logged.");
+	}
+
+	private static String replaceParameter(final String content, final String id, final String value) {
+		return Pattern.compile("<parameter id=\"" + id + "\".*?parameter>", Pattern.DOTALL).matcher(content)
+				.replaceFirst(Matcher.quoteReplacement(
+						"<parameter id=\"" + id + "\"><string>" + value + "</string></parameter>"));
+	}
+
+	private static String readCompressed(final File file) throws IOException {
+		try (var input = new GZIPInputStream(Files.newInputStream(file.toPath()))) {
+			return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+	private static final class RecordingLogger extends BasicLogger {
+		private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+
+		@Override
+		public void log(final long timestamp, final long lvl, final String log, final Throwable t) {
+			messages.add(log);
+		}
+
+		@Override
+		public void tellLogger(final String topic, final Object value) {
+			// Not recorded.
+		}
+
+		List<String> getMessages() {
+			return new ArrayList<>(messages);
+		}
+	}
+}
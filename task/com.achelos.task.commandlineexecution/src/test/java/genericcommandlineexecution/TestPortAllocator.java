@@ -0,0 +1,109 @@
+package genericcommandlineexecution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.achelos.task.commandlineexecution.genericcommandlineexecution.PortAllocator;
+
+
+class TestPortAllocator {
+
+	private static final long CHILD_TIMEOUT_SECONDS = 60;
+
+	@Test
+	void testFreePortsAreDistinct() throws IOException {
+		var portAllocator = PortAllocator.getInstance();
+		try (var first = portAllocator.leaseFreePort(); var second = portAllocator.leaseFreePort()) {
+			assertNotEquals(first.getPort(), second.getPort());
+			assertTrue(first.getPort() > 0);
+		}
+	}
+
+	@Test
+	void testLeasedPortIsReleasedOnClose() throws IOException {
+		var portAllocator = PortAllocator.getInstance();
+		var lease = portAllocator.leaseFreePort();
+		var port = lease.getPort();
+
+		assertThrows(IOException.class, () -> portAllocator.leasePort(port, 200));
+		lease.close();
+		lease.close();
+		try (var secondLease = portAllocator.leasePort(port, 200)) {
+			assertEquals(port, secondLease.getPort());
+		}
+	}
+
+	@Test
+	void testWaitingLeaseGetsReleasedPort() throws Exception {
+		var portAllocator = PortAllocator.getInstance();
+		var lease = portAllocator.leaseFreePort();
+		var port = lease.getPort();
+		var releaser = new Thread(() -> {
+			try {
+				Thread.sleep(200);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			lease.close();
+		});
+
+		releaser.start();
+		try (var secondLease = portAllocator.leasePort(port, 10000)) {
+			assertEquals(port, secondLease.getPort());
+		}
+		releaser.join();
+	}
+
+	@Test
+	void testLeasedPortIsLockedForOtherProcesses() throws Exception {
+		try (var lease = PortAllocator.getInstance().leaseFreePort()) {
+			assertEquals(1, runChildProcess(lease.getPort()));
+		}
+	}
+
+	@Test
+	void testReleasedPortIsAvailableForOtherProcesses() throws Exception {
+		var lease = PortAllocator.getInstance().leaseFreePort();
+		lease.close();
+
+		assertEquals(0, runChildProcess(lease.getPort()));
+	}
+
+	/**
+	 * Lease the given port in a separate JVM.
+	 *
+	 * @return the exit code of the JVM, 0 if the port could be leased and 1 if not.
+	 */
+	private static int runChildProcess(final int port) throws IOException, InterruptedException {
+		var java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+		var process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+				LeasePortProcess.class.getName(), Integer.toString(port)).redirectErrorStream(true).start();
+		assertTrue(process.waitFor(CHILD_TIMEOUT_SECONDS, TimeUnit.SECONDS), "The child process did not terminate.");
+		var output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+		assertTrue(process.exitValue() == 0 || process.exitValue() == 1, output);
+		return process.exitValue();
+	}
+
+	/**
+	 * Entry point of the child JVM leasing the port given as argument.
+	 */
+	static final class LeasePortProcess {
+
+		public static void main(final String[] args) {
+			try (var lease = PortAllocator.getInstance().leasePort(Integer.parseInt(args[0]), 200)) {
+				System.exit(0);
+			} catch (IOException e) {
+				System.exit(1);
+			}
+		}
+	}
+}
@@ -0,0 +1,37 @@
+package genericcommandlineexecution;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.achelos.task.commandlineexecution.genericcommandlineexecution.ReadinessCondition;
+
+
+class TestReadinessCondition {
+
+	@Test
+	void testListeningPortRequiresRunningProcess() throws IOException {
+		try (var socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+			var condition = ReadinessCondition.listeningPort(socket.getLocalPort());
+
+			assertTrue(condition.isReady(List.of(), true));
+			// Another process listens on the port, the process itself has terminated.
+			assertFalse(condition.isReady(List.of(), false));
+		}
+	}
+
+	@Test
+	void testLogMessage() {
+		var condition = ReadinessCondition.logMessage("TCP/IP connection to (.*) established.");
+
+		assertFalse(condition.isReady(List.of("Waiting for TCP/IP connection on port 443"), true));
+		assertTrue(condition.isReady(List.of("", "TCP/IP connection to 127.0.0.1:443 established."), true));
+		assertTrue(condition.or(ReadinessCondition.processExit()).isReady(List.of(), false));
+	}
+}
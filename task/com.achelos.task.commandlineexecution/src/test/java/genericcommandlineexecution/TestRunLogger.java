@@ -0,0 +1,150 @@
+package genericcommandlineexecution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.achelos.task.commandlineexecution.genericcommandlineexecution.Executor;
+import com.achelos.task.commandlineexecution.genericcommandlineexecution.RunLogger;
+import com.achelos.task.logging.LoggingConnector;
+import com.achelos.task.utilities.logging.LogBean;
+
+
+class TestRunLogger {
+
+	@BeforeAll
+	static void initLogging() {
+		LoggingConnector.getInstance("DEBUG");
+	}
+
+	@Test
+	void testFindMessageReturnsFirstEntryAndSearchesNewEntries() throws IOException {
+		var runLogger = new LogSearchingRunLogger();
+		runLogger.setLog("Waiting for TCP/IP connection on port 4433.", "Handshake started.");
+
+		assertNull(runLogger.find("established"));
+
+		runLogger.add("TCP/IP connection to 127.0.0.1:50000 established.");
+		runLogger.add("TCP/IP connection to 127.0.0.1:50001 established.");
+		var found = runLogger.find("established");
+
+		assertEquals("TCP/IP connection to 127.0.0.1:50000 established.", found.getMessage());
+		assertSame(found, runLogger.find("established"));
+		assertSame(found, runLogger.findMatch("TCP/IP connection to (.*) established."));
+		assertNull(runLogger.findMatch("established"));
+	}
+
+	@Test
+	void testSearchesStartOverWhenLogIsReplaced() throws IOException {
+		var runLogger = new LogSearchingRunLogger();
+		runLogger.setLog("Handshake started.", "ServerHello.cipher_suite=00 2F");
+		assertEquals("ServerHello.cipher_suite=00 2F", runLogger.find("cipher_suite").getMessage());
+		assertEquals("ServerHello.cipher_suite=00 2F", runLogger.findKey("ServerHello.cipher_suite").getMessage());
+
+		runLogger.setLog("ServerHello.cipher_suite=C0 2B");
+
+		assertEquals("ServerHello.cipher_suite=C0 2B", runLogger.find("cipher_suite").getMessage());
+		assertEquals("ServerHello.cipher_suite=C0 2B", runLogger.findKey("ServerHello.cipher_suite").getMessage());
+
+		runLogger.clear();
+
+		assertNull(runLogger.find("cipher_suite"));
+		assertNull(runLogger.findKey("ServerHello.cipher_suite"));
+	}
+
+	@Test
+	void testKeyValuesAreFoundInLoggingOrder() throws IOException {
+		var runLogger = new LogSearchingRunLogger();
+		runLogger.setLog("Alert.level=0x02", "Handshake started.", "Alert.description=0x28", "=no key",
+				"Alert.level=0x01");
+
+		assertNull(runLogger.findKey("Alert"));
+		assertNull(runLogger.findKey(""));
+		assertEquals("Alert.level=0x02", runLogger.findKey("Alert.level").getMessage());
+
+		runLogger.add("Alert.level=0x03");
+
+		assertEquals(List.of("Alert.level=0x02", "Alert.level=0x01", "Alert.level=0x03"),
+				messages(runLogger.findAll("Alert.level")));
+		assertEquals(List.of("Alert.description=0x28"), messages(runLogger.findAll("Alert.description")));
+		assertNull(runLogger.findAll("ServerHello.cipher_suite"));
+	}
+
+	@Test
+	void testLogViewKeepsEntriesWhenLogIsCleared() {
+		var runLogger = new LogSearchingRunLogger();
+		runLogger.setLog("Handshake started.");
+		var view = runLogger.log();
+
+		runLogger.add("Handshake finished.");
+
+		assertEquals(List.of("Handshake started.", "Handshake finished."), messages(view));
+
+		runLogger.clear();
+		runLogger.add("Next handshake started.");
+
+		assertEquals(List.of("Handshake started.", "Handshake finished."), messages(view));
+		assertEquals(List.of("Next handshake started."), messages(runLogger.log()));
+	}
+
+	private static List<String> messages(final List<LogBean> logBeans) {
+		var messages = new ArrayList<String>();
+		logBeans.forEach(logBean -> messages.add(logBean.getMessage()));
+		return messages;
+	}
+
+	/**
+	 * Run logger without a process, whose log bean list is set by the test.
+	 */
+	private static final class LogSearchingRunLogger extends RunLogger {
+
+		LogSearchingRunLogger() {
+			super("TestRunLogger", Executor.TLSTESTTOOL, LoggingConnector.getInstance(), null);
+		}
+
+		void setLog(final String... messages) {
+			setLogBeanList(LogBean.convertToLogBeanList(List.of(messages)));
+		}
+
+		void add(final String message) {
+			addLogBean(new LogBean(message));
+		}
+
+		List<LogBean> log() {
+			return getLogBeanList();
+		}
+
+		void clear() {
+			clearLogBeanList();
+		}
+
+		LogBean find(final String message) throws IOException {
+			return findMessage(message, false);
+		}
+
+		LogBean findMatch(final String message) throws IOException {
+			return findMessageMatch(message);
+		}
+
+		LogBean findKey(final String key) throws IOException {
+			return findKeyValue(key, false);
+		}
+
+		List<LogBean> findAll(final String key) throws IOException {
+			return findKeyValues(key);
+		}
+
+		@Override
+		protected void logEndOfIteration(final Writer writer) {
+			// No iterations.
+		}
+	}
+}
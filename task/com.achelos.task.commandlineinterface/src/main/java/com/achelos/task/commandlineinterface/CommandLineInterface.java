@@ -16,7 +16,7 @@ import com.achelos.task.abstractinterface.TaskTestTool;
 import com.achelos.task.logging.LoggingConnector;
 import com.achelos.task.reporting.datastructures.ReportLogger;
 import com.achelos.task.reporting.pdfreport.PdfReport;
-import com.achelos.task.reporting.xmlreport.XmlReport;
+import com.achelos.task.reporting.xmlreport.StreamingXmlReportWriter;
 import com.achelos.task.restimpl.server.TaSKRestServer;
 import com.achelos.task.utilities.DateTimeUtils;
 import com.achelos.task.xmlparser.configparsing.ConfigParser;
@@ -232,78 +232,85 @@ public class CommandLineInterface {
 		boolean pdfReportSet = cmd.hasOption(pdfReportOption);
 		ReportLogger reportLogger = null;
 		if (xmlReportSet || pdfReportSet) {
-			reportLogger = new ReportLogger();
+			reportLogger = new ReportLogger(new StreamingXmlReportWriter());
 			LoggingConnector.addLogger(List.of(reportLogger));
 		}
 
-		if (!cmd.hasOption(micsOption) || !cmd.hasOption(configOption)) {
-			exit(1, "If the MICS file is provided, the global configuration files also have to be provided.");
-		}
+		try {
+			if (!cmd.hasOption(micsOption) || !cmd.hasOption(configOption)) {
+				exit(1, "If the MICS file is provided, the global configuration files also have to be provided.");
+			}
 
-		// Config File
-		var configFile = new File(cmd.getOptionValue(configOption));
-		if (!configFile.exists()) {
-			exit(1, "File provided as " + configOption.getArgName() + " does not exist.");
-		}
+			// Config File
+			var configFile = new File(cmd.getOptionValue(configOption));
+			if (!configFile.exists()) {
+				exit(1, "File provided as " + configOption.getArgName() + " does not exist.");
+			}
 
-		// Input Files
-		var micsFile = new File(cmd.getOptionValue(micsOption));
-		if (!micsFile.exists()) {
-			exit(1, "File provided as " + micsOption.getArgName() + " does not exist.");
-		}
+			// Input Files
+			var micsFile = new File(cmd.getOptionValue(micsOption));
+			if (!micsFile.exists()) {
+				exit(1, "File provided as " + micsOption.getArgName() + " does not exist.");
+			}
 
-		// Ignore MICS verification
-		boolean ignoreMicsVerification = cmd.hasOption(ignoreMicsVerificationOption);
+			// Ignore MICS verification
+			boolean ignoreMicsVerification = cmd.hasOption(ignoreMicsVerificationOption);
 
-		// Certificate Files
-		ArrayList<File> certificateFileList = new ArrayList<>();
-		var certDirOptionValue = cmd.getOptionValue(certOption);
-		if (certDirOptionValue != null) {
-			var certDir = new File(certDirOptionValue);
-			if (certDir == null || !certDir.exists() || !certDir.isDirectory() || certDir.listFiles() == null) {
-				exit(1, "Directory provided as " + certOption.getArgName() + " does not exist.");
-			} else {
-				var fileList = certDir.listFiles();
-				if (fileList == null) {
-					exit(1, "Directory provided as " + certOption.getArgName() + " could not be read.");
-					return;
+			// Certificate Files
+			ArrayList<File> certificateFileList = new ArrayList<>();
+			var certDirOptionValue = cmd.getOptionValue(certOption);
+			if (certDirOptionValue != null) {
+				var certDir = new File(certDirOptionValue);
+				if (certDir == null || !certDir.exists() || !certDir.isDirectory() || certDir.listFiles() == null) {
+					exit(1, "Directory provided as " + certOption.getArgName() + " does not exist.");
 				} else {
-					for (var file : fileList) {
-						if (file != null && file.isFile()) {
-							certificateFileList.add(file);
+					var fileList = certDir.listFiles();
+					if (fileList == null) {
+						exit(1, "Directory provided as " + certOption.getArgName() + " could not be read.");
+						return;
+					} else {
+						for (var file : fileList) {
+							if (file != null && file.isFile()) {
+								certificateFileList.add(file);
+							}
 						}
 					}
 				}
 			}
-		}
-		HashMap<String, GlobalConfigParameter> configuration = null;
-		try {
-			configuration = ConfigParser.parseGlobalConfig(configFile);
-		} catch (IllegalArgumentException e) {
-			exit(1, "An error occurred while parsing the global configuration File: " + e.getMessage());
-		}
+			HashMap<String, GlobalConfigParameter> configuration = null;
+			try {
+				configuration = ConfigParser.parseGlobalConfig(configFile);
+			} catch (IllegalArgumentException e) {
+				exit(1, "An error occurred while parsing the global configuration File: " + e.getMessage());
+			}
 
-		if (configuration == null || configuration.isEmpty()) {
-			exit(1, "An error occurred while parsing the global configuration file. " + configFile);
-		}
-		logger.debug("Configuration Initialization: The global configuration file is parsed successfully.");
+			if (configuration == null || configuration.isEmpty()) {
+				exit(1, "An error occurred while parsing the global configuration file. " + configFile);
+			}
+			logger.debug("Configuration Initialization: The global configuration file is parsed successfully.");
 
-		if (configuration.get(GlobalConfigParameterNames.ReportDirectory.getParameterName()) == null) {
-			exit(1, "Unspecified required global configuration file: "
-					+ GlobalConfigParameterNames.ReportDirectory.getParameterName());
-		}
-		var reportDir = configuration.get(GlobalConfigParameterNames.ReportDirectory.getParameterName())
-				.getValueAsString();
-		var date = DateTimeUtils.getTimeStampForFileAndDirectoryNames();
-		var reportDirectory = Paths.get(reportDir, date + "_TestReport").toString();
-
-		TaskTestTool.executeTaskTestTool(logger, configFile, micsFile, certificateFileList,
-				ignoreMicsVerification, reportDirectory);
-
-		if (pdfReportSet) {
-			pdfReportGeneration(reportLogger, reportDirectory, configuration);
-		} else if (xmlReportSet) {
-			xmlReportGeneration(reportLogger, reportDirectory);
+			if (configuration.get(GlobalConfigParameterNames.ReportDirectory.getParameterName()) == null) {
+				exit(1, "Unspecified required global configuration file: "
+						+ GlobalConfigParameterNames.ReportDirectory.getParameterName());
+			}
+			var reportDir = configuration.get(GlobalConfigParameterNames.ReportDirectory.getParameterName())
+					.getValueAsString();
+			var date = DateTimeUtils.getTimeStampForFileAndDirectoryNames();
+			var reportDirectory = Paths.get(reportDir, date + "_TestReport").toString();
+
+			TaskTestTool.executeTaskTestTool(logger, configFile, micsFile, certificateFileList,
+					ignoreMicsVerification, reportDirectory);
+
+			if (pdfReportSet) {
+				pdfReportGeneration(reportLogger, reportDirectory, configuration);
+			} else if (xmlReportSet) {
+				xmlReportGeneration(reportLogger, reportDirectory);
+			}
+		} finally {
+			// Discard the spooled report parts if the report was not written.
+			if (reportLogger != null) {
+				reportLogger.close();
+			}
 		}
 	}
 
@@ -321,54 +328,61 @@ public class CommandLineInterface {
 		boolean pdfReportSet = cmd.hasOption(pdfReportOption);
 		ReportLogger reportLogger = null;
 		if (xmlReportSet || pdfReportSet) {
-			reportLogger = new ReportLogger();
+			reportLogger = new ReportLogger(new StreamingXmlReportWriter());
 			LoggingConnector.addLogger(List.of(reportLogger));
 		}
 
-		if (!cmd.hasOption(testRunPlanOption) || !cmd.hasOption(configOption)) {
-			exit(1, "If the TaSK framework should run from a test run plan file, "
-					+ "A global configuration files also have to be provided.");
-		}
-
-		// Check if file exists.
-		var testRunPlanFile = new File(cmd.getOptionValue(testRunPlanOption));
-		if (!testRunPlanFile.exists()) {
-			exit(1, "Provided test run plan file does not exist.");
-		}
-		TestRunPlanData testRunPlan = null;
 		try {
-			testRunPlan = RunPlanParser.parseRunPlan(testRunPlanFile);
-			if (testRunPlan == null) {
-				exit(1, "Unable to parse test run plan file.");
+			if (!cmd.hasOption(testRunPlanOption) || !cmd.hasOption(configOption)) {
+				exit(1, "If the TaSK framework should run from a test run plan file, "
+						+ "A global configuration files also have to be provided.");
 			}
-		} catch (Exception e) {
-			exit(1, "An error occurred while trying to parse test run plan file.", e);
-		}
 
-		var configFile = new File(cmd.getOptionValue(configOption));
-		if (!configFile.exists()) {
-			exit(1, "File provided as " + configOption.getArgName() + " does not exist.");
-		}
-		HashMap<String, GlobalConfigParameter> configuration = ConfigParser.parseGlobalConfig(configFile);
-		if (configuration == null || configuration.isEmpty()) {
-			exit(1, "An error occurred while parsing the global configuration file. " + configFile);
-		}
-		logger.debug("Configuration Initialization: The global configuration file is parsed successfully.");
-		if (configuration.get(GlobalConfigParameterNames.ReportDirectory.getParameterName()) == null) {
-			exit(1, "Unspecified required global configuration file: "
-					+ GlobalConfigParameterNames.ReportDirectory.getParameterName());
-		}
-		var reportDir = configuration.get(GlobalConfigParameterNames.ReportDirectory.getParameterName())
-				.getValueAsString();
-		var date = DateTimeUtils.getTimeStampForFileAndDirectoryNames();
-		var reportDirectory = Paths.get(reportDir, date + "_TestReport").toString();
+			// Check if file exists.
+			var testRunPlanFile = new File(cmd.getOptionValue(testRunPlanOption));
+			if (!testRunPlanFile.exists()) {
+				exit(1, "Provided test run plan file does not exist.");
+			}
+			TestRunPlanData testRunPlan = null;
+			try {
+				testRunPlan = RunPlanParser.parseRunPlan(testRunPlanFile);
+				if (testRunPlan == null) {
+					exit(1, "Unable to parse test run plan file.");
+				}
+			} catch (Exception e) {
+				exit(1, "An error occurred while trying to parse test run plan file.", e);
+			}
 
-		TaskTestTool.executeTaskTestTool(logger, testRunPlanFile, configFile, reportDirectory);
+			var configFile = new File(cmd.getOptionValue(configOption));
+			if (!configFile.exists()) {
+				exit(1, "File provided as " + configOption.getArgName() + " does not exist.");
+			}
+			HashMap<String, GlobalConfigParameter> configuration = ConfigParser.parseGlobalConfig(configFile);
+			if (configuration == null || configuration.isEmpty()) {
+				exit(1, "An error occurred while parsing the global configuration file. " + configFile);
+			}
+			logger.debug("Configuration Initialization: The global configuration file is parsed successfully.");
+			if (configuration.get(GlobalConfigParameterNames.ReportDirectory.getParameterName()) == null) {
+				exit(1, "Unspecified required global configuration file: "
+						+ GlobalConfigParameterNames.ReportDirectory.getParameterName());
+			}
+			var reportDir = configuration.get(GlobalConfigParameterNames.ReportDirectory.getParameterName())
+					.getValueAsString();
+			var date = DateTimeUtils.getTimeStampForFileAndDirectoryNames();
+			var reportDirectory = Paths.get(reportDir, date + "_TestReport").toString();
+
+			TaskTestTool.executeTaskTestTool(logger, testRunPlanFile, configFile, reportDirectory);
 
-		if (pdfReportSet) {
-			pdfReportGeneration(reportLogger, reportDirectory, configuration);
-		} else if (xmlReportSet) {
-			xmlReportGeneration(reportLogger, reportDirectory);
+			if (pdfReportSet) {
+				pdfReportGeneration(reportLogger, reportDirectory, configuration);
+			} else if (xmlReportSet) {
+				xmlReportGeneration(reportLogger, reportDirectory);
+			}
+		} finally {
+			// Discard the spooled report parts if the report was not written.
+			if (reportLogger != null) {
+				reportLogger.close();
+			}
 		}
 	}
 
@@ -423,9 +437,8 @@ public class CommandLineInterface {
 			return null;
 		}
 		try {
-			var xmlReport = XmlReport.fromReportInstance(reportLogger.generateReport());
 			var xmlReportFileName = new File(reportDirectory, "Report.xml");
-			xmlReport.writeToFile(xmlReportFileName);
+			reportLogger.writeXmlReport(xmlReportFileName);
 			return xmlReportFileName;
 		} catch (Exception e) {
 			logger.error(LOGGER_PREFIX + "An error occurred while generating the XML report.", e);
@@ -0,0 +1,158 @@
+package com.achelos.task.commons.certificatehelper;
+
+import java.io.ByteArrayInputStream;
+import java.security.cert.X509Certificate;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Bounded cache of parsed X.509 certificates, keyed by the content of their encoding. Parsing the same certificate
+ * data again, e.g. the certificate chain of a server in every handshake, returns the certificate object parsed first.
+ * <p>
+ * The cache is thread-safe. If it is full, the least recently used certificate is removed. The certificates are
+ * immutable and may be shared between threads. Data which cannot be parsed is not cached.
+ * </p>
+ */
+public final class CertificateCache {
+
+	/**
+	 * Maximum number of certificates held by the shared instance.
+	 */
+	public static final int DEFAULT_CAPACITY = 1024;
+
+	private static CertificateCache instance;
+
+	private final Map<ContentKey, X509Certificate> certificates;
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+
+	/**
+	 * @return the CertificateCache singleton instance used by {@link CertificateHelper}.
+	 */
+	public static synchronized CertificateCache getInstance() {
+		if (instance == null) {
+			instance = new CertificateCache(DEFAULT_CAPACITY);
+		}
+		return instance;
+	}
+
+	/**
+	 * Create a separate cache, e.g. for tests. Use {@link #getInstance()} to share the parsed certificates.
+	 *
+	 * @param capacity the maximum number of certificates to hold
+	 */
+	public CertificateCache(final int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("The capacity must be positive: " + capacity);
+		}
+		certificates = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<ContentKey, X509Certificate> eldest) {
+				return size() > capacity;
+			}
+		};
+	}
+
+
+	/**
+	 * Return the certificate encoded by the given data, parsing it only if it is not cached yet.
+	 *
+	 * @param certificateData Binary data of a X.509 certificate, DER or PEM encoded
+	 * @return X.509 certificate object
+	 * @throws IllegalArgumentException if certificateData cannot be parsed as a X.509 certificate
+	 */
+	public X509Certificate getCertificate(final byte[] certificateData) {
+		final ContentKey lookupKey = new ContentKey(certificateData);
+		synchronized (certificates) {
+			final X509Certificate cached = certificates.get(lookupKey);
+			if (cached != null) {
+				hitCount.incrementAndGet();
+				return cached;
+			}
+		}
+		missCount.incrementAndGet();
+		final X509Certificate parsed = CertificateHelper.parseData(new ByteArrayInputStream(certificateData));
+		// The data is copied, so that later modifications by the caller do not affect the key.
+		final ContentKey storedKey = new ContentKey(certificateData.clone(), lookupKey.hash);
+		synchronized (certificates) {
+			final X509Certificate concurrentlyParsed = certificates.putIfAbsent(storedKey, parsed);
+			return concurrentlyParsed != null ? concurrentlyParsed : parsed;
+		}
+	}
+
+
+	/**
+	 * @return the number of requests answered from the cache.
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+
+	/**
+	 * @return the number of requests which required the data to be parsed.
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+
+	/**
+	 * @return the number of cached certificates.
+	 */
+	public int size() {
+		synchronized (certificates) {
+			return certificates.size();
+		}
+	}
+
+
+	/**
+	 * Remove all cached certificates. The hit and miss counters are not reset.
+	 */
+	public void clear() {
+		synchronized (certificates) {
+			certificates.clear();
+		}
+	}
+
+
+	/**
+	 * Key of a cache entry. The hash is calculated once, equality compares the whole content.
+	 */
+	private static final class ContentKey {
+		private final byte[] content;
+		private final int hash;
+
+		ContentKey(final byte[] content) {
+			this(content, Arrays.hashCode(content));
+		}
+
+		ContentKey(final byte[] content, final int hash) {
+			this.content = content;
+			this.hash = hash;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof ContentKey)) {
+				return false;
+			}
+			final ContentKey other = (ContentKey) obj;
+			return hash == other.hash && Arrays.equals(content, other.content);
+		}
+	}
+}
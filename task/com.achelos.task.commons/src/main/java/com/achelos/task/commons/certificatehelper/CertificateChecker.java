@@ -1,11 +1,7 @@
 package com.achelos.task.commons.certificatehelper;
 
-import java.io.DataInputStream;
+import java.io.IOException;
 import java.net.URL;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpRequest.BodyPublishers;
-import java.net.http.HttpResponse;
 import java.security.cert.CertificateExpiredException;
 import java.security.cert.CertificateNotYetValidException;
 import java.security.cert.CertificateParsingException;
@@ -24,15 +20,8 @@ import org.bouncycastle.asn1.x509.DistributionPointName;
 import org.bouncycastle.asn1.x509.Extension;
 import org.bouncycastle.asn1.x509.GeneralName;
 import org.bouncycastle.asn1.x509.GeneralNames;
-import org.bouncycastle.cert.jcajce.JcaX509CertificateHolder;
 import org.bouncycastle.cert.jcajce.JcaX509ExtensionUtils;
-import org.bouncycastle.cert.ocsp.CertificateID;
-import org.bouncycastle.cert.ocsp.OCSPReq;
-import org.bouncycastle.cert.ocsp.OCSPReqBuilder;
 import org.bouncycastle.cert.ocsp.OCSPResp;
-import org.bouncycastle.jcajce.provider.asymmetric.x509.CertificateFactory;
-import org.bouncycastle.operator.DigestCalculatorProvider;
-import org.bouncycastle.operator.jcajce.JcaDigestCalculatorProviderBuilder;
 
 import com.achelos.task.commons.tools.StringTools;
 import com.achelos.task.logging.LoggingConnector;
@@ -112,99 +101,59 @@ public class CertificateChecker {
 
 		logger.debug("Checking that none of the certificates in the chain are revoked.");
 
+		var revocationCache = RevocationCache.getInstance();
+		prefetchRevocationInformation(certificateChain, revocationCache);
+
 		var wrongCertList = new ArrayList<String>();
 		for (int i = 0; i < certificateChain.size(); i++) {
 			var cert = certificateChain.get(i);
 			boolean revoked = false;
 			try {
-				var cRLDistributionPoint = cert.getExtensionValue(Extension.cRLDistributionPoints.toString());
-				if (cRLDistributionPoint != null) {
-					var crlDistPoint = CRLDistPoint
-							.getInstance(JcaX509ExtensionUtils.parseExtensionValue(cRLDistributionPoint));
-					for (var distPoint : crlDistPoint.getDistributionPoints()) {
-						if (distPoint.getDistributionPoint() != null) {
-							var distPointName = distPoint.getDistributionPoint();
-							if (distPointName.getType() == DistributionPointName.FULL_NAME) {
-								for (var generalName : GeneralNames.getInstance(distPointName.getName()).getNames()) {
-									if (generalName.getTagNo() == GeneralName.uniformResourceIdentifier) {
-										logger.debug("Certificate with SubjectDN "
-												+ cert.getSubjectX500Principal().getName()
-												+ "does contain a CRLDistributionPoint.");
-										var url = new URL(ASN1IA5String.getInstance(generalName.getName()).getString());
-										logger.debug("CRLDistributionPoint contains URI instance: "
-												+ url.toString());
-										try {
-											logger.debug(
-													"Trying to request CRL from CRLDistributionPoint location: "
-															+ url.toString());
-											var connection = url.openConnection();
-											connection.connect();
-											var certFactory = new CertificateFactory();
-											var inputStream = new DataInputStream(connection.getInputStream());
-											var crl = certFactory.engineGenerateCRL(inputStream);
-											logger.debug("Successfully retrieved CRL");
-											logger.debug("Checking whether certificate is on CRL.");
-											revoked = crl.isRevoked(cert);
-											if (revoked) {
-												logger.debug("Certificate is on CRL.");
-											} else {
-												logger.debug("Certificate is not on CRL.");
-											}
-											break;
-
-										} catch (RuntimeException e) {
-											// avoid to mask severe bugs
-											throw e;
-										} catch (Exception e) {
-											logger.debug(
-													"Unable to retrieve CRL from CRLDistributionPoint location: "
-															+ url.toString());
-											revoked = true;
-											break;
-										}
-									}
-								}
-								if (revoked) {
-									break;
-								}
-							}
+				var revocationSources = RevocationSources.of(cert);
+				for (var url : revocationSources.crlUrls) {
+					logger.debug("Certificate with SubjectDN " + cert.getSubjectX500Principal().getName()
+							+ "does contain a CRLDistributionPoint.");
+					logger.debug("CRLDistributionPoint contains URI instance: " + url.toString());
+					try {
+						logger.debug("Trying to request CRL from CRLDistributionPoint location: " + url.toString());
+						var crl = revocationCache.getCrl(url);
+						logger.debug("Successfully retrieved CRL");
+						logger.debug("Checking whether certificate is on CRL.");
+						revoked = crl.isRevoked(cert);
+						if (revoked) {
+							logger.debug("Certificate is on CRL.");
+						} else {
+							logger.debug("Certificate is not on CRL.");
 						}
+					} catch (RuntimeException e) {
+						// avoid to mask severe bugs
+						throw e;
+					} catch (Exception e) {
+						logger.debug("Unable to retrieve CRL from CRLDistributionPoint location: " + url.toString());
+						revoked = true;
+					}
+					if (revoked) {
+						break;
 					}
 				}
-				var authorityInfoAccess = cert.getExtensionValue(Extension.authorityInfoAccess.toString());
-				if (authorityInfoAccess != null) {
-					var aia = AuthorityInformationAccess
-							.getInstance(JcaX509ExtensionUtils.parseExtensionValue(authorityInfoAccess));
-					for (var accessDescription : aia.getAccessDescriptions()) {
-						var accessMethod = accessDescription.getAccessMethod();
-						if (!accessMethod.equals(AccessDescription.id_ad_ocsp)) {
-							continue;
-						}
-						logger.debug("Certificate with SubjectDN "
-								+ cert.getSubjectX500Principal().getName()
-								+ "does contain a OCSP Responder in the AIA extension.");
-						var accessLocationGN = accessDescription.getAccessLocation();
-						if (accessLocationGN.getTagNo() == GeneralName.uniformResourceIdentifier) {
-							var url = new URL(ASN1IA5String.getInstance(accessLocationGN.getName()).getString());
-							logger.debug("OCSP Responder contains URI instance: " + url.toString());
-							try {
-								logger.debug("MICS Verifier: Generating OCSP request.");
-								var ocspReq = generateOcspRequest(cert, certificateChain.get(i + 1));
-								logger.debug("Sending OCSP Request.");
-								var ocspResponse = sendOcspRequest(url, ocspReq);
-								logger.debug("Verifying OCSP Response.");
-								revoked = ocspResponse.getStatus() != OCSPResp.SUCCESSFUL;
-								if (revoked) {
-									logger.debug("OCSP Response code was not successful.");
-								} else {
-									logger.debug("OCSP Response code was successful.");
-								}
-							} catch (Exception e) {
-								logger.warning(e.toString());
-								revoked = true;
-								break;
-							}
+				for (var url : revocationSources.ocspUrls) {
+					logger.debug("Certificate with SubjectDN " + cert.getSubjectX500Principal().getName()
+							+ "does contain a OCSP Responder in the AIA extension.");
+					logger.debug("OCSP Responder contains URI instance: " + url.toString());
+					try {
+						logger.debug("Sending OCSP Request.");
+						var ocspResponse = revocationCache.getOcspResponse(url, cert, certificateChain.get(i + 1));
+						logger.debug("Verifying OCSP Response.");
+						revoked = ocspResponse.getStatus() != OCSPResp.SUCCESSFUL;
+						if (revoked) {
+							logger.debug("OCSP Response code was not successful.");
+						} else {
+							logger.debug("OCSP Response code was successful.");
 						}
+					} catch (Exception e) {
+						logger.warning(e.toString());
+						revoked = true;
+						break;
 					}
 				}
 
@@ -229,38 +178,84 @@ public class CertificateChecker {
 		return wrongCertList;
 	}
 
-	private static OCSPReq generateOcspRequest(final X509Certificate subject, final X509Certificate issuer) {
-		var digestCalcProvBuilder = new JcaDigestCalculatorProviderBuilder();
-		DigestCalculatorProvider digestCalcProv;
-		try {
-			digestCalcProv = digestCalcProvBuilder.build();
-			var digestCalculator = digestCalcProv.get(CertificateID.HASH_SHA1);
-			var id = new CertificateID(digestCalculator, new JcaX509CertificateHolder(issuer),
-					subject.getSerialNumber());
-			var builder = new OCSPReqBuilder();
-			builder.addRequest(id);
-			return builder.build();
-		} catch (Exception e) {
-			throw new RuntimeException("Generation of OCSP request failed.", e);
+	/**
+	 * Start fetching the revocation information of all certificates of the chain, so independent sources are fetched
+	 * concurrently while the certificates are checked one after another. Sources which cannot be determined are left
+	 * to the check, which reports them.
+	 */
+	private static void prefetchRevocationInformation(final List<X509Certificate> certificateChain,
+			final RevocationCache revocationCache) {
+		for (int i = 0; i < certificateChain.size(); i++) {
+			var cert = certificateChain.get(i);
+			final RevocationSources revocationSources;
+			try {
+				revocationSources = RevocationSources.of(cert);
+			} catch (Exception e) {
+				// Reported by the check of the certificate.
+				continue;
+			}
+			revocationSources.crlUrls.forEach(revocationCache::fetchCrl);
+			if (i + 1 < certificateChain.size()) {
+				for (var url : revocationSources.ocspUrls) {
+					revocationCache.fetchOcspResponse(url, cert, certificateChain.get(i + 1));
+				}
+			}
 		}
 	}
 
-	private static OCSPResp sendOcspRequest(final URL url, final OCSPReq ocspReq) {
-		try {
-			HttpClient httpClient = HttpClient.newHttpClient();
-			var requestBuilder = HttpRequest.newBuilder(url.toURI());
-			requestBuilder.POST(BodyPublishers.ofByteArray(ocspReq.getEncoded()));
-			requestBuilder.header("Content-Type", "application/ocsp-request");
-			requestBuilder.header("Accept", "application/ocsp-response");
-			var request = requestBuilder.build();
-			var response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
-			if (response.statusCode() / 100 != 2) {
-				throw new RuntimeException("Received non-successful HTTP response code: " + response.statusCode());
+
+	/**
+	 * The sources of the revocation information of a certificate.
+	 */
+	private static final class RevocationSources {
+		/**
+		 * The first URI of each full name CRL distribution point.
+		 */
+		private final List<URL> crlUrls = new ArrayList<>();
+		/**
+		 * The URIs of the OCSP responders of the Authority Information Access extension.
+		 */
+		private final List<URL> ocspUrls = new ArrayList<>();
+
+		/**
+		 * @param cert X.509 certificate to read the revocation sources from
+		 * @return the revocation sources of the certificate.
+		 * @throws IOException if an extension cannot be parsed or contains a malformed URL
+		 */
+		static RevocationSources of(final X509Certificate cert) throws IOException {
+			var revocationSources = new RevocationSources();
+			var cRLDistributionPoint = cert.getExtensionValue(Extension.cRLDistributionPoints.toString());
+			if (cRLDistributionPoint != null) {
+				var crlDistPoint = CRLDistPoint
+						.getInstance(JcaX509ExtensionUtils.parseExtensionValue(cRLDistributionPoint));
+				for (var distPoint : crlDistPoint.getDistributionPoints()) {
+					var distPointName = distPoint.getDistributionPoint();
+					if (distPointName == null || distPointName.getType() != DistributionPointName.FULL_NAME) {
+						continue;
+					}
+					for (var generalName : GeneralNames.getInstance(distPointName.getName()).getNames()) {
+						if (generalName.getTagNo() == GeneralName.uniformResourceIdentifier) {
+							revocationSources.crlUrls
+									.add(new URL(ASN1IA5String.getInstance(generalName.getName()).getString()));
+							break;
+						}
+					}
+				}
+			}
+			var authorityInfoAccess = cert.getExtensionValue(Extension.authorityInfoAccess.toString());
+			if (authorityInfoAccess != null) {
+				var aia = AuthorityInformationAccess
+						.getInstance(JcaX509ExtensionUtils.parseExtensionValue(authorityInfoAccess));
+				for (var accessDescription : aia.getAccessDescriptions()) {
+					var accessLocationGN = accessDescription.getAccessLocation();
+					if (accessDescription.getAccessMethod().equals(AccessDescription.id_ad_ocsp)
+							&& accessLocationGN.getTagNo() == GeneralName.uniformResourceIdentifier) {
+						revocationSources.ocspUrls
+								.add(new URL(ASN1IA5String.getInstance(accessLocationGN.getName()).getString()));
+					}
+				}
 			}
-			var ocspResponse = new OCSPResp(response.body());
-			return ocspResponse;
-		} catch (Exception e) {
-			throw new RuntimeException("An error occurred while retrieving response for OCSP Request.", e);
+			return revocationSources;
 		}
 	}
 
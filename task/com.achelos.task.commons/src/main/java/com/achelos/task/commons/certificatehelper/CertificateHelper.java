@@ -1,6 +1,5 @@
 package com.achelos.task.commons.certificatehelper;
 
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
@@ -34,19 +33,19 @@ public final class CertificateHelper {
 
 
 	/**
-	 * Parse binary data as a X.509 certificate.
+	 * Parse binary data as a X.509 certificate. Data parsed before is taken from the {@link CertificateCache}.
 	 *
 	 * @param certificateData Binary data of a X.509 certificate
 	 * @return X.509 certificate object
 	 * @throws IllegalArgumentException if certificateData cannot be parsed as a X.509 certificate
 	 */
 	public static X509Certificate parseData(final byte[] certificateData) {
-		return parseData(new ByteArrayInputStream(certificateData));
+		return CertificateCache.getInstance().getCertificate(certificateData);
 	}
 
 
 	/**
-	 * Parse an input stream as a X.509 certificate.
+	 * Parse an input stream as a X.509 certificate. The result is not cached.
 	 *
 	 * @param certificateStream Stream that will be used to read binary data of a X.509 certificate
 	 * @return X.509 certificate object
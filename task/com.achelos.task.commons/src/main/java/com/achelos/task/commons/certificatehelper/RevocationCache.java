@@ -0,0 +1,366 @@
+package com.achelos.task.commons.certificatehelper;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.security.cert.CRL;
+import java.security.cert.X509CRL;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import org.bouncycastle.cert.jcajce.JcaX509CertificateHolder;
+import org.bouncycastle.cert.ocsp.BasicOCSPResp;
+import org.bouncycastle.cert.ocsp.CertificateID;
+import org.bouncycastle.cert.ocsp.OCSPReq;
+import org.bouncycastle.cert.ocsp.OCSPReqBuilder;
+import org.bouncycastle.cert.ocsp.OCSPResp;
+import org.bouncycastle.cert.ocsp.SingleResp;
+import org.bouncycastle.jcajce.provider.asymmetric.x509.CertificateFactory;
+import org.bouncycastle.operator.jcajce.JcaDigestCalculatorProviderBuilder;
+
+import com.achelos.task.commons.tools.StringTools;
+
+
+/**
+ * Cache of the revocation information used to check X.509 certificates, i.e. CRLs by the URL of their distribution
+ * point and OCSP responses by the URL of the responder and the issuer and serial number of the certificate.
+ * <p>
+ * Revocation information is fetched in the background, so independent sources may be fetched concurrently. Concurrent
+ * requests for the same information share one fetch. Cached information is used until its nextUpdate time, or for
+ * {@link #DEFAULT_TIME_TO_LIVE} if it does not specify one. Failed fetches and OCSP responses whose status is not
+ * successful, e.g. tryLater, are not cached.
+ * </p>
+ * <p>
+ * The redirect policies are the ones of the original fetches: CRLs are fetched like by URL connections, which follow
+ * redirects unless they change from HTTPS to HTTP, OCSP requests are never redirected.
+ * </p>
+ */
+public final class RevocationCache {
+
+	/**
+	 * Time to live of cached revocation information which does not specify a nextUpdate time.
+	 */
+	public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(5);
+
+	private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+	private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+	private static final int HTTP_STATUS_CLASS = 100;
+	private static final int HTTP_STATUS_CLASS_SUCCESS = 2;
+
+	private static RevocationCache instance;
+
+	private final ExecutorService fetchExecutor;
+	private final HttpClient crlHttpClient;
+	private final HttpClient ocspHttpClient;
+	private final ConcurrentMap<String, CompletableFuture<Cached<CRL>>> crls = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, CompletableFuture<Cached<OCSPResp>>> ocspResponses
+			= new ConcurrentHashMap<>();
+
+	/**
+	 * @return the RevocationCache singleton instance shared by all certificate checks.
+	 */
+	public static synchronized RevocationCache getInstance() {
+		if (instance == null) {
+			instance = new RevocationCache();
+		}
+		return instance;
+	}
+
+	/**
+	 * Create a separate cache, e.g. for tests. Use {@link #getInstance()} to share the cached information.
+	 */
+	public RevocationCache() {
+		fetchExecutor = Executors.newCachedThreadPool(task -> {
+			final Thread thread = new Thread(task, "Revocation information fetcher");
+			thread.setDaemon(true);
+			return thread;
+		});
+		crlHttpClient = HttpClient.newBuilder()
+				.connectTimeout(CONNECT_TIMEOUT)
+				.followRedirects(HttpClient.Redirect.NORMAL)
+				.executor(fetchExecutor)
+				.build();
+		ocspHttpClient = HttpClient.newBuilder()
+				.connectTimeout(CONNECT_TIMEOUT)
+				.followRedirects(HttpClient.Redirect.NEVER)
+				.executor(fetchExecutor)
+				.build();
+	}
+
+
+	/**
+	 * Start fetching the CRL of the given distribution point, unless a valid CRL is cached or already being fetched.
+	 *
+	 * @param url the URL of the CRL distribution point
+	 * @return the future CRL.
+	 */
+	public CompletableFuture<CRL> fetchCrl(final URL url) {
+		return lookup(crls, url.toString(), () -> downloadCrl(url)).thenApply(Cached::getValue);
+	}
+
+
+	/**
+	 * Return the CRL of the given distribution point, waiting until it has been fetched if necessary.
+	 *
+	 * @param url the URL of the CRL distribution point
+	 * @return the CRL.
+	 * @throws IOException if the CRL could not be fetched or parsed
+	 */
+	public CRL getCrl(final URL url) throws IOException {
+		return await(fetchCrl(url));
+	}
+
+
+	/**
+	 * Start requesting the status of the given certificate from the given OCSP responder, unless a valid response is
+	 * cached or already being requested.
+	 *
+	 * @param url the URL of the OCSP responder
+	 * @param subject the certificate to request the status of
+	 * @param issuer the issuer of the certificate
+	 * @return the future OCSP response.
+	 */
+	public CompletableFuture<OCSPResp> fetchOcspResponse(final URL url, final X509Certificate subject,
+			final X509Certificate issuer) {
+		final OCSPReq ocspReq;
+		try {
+			ocspReq = generateOcspRequest(subject, issuer);
+		} catch (RuntimeException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+		final CertificateID id = ocspReq.getRequestList()[0].getCertID();
+		final String key = url + " " + StringTools.toHexString(id.getIssuerNameHash()) + " "
+				+ StringTools.toHexString(id.getIssuerKeyHash()) + " " + id.getSerialNumber().toString(16);
+		return lookup(ocspResponses, key, () -> sendOcspRequest(url, ocspReq)).thenApply(Cached::getValue);
+	}
+
+
+	/**
+	 * Return the status of the given certificate from the given OCSP responder, waiting until it has been received if
+	 * necessary.
+	 *
+	 * @param url the URL of the OCSP responder
+	 * @param subject the certificate to request the status of
+	 * @param issuer the issuer of the certificate
+	 * @return the OCSP response.
+	 * @throws IOException if the OCSP request failed
+	 */
+	public OCSPResp getOcspResponse(final URL url, final X509Certificate subject, final X509Certificate issuer)
+			throws IOException {
+		return await(fetchOcspResponse(url, subject, issuer));
+	}
+
+
+	/**
+	 * Remove all cached revocation information.
+	 */
+	public void clear() {
+		crls.clear();
+		ocspResponses.clear();
+	}
+
+
+	/**
+	 * Return the cached or pending entry for the given key, or start fetching it if there is none or it has expired or
+	 * failed.
+	 */
+	private static <T> CompletableFuture<Cached<T>> lookup(final ConcurrentMap<String, CompletableFuture<Cached<T>>> map,
+			final String key, final Supplier<CompletableFuture<Cached<T>>> fetch) {
+		return map.compute(key, (k, existing) -> null != existing && isUsable(existing) ? existing : fetch.get());
+	}
+
+
+	private static <T> boolean isUsable(final CompletableFuture<Cached<T>> entry) {
+		if (!entry.isDone()) {
+			return true;
+		}
+		if (entry.isCompletedExceptionally()) {
+			return false;
+		}
+		return entry.join().isValid();
+	}
+
+
+	private static <T> T await(final CompletableFuture<T> future) throws IOException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while fetching revocation information.", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException) {
+				throw (IOException) e.getCause();
+			}
+			throw new IOException(e.getCause());
+		}
+	}
+
+
+	private CompletableFuture<Cached<CRL>> downloadCrl(final URL url) {
+		final String protocol = url.getProtocol();
+		if ("http".equalsIgnoreCase(protocol) || "https".equalsIgnoreCase(protocol)) {
+			final HttpRequest request;
+			try {
+				request = HttpRequest.newBuilder(url.toURI()).timeout(REQUEST_TIMEOUT).GET().build();
+			} catch (URISyntaxException | IllegalArgumentException e) {
+				return CompletableFuture.failedFuture(new IOException("Invalid CRL distribution point: " + url, e));
+			}
+			return crlHttpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+					.thenApply(response -> parseCrl(url, checkStatus(response)));
+		}
+		// Other protocols, e.g. LDAP or file URLs, are only supported by URL connections.
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				final var connection = url.openConnection();
+				connection.connect();
+				try (InputStream inputStream = new DataInputStream(connection.getInputStream())) {
+					return parseCrl(url, inputStream.readAllBytes());
+				}
+			} catch (IOException e) {
+				throw new CompletionException(e);
+			}
+		}, fetchExecutor);
+	}
+
+
+	private static Cached<CRL> parseCrl(final URL location, final byte[] encoded) {
+		final CRL crl;
+		try {
+			crl = new CertificateFactory().engineGenerateCRL(new ByteArrayInputStream(encoded));
+		} catch (Exception e) {
+			throw new CompletionException(new IOException("Unable to parse the CRL from " + location, e));
+		}
+		if (crl == null) {
+			throw new CompletionException(new IOException("No CRL received from " + location));
+		}
+		final Date nextUpdate = crl instanceof X509CRL ? ((X509CRL) crl).getNextUpdate() : null;
+		return new Cached<>(crl, nextUpdate);
+	}
+
+
+	private CompletableFuture<Cached<OCSPResp>> sendOcspRequest(final URL url, final OCSPReq ocspReq) {
+		final HttpRequest request;
+		try {
+			request = HttpRequest.newBuilder(url.toURI())
+					.timeout(REQUEST_TIMEOUT)
+					.POST(BodyPublishers.ofByteArray(ocspReq.getEncoded()))
+					.header("Content-Type", "application/ocsp-request")
+					.header("Accept", "application/ocsp-response")
+					.build();
+		} catch (URISyntaxException | IOException | IllegalArgumentException e) {
+			return CompletableFuture.failedFuture(
+					new IOException("An error occurred while retrieving response for OCSP Request.", e));
+		}
+		return ocspHttpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()).thenApply(response -> {
+			try {
+				final OCSPResp ocspResponse = new OCSPResp(checkStatus(response));
+				if (ocspResponse.getStatus() != OCSPResp.SUCCESSFUL) {
+					// Passed to the requests waiting for this response, but requested again by later ones.
+					return Cached.notCached(ocspResponse);
+				}
+				return new Cached<>(ocspResponse, getNextUpdate(ocspResponse));
+			} catch (IOException e) {
+				throw new CompletionException(
+						new IOException("An error occurred while retrieving response for OCSP Request.", e));
+			}
+		});
+	}
+
+
+	/**
+	 * @return the nextUpdate time of a successful OCSP response, or null if there is none.
+	 */
+	private static Date getNextUpdate(final OCSPResp ocspResponse) {
+		try {
+			final Object responseObject = ocspResponse.getResponseObject();
+			if (responseObject instanceof BasicOCSPResp) {
+				final SingleResp[] responses = ((BasicOCSPResp) responseObject).getResponses();
+				if (responses.length > 0) {
+					return responses[0].getNextUpdate();
+				}
+			}
+		} catch (Exception e) {
+			// The response is used without nextUpdate time.
+		}
+		return null;
+	}
+
+
+	private static byte[] checkStatus(final HttpResponse<byte[]> response) {
+		if (response.statusCode() / HTTP_STATUS_CLASS != HTTP_STATUS_CLASS_SUCCESS) {
+			throw new CompletionException(
+					new IOException("Received non-successful HTTP response code: " + response.statusCode()));
+		}
+		return response.body();
+	}
+
+
+	private static OCSPReq generateOcspRequest(final X509Certificate subject, final X509Certificate issuer) {
+		try {
+			final var digestCalculator = new JcaDigestCalculatorProviderBuilder().build().get(CertificateID.HASH_SHA1);
+			final var id = new CertificateID(digestCalculator, new JcaX509CertificateHolder(issuer),
+					subject.getSerialNumber());
+			final var builder = new OCSPReqBuilder();
+			builder.addRequest(id);
+			return builder.build();
+		} catch (Exception e) {
+			throw new RuntimeException("Generation of OCSP request failed.", e);
+		}
+	}
+
+
+	/**
+	 * Revocation information and the time until which it may be used.
+	 */
+	private static final class Cached<T> {
+		private final T value;
+		private final long validUntilMillis;
+
+		/**
+		 * @param value the revocation information
+		 * @param nextUpdate the nextUpdate time of the information, or null
+		 */
+		Cached(final T value, final Date nextUpdate) {
+			this(value, null != nextUpdate ? nextUpdate.getTime()
+					: System.currentTimeMillis() + DEFAULT_TIME_TO_LIVE.toMillis());
+		}
+
+		private Cached(final T value, final long validUntilMillis) {
+			this.value = value;
+			this.validUntilMillis = validUntilMillis;
+		}
+
+		/**
+		 * @param value the revocation information
+		 * @return the information, which is only used by the requests already waiting for it.
+		 */
+		static <T> Cached<T> notCached(final T value) {
+			return new Cached<>(value, Long.MIN_VALUE);
+		}
+
+		T getValue() {
+			return value;
+		}
+
+		boolean isValid() {
+			return System.currentTimeMillis() < validUntilMillis;
+		}
+	}
+}
@@ -2,7 +2,13 @@ package com.achelos.task.commons.enums;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 import com.achelos.task.commons.tools.StringTools;
@@ -815,6 +821,39 @@ public enum TlsCipherSuite {
 	/** TLS_RSA_PSK_WITH_CHACHA20_POLY1305_SHA256((byte) 0xCC, (byte) 0xAD). */
 	TLS_RSA_PSK_WITH_CHACHA20_POLY1305_SHA256((byte) 0xCC, (byte) 0xAE, TlsVersion.TLS_V1_2);
 
+	/**
+	 * All cipher suites in declaration order. Unlike {@link #values()}, the array is not copied on access.
+	 */
+	private static final TlsCipherSuite[] VALUES = values();
+
+	/**
+	 * All cipher suites indexed by their two code bytes.
+	 */
+	private static final TlsCodeTable<TlsCipherSuite> BY_CODE
+			= new TlsCodeTable<>(VALUES, cipherSuite -> code(cipherSuite.upper, cipherSuite.lower));
+
+	/**
+	 * All cipher suites indexed by their name.
+	 */
+	private static final Map<String, TlsCipherSuite> BY_NAME = new HashMap<>();
+
+	/**
+	 * Results of {@link #filterByName(String)}, indexed by the searched string.
+	 */
+	private static final Map<String, List<TlsCipherSuite>> FILTER_BY_NAME_CACHE = new ConcurrentHashMap<>();
+
+	private static final Set<TlsCipherSuite> RSA_CIPHER_SUITES = family("RSA");
+	private static final Set<TlsCipherSuite> ECDSA_CIPHER_SUITES = family("ECDSA");
+	private static final Set<TlsCipherSuite> DSS_CIPHER_SUITES = family("DSS");
+	private static final Set<TlsCipherSuite> PSK_CIPHER_SUITES = family("PSK");
+	private static final Set<TlsCipherSuite> ECDHE_CIPHER_SUITES = family("TLS_ECDHE_");
+
+	static {
+		for (TlsCipherSuite cipherSuite : VALUES) {
+			BY_NAME.put(cipherSuite.name(), cipherSuite);
+		}
+	}
+
 	private byte upper;
 	private byte lower;
 	private TlsVersion[] versions;
@@ -970,16 +1009,23 @@ public enum TlsCipherSuite {
 	 * Filter all known cipher suites and return those that contain a given string in their name.
 	 *
 	 * @param search String to search (e.g., "_CBC_")
-	 * @return the list of cipher suites that contain the given string.
+	 * @return the unmodifiable list of cipher suites that contain the given string, which is shared by all callers
+	 *         searching the same string.
 	 */
 	public static List<TlsCipherSuite> filterByName(final String search) {
+		final List<TlsCipherSuite> cached = FILTER_BY_NAME_CACHE.get(search);
+		if (cached != null) {
+			return cached;
+		}
 		final List<TlsCipherSuite> result = new ArrayList<>();
-		for (TlsCipherSuite tlsCipherSuite : values()) {
+		for (TlsCipherSuite tlsCipherSuite : VALUES) {
 			if (tlsCipherSuite.name().contains(search)) {
 				result.add(tlsCipherSuite);
 			}
 		}
-		return result;
+		final List<TlsCipherSuite> filtered = Collections.unmodifiableList(result);
+		final List<TlsCipherSuite> previous = FILTER_BY_NAME_CACHE.putIfAbsent(search, filtered);
+		return previous != null ? previous : filtered;
 	}
 
 
@@ -991,7 +1037,7 @@ public enum TlsCipherSuite {
 	 */
 	public static List<TlsCipherSuite> filterByName(final Pattern pattern) {
 		final List<TlsCipherSuite> result = new ArrayList<>();
-		for (TlsCipherSuite tlsCipherSuite : values()) {
+		for (TlsCipherSuite tlsCipherSuite : VALUES) {
 			if (pattern.matcher(tlsCipherSuite.name()).matches()) {
 				result.add(tlsCipherSuite);
 			}
@@ -1009,7 +1055,7 @@ public enum TlsCipherSuite {
 	 */
 	public static List<TlsCipherSuite> filterByNames(final String search1, final String search2) {
 		final List<TlsCipherSuite> result = new ArrayList<>();
-		for (TlsCipherSuite tlsCipherSuite : values()) {
+		for (TlsCipherSuite tlsCipherSuite : VALUES) {
 			if (tlsCipherSuite.name().contains(search1) && tlsCipherSuite.name().contains(search2)) {
 				result.add(tlsCipherSuite);
 			}
@@ -1049,10 +1095,10 @@ public enum TlsCipherSuite {
 							+ cipherSuiteList);
 		}
 		for (int i = 0; i < valuePairs.length; i += 2) {
-			for (TlsCipherSuite cipherSuite : TlsCipherSuite.values()) {
-				if (cipherSuite.getValueHexString().equalsIgnoreCase(valuePairs[i] + " " + valuePairs[i + 1])) {
-					foundCipherSuites.add(cipherSuite);
-				}
+			final int upper = parseHexByte(valuePairs[i], 0, valuePairs[i].length());
+			final int lower = parseHexByte(valuePairs[i + 1], 0, valuePairs[i + 1].length());
+			if (upper >= 0 && lower >= 0) {
+				addIfKnown(foundCipherSuites, (upper << 8) | lower);
 			}
 		}
 		return foundCipherSuites;
@@ -1061,7 +1107,8 @@ public enum TlsCipherSuite {
 
 	/**
 	 * Method takes a string representation of one or more cipher suites as string array. (format: e.g. (0xC0, 0x2B) and
-	 * find all consisting cipher suites which are returned within object representation.
+	 * find all consisting cipher suites which are returned within object representation. A cipher suite may also be
+	 * given by its IANA name, e.g. "TLS_ECDHE_ECDSA_WITH_AES_128_GCM_SHA256".
 	 *
 	 * @param cipherSuiteList the cipher suite array
 	 * @return found cipher suites
@@ -1070,10 +1117,22 @@ public enum TlsCipherSuite {
 		List<TlsCipherSuite> foundCipherSuites = new ArrayList<>();
 
 		for (String cs : cipherSuiteList) {
-			for (TlsCipherSuite cipherSuite : TlsCipherSuite.values()) {
-				if (cipherSuite.getValuePair().equalsIgnoreCase(cs)) {
+			if (cs == null) {
+				continue;
+			}
+			// Format "(0xC0,0x2B)"
+			if (cs.length() != "(0x00,0x00)".length() || cs.charAt(0) != '(' || !isHexPrefix(cs, 1)
+					|| cs.charAt(5) != ',' || !isHexPrefix(cs, 6) || cs.charAt(10) != ')') {
+				final TlsCipherSuite cipherSuite = valueOfName(cs);
+				if (cipherSuite != null) {
 					foundCipherSuites.add(cipherSuite);
 				}
+				continue;
+			}
+			final int upper = parseHexByte(cs, 3, 5);
+			final int lower = parseHexByte(cs, 8, 10);
+			if (upper >= 0 && lower >= 0) {
+				addIfKnown(foundCipherSuites, (upper << 8) | lower);
 			}
 		}
 		return foundCipherSuites;
@@ -1088,12 +1147,18 @@ public enum TlsCipherSuite {
 	 * @return cipher suite or null if no cipher suites is found.
 	 */
 	public static TlsCipherSuite valueOf(final byte upper, final byte lower) {
-		for (TlsCipherSuite cipherSuite : TlsCipherSuite.values()) {
-			if (cipherSuite.upper == upper && cipherSuite.lower == lower) {
-				return cipherSuite;
-			}
-		}
-		return null;
+		return BY_CODE.get(upper, lower);
+	}
+
+
+	/**
+	 * Gets the cipher suite with the given name.
+	 *
+	 * @param name The name of the cipher suite, e.g. "TLS_ECDHE_ECDSA_WITH_AES_128_GCM_SHA256".
+	 * @return cipher suite or null if no cipher suite is found.
+	 */
+	public static TlsCipherSuite valueOfName(final String name) {
+		return BY_NAME.get(name);
 	}
 
 
@@ -1107,7 +1172,7 @@ public enum TlsCipherSuite {
 		if (null == hexString || hexString.isEmpty()) {
 			return null;
 		}
-		final byte[] bytes = StringTools.toByteArray(hexString.replaceAll(" ", ""));
+		final byte[] bytes = StringTools.toByteArray(hexString);
 		if (null == bytes || 2 != bytes.length) {
 			return null;
 		}
@@ -1123,7 +1188,7 @@ public enum TlsCipherSuite {
 	 */
 	public static List<TlsCipherSuite> getCipherSuitesByVersions(final TlsVersion... tlsVersions) {
 		List<TlsCipherSuite> cipherSuites = new ArrayList<>();
-		for (TlsCipherSuite cipherSuite : TlsCipherSuite.values()) {
+		for (TlsCipherSuite cipherSuite : VALUES) {
 			for (TlsVersion tlsVersion : tlsVersions) {
 				if (cipherSuite.isVersionSupported(tlsVersion)) {
 					cipherSuites.add(cipherSuite);
@@ -1133,4 +1198,100 @@ public enum TlsCipherSuite {
 		}
 		return cipherSuites;
 	}
+
+
+	/**
+	 * Returns the cipher suites whose name contains "RSA", i.e. which use RSA for the key exchange or authentication.
+	 *
+	 * @return an unmodifiable set of cipher suites.
+	 */
+	public static Set<TlsCipherSuite> getRsaCipherSuites() {
+		return RSA_CIPHER_SUITES;
+	}
+
+
+	/**
+	 * Returns the cipher suites whose name contains "ECDSA", i.e. which use ECDSA for the authentication.
+	 *
+	 * @return an unmodifiable set of cipher suites.
+	 */
+	public static Set<TlsCipherSuite> getEcdsaCipherSuites() {
+		return ECDSA_CIPHER_SUITES;
+	}
+
+
+	/**
+	 * Returns the cipher suites whose name contains "DSS", i.e. which use DSA for the authentication.
+	 *
+	 * @return an unmodifiable set of cipher suites.
+	 */
+	public static Set<TlsCipherSuite> getDssCipherSuites() {
+		return DSS_CIPHER_SUITES;
+	}
+
+
+	/**
+	 * Returns the cipher suites whose name contains "PSK", i.e. which use a pre-shared key.
+	 *
+	 * @return an unmodifiable set of cipher suites.
+	 */
+	public static Set<TlsCipherSuite> getPskCipherSuites() {
+		return PSK_CIPHER_SUITES;
+	}
+
+
+	/**
+	 * Returns the cipher suites whose name starts with "TLS_ECDHE_", i.e. which use ephemeral ECDH for the key exchange.
+	 *
+	 * @return an unmodifiable set of cipher suites.
+	 */
+	public static Set<TlsCipherSuite> getEcdheCipherSuites() {
+		return ECDHE_CIPHER_SUITES;
+	}
+
+
+	private static Set<TlsCipherSuite> family(final String search) {
+		final Set<TlsCipherSuite> result = EnumSet.noneOf(TlsCipherSuite.class);
+		for (TlsCipherSuite tlsCipherSuite : VALUES) {
+			if (tlsCipherSuite.name().contains(search)) {
+				result.add(tlsCipherSuite);
+			}
+		}
+		return Collections.unmodifiableSet(result);
+	}
+
+
+	private static int code(final byte upper, final byte lower) {
+		return ((upper & 0xFF) << 8) | (lower & 0xFF);
+	}
+
+
+	private static void addIfKnown(final List<TlsCipherSuite> cipherSuites, final int code) {
+		final TlsCipherSuite cipherSuite = BY_CODE.get(code);
+		if (cipherSuite != null) {
+			cipherSuites.add(cipherSuite);
+		}
+	}
+
+
+	private static boolean isHexPrefix(final String value, final int index) {
+		return value.charAt(index) == '0' && (value.charAt(index + 1) == 'x' || value.charAt(index + 1) == 'X');
+	}
+
+
+	/**
+	 * @return the value of the two hexadecimal digits between the given indices, or -1 if they are not exactly two
+	 *         hexadecimal digits.
+	 */
+	private static int parseHexByte(final String value, final int from, final int to) {
+		if (to - from != 2) {
+			return -1;
+		}
+		final int high = Character.digit(value.charAt(from), 16);
+		final int low = Character.digit(value.charAt(from + 1), 16);
+		if (high < 0 || low < 0) {
+			return -1;
+		}
+		return (high << 4) | low;
+	}
 }
@@ -0,0 +1,70 @@
+package com.achelos.task.commons.enums;
+
+import java.util.function.ToIntFunction;
+
+
+/**
+ * Lookup table for enumerations of TLS registries, whose constants are identified by a 16-bit code on the wire (e.g.,
+ * cipher suites, extension types, named groups or signature schemes).<br>
+ * The table is indexed directly by the upper and the lower byte of the code. Pages of 256 entries are only allocated
+ * for upper bytes which are in use, so a lookup takes two array accesses and does not allocate. If several constants
+ * share the same code, the first declared constant is found, like in a linear search over {@code values()}.
+ *
+ * @param <E> the type of the enumeration
+ */
+final class TlsCodeTable<E extends Enum<E>> {
+
+	private static final int PAGE_SIZE = 0x100;
+	private static final int A_0XFF = 0xff;
+
+	private final Object[][] pages = new Object[PAGE_SIZE][];
+
+	/**
+	 * Creates the lookup table for the given constants.
+	 *
+	 * @param constants the constants of the enumeration, usually {@code values()}
+	 * @param code returns the 16-bit code of a constant
+	 */
+	TlsCodeTable(final E[] constants, final ToIntFunction<E> code) {
+		for (E constant : constants) {
+			final int value = code.applyAsInt(constant);
+			final int upper = value >> 8 & A_0XFF;
+			final int lower = value & A_0XFF;
+			if (pages[upper] == null) {
+				pages[upper] = new Object[PAGE_SIZE];
+			}
+			if (pages[upper][lower] == null) {
+				pages[upper][lower] = constant;
+			}
+		}
+	}
+
+	/**
+	 * Gets the constant with the given code.
+	 *
+	 * @param upper the upper byte of the code
+	 * @param lower the lower byte of the code
+	 * @return the first declared constant with the code, or null if there is none.
+	 */
+	@SuppressWarnings("unchecked")
+	E get(final byte upper, final byte lower) {
+		final Object[] page = pages[upper & A_0XFF];
+		if (page == null) {
+			return null;
+		}
+		return (E) page[lower & A_0XFF];
+	}
+
+	/**
+	 * Gets the constant with the given code.
+	 *
+	 * @param code the 16-bit code
+	 * @return the first declared constant with the code, or null if there is none or the code exceeds 16 bits.
+	 */
+	E get(final int code) {
+		if (code < 0 || code > 0xffff) {
+			return null;
+		}
+		return get((byte) (code >> 8), (byte) code);
+	}
+}
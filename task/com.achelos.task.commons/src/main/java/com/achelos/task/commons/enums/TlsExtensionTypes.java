@@ -1,7 +1,10 @@
 package com.achelos.task.commons.enums;
 
+import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.achelos.task.commons.tlsextensions.TlsExtEcPointFormats;
@@ -112,6 +115,21 @@ public enum TlsExtensionTypes {
 	unassigned((byte) 0xFF, (byte) 0xFF, "unassigned", new TlsExtUnknown(), "CH");
 
 	private static final int A_0XFF = 0xff;
+
+	private static final TlsCodeTable<TlsExtensionTypes> BY_VALUE
+			= new TlsCodeTable<>(values(), TlsExtensionTypes::getValue);
+	private static final Map<String, TlsExtensionTypes> BY_LOWER_CASE_DESCRIPTION = new HashMap<>();
+	private static final List<TlsExtensionTypes> CLIENT_HELLO_EXTENSIONS = EnumSet.allOf(TlsExtensionTypes.class)
+			.stream().filter(e -> e.messageAcronym.contains("CH")).collect(Collectors.toUnmodifiableList());
+	private static final List<TlsExtensionTypes> SERVER_HELLO_EXTENSIONS = EnumSet.allOf(TlsExtensionTypes.class)
+			.stream().filter(e -> e.messageAcronym.contains("SH")).collect(Collectors.toUnmodifiableList());
+
+	static {
+		for (var extType : values()) {
+			BY_LOWER_CASE_DESCRIPTION.putIfAbsent(extType.description.toLowerCase(), extType);
+		}
+	}
+
 	private final byte upper;
 	private final byte lower;
 	private final String description;
@@ -181,12 +199,7 @@ public enum TlsExtensionTypes {
 	 * @return Valid enumerator, if found. {@code null}, otherwise.
 	 */
 	public static TlsExtensionTypes valueOf(final byte upper, final byte lower) {
-		for (TlsExtensionTypes extensionType : TlsExtensionTypes.values()) {
-			if (extensionType.upper == upper && extensionType.lower == lower) {
-				return extensionType;
-			}
-		}
-		return null;
+		return BY_VALUE.get(upper, lower);
 	}
 
 	/**
@@ -196,12 +209,7 @@ public enum TlsExtensionTypes {
 	 * @return Valid enumerator, if found. {@code null}, otherwise.
 	 */
 	public static TlsExtensionTypes getValueByName(final String extensionName) {
-		for (var extType : TlsExtensionTypes.values()) {
-			if (extType.description.toLowerCase().equals(extensionName.toLowerCase())) {
-				return extType;
-			}
-		}
-		return null;
+		return BY_LOWER_CASE_DESCRIPTION.get(extensionName.toLowerCase());
 	}
 
 	public TlsExtension getTlsExtension() {
@@ -211,15 +219,12 @@ public enum TlsExtensionTypes {
 
 
 	public static List<TlsExtensionTypes> getClientHelloExtensions() {
-
-		return EnumSet.allOf(TlsExtensionTypes.class).stream().filter(e -> e.messageAcronym.contains("CH"))
-				.collect(Collectors.toList());
+		return new ArrayList<>(CLIENT_HELLO_EXTENSIONS);
 	}
 
 
 	public static List<TlsExtensionTypes> getServerHelloExtensions() {
-		return EnumSet.allOf(TlsExtensionTypes.class).stream().filter(e -> e.messageAcronym.contains("SH"))
-				.collect(Collectors.toList());
+		return new ArrayList<>(SERVER_HELLO_EXTENSIONS);
 	}
 
 }
@@ -91,6 +91,8 @@ public enum TlsNamedCurves {
 	/** #rfc4492. ((byte) 0xFF, (byte) 0x02) */
 	arbitrary_explicit_char2_curves((byte) 0xFF, (byte) 0x02, "arbitrary_explicit_char2_curves");
 
+	private static final TlsCodeTable<TlsNamedCurves> BY_VALUE = new TlsCodeTable<>(values(), TlsNamedCurves::getValue);
+
 	private final byte upper;
 	private final byte lower;
 	private final String name;
@@ -149,12 +151,7 @@ public enum TlsNamedCurves {
 	 * @return matching named curve or null if nothing was found.
 	 */
 	public static TlsNamedCurves valueOf(final byte upper, final byte lower) {
-		for (TlsNamedCurves namedCurve : TlsNamedCurves.values()) {
-			if (namedCurve.upper == upper && namedCurve.lower == lower) {
-				return namedCurve;
-			}
-		}
-		return null;
+		return BY_VALUE.get(upper, lower);
 	}
 
 
@@ -169,7 +166,7 @@ public enum TlsNamedCurves {
 		if (null == hexString || hexString.isEmpty()) {
 			return null;
 		}
-		final byte[] bytes = StringTools.toByteArray(hexString.replaceAll(" ", ""));
+		final byte[] bytes = StringTools.toByteArray(hexString);
 
 		if (1 == bytes.length) {
 			return valueOf((byte) 0x00, bytes[0]);
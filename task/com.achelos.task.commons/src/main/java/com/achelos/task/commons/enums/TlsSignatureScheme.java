@@ -73,6 +73,9 @@ public enum TlsSignatureScheme {
 	/** ECDSA with SHA1. **/
 	ECDSA_SHA1((byte) 0x02, (byte) 0x03);
 
+	private static final TlsCodeTable<TlsSignatureScheme> BY_VALUE
+			= new TlsCodeTable<>(values(), TlsSignatureScheme::getValue);
+
 	private byte upper;
 	private byte lower;
 
@@ -88,6 +91,17 @@ public enum TlsSignatureScheme {
 	}
 
 
+	/**
+	 * Get the signature scheme's value.
+	 *
+	 * @return Value as integer
+	 */
+	public final int getValue() {
+		final int a0xff = 0xff;
+		return (upper & a0xff) << 8 | lower & a0xff;
+	}
+
+
 	/**
 	 * Return the cipher suite's value as hexadecimal pair.
 	 *
@@ -123,12 +137,7 @@ public enum TlsSignatureScheme {
 	 * @return TlsSignatureScheme
 	 */
 	public static TlsSignatureScheme valueOf(final byte upper, final byte lower) {
-		for (TlsSignatureScheme signatureScheme : TlsSignatureScheme.values()) {
-			if (signatureScheme.upper == upper && signatureScheme.lower == lower) {
-				return signatureScheme;
-			}
-		}
-		return null;
+		return BY_VALUE.get(upper, lower);
 	}
 
 
@@ -142,7 +151,7 @@ public enum TlsSignatureScheme {
 		if (null == hexString || hexString.isEmpty()) {
 			return null;
 		}
-		final byte[] bytes = StringTools.toByteArray(hexString.replaceAll(" ", ""));
+		final byte[] bytes = StringTools.toByteArray(hexString);
 
 		if (1 == bytes.length) {
 			return valueOf((byte) 0x00, bytes[0]);
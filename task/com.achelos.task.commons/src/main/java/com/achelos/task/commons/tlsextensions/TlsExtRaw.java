@@ -0,0 +1,51 @@
+package com.achelos.task.commons.tlsextensions;
+
+import com.achelos.task.commons.enums.TlsExtensionTypes;
+
+
+/**
+ * Representation of a TLS extension as received on the wire, consisting of the extension type value and the unparsed
+ * extension data. Used by {@link TlsExtensionList#parse(byte[], int, int)}, so that an extension is encoded exactly
+ * as it was received, even if its type is not defined in {@link TlsExtensionTypes}.
+ */
+public class TlsExtRaw extends TlsExtension {
+	private final int typeValue;
+	private final byte[] data;
+
+	/**
+	 * Constructor using the extension type value and data.
+	 *
+	 * @param typeValue the 16-bit extension type value
+	 * @param data the extension data
+	 */
+	public TlsExtRaw(final int typeValue, final byte[] data) {
+		super(knownTypeOrUnassigned(typeValue));
+		this.typeValue = typeValue;
+		this.data = data.clone();
+	}
+
+
+	private static TlsExtensionTypes knownTypeOrUnassigned(final int typeValue) {
+		final TlsExtensionTypes type = TlsExtensionTypes.valueOf((byte) (typeValue >> 8), (byte) typeValue);
+		return null != type ? type : TlsExtensionTypes.unassigned;
+	}
+
+
+	@Override
+	protected final int getTypeValue() {
+		return typeValue;
+	}
+
+
+	@Override
+	protected final byte[] getData() {
+		// Only read by TlsExtension#writeTo, so the data need not be copied.
+		return data;
+	}
+
+
+	@Override
+	public final TlsExtension createExtension(final byte[] data) {
+		return new TlsExtRaw(typeValue, data);
+	}
+}
@@ -1,5 +1,7 @@
 package com.achelos.task.commons.tlsextensions;
 
+import java.nio.ByteBuffer;
+
 import com.achelos.task.commons.enums.TlsExtensionTypes;
 import com.achelos.task.commons.tools.StringTools;
 
@@ -10,6 +12,9 @@ import com.achelos.task.commons.tools.StringTools;
  * @see https://tools.ietf.org/html/rfc5246#section-7.4.1.4
  */
 public abstract class TlsExtension {
+	private static final int HIGH_NIBBLE = 0xf0;
+	private static final int LOW_NIBBLE = 0x0f;
+
 	private final TlsExtensionTypes type;
 
 	/**
@@ -28,17 +33,83 @@ public abstract class TlsExtension {
 	protected abstract byte[] getData();
 
 
+	/**
+	 * Returns the value of the extension type, which is encoded in front of the extension's data.
+	 *
+	 * @return the extension type value
+	 */
+	protected int getTypeValue() {
+		return type.getValue();
+	}
+
+
+	/**
+	 * Write this TLS extension encoded as a structured extension into the given buffer. The buffer is replaced by a
+	 * larger one, if its remaining capacity is insufficient.
+	 *
+	 * @param buffer the buffer to write to
+	 * @return the given buffer or its replacement, positioned after the written extension
+	 */
+	public final ByteBuffer writeTo(final ByteBuffer buffer) {
+		final byte[] data = getData();
+		if (null == data) {
+			return buffer;
+		}
+		final ByteBuffer target = ensureRemaining(buffer, 2 + 2 + data.length);
+		target.putShort((short) getTypeValue());
+		target.putShort((short) data.length);
+		target.put(data);
+		return target;
+	}
+
+
 	/**
 	 * Return this TLS extension encoded as a structured extension.
 	 *
 	 * @return hexadecimal encoded string
 	 */
 	public final String toHexString() {
-		final byte[] data = getData();
-		if (null == data) {
-			return "";
+		final ByteBuffer buffer = writeTo(ByteBuffer.allocate(2 + 2));
+		return appendHexString(new StringBuilder(), buffer.array(), 0, buffer.position()).toString();
+	}
+
+
+	/**
+	 * Append the hexadecimal string of an encoded extension to the given builder. The type and length are written in
+	 * lower case and the data in upper case, as the extensions have always been written to the TLS Test Tool
+	 * configuration.
+	 *
+	 * @param sb the builder to append to
+	 * @param encoded the array containing the encoded extension
+	 * @param offset the index of the first byte of the encoded extension
+	 * @param length the number of bytes of the encoded extension
+	 * @return the given builder
+	 */
+	static StringBuilder appendHexString(final StringBuilder sb, final byte[] encoded, final int offset,
+			final int length) {
+		final int headerLength = Math.min(length, 2 + 2);
+		sb.ensureCapacity(sb.length() + 2 * length);
+		for (int i = offset; i < offset + headerLength; i++) {
+			sb.append(Character.forDigit((encoded[i] & HIGH_NIBBLE) >>> 4, StringTools.RADIX_HEX_16));
+			sb.append(Character.forDigit(encoded[i] & LOW_NIBBLE, StringTools.RADIX_HEX_16));
+		}
+		return StringTools.appendHexString(sb, encoded, offset + headerLength, length - headerLength);
+	}
+
+
+	/**
+	 * @param buffer the buffer
+	 * @param length the number of bytes to be written
+	 * @return the given buffer, if it has at least {@code length} remaining bytes, otherwise a larger copy of it.
+	 */
+	static ByteBuffer ensureRemaining(final ByteBuffer buffer, final int length) {
+		if (buffer.remaining() >= length) {
+			return buffer;
 		}
-		return String.format("%04x%04x%s", type.getValue(), data.length, StringTools.toHexString(data));
+		final ByteBuffer larger = ByteBuffer.allocate(Math.max(2 * buffer.capacity(), buffer.position() + length));
+		buffer.flip();
+		larger.put(buffer);
+		return larger;
 	}
 
 	public abstract TlsExtension createExtension(byte[] data);
@@ -52,4 +123,13 @@ public abstract class TlsExtension {
 		return type.getExtensionDescriptionValue();
 	}
 
+	/**
+	 * Returns the extension type.
+	 *
+	 * @return the extension type
+	 */
+	public final TlsExtensionTypes getExtensionType() {
+		return type;
+	}
+
 }
@@ -1,13 +1,21 @@
 package com.achelos.task.commons.tlsextensions;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
+import com.achelos.task.commons.tools.StringTools;
+
 
 /**
  * List of TLS extensions.
  */
 public class TlsExtensionList {
+	private static final int INITIAL_BUFFER_CAPACITY = 256;
+	private static final int A_0XFF = 0xff;
+
 	private final List<TlsExtension> list = new ArrayList<>();
 
 	/**
@@ -26,18 +34,106 @@ public class TlsExtensionList {
 	 * @return Hexadecimal encoded string
 	 */
 	public final String toHexString() {
-		final StringBuilder result = new StringBuilder();
-		for (TlsExtension extension : list) {
-			result.append(extension.toHexString());
+		final int[] ends = new int[list.size()];
+		final ByteBuffer encoded = encode(ends);
+		final StringBuilder result = new StringBuilder(2 * encoded.position() + list.size());
+		int start = 0;
+		for (int i = 0; i < ends.length; i++) {
 			// always add seperator between extensions except after the last one
-			if (list.indexOf(extension) < list.size() - 1) {
-				result.append(":");
+			if (i > 0) {
+				result.append(':');
 			}
+			TlsExtension.appendHexString(result, encoded.array(), start, ends[i] - start);
+			start = ends[i];
 		}
 		return result.toString();
 	}
 
 
+	/**
+	 * Return the extensions of this list encoded as structured extensions, as they are sent on the wire (without the
+	 * preceding length of the extensions block).
+	 *
+	 * @return the encoded extensions
+	 */
+	public final byte[] toByteArray() {
+		final ByteBuffer encoded = encode(new int[list.size()]);
+		return Arrays.copyOf(encoded.array(), encoded.position());
+	}
+
+
+	/**
+	 * Encode all extensions of this list into a new buffer.
+	 *
+	 * @param ends receives the end position of each extension in the buffer
+	 * @return the buffer, positioned after the last extension
+	 */
+	private ByteBuffer encode(final int[] ends) {
+		ByteBuffer buffer = ByteBuffer.allocate(INITIAL_BUFFER_CAPACITY);
+		for (int i = 0; i < ends.length; i++) {
+			buffer = list.get(i).writeTo(buffer);
+			ends[i] = buffer.position();
+		}
+		return buffer;
+	}
+
+
+	/**
+	 * Parse a sequence of structured extensions, as they are sent on the wire (without the preceding length of the
+	 * extensions block), into a list of {@link TlsExtRaw} extensions.
+	 *
+	 * @param data the encoded extensions
+	 * @param offset the index of the first byte of the first extension
+	 * @param length the number of bytes of all extensions
+	 * @return the list of extensions in the order of their occurrence
+	 * @throws IllegalArgumentException if an extension exceeds the given range
+	 */
+	public static TlsExtensionList parse(final byte[] data, final int offset, final int length) {
+		final TlsExtensionList extensionList = new TlsExtensionList();
+		final int end = offset + length;
+		int position = offset;
+		while (position < end) {
+			if (end - position < 4) {
+				throw new IllegalArgumentException("Truncated TLS extension header at offset " + position + ".");
+			}
+			final int typeValue = (data[position] & A_0XFF) << 8 | data[position + 1] & A_0XFF;
+			final int dataLength = (data[position + 2] & A_0XFF) << 8 | data[position + 3] & A_0XFF;
+			position += 4;
+			if (end - position < dataLength) {
+				throw new IllegalArgumentException("Truncated data of TLS extension " + typeValue + " at offset "
+						+ position + ".");
+			}
+			extensionList.add(new TlsExtRaw(typeValue, Arrays.copyOfRange(data, position, position + dataLength)));
+			position += dataLength;
+		}
+		return extensionList;
+	}
+
+
+	/**
+	 * Parse a hexadecimal encoded sequence of structured extensions, see {@link #parse(byte[], int, int)}. Characters
+	 * which are not hexadecimal digits, e.g. spaces or the separators written by {@link #toHexString()}, are ignored.
+	 *
+	 * @param hexString the hexadecimal encoded extensions
+	 * @return the list of extensions in the order of their occurrence
+	 * @throws IllegalArgumentException if an extension is truncated
+	 */
+	public static TlsExtensionList parseHexString(final CharSequence hexString) {
+		final byte[] data = StringTools.toByteArray(hexString);
+		return parse(data, 0, data.length);
+	}
+
+
+	/**
+	 * Returns the extensions of this list.
+	 *
+	 * @return an unmodifiable view of the extensions
+	 */
+	public final List<TlsExtension> getExtensions() {
+		return Collections.unmodifiableList(list);
+	}
+
+
 	/**
 	 * Create a default list of TLS client extensions.
 	 *
@@ -74,17 +170,20 @@ public class TlsExtensionList {
 	}
 
 	/**
-	 * Return a comma separated String with the names of all extensions in this list.
+	 * Return a comma separated String with the names of all extensions in this list. A non-empty String ends with a
+	 * blank.
 	 *
 	 * @return names of these extensions
 	 */
 	public String getExtensionNames() {
-		StringBuilder b = new StringBuilder();
-		list.stream().forEach(e -> b.append(e.getType() + ", "));
+		final StringBuilder b = new StringBuilder();
+		for (TlsExtension extension : list) {
+			b.append(extension.getType()).append(", ");
+		}
 		if (b.length() > 0) {
-			b.delete(b.lastIndexOf(", "), b.length() - 1);
+			// Only remove the comma of the last separator.
+			b.deleteCharAt(b.length() - 2);
 		}
-
 		return b.toString();
 	}
 
@@ -3,6 +3,8 @@
  */
 package com.achelos.task.commons.tools;
 
+import java.util.Arrays;
+
 /**
  * This class is intended to bundle several standard methods, used to process and convert {@link String}s.
  */
@@ -26,6 +28,19 @@ public final class StringTools {
 
 	private static final int LOW_NIBBLE = 0x0f;
 
+	/**
+	 * Value of each ASCII hexadecimal digit, indexed by the character, or -1 for all other ASCII characters.
+	 */
+	private static final byte[] HEX_DIGIT_VALUE = new byte[128];
+
+	static {
+		Arrays.fill(HEX_DIGIT_VALUE, (byte) -1);
+		for (int i = 0; i < HEX_CHARACTER.length; i++) {
+			HEX_DIGIT_VALUE[HEX_CHARACTER[i]] = (byte) i;
+			HEX_DIGIT_VALUE[Character.toLowerCase(HEX_CHARACTER[i])] = (byte) i;
+		}
+	}
+
 	/**
 	 * Helper class is not intended to be instanced.
 	 */
@@ -79,52 +94,104 @@ public final class StringTools {
 			return null;
 		}
 
-		StringBuffer sb = new StringBuffer(b.length * 2);
-		boolean zeroIsLeading = stripLeadingZeroes;
-		for (int i = 0; i < b.length; i++) {
-			if (b[i] == 0x00 && !zeroIsLeading || b[i] != 0x00) {
-				zeroIsLeading = false;
-				// look up high nibble char
-				sb.append(HEX_CHARACTER[(b[i] & HIGH_NIBBLE) >>> 4]); // fill
-																		// left
-																		// with
-																		// zero
-																		// bits
-
-				// look up low nibble char
-				sb.append(HEX_CHARACTER[b[i] & LOW_NIBBLE]);
+		int offset = 0;
+		if (stripLeadingZeroes) {
+			while (offset < b.length && b[offset] == 0x00) {
+				offset++;
 			}
 		}
-		return sb.toString();
+		return toHexString(b, offset, b.length - offset);
 	}
 
+	/**
+	 * Converts a range of the byte array to a hex string.
+	 *
+	 * @param b the byte array
+	 * @param offset the index of the first byte to convert
+	 * @param length the number of bytes to convert
+	 * @return The upper case hexadecimal representation of the byte range.
+	 */
+	public static String toHexString(final byte[] b, final int offset, final int length) {
+		final char[] hex = new char[length * 2];
+		for (int i = 0; i < length; i++) {
+			final int value = b[offset + i];
+			// look up high nibble char, fill left with zero bits
+			hex[2 * i] = HEX_CHARACTER[(value & HIGH_NIBBLE) >>> 4];
+			// look up low nibble char
+			hex[2 * i + 1] = HEX_CHARACTER[value & LOW_NIBBLE];
+		}
+		return new String(hex);
+	}
 
 	/**
-	 * Converts a hexadecimal string into a byte array.
+	 * Appends the hex string of a range of the byte array to the given builder.
+	 *
+	 * @param sb the builder to append to
+	 * @param b the byte array
+	 * @param offset the index of the first byte to convert
+	 * @param length the number of bytes to convert
+	 * @return The given builder.
+	 */
+	public static StringBuilder appendHexString(final StringBuilder sb, final byte[] b, final int offset,
+			final int length) {
+		sb.ensureCapacity(sb.length() + length * 2);
+		for (int i = offset; i < offset + length; i++) {
+			sb.append(HEX_CHARACTER[(b[i] & HIGH_NIBBLE) >>> 4]);
+			sb.append(HEX_CHARACTER[b[i] & LOW_NIBBLE]);
+		}
+		return sb;
+	}
+
+
+	/**
+	 * Converts a hexadecimal string into a byte array. All characters which are not hexadecimal digits (e.g. spaces)
+	 * are ignored, see {@link #filterHexString(String)}. A trailing single hexadecimal digit is ignored as well.
+	 *
+	 * @param hexString the hex string
+	 * @return the byte array
+	 */
+	public static byte[] toByteArray(final CharSequence hexString) {
+		return toByteArray(hexString, 0, hexString.length());
+	}
+
+	/**
+	 * Converts a range of a hexadecimal string into a byte array. All characters which are not hexadecimal digits (e.g.
+	 * spaces) are ignored, see {@link #filterHexString(String)}. A trailing single hexadecimal digit is ignored as well.
 	 *
 	 * @param hexString the hex string
+	 * @param start the index of the first character to convert
+	 * @param end the index after the last character to convert
 	 * @return the byte array
 	 */
-	public static byte[] toByteArray(final String hexString) {
-		String hexStr = filterHexString(hexString);
-		byte[] bArray = new byte[hexStr.length() / 2];
-		for (int i = 0; i < hexStr.length() / 2; i++) {
-			byte firstNibble = Byte.parseByte(
-					hexStr.substring(2 * i, 2 * i + 1), RADIX_HEX_16); // [x,y)
-			byte secondNibble = Byte.parseByte(
-					hexStr.substring(2 * i + 1, 2 * i + 2), RADIX_HEX_16);
-			int finalByte = secondNibble | firstNibble << 4; // bit-operations
-																// only with
-																// numbers,
-																// not
-																// bytes.
-			bArray[i] = (byte) finalByte;
+	public static byte[] toByteArray(final CharSequence hexString, final int start, final int end) {
+		int digits = 0;
+		for (int i = start; i < end; i++) {
+			if (hexDigitValue(hexString.charAt(i)) >= 0) {
+				digits++;
+			}
+		}
+		final byte[] bArray = new byte[digits / 2];
+		int highNibble = -1;
+		int index = 0;
+		for (int i = start; i < end && index < bArray.length; i++) {
+			final int nibble = hexDigitValue(hexString.charAt(i));
+			if (nibble < 0) {
+				continue;
+			}
+			if (highNibble < 0) {
+				highNibble = nibble;
+			} else {
+				bArray[index++] = (byte) (highNibble << 4 | nibble);
+				highNibble = -1;
+			}
 		}
 		return bArray;
 	}
 
 	/**
-	 * Filters a given string, so that only its hexadecimal components will pass.
+	 * Filters a given string, so that only its hexadecimal components will pass. Only the ASCII characters 0-9, a-f
+	 * and A-F are hexadecimal digits, other characters are ignored even if their upper case form is a hexadecimal
+	 * digit, like the ligature "&#xFB00;".
 	 *
 	 * @param s the string
 	 * @return the filtered string<br>
@@ -133,7 +200,22 @@ public final class StringTools {
 	 * "hello world" &rarr; "ED"<br>
 	 */
 	public static String filterHexString(final String s) {
-		return s.toUpperCase().replaceAll("[^\\p{XDigit}]", "");
+		final StringBuilder sb = new StringBuilder(s.length());
+		for (int i = 0; i < s.length(); i++) {
+			final int value = hexDigitValue(s.charAt(i));
+			if (value >= 0) {
+				sb.append(HEX_CHARACTER[value]);
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * @param c the character
+	 * @return the value of the hexadecimal digit, or -1 if the character is not a hexadecimal digit.
+	 */
+	private static int hexDigitValue(final char c) {
+		return c < HEX_DIGIT_VALUE.length ? HEX_DIGIT_VALUE[c] : -1;
 	}
 
 
@@ -146,7 +228,11 @@ public final class StringTools {
 	 * @return e.g.
 	 */
 	public static String toHexString(final int input, final int length) {
-		return String.format("%0" + length + "X", input);
+		final String hex = Integer.toHexString(input).toUpperCase();
+		if (hex.length() >= length) {
+			return hex;
+		}
+		return "0".repeat(length - hex.length()) + hex;
 	}
 
 }
@@ -0,0 +1,79 @@
+package certificatehelper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import com.achelos.task.commons.certificatehelper.CertificateCache;
+
+class TestCertificateCache {
+
+	private static final Path CERTIFICATE_DIRECTORY = Path.of("../data/input/certificates");
+
+	@Test
+	void testRepeatedParsingIsAnsweredFromCache() throws IOException {
+		var cache = new CertificateCache(CertificateCache.DEFAULT_CAPACITY);
+		var data = readCertificate("tlscheck_ee.pem");
+
+		var first = cache.getCertificate(data);
+		var second = cache.getCertificate(data.clone());
+
+		assertSame(first, second);
+		assertEquals(1, cache.getMissCount());
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	void testModifiedInputDoesNotAffectCache() throws IOException {
+		var cache = new CertificateCache(CertificateCache.DEFAULT_CAPACITY);
+		var data = readCertificate("root_ca.pem");
+		var original = data.clone();
+
+		var first = cache.getCertificate(data);
+		data[data.length / 2] ^= 0x01;
+
+		assertSame(first, cache.getCertificate(original));
+	}
+
+	@Test
+	void testLeastRecentlyUsedCertificateIsEvicted() throws IOException {
+		var cache = new CertificateCache(2);
+		var root = readCertificate("root_ca.pem");
+		var intermediate = readCertificate("intermediate_ca.pem");
+		var endEntity = readCertificate("tlscheck_ee.pem");
+
+		var parsedRoot = cache.getCertificate(root);
+		cache.getCertificate(intermediate);
+		cache.getCertificate(root);
+		cache.getCertificate(endEntity);
+
+		assertEquals(2, cache.size());
+		assertSame(parsedRoot, cache.getCertificate(root));
+		cache.getCertificate(intermediate);
+		assertEquals(4, cache.getMissCount());
+		assertEquals(2, cache.getHitCount());
+	}
+
+	@Test
+	void testInvalidDataIsNotCached() {
+		var cache = new CertificateCache(CertificateCache.DEFAULT_CAPACITY);
+		var data = new byte[] { 0x30, 0x03, 0x02, 0x01, 0x01 };
+
+		assertThrows(IllegalArgumentException.class, () -> cache.getCertificate(data));
+		assertThrows(IllegalArgumentException.class, () -> cache.getCertificate(data));
+
+		assertEquals(0, cache.size());
+		assertEquals(2, cache.getMissCount());
+	}
+
+	private static byte[] readCertificate(final String fileName) throws IOException {
+		return Files.readAllBytes(CERTIFICATE_DIRECTORY.resolve(fileName));
+	}
+}
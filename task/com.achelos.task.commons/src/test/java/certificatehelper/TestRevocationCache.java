@@ -0,0 +1,267 @@
+package certificatehelper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.cert.CRL;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.cert.X509v2CRLBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateHolder;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.cert.ocsp.BasicOCSPRespBuilder;
+import org.bouncycastle.cert.ocsp.CertificateID;
+import org.bouncycastle.cert.ocsp.CertificateStatus;
+import org.bouncycastle.cert.ocsp.OCSPResp;
+import org.bouncycastle.cert.ocsp.OCSPRespBuilder;
+import org.bouncycastle.cert.ocsp.RespID;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.bouncycastle.operator.jcajce.JcaDigestCalculatorProviderBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.achelos.task.commons.certificatehelper.RevocationCache;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+class TestRevocationCache {
+
+	private static final long ONE_HOUR = 3600000;
+
+	private HttpServer server;
+	private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+	private final CountDownLatch release = new CountDownLatch(1);
+	private byte[] validCrl;
+	private byte[] expiredCrl;
+	private KeyPair caKeyPair;
+	private X509Certificate caCertificate;
+	private X509Certificate certificate;
+
+	@BeforeEach
+	void startServer() throws Exception {
+		var now = System.currentTimeMillis();
+		validCrl = createCrl(new Date(now + ONE_HOUR));
+		expiredCrl = createCrl(new Date(now - 1000));
+
+		var keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+		keyPairGenerator.initialize(2048);
+		caKeyPair = keyPairGenerator.generateKeyPair();
+		caCertificate = createCertificate(BigInteger.ONE, "CN=Test CA");
+		certificate = createCertificate(BigInteger.valueOf(42), "CN=Test Certificate");
+		var validOcspResponse = createOcspResponse(new Date(now + ONE_HOUR));
+		var expiredOcspResponse = createOcspResponse(new Date(now - 1000));
+		var tryLaterOcspResponse = new OCSPRespBuilder().build(OCSPRespBuilder.TRY_LATER, null).getEncoded();
+
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/valid.crl", exchange -> respond(exchange, 200, validCrl));
+		server.createContext("/expired.crl", exchange -> respond(exchange, 200, expiredCrl));
+		server.createContext("/error.crl", exchange -> respond(exchange, 500, new byte[0]));
+		server.createContext("/valid.ocsp", exchange -> respond(exchange, 200, validOcspResponse));
+		server.createContext("/expired.ocsp", exchange -> respond(exchange, 200, expiredOcspResponse));
+		server.createContext("/trylater.ocsp", exchange -> respond(exchange, 200, tryLaterOcspResponse));
+		server.createContext("/redirect.crl", exchange -> redirect(exchange, "/valid.crl"));
+		server.createContext("/redirect.ocsp", exchange -> redirect(exchange, "/valid.ocsp"));
+		server.createContext("/slow.crl", exchange -> {
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			respond(exchange, 200, validCrl);
+		});
+		server.setExecutor(null);
+		server.start();
+	}
+
+	@AfterEach
+	void stopServer() {
+		release.countDown();
+		server.stop(0);
+	}
+
+	@Test
+	void testCrlIsCachedUntilNextUpdate() throws Exception {
+		var cache = new RevocationCache();
+		var url = url("/valid.crl");
+
+		CRL first = cache.getCrl(url);
+		CRL second = cache.getCrl(url);
+
+		assertSame(first, second);
+		assertEquals(1, requestCount("/valid.crl"));
+	}
+
+	@Test
+	void testConcurrentFetchesShareOneDownload() throws Exception {
+		var cache = new RevocationCache();
+		var url = url("/slow.crl");
+
+		List<CompletableFuture<CRL>> futures = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			futures.add(cache.fetchCrl(url));
+		}
+		release.countDown();
+		var first = futures.get(0).get();
+		for (var future : futures) {
+			assertSame(first, future.get());
+		}
+		assertEquals(1, requestCount("/slow.crl"));
+	}
+
+	@Test
+	void testExpiredCrlIsFetchedAgain() throws Exception {
+		var cache = new RevocationCache();
+		var url = url("/expired.crl");
+
+		cache.getCrl(url);
+		cache.getCrl(url);
+
+		assertEquals(2, requestCount("/expired.crl"));
+	}
+
+	@Test
+	void testFailedFetchIsNotCached() throws Exception {
+		var cache = new RevocationCache();
+		var url = url("/error.crl");
+
+		assertThrows(IOException.class, () -> cache.getCrl(url));
+		assertThrows(IOException.class, () -> cache.getCrl(url));
+
+		assertEquals(2, requestCount("/error.crl"));
+	}
+
+	@Test
+	void testClearRemovesCachedCrls() throws Exception {
+		var cache = new RevocationCache();
+		var url = url("/valid.crl");
+
+		cache.getCrl(url);
+		cache.clear();
+		cache.getCrl(url);
+
+		assertEquals(2, requestCount("/valid.crl"));
+	}
+
+	@Test
+	void testOcspResponseIsCachedUntilNextUpdate() throws Exception {
+		var cache = new RevocationCache();
+		var url = url("/valid.ocsp");
+
+		var first = cache.getOcspResponse(url, certificate, caCertificate);
+		var second = cache.getOcspResponse(url, certificate, caCertificate);
+
+		assertEquals(OCSPResp.SUCCESSFUL, first.getStatus());
+		assertSame(first, second);
+		assertEquals(1, requestCount("/valid.ocsp"));
+	}
+
+	@Test
+	void testExpiredOcspResponseIsRequestedAgain() throws Exception {
+		var cache = new RevocationCache();
+		var url = url("/expired.ocsp");
+
+		cache.getOcspResponse(url, certificate, caCertificate);
+		cache.getOcspResponse(url, certificate, caCertificate);
+
+		assertEquals(2, requestCount("/expired.ocsp"));
+	}
+
+	@Test
+	void testUnsuccessfulOcspResponseIsNotCached() throws Exception {
+		var cache = new RevocationCache();
+		var url = url("/trylater.ocsp");
+
+		var first = cache.getOcspResponse(url, certificate, caCertificate);
+		var second = cache.getOcspResponse(url, certificate, caCertificate);
+
+		assertEquals(OCSPResp.TRY_LATER, first.getStatus());
+		assertEquals(OCSPResp.TRY_LATER, second.getStatus());
+		assertEquals(2, requestCount("/trylater.ocsp"));
+	}
+
+	@Test
+	void testOnlyCrlFetchesFollowRedirects() throws Exception {
+		var cache = new RevocationCache();
+
+		cache.getCrl(url("/redirect.crl"));
+		assertThrows(IOException.class,
+				() -> cache.getOcspResponse(url("/redirect.ocsp"), certificate, caCertificate));
+
+		assertEquals(1, requestCount("/valid.crl"));
+		assertEquals(0, requestCount("/valid.ocsp"));
+	}
+
+	private URL url(final String path) throws IOException {
+		return new URL("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + path);
+	}
+
+	private int requestCount(final String path) {
+		var count = requests.get(path);
+		return null == count ? 0 : count.get();
+	}
+
+	private void respond(final HttpExchange exchange, final int status, final byte[] body) throws IOException {
+		requests.computeIfAbsent(exchange.getRequestURI().getPath(), path -> new AtomicInteger()).incrementAndGet();
+		exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(body);
+		}
+	}
+
+	private void redirect(final HttpExchange exchange, final String path) throws IOException {
+		exchange.getResponseHeaders().add("Location", url(path).toString());
+		respond(exchange, 307, new byte[0]);
+	}
+
+	private X509Certificate createCertificate(final BigInteger serialNumber, final String subject) throws Exception {
+		var now = System.currentTimeMillis();
+		var builder = new JcaX509v3CertificateBuilder(new X500Name("CN=Test CA"), serialNumber,
+				new Date(now - ONE_HOUR), new Date(now + ONE_HOUR), new X500Name(subject), caKeyPair.getPublic());
+		var signer = new JcaContentSignerBuilder("SHA256withRSA").build(caKeyPair.getPrivate());
+		return new JcaX509CertificateConverter().getCertificate(builder.build(signer));
+	}
+
+	private byte[] createOcspResponse(final Date nextUpdate) throws Exception {
+		var digestCalculator = new JcaDigestCalculatorProviderBuilder().build().get(CertificateID.HASH_SHA1);
+		var id = new CertificateID(digestCalculator, new JcaX509CertificateHolder(caCertificate),
+				certificate.getSerialNumber());
+		var builder = new BasicOCSPRespBuilder(new RespID(new X500Name("CN=Test CA")));
+		builder.addResponse(id, CertificateStatus.GOOD, new Date(System.currentTimeMillis() - ONE_HOUR), nextUpdate,
+				null);
+		var signer = new JcaContentSignerBuilder("SHA256withRSA").build(caKeyPair.getPrivate());
+		var basicResponse = builder.build(signer, null, new Date());
+		return new OCSPRespBuilder().build(OCSPRespBuilder.SUCCESSFUL, basicResponse).getEncoded();
+	}
+
+	private static byte[] createCrl(final Date nextUpdate) throws Exception {
+		var keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+		keyPairGenerator.initialize(2048);
+		var keyPair = keyPairGenerator.generateKeyPair();
+		var issuer = new X500Name("CN=Test CA");
+		var builder = new X509v2CRLBuilder(issuer, new Date(System.currentTimeMillis() - ONE_HOUR));
+		builder.setNextUpdate(nextUpdate);
+		builder.addCRLEntry(BigInteger.valueOf(42), new Date(), 0);
+		var signer = new JcaContentSignerBuilder("SHA256withRSA").build(keyPair.getPrivate());
+		return builder.build(signer).getEncoded();
+	}
+}
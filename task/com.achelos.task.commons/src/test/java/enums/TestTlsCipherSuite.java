@@ -0,0 +1,147 @@
+package enums;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.achelos.task.commons.enums.TlsCipherSuite;
+
+
+class TestTlsCipherSuite {
+
+	private static final TlsCipherSuite[] CIPHER_SUITES = TlsCipherSuite.values();
+	private static final List<String> VALUE_PAIRS
+			= Arrays.stream(CIPHER_SUITES).map(TlsCipherSuite::getValuePair).collect(Collectors.toList());
+
+	@Test
+	void testValueOfMatchesLinearScan() {
+		for (int code = 0; code <= 0xFFFF; code++) {
+			var upper = (byte) (code >> 8);
+			var lower = (byte) code;
+			assertSame(scanByCode(upper, lower), TlsCipherSuite.valueOf(upper, lower),
+					String.format("Wrong cipher suite for code %04X.", code));
+		}
+	}
+
+	@Test
+	void testValueOfNameMatchesLinearScan() {
+		for (var cipherSuite : TlsCipherSuite.values()) {
+			assertSame(scanByName(cipherSuite.name()), TlsCipherSuite.valueOfName(cipherSuite.name()));
+		}
+		assertNull(TlsCipherSuite.valueOfName("TLS_UNKNOWN_WITH_NULL_NULL"));
+		assertNull(TlsCipherSuite.valueOfName(TlsCipherSuite.TLS_RSA_WITH_AES_128_CBC_SHA.name().toLowerCase()));
+		assertNull(TlsCipherSuite.valueOfName(""));
+	}
+
+	@Test
+	void testParseHexStringListMatchesLinearScan() {
+		var cipherSuiteLists = List.of("C0 2B C0 2F", "c0 2b 00 2f", "00 2F FF FF 13 01", "0 2F 00 2F", "C0 2B",
+				"0xC0 2B", "C0 2G", "");
+		for (var cipherSuiteList : cipherSuiteLists) {
+			assertEquals(scanHexStringList(cipherSuiteList), TlsCipherSuite.parseCipherSuiteStringList(cipherSuiteList),
+					"Wrong cipher suites for \"" + cipherSuiteList + "\".");
+		}
+	}
+
+	@Test
+	void testParseValuePairListMatchesLinearScan() {
+		var cipherSuiteList = List.of("(0xC0,0x2B)", "(0xc0,0x2f)", "(0XC0,0X2C)", "(0x00,0x2F)", "(0xFF,0xFF)",
+				"(0xC0, 0x2B)", "0xC0,0x2B", "(0xC0,0x2G)", "");
+
+		assertEquals(scanValuePairList(cipherSuiteList), TlsCipherSuite.parseCipherSuiteStringList(cipherSuiteList));
+	}
+
+	@Test
+	void testFamiliesMatchFilterByName() {
+		assertEquals(EnumSet.copyOf(TlsCipherSuite.filterByName("RSA")), TlsCipherSuite.getRsaCipherSuites());
+		assertEquals(EnumSet.copyOf(TlsCipherSuite.filterByName("ECDSA")), TlsCipherSuite.getEcdsaCipherSuites());
+		assertEquals(EnumSet.copyOf(TlsCipherSuite.filterByName("DSS")), TlsCipherSuite.getDssCipherSuites());
+		assertEquals(EnumSet.copyOf(TlsCipherSuite.filterByName("PSK")), TlsCipherSuite.getPskCipherSuites());
+		assertEquals(EnumSet.copyOf(TlsCipherSuite.filterByName("TLS_ECDHE_")),
+				TlsCipherSuite.getEcdheCipherSuites());
+	}
+
+	@Test
+	void testParseNameListUsesNameLookup() {
+		var cipherSuiteList = List.of("TLS_RSA_WITH_AES_128_CBC_SHA", "(0xC0,0x2B)",
+				TlsCipherSuite.TLS_RSA_WITH_AES_128_CBC_SHA.name().toLowerCase(), "TLS_UNKNOWN_WITH_NULL_NULL");
+
+		assertEquals(
+				List.of(TlsCipherSuite.TLS_RSA_WITH_AES_128_CBC_SHA, TlsCipherSuite.valueOf((byte) 0xC0, (byte) 0x2B)),
+				TlsCipherSuite.parseCipherSuiteStringList(cipherSuiteList));
+	}
+
+	@Test
+	void testFilterByNameReturnsSharedUnmodifiableList() {
+		var first = TlsCipherSuite.filterByName("GCM");
+
+		assertSame(first, TlsCipherSuite.filterByName("GCM"));
+		assertThrows(UnsupportedOperationException.class, first::clear);
+		assertEquals(scanByNamePart("GCM"), first);
+	}
+
+	/*
+	 * The linear scans below are the implementations used before the lookup tables were introduced.
+	 */
+
+	private static TlsCipherSuite scanByCode(final byte upper, final byte lower) {
+		var index = VALUE_PAIRS.indexOf(String.format("(0x%02x,0x%02x)", upper, lower));
+		return index < 0 ? null : CIPHER_SUITES[index];
+	}
+
+	private static TlsCipherSuite scanByName(final String name) {
+		for (var cipherSuite : TlsCipherSuite.values()) {
+			if (cipherSuite.name().equals(name)) {
+				return cipherSuite;
+			}
+		}
+		return null;
+	}
+
+	private static List<TlsCipherSuite> scanByNamePart(final String search) {
+		var result = new ArrayList<TlsCipherSuite>();
+		for (var cipherSuite : TlsCipherSuite.values()) {
+			if (cipherSuite.name().contains(search)) {
+				result.add(cipherSuite);
+			}
+		}
+		return result;
+	}
+
+	private static List<TlsCipherSuite> scanHexStringList(final String cipherSuiteList) {
+		var result = new ArrayList<TlsCipherSuite>();
+		if (cipherSuiteList.isBlank()) {
+			return result;
+		}
+		var valuePairs = cipherSuiteList.split(" ");
+		for (int i = 0; i < valuePairs.length; i += 2) {
+			for (var cipherSuite : TlsCipherSuite.values()) {
+				if (cipherSuite.getValueHexString().equalsIgnoreCase(valuePairs[i] + " " + valuePairs[i + 1])) {
+					result.add(cipherSuite);
+				}
+			}
+		}
+		return result;
+	}
+
+	private static List<TlsCipherSuite> scanValuePairList(final List<String> cipherSuiteList) {
+		var result = new ArrayList<TlsCipherSuite>();
+		for (var valuePair : cipherSuiteList) {
+			for (var cipherSuite : TlsCipherSuite.values()) {
+				if (cipherSuite.getValuePair().equalsIgnoreCase(valuePair)) {
+					result.add(cipherSuite);
+				}
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,126 @@
+package tlsextensions;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.achelos.task.commons.enums.TlsExtensionTypes;
+import com.achelos.task.commons.tlsextensions.TlsExtEncryptThenMac;
+import com.achelos.task.commons.tlsextensions.TlsExtExtendedMasterSecret;
+import com.achelos.task.commons.tlsextensions.TlsExtRaw;
+import com.achelos.task.commons.tlsextensions.TlsExtServerName;
+import com.achelos.task.commons.tlsextensions.TlsExtUnknown;
+import com.achelos.task.commons.tlsextensions.TlsExtensionList;
+
+
+class TestTlsExtensionList {
+
+	@Test
+	void testToHexString() {
+		var extensionList = new TlsExtensionList();
+		extensionList.add(new TlsExtEncryptThenMac());
+		extensionList.add(new TlsExtRaw(0xFAFA, new byte[] {(byte) 0xAB, 0x0C}));
+		extensionList.add(new TlsExtExtendedMasterSecret());
+
+		// The type and length are written in lower case, the data in upper case.
+		assertEquals("00160000:fafa0002AB0C:00170000", extensionList.toHexString());
+		assertEquals("fafa0002AB0C", extensionList.getExtensions().get(1).toHexString());
+		assertEquals("", new TlsExtensionList().toHexString());
+	}
+
+	@Test
+	void testRoundTrip() {
+		var extensionList = TlsExtensionList.createDefaultClientExtensions();
+		extensionList.add(new TlsExtServerName("tls.example.com"));
+		extensionList.add(new TlsExtUnknown());
+		extensionList.add(new TlsExtRaw(0xFAFA, new byte[] {0x01, 0x02, 0x03}));
+		extensionList.add(new TlsExtRaw(TlsExtensionTypes.encrypt_then_mac.getValue(), new byte[0]));
+		var hexString = extensionList.toHexString();
+
+		var parsed = TlsExtensionList.parseHexString(hexString);
+
+		assertEquals(hexString, parsed.toHexString());
+		assertArrayEquals(extensionList.toByteArray(), parsed.toByteArray());
+		assertEquals(extensionList.getExtensions().size(), parsed.getExtensions().size());
+		for (int i = 0; i < parsed.getExtensions().size(); i++) {
+			assertEquals(extensionList.getExtensions().get(i).getExtensionType(),
+					parsed.getExtensions().get(i).getExtensionType());
+		}
+		assertEquals(extensionList.getExtensionNames(), parsed.getExtensionNames());
+	}
+
+	@Test
+	void testGetExtensionNames() {
+		var extensionList = new TlsExtensionList();
+		extensionList.add(new TlsExtEncryptThenMac());
+		extensionList.add(new TlsExtExtendedMasterSecret());
+
+		// The names keep the trailing blank of the last separator.
+		assertEquals("encrypt_then_mac, extended_master_secret ", extensionList.getExtensionNames());
+		assertEquals("", new TlsExtensionList().getExtensionNames());
+	}
+
+	@Test
+	void testConcurrentEncoding() throws InterruptedException {
+		var extensionList = TlsExtensionList.createDefaultClientExtensions();
+		var expected = extensionList.toHexString();
+		var failures = new AtomicInteger();
+		var threads = new Thread[4];
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread(() -> {
+				for (int j = 0; j < 1000; j++) {
+					if (!expected.equals(extensionList.toHexString())) {
+						failures.incrementAndGet();
+					}
+				}
+			});
+			threads[i].start();
+		}
+		for (var thread : threads) {
+			thread.join();
+		}
+
+		assertEquals(0, failures.get(), "Concurrent encodings of the same list interfere.");
+	}
+
+	@Test
+	void testUnknownTypeRoundTrip() {
+		var parsed = TlsExtensionList.parseHexString("FAFA 0001 FF 1234 0000");
+
+		assertEquals(2, parsed.getExtensions().size());
+		assertEquals(TlsExtensionTypes.unassigned, parsed.getExtensions().get(0).getExtensionType());
+		assertEquals(TlsExtensionTypes.unassigned, parsed.getExtensions().get(1).getExtensionType());
+		assertEquals("fafa0001FF:12340000", parsed.toHexString());
+	}
+
+	@Test
+	void testParseRange() {
+		var data = new byte[] {0x7F, 0x00, 0x16, 0x00, 0x00, 0x00, 0x17, 0x00, 0x01, 0x05, 0x7F};
+
+		var parsed = TlsExtensionList.parse(data, 1, data.length - 2);
+
+		assertEquals("00160000:0017000105", parsed.toHexString());
+		assertTrue(TlsExtensionList.parse(data, 1, 0).isEmpty());
+		assertTrue(TlsExtensionList.parseHexString("").isEmpty());
+	}
+
+	@Test
+	void testTruncatedInputIsRejected() {
+		var hexString = TlsExtensionList.createDefaultClientExtensions().toHexString();
+
+		// Truncated data of the last extension.
+		assertThrows(IllegalArgumentException.class,
+				() -> TlsExtensionList.parseHexString(hexString.substring(0, hexString.length() - 2)));
+		// Truncated header of an extension.
+		assertThrows(IllegalArgumentException.class, () -> TlsExtensionList.parseHexString(hexString + ":001700"));
+		assertThrows(IllegalArgumentException.class, () -> TlsExtensionList.parseHexString("00"));
+		// The range ends within an extension, although the array contains all of its data.
+		assertThrows(IllegalArgumentException.class,
+				() -> TlsExtensionList.parse(new byte[] {0x00, 0x17, 0x00, 0x01, 0x05}, 0, 4));
+	}
+}
@@ -0,0 +1,108 @@
+package tools;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.achelos.task.commons.tools.StringTools;
+
+
+class TestStringTools {
+
+	@Test
+	void testToByteArray() {
+		assertArrayEquals(new byte[] {0x00, 0x2F, (byte) 0xC0, (byte) 0xFF}, StringTools.toByteArray("002FC0FF"));
+		assertArrayEquals(new byte[] {(byte) 0xAB, (byte) 0xCD}, StringTools.toByteArray("abCD"));
+		assertArrayEquals(new byte[0], StringTools.toByteArray(""));
+	}
+
+	@Test
+	void testToByteArrayIgnoresTrailingOddDigit() {
+		assertArrayEquals(new byte[0], StringTools.toByteArray("F"));
+		assertArrayEquals(new byte[] {0x12, 0x34}, StringTools.toByteArray("12345"));
+		assertArrayEquals(new byte[] {0x12}, StringTools.toByteArray("1 2 3"));
+	}
+
+	@Test
+	void testToByteArrayIgnoresSeparators() {
+		assertArrayEquals(new byte[] {(byte) 0xC0, 0x2B, 0x00, 0x2F}, StringTools.toByteArray("C0 2B 00 2F"));
+		assertArrayEquals(new byte[] {(byte) 0xC0, 0x2B}, StringTools.toByteArray("C0:2B"));
+		assertArrayEquals(new byte[] {(byte) 0xC0, 0x2B}, StringTools.toByteArray(" C\n0\t2-B "));
+		// The "x" of a "0x" prefix is skipped, the "0" is not.
+		assertArrayEquals(new byte[] {0x0C, 0x02}, StringTools.toByteArray("0xC02B"));
+	}
+
+	@Test
+	void testToByteArrayIgnoresNonAsciiCharacters() {
+		// Fullwidth digits, Arabic-Indic digits and characters whose upper case is a hex digit are no hex digits.
+		assertArrayEquals(new byte[] {0x12}, StringTools.toByteArray("１２ 1٢ 2"));
+		assertArrayEquals(new byte[] {0x0A, (byte) 0xBC}, StringTools.toByteArray("ﬀ0ÄAßBCĀ"));
+		assertArrayEquals(new byte[0], StringTools.toByteArray("äöü€"));
+	}
+
+	@Test
+	void testToByteArrayRange() {
+		var hexString = new StringBuilder("Value=C0 2B 00 2F");
+
+		assertArrayEquals(new byte[] {(byte) 0xC0, 0x2B, 0x00, 0x2F},
+				StringTools.toByteArray(hexString, "Value=".length(), hexString.length()));
+		assertArrayEquals(new byte[] {0x2B}, StringTools.toByteArray(hexString, 9, 11));
+		assertArrayEquals(new byte[0], StringTools.toByteArray(hexString, 3, 3));
+	}
+
+	@Test
+	void testToHexString() {
+		assertEquals("002FC0FF", StringTools.toHexString(new byte[] {0x00, 0x2F, (byte) 0xC0, (byte) 0xFF}));
+		assertEquals("", StringTools.toHexString(new byte[0]));
+		assertNull(StringTools.toHexString((byte[]) null));
+		assertEquals("0001", StringTools.toHexString(new byte[] {0x00, 0x00, 0x01}, 1, 2));
+		assertEquals("01", StringTools.appendHexString(new StringBuilder(), new byte[] {0x00, 0x01}, 1, 1).toString());
+	}
+
+	@Test
+	void testToHexStringStripsLeadingZeroes() {
+		assertEquals("0100", StringTools.toHexString(new byte[] {0x00, 0x00, 0x01, 0x00}, true));
+		assertEquals("000100", StringTools.toHexString(new byte[] {0x00, 0x01, 0x00}, false));
+		assertEquals("", StringTools.toHexString(new byte[] {0x00, 0x00}, true));
+	}
+
+	@Test
+	void testIntToHexString() {
+		assertEquals("00", StringTools.toHexString(0));
+		assertEquals("0F", StringTools.toHexString(15));
+		assertEquals("0100", StringTools.toHexString(256));
+		assertEquals("FFFFFFFF", StringTools.toHexString(-1));
+		assertEquals("80000000", StringTools.toHexString(Integer.MIN_VALUE));
+	}
+
+	@Test
+	void testIntToHexStringWithLength() {
+		assertEquals("002F", StringTools.toHexString(0x2F, 4));
+		assertEquals("12345", StringTools.toHexString(0x12345, 4));
+		assertEquals("0", StringTools.toHexString(0, 1));
+		// Negative values are written in two's complement and never padded.
+		assertEquals("FFFFFFFF", StringTools.toHexString(-1, 4));
+		assertEquals("FFFFFF01", StringTools.toHexString(-255, 8));
+		assertEquals("00FFFFFF01", StringTools.toHexString(-255, 10));
+		assertEquals(String.format("%010X", Integer.MIN_VALUE), StringTools.toHexString(Integer.MIN_VALUE, 10));
+	}
+
+	@Test
+	void testRoundTrip() {
+		var random = new Random(0);
+		for (int length = 0; length < 64; length++) {
+			var bytes = new byte[length];
+			random.nextBytes(bytes);
+			var hexString = StringTools.toHexString(bytes);
+
+			assertEquals(2 * length, hexString.length());
+			assertEquals(hexString, StringTools.filterHexString(hexString.toLowerCase()));
+			assertArrayEquals(bytes, StringTools.toByteArray(hexString));
+			assertArrayEquals(bytes, StringTools.toByteArray(hexString.toLowerCase()));
+		}
+	}
+}
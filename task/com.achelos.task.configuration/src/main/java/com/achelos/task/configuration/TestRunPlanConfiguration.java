@@ -5,8 +5,11 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.management.InvalidAttributeValueException;
 
@@ -28,20 +31,28 @@ import com.achelos.task.xmlparser.runplanparsing.RunPlanParser;
 
 /**
  * Internal data structure combining all configuration values necessary to execute the TaSK Test Tool from an Test Run Plan file.
- * Currently implemented as a singleton.
+ * An instance is immutable and belongs to exactly one test run. It is passed explicitly to the test case runner and
+ * the test cases of the run.
+ * <p>
+ * Note that test runs executed in the same process are not isolated from each other: the logging connector, the port
+ * allocator, the log file writer and the execution control are still shared by the whole process.
+ * </p>
  */
 public class TestRunPlanConfiguration {
 	private static final String CRL_OCSP_CERT_DIR_NAME = "ocsp_crl_testtool_certificates";
 	private static final String MOTIVATOR_CERT_DIR_NAME = "motivator_test_certificates";
-	private HashMap<String, GlobalConfigParameter> globalConfiguration;
-	private TestRunPlanData testRunPlanData;
-	private DUTCommandGenerator dutCallCommandGenerator;
-	private String reportDirectory;
-
-	private static TestRunPlanConfiguration singleton;
+	private final HashMap<String, GlobalConfigParameter> globalConfiguration;
+	private final TestRunPlanData testRunPlanData;
+	private final DUTCommandGenerator dutCallCommandGenerator;
+	private final String reportDirectory;
+	/**
+	 * Ports of the services listening for connections which have been leased for this test run, overriding the ports
+	 * of the global configuration.
+	 */
+	private final Map<GlobalConfigParameterNames, Integer> listenerPorts;
 
 	/**
-	 * Parse the Test Run Plan file, and combine it with the other provided information. Store as singleton instance.
+	 * Parse the Test Run Plan file, and combine it with the other provided information.
 	 * @param runPlanFile Test Run Plan file to parse
 	 * @param globalConfiguration Global Configuration to use.
 	 * @param reportDirectory The report directory to store the output in.
@@ -49,60 +60,75 @@ public class TestRunPlanConfiguration {
 	 */
 	public static TestRunPlanConfiguration parseRunPlanConfiguration(final File runPlanFile,
 			final HashMap<String, GlobalConfigParameter> globalConfiguration, final String reportDirectory) {
-		singleton = new TestRunPlanConfiguration();
-		singleton.setTestRunPlanData(RunPlanParser.parseRunPlan(runPlanFile));
-		singleton.setGlobalConfiguration(globalConfiguration);
-		singleton.setReportDirectory(reportDirectory);
-		singleton.setDUTCommandGenerator(singleton.getTestRunPlanData().getDUTApplicationType());
-
-		return singleton;
+		return new TestRunPlanConfiguration(RunPlanParser.parseRunPlan(runPlanFile), globalConfiguration,
+				reportDirectory);
 	}
 
-	/**
-	 * If a TestRunPlanConfiguration has been parsed and stored as singleton instance, get the instance.
-	 * @return singleton instance, if has been set.
-	 * @throws NullPointerException if no singleton instance has been set yet.
-	 */
-	public static TestRunPlanConfiguration getInstance() {
-		if (singleton != null) {
-			return singleton;
-		}
-		throw new NullPointerException("TestRunPlanConfiguration not initialized yet.");
-	}
-
-	private TestRunPlanConfiguration() {
-		// Empty.
+	private TestRunPlanConfiguration(final TestRunPlanData testRunPlanData,
+			final HashMap<String, GlobalConfigParameter> globalConfiguration, final String reportDirectory) {
+		this(testRunPlanData, globalConfiguration, reportDirectory, Collections.emptyMap());
 	}
 
-	private void setTestRunPlanData(final TestRunPlanData testRunPlanData) {
+	private TestRunPlanConfiguration(final TestRunPlanData testRunPlanData,
+			final HashMap<String, GlobalConfigParameter> globalConfiguration, final String reportDirectory,
+			final Map<GlobalConfigParameterNames, Integer> listenerPorts) {
 		this.testRunPlanData = testRunPlanData;
+		this.globalConfiguration = new HashMap<>(globalConfiguration);
+		this.reportDirectory = reportDirectory;
+		this.listenerPorts = listenerPorts;
+		this.dutCallCommandGenerator = createDUTCommandGenerator(testRunPlanData.getDUTApplicationType());
 	}
 
-	private void setGlobalConfiguration(final HashMap<String, GlobalConfigParameter> globalConfiguration) {
-		this.globalConfiguration = globalConfiguration;
+	/**
+	 * Returns a copy of this configuration using the given ports, which have been leased for the test run, instead of
+	 * the ports of the global configuration. The DUT call command generator and the OCSP and CRL certificates generated
+	 * for the test run use these ports as well.
+	 *
+	 * @param tlsTestToolPort the port of the TLS Test Tool when used as a server. Ignored if the port is fixed, see
+	 *        {@link #isTlsTestToolPortFixed()}.
+	 * @param ocspResponderPort the port of the OCSP Responder.
+	 * @param crlResponderPort the port of the CRL Responder.
+	 * @return the configuration of the test run using the given ports.
+	 */
+	public TestRunPlanConfiguration withListenerPorts(final int tlsTestToolPort, final int ocspResponderPort,
+			final int crlResponderPort) {
+		final var ports = new EnumMap<GlobalConfigParameterNames, Integer>(GlobalConfigParameterNames.class);
+		if (!isTlsTestToolPortFixed()) {
+			ports.put(GlobalConfigParameterNames.TlsTestToolPort, tlsTestToolPort);
+		}
+		ports.put(GlobalConfigParameterNames.OcspResponderPort, ocspResponderPort);
+		ports.put(GlobalConfigParameterNames.CrlResponderPort, crlResponderPort);
+		return new TestRunPlanConfiguration(testRunPlanData, globalConfiguration, reportDirectory,
+				Collections.unmodifiableMap(ports));
 	}
 
-	private void setReportDirectory(final String reportDirectory) {
-		this.reportDirectory = reportDirectory;
+	/**
+	 * Returns whether the TLS Test Tool port of the global configuration has to be used. This is the case if the DUT is
+	 * started with the call arguments of the global configuration, which contain the port.
+	 *
+	 * @return true, if the TLS Test Tool port cannot be replaced by a port leased for the test run.
+	 */
+	public boolean isTlsTestToolPortFixed() {
+		return dutCallCommandGenerator != null && !dutCallCommandGenerator.isTlsTestToolPortPassed();
 	}
 
-	private void setDUTCommandGenerator(final String applicationType) {
+	private DUTCommandGenerator createDUTCommandGenerator(final String applicationType) {
 		if (applicationType.equalsIgnoreCase("TR-03116-4-CLIENT")) {
-			this.dutCallCommandGenerator = new GenericClientExecutableDUTCommandGenerator(this);
+			return new GenericClientExecutableDUTCommandGenerator(this);
 		} else if (applicationType.equalsIgnoreCase("TR-03124-1-EID-CLIENT-TLS-1-2")) {
 			try {
-				this.dutCallCommandGenerator = new EIDClientTls12DUTCommandGenerator(this);
+				return new EIDClientTls12DUTCommandGenerator(this);
 			} catch (Exception e) {
 				throw new RuntimeException("Unable to instantiate DUT Command Generator", e);
 			}
 		} else if (applicationType.equalsIgnoreCase("TR-03124-1-EID-CLIENT-TLS-2")) {
 			try {
-				this.dutCallCommandGenerator = new EIDClientTls2DUTCommandGenerator(this);
+				return new EIDClientTls2DUTCommandGenerator(this);
 			} catch (Exception e) {
 				throw new RuntimeException("Unable to instantiate DUT Command Generator", e);
 			}
 		} else if (applicationType.toLowerCase().contains("server")) {
-			this.dutCallCommandGenerator = null;
+			return null;
 		} else {
 			throw new RuntimeException("Unknown ApplicationType in TestRunplan");
 		}
@@ -200,12 +226,13 @@ public class TestRunPlanConfiguration {
 	}
 
 	/**
-	 * Returns the port of the Tls Test Tool as specified in the global configuration file.
+	 * Returns the port of the Tls Test Tool of this test run. This is the port leased for the test run, see
+	 * {@link #withListenerPorts(int, int, int)}, or else the port specified in the global configuration file.
 	 *
-	 * @return port of the Tls Test Tool as specified in the global configuration file.
+	 * @return port of the Tls Test Tool of this test run.
 	 */
 	public int getTlsTestToolPort() {
-		return getGlobalConfigParameter(GlobalConfigParameterNames.TlsTestToolPort).getValueAsInteger();
+		return getListenerPort(GlobalConfigParameterNames.TlsTestToolPort);
 	}
 
 	/**
@@ -293,7 +320,7 @@ public class TestRunPlanConfiguration {
 			return null;
 		}
 		String certIntermediateFolder = "";
-		if (TlsCipherSuite.filterByName("_ECDSA_").contains(cipherSuite)) {
+		if (TlsCipherSuite.getEcdsaCipherSuites().contains(cipherSuite)) {
 			certIntermediateFolder = "certificateEcdsa";
 		} else { // Fallback to RSA in all other cases.
 			certIntermediateFolder = "certificateRsa";
@@ -400,21 +427,23 @@ public class TestRunPlanConfiguration {
 	}
 
 	/**
-	 * Returns the port of the OCSP Responder as specified in the global configuration file.
+	 * Returns the port of the OCSP Responder of this test run. This is the port leased for the test run, see
+	 * {@link #withListenerPorts(int, int, int)}, or else the port specified in the global configuration file.
 	 *
-	 * @return port of the OCSP Responder as specified in the global configuration file.
+	 * @return port of the OCSP Responder of this test run.
 	 */
 	public int getOcspResponderPort() {
-		return getGlobalConfigParameter(GlobalConfigParameterNames.OcspResponderPort).getValueAsInteger();
+		return getListenerPort(GlobalConfigParameterNames.OcspResponderPort);
 	}
 
 	/**
-	 * Returns the port of the CRL Responder as specified in the global configuration file.
+	 * Returns the port of the CRL Responder of this test run. This is the port leased for the test run, see
+	 * {@link #withListenerPorts(int, int, int)}, or else the port specified in the global configuration file.
 	 *
-	 * @return port of the CRL Responder as specified in the global configuration file.
+	 * @return port of the CRL Responder of this test run.
 	 */
 	public int getCrlResponderPort() {
-		return getGlobalConfigParameter(GlobalConfigParameterNames.CrlResponderPort).getValueAsInteger();
+		return getListenerPort(GlobalConfigParameterNames.CrlResponderPort);
 	}
 
 	/**
@@ -433,6 +462,11 @@ public class TestRunPlanConfiguration {
 	private GlobalConfigParameter getGlobalConfigParameter(final GlobalConfigParameterNames paramName) {
 		return GlobalConfigChecker.getGlobalConfigParameter(globalConfiguration, paramName);
 	}
+
+	private int getListenerPort(final GlobalConfigParameterNames paramName) {
+		final Integer leasedPort = listenerPorts.get(paramName);
+		return leasedPort != null ? leasedPort : getGlobalConfigParameter(paramName).getValueAsInteger();
+	}
 	
 	/**
 	 * Returns the timeout in seconds of DUT executable as specified in the global configuration file.
@@ -443,6 +477,27 @@ public class TestRunPlanConfiguration {
 		return getGlobalConfigParameter(GlobalConfigParameterNames.DutExecutableTimeout).getValueAsInteger();
 	}
 
+	/**
+	 * Returns the maximum number of test cases to be executed at the same time as specified in the global
+	 * configuration file.
+	 *
+	 * @return the maximum number of concurrently executed test cases, at least 1.
+	 */
+	public int getTestCaseParallelism() {
+		return Math.max(1,
+				getGlobalConfigParameter(GlobalConfigParameterNames.TestCaseParallelism).getValueAsInteger());
+	}
+
+	/**
+	 * Returns the information whether the log files of the executors shall be written gzip compressed as specified in
+	 * the global configuration file.
+	 *
+	 * @return true, if the log files of the executors are compressed, otherwise false
+	 */
+	public boolean isExecutorLogCompressionEnabled() {
+		return getGlobalConfigParameter(GlobalConfigParameterNames.CompressExecutorLogs).getValueAsBoolean();
+	}
+
 	/**
 	 * Returns the contained {@link TestRunPlanData} object.
 	 *
@@ -513,6 +568,18 @@ public class TestRunPlanConfiguration {
 		return testRunPlanData.getSupportedCipherSuites(tlsVersion);
 	}
 
+	/**
+	 * Checks whether the DUT supports the cipher suite for the specified TLS version according to Table 5 of the
+	 * TR-03116-TS ICS document.
+	 *
+	 * @param tlsVersion The TLS version the cipher suite should be applicable for.
+	 * @param cipherSuite The cipher suite to check.
+	 * @return true, if the cipher suite is supported for the specified TLS version
+	 */
+	public boolean isSupportedCipherSuite(TlsVersion tlsVersion, TlsCipherSuite cipherSuite) {
+		return testRunPlanData.isSupportedCipherSuite(tlsVersion, cipherSuite);
+	}
+
 	/**
 	 * Generates a list of all supported Elliptic Curves and DH Groups according to Table 7 of TR-03116-TS ICS document
 	 * for the specified TlsVersion.
@@ -524,6 +591,18 @@ public class TestRunPlanConfiguration {
 		return testRunPlanData.getSupportedEllipticCurvesAndFFDHE(tlsVersion);
 	}
 
+	/**
+	 * Checks whether the DUT supports the Elliptic Curve or DH Group for the specified TLS version according to Table 7
+	 * of the TR-03116-TS ICS document.
+	 *
+	 * @param tlsVersion The TLS version the group should be applicable for.
+	 * @param group The Elliptic Curve or DH Group to check.
+	 * @return true, if the group is supported for the specified TLS version
+	 */
+	public boolean isSupportedGroup(TlsVersion tlsVersion, TlsNamedCurves group) {
+		return testRunPlanData.isSupportedGroup(tlsVersion, group);
+	}
+
 	/**
 	 * Generates a list of all supported Elliptic Curves and DH Groups according to Table 7 of TR-03116-TS ICS document
 	 * for the specified TlsVersion.
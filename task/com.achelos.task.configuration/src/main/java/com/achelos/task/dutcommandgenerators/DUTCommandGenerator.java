@@ -4,4 +4,14 @@ import java.util.List;
 
 public interface DUTCommandGenerator {
     List<String> connectToServer(final boolean isSessionResumption);
+
+    /**
+     * Returns whether the generated command passes the TLS Test Tool port of the run configuration to the DUT. If not,
+     * the port is part of the call arguments of the global configuration and cannot be changed for the test run.
+     *
+     * @return true, if the DUT connects to the TLS Test Tool port of the run configuration.
+     */
+    default boolean isTlsTestToolPortPassed() {
+        return false;
+    }
 }
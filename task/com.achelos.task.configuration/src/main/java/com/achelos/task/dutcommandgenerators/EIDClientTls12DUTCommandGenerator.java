@@ -64,4 +64,9 @@ public class EIDClientTls12DUTCommandGenerator implements DUTCommandGenerator {
         // Ignore isSessionResumption.
         return this.callExecutionScript();
     }
+
+    @Override
+    public boolean isTlsTestToolPortPassed() {
+        return true;
+    }
 }
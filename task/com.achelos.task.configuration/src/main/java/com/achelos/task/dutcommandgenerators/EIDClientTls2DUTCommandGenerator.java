@@ -134,4 +134,9 @@ public class EIDClientTls2DUTCommandGenerator implements DUTCommandGenerator {
         // Ignore isSessionResumption.
         return this.callExecutionScript();
     }
+
+    @Override
+    public boolean isTlsTestToolPortPassed() {
+        return true;
+    }
 }
@@ -0,0 +1,206 @@
+package com.achelos.task.logging;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Runs independent tasks concurrently on a bounded pool of workers, each task in its own log scope of the
+ * {@link LoggingConnector}.
+ * <p>
+ * The tasks are split into lanes: tasks with the same lane key are executed one after another in the given order, each
+ * task with a null lane key gets a lane of its own. Different lanes are executed concurrently. The log entries and the
+ * outcomes of the tasks are reported in the order of the given tasks, independent of the order in which they finish.
+ * If the tasks are started within an open log scope, their log entries are passed to that scope.
+ * </p>
+ */
+public final class LogScopedTaskRunner {
+
+	private static final Runnable NO_LOG_ENTRIES = () -> { };
+
+	// Hide Constructor.
+	private LogScopedTaskRunner() {
+		// Empty.
+	}
+
+
+	/**
+	 * Run the given tasks concurrently, each in a lane of its own.
+	 *
+	 * @param <T> type of the results of the tasks
+	 * @param workerName the name prefix of the worker threads
+	 * @param parallelism the maximum number of tasks to execute at the same time
+	 * @param tasks the tasks to run, in the order to report them
+	 * @return the outcomes of the tasks, in the order of the given tasks
+	 * @throws InterruptedException if the current thread is interrupted while waiting for the tasks
+	 */
+	public static <T> List<Outcome<T>> run(final String workerName, final int parallelism,
+			final List<? extends Callable<T>> tasks) throws InterruptedException {
+		return run(workerName, parallelism, tasks, Collections.nCopies(tasks.size(), null));
+	}
+
+
+	/**
+	 * Run the given tasks concurrently in their lanes. If all tasks belong to the same lane or at most one task may be
+	 * executed at a time, the tasks are run one after another on the current thread without a log scope of their own.
+	 *
+	 * @param <T> type of the results of the tasks
+	 * @param workerName the name prefix of the worker threads
+	 * @param parallelism the maximum number of lanes to execute at the same time
+	 * @param tasks the tasks to run, in the order to report them
+	 * @param laneKeys the lane key of each task, in the order of the tasks, null for a task in a lane of its own
+	 * @return the outcomes of the tasks, in the order of the given tasks
+	 * @throws InterruptedException if the current thread is interrupted while waiting for the tasks
+	 */
+	public static <T> List<Outcome<T>> run(final String workerName, final int parallelism,
+			final List<? extends Callable<T>> tasks, final List<?> laneKeys) throws InterruptedException {
+		final List<List<Integer>> lanes = splitIntoLanes(laneKeys);
+		final List<Outcome<T>> outcomes = new ArrayList<>(tasks.size());
+		if (lanes.size() <= 1 || parallelism <= 1) {
+			for (var task : tasks) {
+				outcomes.add(call(task));
+			}
+			return outcomes;
+		}
+
+		final List<Future<Outcome<T>>> futures = new ArrayList<>(Collections.nCopies(tasks.size(), null));
+		final AtomicInteger workerCounter = new AtomicInteger();
+		final ExecutorService workers = Executors.newFixedThreadPool(Math.min(parallelism, lanes.size()), r -> {
+			final var thread = new Thread(r, workerName + "-" + workerCounter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			for (var lane : lanes) {
+				// The tasks of a lane are submitted as one job, each task is completed by the job.
+				final List<CompletableOutcome<T>> laneOutcomes = new ArrayList<>(lane.size());
+				for (int index : lane) {
+					final var outcome = new CompletableOutcome<T>(tasks.get(index));
+					laneOutcomes.add(outcome);
+					futures.set(index, outcome);
+				}
+				workers.submit(() -> laneOutcomes.forEach(CompletableOutcome::run));
+			}
+			for (var future : futures) {
+				final Outcome<T> outcome;
+				try {
+					outcome = future.get();
+				} catch (ExecutionException e) {
+					if (e.getCause() instanceof Error) {
+						throw (Error) e.getCause();
+					}
+					throw new IllegalStateException("Unable to run a task.", e.getCause());
+				}
+				outcome.logEntries.run();
+				outcomes.add(outcome);
+			}
+			return outcomes;
+		} finally {
+			workers.shutdownNow();
+		}
+	}
+
+
+	/**
+	 * @param laneKeys the lane key of each task, null for a task in a lane of its own
+	 * @return the indices of the tasks of each lane, the lanes in the order of their first task
+	 */
+	static List<List<Integer>> splitIntoLanes(final List<?> laneKeys) {
+		final LinkedHashMap<Object, List<Integer>> keyedLanes = new LinkedHashMap<>();
+		final List<List<Integer>> lanes = new ArrayList<>();
+		for (int i = 0; i < laneKeys.size(); i++) {
+			final Object key = laneKeys.get(i);
+			if (key == null) {
+				lanes.add(List.of(i));
+			} else {
+				keyedLanes.computeIfAbsent(key, k -> {
+					final List<Integer> lane = new ArrayList<>();
+					lanes.add(lane);
+					return lane;
+				}).add(i);
+			}
+		}
+		return lanes;
+	}
+
+
+	/**
+	 * Call the given task on the current thread.
+	 */
+	private static <T> Outcome<T> call(final Callable<T> task) {
+		try {
+			return new Outcome<>(task.call(), null, NO_LOG_ENTRIES);
+		} catch (Exception e) {
+			return new Outcome<>(null, e, NO_LOG_ENTRIES);
+		}
+	}
+
+
+	/**
+	 * Outcome of a task, which has either returned a result or thrown an exception.
+	 *
+	 * @param <T> type of the result of the task
+	 */
+	public static final class Outcome<T> {
+		private final T result;
+		private final Exception failure;
+		private final Runnable logEntries;
+
+		private Outcome(final T result, final Exception failure, final Runnable logEntries) {
+			this.result = result;
+			this.failure = failure;
+			this.logEntries = logEntries;
+		}
+
+		/**
+		 * @return the result of the task, or null if it has failed.
+		 */
+		public T getResult() {
+			return result;
+		}
+
+		/**
+		 * @return the exception thrown by the task, or null if it has succeeded.
+		 */
+		public Exception getFailure() {
+			return failure;
+		}
+
+		/**
+		 * @return true if the task has thrown an exception.
+		 */
+		public boolean isFailed() {
+			return failure != null;
+		}
+	}
+
+
+	/**
+	 * Task which is run in its own log scope and completes its future with its outcome.
+	 */
+	private static final class CompletableOutcome<T> extends FutureTask<Outcome<T>> {
+
+		CompletableOutcome(final Callable<T> task) {
+			super(() -> {
+				LoggingConnector.openInstanceLogScope();
+				final Outcome<T> outcome;
+				final Runnable logEntries;
+				try {
+					outcome = call(task);
+				} finally {
+					logEntries = LoggingConnector.detachInstanceLogScope();
+				}
+				return new Outcome<>(outcome.result, outcome.failure, logEntries);
+			});
+		}
+	}
+}
@@ -7,7 +7,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.TimeUnit;
 
 
 /**
@@ -19,14 +19,23 @@ public final class LoggingConnector extends BasicLogger {
 
 	private final ArrayList<LogProcessor> loggers;
 	private AbstractLogEntryChecker logEntryChecker;
+	private final InheritableThreadLocal<LogScope> logScope;
+	private final Object dispatchLock;
 
 	private static LoggingConnector instance;
 
+	/**
+	 * Maximum number of log entries passed to a nested logger per wake-up of its processor thread.
+	 */
+	private static final int MAXIMUM_BATCH_SIZE = 256;
+
 	/**
 	 * Constructor hider.
 	 */
 	private LoggingConnector() {
 		loggers = new ArrayList<>();
+		logScope = new InheritableThreadLocal<>();
+		dispatchLock = new Object();
 	}
 
 
@@ -81,7 +90,47 @@ public final class LoggingConnector extends BasicLogger {
 
 
 	/**
-	 * Stop registered logger (threads).<br />
+	 * Wait until all log entries distributed before this call have been passed to the registered loggers.
+	 *
+	 * @param timeoutMilliseconds the maximum time to wait in milliseconds
+	 * @return true if all log entries have been passed, false if the timeout elapsed or the calling thread has been
+	 *         interrupted before.
+	 */
+	public boolean drain(final long timeoutMilliseconds) {
+		final List<LogProcessor> processors;
+		final long[] targets;
+		synchronized (dispatchLock) {
+			processors = new ArrayList<>(loggers);
+			targets = new long[processors.size()];
+			for (int i = 0; i < targets.length; i++) {
+				targets[i] = processors.get(i).getAddedEntries();
+			}
+		}
+		final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMilliseconds);
+		try {
+			for (int i = 0; i < targets.length; i++) {
+				if (!processors.get(i).awaitProcessed(targets[i], deadline)) {
+					return false;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Wait until all log entries distributed before this call have been passed to the registered loggers.
+	 *
+	 * @see #drain(long)
+	 */
+	public void flush() {
+		drain(Long.MAX_VALUE / 2);
+	}
+
+	/**
+	 * Stop registered logger (threads). Log entries queued before are still passed to the loggers.<br />
 	 */
 	private void internalStop() {
 		for (LogProcessor lp : loggers) {
@@ -193,12 +242,14 @@ public final class LoggingConnector extends BasicLogger {
 	@Override
 	public void log(final long timestamp, final long lvl, final String log, final Throwable t) {
 		LogEntry entry = new LogEntry(timestamp, lvl, log, t);
-		if (null != logEntryChecker) {
-			entry = logEntryChecker.updateErrorsAndWarnings(entry);
+		final LogScope scope = logScope.get();
+		final AbstractLogEntryChecker checker = getCurrentLogEntryChecker(scope);
+		if (null != checker) {
+			entry = checker.updateErrorsAndWarnings(entry);
 		}
 
-		for (LogProcessor lp : loggers) {
-			lp.add(entry);
+		if (null == scope || !scope.collect(entry)) {
+			dispatch(entry);
 		}
 	}
 
@@ -211,16 +262,144 @@ public final class LoggingConnector extends BasicLogger {
 	@Override
 	public void tellLogger(final String topic, final Object value) {
 		TellLoggerEntry entry = new TellLoggerEntry(topic, value);
-		if (null != logEntryChecker) {
-			entry = logEntryChecker.resetLogEntryChecker(entry);
+		final LogScope scope = logScope.get();
+		final AbstractLogEntryChecker checker = getCurrentLogEntryChecker(scope);
+		if (null != checker) {
+			entry = checker.resetLogEntryChecker(entry);
 		}
 
-		for (LogProcessor lp : loggers) {
-			lp.add(entry);
+		if (null == scope || !scope.collect(entry)) {
+			dispatch(entry);
+		}
+	}
+
+
+	/**
+	 * Pass the given entry to all registered loggers.
+	 *
+	 * @param entry the entry to distribute
+	 */
+	private void dispatch(final AbstractLoggingEntry entry) {
+		synchronized (dispatchLock) {
+			for (LogProcessor lp : loggers) {
+				lp.add(entry);
+			}
+		}
+	}
+
+
+	/**
+	 * @param scope the log scope of the calling thread or null
+	 * @return the log entry checker of the given scope if it is open, the globally registered checker otherwise.
+	 */
+	private AbstractLogEntryChecker getCurrentLogEntryChecker(final LogScope scope) {
+		if (null != scope && scope.isOpen()) {
+			return scope.getLogEntryChecker();
+		}
+		return logEntryChecker;
+	}
+
+
+	/**
+	 * Open a log scope for the current thread. Until the scope is closed, all entries logged by the current thread
+	 * and by the threads it starts are collected instead of being distributed. A log entry checker registered while
+	 * the scope is open only applies to the entries of this scope.<br>
+	 * This allows test cases to be executed concurrently without interleaving their log entries.<br>
+	 * If the current thread has been started within the open log scope of another thread, the new scope is nested in
+	 * that scope, i.e. its entries are passed to the enclosing scope when it is closed.
+	 *
+	 * @throws IllegalStateException if a log scope is already open for the current thread
+	 */
+	private void openLogScope() {
+		final LogScope scope = logScope.get();
+		final boolean inherited = null != scope && scope.isOpen();
+		if (inherited && scope.isOwnedByCurrentThread()) {
+			throw new IllegalStateException("A log scope is already open for the current thread!");
+		}
+		logScope.set(new LogScope(inherited ? scope : null));
+	}
+
+	/**
+	 * Open a log scope for the current thread.
+	 *
+	 * @throws IllegalStateException if a log scope is already open for the current thread
+	 * @see #closeInstanceLogScope()
+	 */
+	public static void openInstanceLogScope() {
+		if (instance != null) {
+			instance.openLogScope();
+		}
+	}
+
+
+	/**
+	 * Close the log scope of the current thread and distribute all collected entries as one contiguous block.
+	 * Entries logged afterwards by threads started within the scope are distributed directly.
+	 */
+	private void closeLogScope() {
+		detachLogScope().run();
+	}
+
+
+	/**
+	 * Close the log scope of the current thread without distributing the collected entries yet. If the closed scope is
+	 * nested, the enclosing scope applies to the current thread again, so that a scope opened afterwards by the same
+	 * thread, e.g. a pooled worker, is nested in it as well.
+	 *
+	 * @return a runnable which distributes the collected entries as one contiguous block when it is run, or passes them
+	 *         to the enclosing scope if the closed scope is nested and the enclosing scope is still open.
+	 */
+	private Runnable detachLogScope() {
+		final LogScope scope = logScope.get();
+		if (null == scope) {
+			return () -> { };
+		}
+		if (null != scope.parent) {
+			logScope.set(scope.parent);
+		} else {
+			logScope.remove();
+		}
+		final List<AbstractLoggingEntry> entries = scope.close();
+		return () -> {
+			if (null != scope.parent && scope.parent.collectAll(entries)) {
+				return;
+			}
+			synchronized (dispatchLock) {
+				for (var entry : entries) {
+					dispatch(entry);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Close the log scope of the current thread and distribute all collected entries as one contiguous block.
+	 *
+	 * @see #openInstanceLogScope()
+	 */
+	public static void closeInstanceLogScope() {
+		if (instance != null) {
+			instance.closeLogScope();
 		}
 	}
 
 
+	/**
+	 * Close the log scope of the current thread and defer the distribution of the collected entries. This allows jobs
+	 * executed concurrently in their own log scopes to be reported in a deterministic order, by running the returned
+	 * runnables in that order.
+	 *
+	 * @return a runnable which distributes the collected entries as one contiguous block when it is run.
+	 * @see #openInstanceLogScope()
+	 */
+	public static Runnable detachInstanceLogScope() {
+		if (instance != null) {
+			return instance.detachLogScope();
+		}
+		return () -> { };
+	}
+
+
 	/**
 	 * Gets the instance of logging connector, Creates new if null.
 	 *
@@ -253,6 +432,11 @@ public final class LoggingConnector extends BasicLogger {
 	 * @throws IllegalStateException if a logging checker is already registered
 	 */
 	private void setLogEntryChecker(final AbstractLogEntryChecker logEntryChecker) {
+		final LogScope scope = logScope.get();
+		if (null != scope && scope.isOpen()) {
+			scope.setLogEntryChecker(logEntryChecker);
+			return;
+		}
 		if (null != this.logEntryChecker) {
 			throw new IllegalStateException("A log entry checker instance is already set!");
 		}
@@ -279,6 +463,11 @@ public final class LoggingConnector extends BasicLogger {
 	 * @throws IllegalStateException if the given logging checker is not the registered one
 	 */
 	private void resetLogEntryChecker(final AbstractLogEntryChecker lEChecker) {
+		final LogScope scope = logScope.get();
+		if (null != scope && scope.isOpen()) {
+			scope.resetLogEntryChecker(lEChecker);
+			return;
+		}
 		if (lEChecker != logEntryChecker) {
 			throw new IllegalStateException(
 					"The logging checker is not the current checker and cannot be deregistered!");
@@ -395,6 +584,99 @@ public final class LoggingConnector extends BasicLogger {
 		}
 	}
 
+	/**
+	 * Entries and log entry checker of a thread (and the threads it started) while its log scope is open.
+	 */
+	private static final class LogScope {
+		private final List<AbstractLoggingEntry> entries = new ArrayList<>();
+		private final Thread owner = Thread.currentThread();
+		/**
+		 * The enclosing scope of another thread, or null.
+		 */
+		private final LogScope parent;
+		private AbstractLogEntryChecker logEntryChecker;
+		private boolean open = true;
+
+		/**
+		 * @param parent the enclosing scope, or null
+		 */
+		LogScope(final LogScope parent) {
+			this.parent = parent;
+		}
+
+		/**
+		 * @param entry the entry to collect
+		 * @return true if the entry has been collected, false if the scope is already closed.
+		 */
+		synchronized boolean collect(final AbstractLoggingEntry entry) {
+			if (!open) {
+				return false;
+			}
+			entries.add(entry);
+			return true;
+		}
+
+		/**
+		 * @param collected the entries to collect, in their order
+		 * @return true if the entries have been collected, false if the scope is already closed.
+		 */
+		synchronized boolean collectAll(final List<AbstractLoggingEntry> collected) {
+			if (!open) {
+				return false;
+			}
+			entries.addAll(collected);
+			return true;
+		}
+
+		/**
+		 * @return true if the scope has been opened by the current thread.
+		 */
+		boolean isOwnedByCurrentThread() {
+			return owner == Thread.currentThread();
+		}
+
+		/**
+		 * @return the entries collected until now. No further entries are collected afterwards.
+		 */
+		synchronized List<AbstractLoggingEntry> close() {
+			open = false;
+			return entries;
+		}
+
+		synchronized boolean isOpen() {
+			return open;
+		}
+
+		/**
+		 * @return the log entry checker of this scope, or the one of the enclosing scope if none has been set.
+		 */
+		synchronized AbstractLogEntryChecker getLogEntryChecker() {
+			if (null == logEntryChecker && null != parent && parent.isOpen()) {
+				return parent.getLogEntryChecker();
+			}
+			return logEntryChecker;
+		}
+
+		synchronized void setLogEntryChecker(final AbstractLogEntryChecker checker) {
+			if (null != logEntryChecker) {
+				throw new IllegalStateException("A log entry checker instance is already set!");
+			}
+			logEntryChecker = checker;
+		}
+
+		synchronized void resetLogEntryChecker(final AbstractLogEntryChecker checker) {
+			if (null == logEntryChecker && null != parent && parent.isOpen()) {
+				parent.resetLogEntryChecker(checker);
+				return;
+			}
+			if (checker != logEntryChecker) {
+				throw new IllegalStateException(
+						"The logging checker is not the current checker and cannot be deregistered!");
+			}
+			logEntryChecker = null;
+		}
+	}
+
 	/**
 	 * {@link BasicLogger} wrapper which is responsible for synchronous or asynchronous processing of the log entries.
 	 */
@@ -402,7 +684,12 @@ public final class LoggingConnector extends BasicLogger {
 		private final BasicLogger nestedLogger;
 		private final BlockingQueue<AbstractLoggingEntry> logs;
 		private volatile boolean isEnabled;
-		private final AtomicBoolean isIdle = new AtomicBoolean(true);
+		/**
+		 * Number of log entries added to and processed from the queue, guarded by {@link #progressLock}.
+		 */
+		private final Object progressLock = new Object();
+		private long addedEntries = 0;
+		private long processedEntries = 0;
 
 		/**
 		 * @param nestedLogger the nested logger
@@ -421,10 +708,42 @@ public final class LoggingConnector extends BasicLogger {
 		 * @param le log entry to process
 		 */
 		void add(final AbstractLoggingEntry le) {
-			isIdle.set(false);
+			synchronized (progressLock) {
+				addedEntries++;
+			}
 			logs.add(le);
 		}
 
+		/**
+		 * @return the number of log entries added so far.
+		 */
+		long getAddedEntries() {
+			synchronized (progressLock) {
+				return addedEntries;
+			}
+		}
+
+		/**
+		 * Wait until the given number of log entries has been processed or the processor thread has terminated.
+		 *
+		 * @param entries the number of log entries to wait for
+		 * @param deadline the {@link System#nanoTime()} until which to wait at most
+		 * @return true if the log entries have been processed, false if the deadline has passed before.
+		 * @throws InterruptedException if the calling thread has been interrupted.
+		 */
+		boolean awaitProcessed(final long entries, final long deadline) throws InterruptedException {
+			synchronized (progressLock) {
+				while (processedEntries < entries && isAlive()) {
+					final long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+					if (remaining <= 0) {
+						return false;
+					}
+					progressLock.wait(remaining);
+				}
+				return processedEntries >= entries || logs.isEmpty();
+			}
+		}
+
 		/**
 		 * Stops the processor tread.
 		 */
@@ -457,17 +776,33 @@ public final class LoggingConnector extends BasicLogger {
 
 		@Override
 		public void run() {
-			while (isEnabled) {
+			final List<AbstractLoggingEntry> batch = new ArrayList<>(MAXIMUM_BATCH_SIZE);
+			while (isEnabled || !logs.isEmpty()) {
 				try {
-					isIdle.set(logs.isEmpty());
-					// Remove the proceed entry from the queue, wait till it gets new entries if empty
-					AbstractLoggingEntry entry = logs.take();
-					isIdle.set(false);
-					processLogEntry(entry);
+					// Wait till the queue gets new entries if empty, then remove all queued entries at once
+					if (isEnabled) {
+						batch.add(logs.take());
+					}
+					logs.drainTo(batch, MAXIMUM_BATCH_SIZE - batch.size());
 				} catch (InterruptedException e) {
 					// Next, check the loop condition
+					continue;
+				}
+				try {
+					for (final AbstractLoggingEntry entry : batch) {
+						processLogEntry(entry);
+					}
+				} finally {
+					synchronized (progressLock) {
+						processedEntries += batch.size();
+						progressLock.notifyAll();
+					}
+					batch.clear();
 				}
 			}
+			synchronized (progressLock) {
+				progressLock.notifyAll();
+			}
 		}
 	}
 
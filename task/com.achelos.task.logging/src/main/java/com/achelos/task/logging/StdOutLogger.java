@@ -2,8 +2,6 @@ package com.achelos.task.logging;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.text.SimpleDateFormat;
-import java.util.Date;
 
 import com.achelos.task.utilities.DateTimeUtils;
 
@@ -12,8 +10,6 @@ import com.achelos.task.utilities.DateTimeUtils;
  * This logger prints messages to standard out.
  */
 class StdOutLogger extends BasicLogger {
-	private final SimpleDateFormat dateFormat = new SimpleDateFormat(
-			DateTimeUtils.ISO_8601_DATE_TIME_PATTERN_MILLISECONDS);
 
 	@Override
 	public final void log(final long timestamp, final long lvl, final String log, final Throwable t) {
@@ -24,12 +20,12 @@ class StdOutLogger extends BasicLogger {
 
 		if ("INFO".equals(verbosity) && lvl != DEBUG || "VERBOSE".equals(verbosity)) {
 
-			System.out.println(dateFormat.format(new Date(timestamp)) + " " + BasicLogger.getName(lvl) + " MSG: "
-					+ newLog + (null == t ? "" : " EXC:" + t.getMessage()));
+			System.out.println(DateTimeUtils.formatEpochMillisecondsWithMilliseconds(timestamp) + " "
+					+ BasicLogger.getName(lvl) + " MSG: " + newLog + (null == t ? "" : " EXC:" + t.getMessage()));
 
 		} else if (LoggingConnector.getInstance().getLogVerbosity().equals("DEBUG") || "VERBOSE".equals(verbosity)) {
-			System.out.println(dateFormat.format(new Date(timestamp)) + " " + BasicLogger.getName(lvl) + " MSG: "
-					+ newLog + (null == t ? "" : " EXC:" + getStacktraceAsString(t)));
+			System.out.println(DateTimeUtils.formatEpochMillisecondsWithMilliseconds(timestamp) + " "
+					+ BasicLogger.getName(lvl) + " MSG: " + newLog + (null == t ? "" : " EXC:" + getStacktraceAsString(t)));
 		}
 	}
 
@@ -0,0 +1,181 @@
+package logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.achelos.task.logging.BasicLogger;
+import com.achelos.task.logging.LogScopedTaskRunner;
+import com.achelos.task.logging.LoggingConnector;
+
+
+class TestLogScopedTaskRunner {
+
+	private static final long TIMEOUT_SECONDS = 10;
+	private static final List<String> CHECKS = List.of("TLS_CERT_01", "TLS_CERT_02", "TLS_CERT_03", "TLS_CERT_04",
+			"TLS_CERT_05", "TLS_CERT_06", "TLS_CERT_07", "TLS_CERT_08", "TLS_CERT_09", "TLS_CERT_10", "TLS_CERT_11",
+			"TLS_CERT_12");
+
+	private RecordingLogger recorder;
+
+	@BeforeEach
+	void addRecorder() {
+		LoggingConnector.getInstance("DEBUG");
+		recorder = new RecordingLogger();
+		LoggingConnector.addLogger(List.of(recorder));
+	}
+
+	@AfterEach
+	void removeRecorder() {
+		LoggingConnector.removeLogger(recorder);
+	}
+
+	@Test
+	void testResultsAndLogEntriesAreReportedInOrder() throws InterruptedException {
+		var logger = LoggingConnector.getInstance();
+		var tasks = new ArrayList<Callable<String>>();
+		for (int i = 0; i < CHECKS.size(); i++) {
+			var check = CHECKS.get(i);
+			// The first checks take the longest, so they finish last.
+			var duration = 5L * (CHECKS.size() - i);
+			tasks.add(() -> {
+				logger.info(check + " started");
+				Thread.sleep(duration);
+				logger.info(check + " finished");
+				return check;
+			});
+		}
+
+		var outcomes = LogScopedTaskRunner.run("TestWorker", 4, tasks);
+		logger.flush();
+
+		var results = new ArrayList<String>();
+		outcomes.forEach(outcome -> results.add(outcome.getResult()));
+		var expectedMessages = new ArrayList<String>();
+		CHECKS.forEach(check -> expectedMessages.addAll(List.of(check + " started", check + " finished")));
+		assertEquals(CHECKS, results);
+		assertEquals(expectedMessages, recorder.getMessages());
+	}
+
+	@Test
+	void testNestedScopeIsRestoredWhenTaskThrows() throws InterruptedException {
+		var logger = LoggingConnector.getInstance();
+		var failure = new IllegalStateException("TLS_CERT_02 failed");
+		var tasks = new ArrayList<Callable<String>>();
+		for (var check : CHECKS.subList(0, 6)) {
+			tasks.add(() -> {
+				logger.info(check);
+				if (failure.getMessage().startsWith(check)) {
+					throw failure;
+				}
+				return check;
+			});
+		}
+
+		LoggingConnector.openInstanceLogScope();
+		List<LogScopedTaskRunner.Outcome<String>> outcomes;
+		try {
+			logger.info("before");
+			// Two workers for six tasks, so each worker opens a scope again after a task has thrown.
+			outcomes = LogScopedTaskRunner.run("TestWorker", 2, tasks);
+			logger.info("after");
+			logger.flush();
+			assertTrue(recorder.getMessages().isEmpty(), "Log entries escaped the enclosing log scope.");
+		} finally {
+			LoggingConnector.closeInstanceLogScope();
+		}
+		logger.info("outside");
+		logger.flush();
+
+		assertSame(failure, outcomes.get(1).getFailure());
+		assertFalse(outcomes.get(2).isFailed());
+		assertEquals(List.of("before", "TLS_CERT_01", "TLS_CERT_02", "TLS_CERT_03", "TLS_CERT_04", "TLS_CERT_05",
+				"TLS_CERT_06", "after", "outside"), recorder.getMessages());
+	}
+
+	@Test
+	void testTasksWithoutLaneOverlap() throws InterruptedException {
+		var barrier = new CyclicBarrier(2);
+		var overlapping = Collections.synchronizedList(new ArrayList<String>());
+		var tasks = new ArrayList<Callable<Object>>();
+		for (int i = 0; i < 2; i++) {
+			tasks.add(() -> {
+				// Only passes if the other task is executed at the same time.
+				barrier.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+				overlapping.add(Thread.currentThread().getName());
+				return null;
+			});
+		}
+
+		var outcomes = LogScopedTaskRunner.run("TestWorker", 2, tasks, Arrays.asList(null, null));
+
+		assertFalse(outcomes.get(0).isFailed(), "Tasks without lane are not executed concurrently.");
+		assertEquals(2, overlapping.size(), "Tasks without lane are not executed concurrently.");
+		assertNotEquals(overlapping.get(0), overlapping.get(1), "Both tasks are executed by the same worker.");
+	}
+
+	@Test
+	void testTasksOfOneLaneRunInOrder() throws InterruptedException {
+		var laneKeys = Arrays.asList("DUT", null, "DUT", "DUT");
+		var running = new AtomicInteger();
+		var maximumRunning = new AtomicInteger();
+		var order = Collections.synchronizedList(new ArrayList<Integer>());
+		var tasks = new ArrayList<Callable<Object>>();
+		for (int i = 0; i < laneKeys.size(); i++) {
+			var index = i;
+			var isInLane = laneKeys.get(i) != null;
+			tasks.add(() -> {
+				if (!isInLane) {
+					return null;
+				}
+				maximumRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+				Thread.sleep(20);
+				order.add(index);
+				running.decrementAndGet();
+				return null;
+			});
+		}
+
+		LogScopedTaskRunner.run("TestWorker", laneKeys.size(), tasks, laneKeys);
+
+		assertEquals(1, maximumRunning.get(), "Tasks of the same lane are executed concurrently.");
+		assertEquals(List.of(0, 2, 3), order, "Tasks of the same lane are not executed in order.");
+	}
+
+
+	/**
+	 * Logger recording the messages of all log entries.
+	 */
+	private static final class RecordingLogger extends BasicLogger {
+		private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+
+		@Override
+		public void log(final long timestamp, final long lvl, final String log, final Throwable t) {
+			messages.add(log);
+		}
+
+		@Override
+		public void tellLogger(final String topic, final Object value) {
+			// Not recorded.
+		}
+
+		List<String> getMessages() {
+			return new ArrayList<>(messages);
+		}
+	}
+}
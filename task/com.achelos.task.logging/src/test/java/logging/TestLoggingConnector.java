@@ -0,0 +1,159 @@
+package logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.achelos.task.logging.BasicLogger;
+import com.achelos.task.logging.LoggingConnector;
+
+
+class TestLoggingConnector {
+
+	private static final long TIMEOUT_MILLISECONDS = 10000;
+	private static final long CHILD_TIMEOUT_SECONDS = 60;
+	/**
+	 * More log entries than passed to a logger at once, so they are passed in several batches.
+	 */
+	private static final int ENTRY_COUNT = 1000;
+
+	private GatedLogger recorder;
+
+	@BeforeEach
+	void addRecorder() {
+		LoggingConnector.getInstance("DEBUG");
+		recorder = new GatedLogger();
+		LoggingConnector.addLogger(List.of(recorder));
+	}
+
+	@AfterEach
+	void removeRecorder() {
+		recorder.open();
+		LoggingConnector.removeLogger(recorder);
+	}
+
+	@Test
+	void testFlushPassesAllEntriesInOrder() {
+		var logger = LoggingConnector.getInstance();
+		var expectedMessages = new ArrayList<String>();
+		// The entries are queued while the logger is blocked, so they are taken from the queue in batches.
+		for (int i = 0; i < ENTRY_COUNT; i++) {
+			expectedMessages.add("entry " + i);
+			logger.debug("entry " + i);
+		}
+		recorder.open();
+		logger.flush();
+
+		assertEquals(expectedMessages, recorder.getMessages());
+	}
+
+	@Test
+	void testDrainTimesOutWhileLoggerIsBlocked() {
+		var logger = LoggingConnector.getInstance();
+		logger.debug("blocked entry");
+
+		assertFalse(logger.drain(50));
+
+		recorder.open();
+		assertTrue(logger.drain(TIMEOUT_MILLISECONDS));
+		assertEquals(List.of("blocked entry"), recorder.getMessages());
+		// Nothing has been logged since, so there is nothing to wait for.
+		assertTrue(logger.drain(0));
+	}
+
+	@Test
+	void testDrainReturnsWhenInterrupted() {
+		var logger = LoggingConnector.getInstance();
+		logger.debug("blocked entry");
+
+		Thread.currentThread().interrupt();
+		var drained = logger.drain(TIMEOUT_MILLISECONDS);
+
+		assertTrue(Thread.interrupted(), "The interrupt status has not been restored.");
+		assertFalse(drained);
+	}
+
+	@Test
+	void testDrainAfterStop() throws Exception {
+		// Stopping affects all loggers of the connector singleton, so it is done by a process of its own.
+		var java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+		var process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+				StopProcess.class.getName()).redirectOutput(ProcessBuilder.Redirect.DISCARD).start();
+		assertTrue(process.waitFor(CHILD_TIMEOUT_SECONDS, TimeUnit.SECONDS), "The child process did not terminate.");
+		var errors = new String(process.getErrorStream().readAllBytes(), StandardCharsets.UTF_8);
+
+		assertEquals(0, process.exitValue(), errors);
+	}
+
+	/**
+	 * Logs entries while its logger is blocked, stops the connector and checks that the entries queued before are
+	 * still passed to the logger when draining.
+	 */
+	static final class StopProcess {
+
+		public static void main(final String[] args) {
+			var logger = LoggingConnector.getInstance("DEBUG");
+			var recorder = new GatedLogger();
+			LoggingConnector.addLogger(List.of(recorder));
+			for (int i = 0; i < ENTRY_COUNT; i++) {
+				logger.debug("entry " + i);
+			}
+
+			LoggingConnector.stop();
+			recorder.open();
+			var drained = logger.drain(TIMEOUT_MILLISECONDS);
+
+			var messages = recorder.getMessages();
+			var lastMessage = "entry " + (ENTRY_COUNT - 1);
+			if (!drained || messages.size() != ENTRY_COUNT || !lastMessage.equals(messages.get(ENTRY_COUNT - 1))) {
+				System.err.println("Drained: " + drained + ", passed entries: " + messages.size());
+				System.exit(1);
+			}
+			System.exit(0);
+		}
+	}
+
+	/**
+	 * Records the messages of the log entries, but blocks until it is opened.
+	 */
+	private static final class GatedLogger extends BasicLogger {
+		private final CountDownLatch gate = new CountDownLatch(1);
+		private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+
+		@Override
+		public void log(final long timestamp, final long lvl, final String log, final Throwable t) {
+			try {
+				gate.await();
+			} catch (InterruptedException e) {
+				// Stopping the logger interrupts it, the entry is recorded nevertheless.
+				Thread.currentThread().interrupt();
+			}
+			messages.add(log);
+		}
+
+		@Override
+		public void tellLogger(final String topic, final Object value) {
+			// Not recorded.
+		}
+
+		void open() {
+			gate.countDown();
+		}
+
+		List<String> getMessages() {
+			return new ArrayList<>(messages);
+		}
+	}
+}
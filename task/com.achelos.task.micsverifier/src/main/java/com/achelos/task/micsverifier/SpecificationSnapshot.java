@@ -0,0 +1,366 @@
+package com.achelos.task.micsverifier;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.achelos.task.commons.tools.StringTools;
+import com.achelos.task.configuration.MICSConfiguration;
+import com.achelos.task.logging.LoggingConnector;
+import com.achelos.task.utilities.FileUtils;
+import com.achelos.task.xmlparser.configparsing.ConfigParser;
+import com.achelos.task.xmlparser.datastructures.configuration.GlobalConfigParameter;
+
+
+/**
+ * Snapshots of the parsed specification and configuration files, which are reused instead of parsing the XML files
+ * again.
+ * <p>
+ * A snapshot is identified by the fingerprints of all files it has been parsed from, calculated by
+ * {@link FileUtils#getFileFingerprint(File)}. It is reused within the process until one of these files changes. If a
+ * snapshot directory is given, the parsed {@link MICSConfiguration} is additionally persisted there in the Java
+ * serialization format, so that the next process loads it instead of parsing the specifications. Persisted snapshots
+ * may only contain the TaSK data structures and the JDK types they consist of; other classes are rejected on loading.
+ * A persisted snapshot is only loaded by a TaSK build with the same {@link #FORMAT_IDENTITY}, because the persisted
+ * classes all share the same serialVersionUID.
+ * </p>
+ */
+public final class SpecificationSnapshot {
+
+	/**
+	 * Version of the persisted format. It has to be incremented whenever a persisted data structure changes.
+	 */
+	static final int FORMAT_VERSION = 1;
+	/**
+	 * Identity of the persisted format, consisting of the {@link #FORMAT_VERSION}, the implementation version of TaSK
+	 * and the structure of the persisted classes. A snapshot persisted with another identity is parsed again.
+	 */
+	static final String FORMAT_IDENTITY = formatIdentity(MICSConfiguration.class);
+	private static final String TASK_PACKAGE_PREFIX = "com.achelos.task.";
+
+	private static final String SNAPSHOT_FILE_PREFIX = "specification-snapshot-";
+	private static final String SNAPSHOT_FILE_SUFFIX = ".bin";
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final ObjectInputFilter SNAPSHOT_FILTER = ObjectInputFilter.Config.createFilter(
+			"maxdepth=32;com.achelos.task.**;java.lang.*;java.util.*;java.math.*;java.time.*;!*");
+
+	/**
+	 * Parsed configurations by the paths of the files they have been parsed from.
+	 */
+	private static final Map<String, Snapshot<MICSConfiguration>> CONFIGURATIONS = new ConcurrentHashMap<>();
+	private static final Map<String, Snapshot<HashMap<String, GlobalConfigParameter>>> GLOBAL_CONFIGURATIONS
+			= new ConcurrentHashMap<>();
+
+	private static final String LOGGER_COMPONENT = "TaSK: ";
+
+	/**
+	 * Prevent instantiation.
+	 */
+	private SpecificationSnapshot() {}
+
+
+	/**
+	 * Parse a Global Config XML file, unless it has already been parsed and not changed since.
+	 *
+	 * @param globalConfig GlobalConfig XML file
+	 * @return a map of internal data structure representation of configurations, which may be modified by the caller
+	 * @see ConfigParser#parseGlobalConfig(File)
+	 */
+	public static HashMap<String, GlobalConfigParameter> parseGlobalConfig(final File globalConfig) {
+		final String identity = globalConfig.getAbsolutePath();
+		final String fingerprint = fingerprint(List.of(globalConfig));
+		var snapshot = GLOBAL_CONFIGURATIONS.get(identity);
+		if (snapshot == null || !snapshot.fingerprint.equals(fingerprint)) {
+			snapshot = new Snapshot<>(fingerprint, ConfigParser.parseGlobalConfig(globalConfig));
+			GLOBAL_CONFIGURATIONS.put(identity, snapshot);
+		}
+		return new HashMap<>(snapshot.value);
+	}
+
+
+	/**
+	 * Return the MICS configuration parsed from the given files. It is taken from the snapshot held in memory or
+	 * persisted in the snapshot directory, if one of them has been created from the current content of the files.
+	 * Otherwise the files are parsed and the snapshots are replaced.
+	 *
+	 * @param applicationSpecifications A list of Application Specification Files.
+	 * @param applicationProfilesMappings A list of Application Profile Mappings.
+	 * @param testCasesDir A directory, in which the TestCases Specification XMLs are present.
+	 * @param testProfiles The Test Profiles File to use.
+	 * @param globalConfig The Global Configuration File to use.
+	 * @param tlsConfigData The TLS Configuration Data File to use.
+	 * @param snapshotDirectory The directory to persist the snapshot in, or null to keep it in memory only.
+	 * @return the MICS configuration, which must not be modified, because it is shared.
+	 * @see MICSConfiguration#initializeConfiguration(List, List, File, File, File, File)
+	 */
+	public static MICSConfiguration loadConfiguration(final List<File> applicationSpecifications,
+			final List<File> applicationProfilesMappings, final File testCasesDir, final File testProfiles,
+			final File globalConfig, final File tlsConfigData, final File snapshotDirectory) {
+		final var logger = LoggingConnector.getInstance();
+
+		final var givenFiles = new ArrayList<File>(applicationSpecifications);
+		givenFiles.addAll(applicationProfilesMappings);
+		givenFiles.add(testCasesDir);
+		givenFiles.add(testProfiles);
+		givenFiles.add(globalConfig);
+		givenFiles.add(tlsConfigData);
+		final var identity = new StringBuilder();
+		for (final File file : givenFiles) {
+			identity.append(file.getAbsolutePath()).append(File.pathSeparatorChar);
+		}
+
+		final var inputFiles = new ArrayList<>(givenFiles);
+		inputFiles.remove(testCasesDir);
+		collectTestCaseFiles(testCasesDir, inputFiles);
+		final String fingerprint = fingerprint(inputFiles);
+
+		final var snapshot = CONFIGURATIONS.get(identity.toString());
+		if (snapshot != null && snapshot.fingerprint.equals(fingerprint)) {
+			logger.debug(LOGGER_COMPONENT + "Reusing the parsed specifications.");
+			return snapshot.value;
+		}
+
+		File snapshotFile = null;
+		MICSConfiguration configuration = null;
+		if (snapshotDirectory != null) {
+			snapshotFile = new File(snapshotDirectory,
+					SNAPSHOT_FILE_PREFIX + digest(identity.toString().getBytes(StandardCharsets.UTF_8))
+							+ SNAPSHOT_FILE_SUFFIX);
+			configuration = readSnapshot(snapshotFile, fingerprint);
+			if (configuration != null) {
+				logger.debug(LOGGER_COMPONENT + "Loaded the parsed specifications from the snapshot "
+						+ snapshotFile.getAbsolutePath() + ".");
+			}
+		}
+		if (configuration == null) {
+			configuration = MICSConfiguration.initializeConfiguration(applicationSpecifications,
+					applicationProfilesMappings, testCasesDir, testProfiles, globalConfig, tlsConfigData);
+			if (snapshotFile != null) {
+				writeSnapshot(snapshotFile, fingerprint, configuration);
+			}
+		}
+		CONFIGURATIONS.put(identity.toString(), new Snapshot<>(fingerprint, configuration));
+		return configuration;
+	}
+
+
+	/**
+	 * Forget the snapshots held in memory. Persisted snapshots are kept.
+	 */
+	public static void clear() {
+		CONFIGURATIONS.clear();
+		GLOBAL_CONFIGURATIONS.clear();
+	}
+
+
+	/**
+	 * Collect the files which are parsed by {@link ConfigParser#parseTestCases(File)}.
+	 */
+	private static void collectTestCaseFiles(final File directoryPath, final List<File> files) {
+		if (!directoryPath.isDirectory()) {
+			files.add(directoryPath);
+			return;
+		}
+		final FileFilter fileFilter = pathname -> pathname.isDirectory() || pathname.getName().endsWith(".xml");
+		final var fileList = directoryPath.listFiles(fileFilter);
+		if (fileList == null) {
+			return;
+		}
+		// The names are part of the fingerprint, so they are sorted independently of the file system.
+		Arrays.sort(fileList, Comparator.comparing(File::getName));
+		for (final File file : fileList) {
+			collectTestCaseFiles(file, files);
+		}
+	}
+
+
+	/**
+	 * @return the combined fingerprint of the paths and contents of the given files.
+	 */
+	private static String fingerprint(final List<File> files) {
+		final var digest = sha256();
+		for (final File file : files) {
+			digest.update(file.getAbsolutePath().getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+			digest.update(FileUtils.getFileFingerprint(file));
+		}
+		return StringTools.toHexString(digest.digest());
+	}
+
+
+	/**
+	 * @return the identity of the format persisting the given class.
+	 */
+	private static String formatIdentity(final Class<?> persistedClass) {
+		final var identity = new StringBuilder();
+		identity.append(FORMAT_VERSION).append('\n');
+		identity.append(SpecificationSnapshot.class.getPackage().getImplementationVersion()).append('\n');
+		appendClassStructure(persistedClass, new HashSet<>(), identity);
+		return digest(identity.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+
+	/**
+	 * Append the names and types of the serialized fields of the given type and of all TaSK classes it refers to. The
+	 * enum constants are appended instead, because enums are serialized by the names of their constants.
+	 */
+	private static void appendClassStructure(final Type type, final Set<Class<?>> visited,
+			final StringBuilder structure) {
+		if (type instanceof ParameterizedType) {
+			appendClassStructure(((ParameterizedType) type).getRawType(), visited, structure);
+			for (final Type argument : ((ParameterizedType) type).getActualTypeArguments()) {
+				appendClassStructure(argument, visited, structure);
+			}
+			return;
+		}
+		if (type instanceof WildcardType) {
+			for (final Type bound : ((WildcardType) type).getUpperBounds()) {
+				appendClassStructure(bound, visited, structure);
+			}
+			return;
+		}
+		if (!(type instanceof Class)) {
+			return;
+		}
+		final Class<?> typeClass = (Class<?>) type;
+		if (typeClass.isArray()) {
+			appendClassStructure(typeClass.getComponentType(), visited, structure);
+			return;
+		}
+		if (!typeClass.getName().startsWith(TASK_PACKAGE_PREFIX) || !visited.add(typeClass)) {
+			return;
+		}
+		structure.append(typeClass.getName()).append('\n');
+		if (typeClass.isEnum()) {
+			for (final Object constant : typeClass.getEnumConstants()) {
+				structure.append(' ').append(((Enum<?>) constant).name()).append('\n');
+			}
+			return;
+		}
+		final var fields = new ArrayList<Field>();
+		for (Class<?> current = typeClass; current != null; current = current.getSuperclass()) {
+			final Field[] declaredFields = current.getDeclaredFields();
+			// The order of the declared fields is not specified, so they are sorted by their names.
+			Arrays.sort(declaredFields, Comparator.comparing(Field::getName));
+			for (final Field field : declaredFields) {
+				final int modifiers = field.getModifiers();
+				if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers)) {
+					fields.add(field);
+				}
+			}
+		}
+		for (final Field field : fields) {
+			structure.append(' ').append(field.getDeclaringClass().getName()).append('.').append(field.getName())
+					.append(':').append(field.getGenericType().getTypeName()).append('\n');
+		}
+		for (final Field field : fields) {
+			appendClassStructure(field.getGenericType(), visited, structure);
+		}
+	}
+
+
+	private static String digest(final byte[] data) {
+		return StringTools.toHexString(sha256().digest(data));
+	}
+
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not supported.", e);
+		}
+	}
+
+
+	/**
+	 * @return the configuration persisted in the given file, or null if there is none for the given fingerprint.
+	 */
+	private static MICSConfiguration readSnapshot(final File snapshotFile, final String fingerprint) {
+		if (!snapshotFile.isFile()) {
+			return null;
+		}
+		try (var input = new ObjectInputStream(
+				new BufferedInputStream(Files.newInputStream(snapshotFile.toPath()), BUFFER_SIZE))) {
+			input.setObjectInputFilter(SNAPSHOT_FILTER);
+			if (input.readInt() != FORMAT_VERSION || !FORMAT_IDENTITY.equals(input.readUTF())
+					|| !fingerprint.equals(input.readUTF())) {
+				return null;
+			}
+			return (MICSConfiguration) input.readObject();
+		} catch (IOException | ClassNotFoundException | ClassCastException e) {
+			LoggingConnector.getInstance().warning(LOGGER_COMPONENT + "Unable to load the specification snapshot "
+					+ snapshotFile.getAbsolutePath() + ". The specifications are parsed again: " + e);
+			return null;
+		}
+	}
+
+
+	/**
+	 * Persist the configuration. The file is replaced at once, so concurrent readers never see a partial snapshot.
+	 * Errors are only logged, because the snapshot is merely an optimization.
+	 */
+	private static void writeSnapshot(final File snapshotFile, final String fingerprint,
+			final MICSConfiguration configuration) {
+		File temporaryFile = null;
+		try {
+			Files.createDirectories(snapshotFile.getParentFile().toPath());
+			temporaryFile = File.createTempFile(SNAPSHOT_FILE_PREFIX, ".tmp", snapshotFile.getParentFile());
+			try (var output = new ObjectOutputStream(
+					new BufferedOutputStream(Files.newOutputStream(temporaryFile.toPath()), BUFFER_SIZE))) {
+				output.writeInt(FORMAT_VERSION);
+				output.writeUTF(FORMAT_IDENTITY);
+				output.writeUTF(fingerprint);
+				output.writeObject(configuration);
+			}
+			Files.move(temporaryFile.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+			LoggingConnector.getInstance().debug(LOGGER_COMPONENT
+					+ "Persisted the parsed specifications to the snapshot " + snapshotFile.getAbsolutePath() + ".");
+		} catch (IOException | RuntimeException e) {
+			LoggingConnector.getInstance().warning(LOGGER_COMPONENT + "Unable to persist the specification snapshot "
+					+ snapshotFile.getAbsolutePath() + ": " + e);
+			if (temporaryFile != null) {
+				temporaryFile.delete();
+			}
+		}
+	}
+
+
+	/**
+	 * A parsed value and the fingerprint of the files it has been parsed from.
+	 */
+	private static final class Snapshot<T> {
+		private final String fingerprint;
+		private final T value;
+
+		Snapshot(final String fingerprint, final T value) {
+			this.fingerprint = fingerprint;
+			this.value = value;
+		}
+	}
+}
@@ -4,6 +4,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.net.URL;
+import java.security.cert.Certificate;
 import java.security.cert.X509Certificate;
 import java.security.interfaces.DSAPublicKey;
 import java.security.interfaces.ECPublicKey;
@@ -12,8 +13,12 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
 
 import org.bouncycastle.asn1.ASN1IA5String;
 import org.bouncycastle.asn1.x500.style.BCStyle;
@@ -37,6 +42,7 @@ import com.achelos.task.abstracttestsuite.TestSuiteRun;
 import com.achelos.task.commons.certificatehelper.CertificateChecker;
 import com.achelos.task.commons.enums.TlsVersion;
 import com.achelos.task.logging.BasicLogger;
+import com.achelos.task.logging.LogScopedTaskRunner;
 import com.achelos.task.logging.LoggingConnector;
 import com.achelos.task.utilities.FileUtils;
 import com.achelos.task.xmlparser.configparsing.StringHelper;
@@ -56,32 +62,29 @@ class X509CertificateVerifier {
 	private final static String LOGGER_COMPONENT = "X509CertificateVerifier: ";
 
 	private X509CertificateVerifier(final MICS mics, final TlsSpecification tlsSpecification,
-			final File... certificateFiles) {
+			final List<CertificateFile> certificateFiles) {
 		logger = LoggingConnector.getInstance();
 		this.mics = mics;
 		this.tlsSpecification = tlsSpecification;
 		certificateChain = new LinkedList<>();
 
-		var certFactory = new CertificateFactory();
 		for (var cert : mics.getCertificateChain()) {
 			boolean addedCert = false;
 			for (var certFile : certificateFiles) {
-				if (Arrays.areEqual(getFileFingerprint(certFile), cert.getFingerprint())) {
-					try {
-						var certInputStream = new FileInputStream(certFile);
-						var parsedCertificate = certFactory.engineGenerateCertificate(certInputStream);
-						if (parsedCertificate != null && parsedCertificate instanceof X509Certificate) {
-							((LinkedList<X509Certificate>) certificateChain)
-									.addFirst((X509Certificate) parsedCertificate);
-							addedCert = true;
-							break;
-						}
-						throw new IllegalArgumentException("Unable to parse provided certificate Files. "
-								+ (null != parsedCertificate ? parsedCertificate.getClass().getName() : ""));
-
-					} catch (Exception e) {
-						throw new IllegalArgumentException("Unable to parse provided certificate Files.", e);
+				if (Arrays.areEqual(certFile.getFingerprint(), cert.getFingerprint())) {
+					var parsedCertificate = certFile.getParsedCertificate();
+					if (certFile.getParseError() != null) {
+						throw new IllegalArgumentException("Unable to parse provided certificate Files.",
+								certFile.getParseError());
 					}
+					if (parsedCertificate instanceof X509Certificate) {
+						((LinkedList<X509Certificate>) certificateChain)
+								.addFirst((X509Certificate) parsedCertificate);
+						addedCert = true;
+						break;
+					}
+					throw new IllegalArgumentException("Unable to parse provided certificate Files. "
+							+ (null != parsedCertificate ? parsedCertificate.getClass().getName() : ""));
 				}
 			}
 			if (!addedCert) {
@@ -124,75 +127,32 @@ class X509CertificateVerifier {
 				throw new NullPointerException(MICSVerifier.LOGGER_COMPONENT + "Provided TLS specification is \"null\".");
 			}
 
-			var testCase = certificateCheck(mics, certificateFiles);
+			// Each file is read and parsed at most once for the certificate check and the verifier.
+			var parsedCertificateFiles = CertificateFile.of(certificateFiles);
+			var testCase = certificateCheck(mics, parsedCertificateFiles, certificateFiles);
 			if (testCase.getErrorCount() + testCase.getFatalErrorCount() > 0) {
 				testCaseRunList.add(testCase);
 				throw new Exception(MICSVerifier.LOGGER_COMPONENT + "Provided Certificates could not be verified.");
 			}
 
 			logger.debug(MICSVerifier.LOGGER_COMPONENT + "Initializing X509CertificateVerifier.");
-			var x509CertificateVerifier = new X509CertificateVerifier(mics, tlsSpecification, certificateFiles);
+			var x509CertificateVerifier = new X509CertificateVerifier(mics, tlsSpecification, parsedCertificateFiles);
 			logger.debug(MICSVerifier.LOGGER_COMPONENT + "Successfully initialized X509CertificateVerifier.");
 
-			// TLS_CERT_01
-			logger.debug(MICSVerifier.LOGGER_COMPONENT + "Running the test case TLS_CERT_01.");
-			testCaseRunList.add(x509CertificateVerifier.TLS_CERT_01());
-			logger.debug(MICSVerifier.LOGGER_COMPONENT + "Finished running the test case TLS_CERT_01.");
-
-			// TLS_CERT_02
-			logger.debug(MICSVerifier.LOGGER_COMPONENT + "Running the test case TLS_CERT_02.");
-			testCaseRunList.add(x509CertificateVerifier.TLS_CERT_02());
-			logger.debug(MICSVerifier.LOGGER_COMPONENT + "Finished running the test case TLS_CERT_02.");
-
-			// TLS_CERT_03
-			logger.debug(MICSVerifier.LOGGER_COMPONENT + "Running the test case TLS_CERT_03.");
-			testCaseRunList.add(x509CertificateVerifier.TLS_CERT_03());
-			logger.debug(MICSVerifier.LOGGER_COMPONENT + "Finished running the test case TLS_CERT_03.");
-
-			// TLS_CERT_04
-			logger.debug(MICSVerifier.LOGGER_COMPONENT + "Running the test case TLS_CERT_04.");
-			testCaseRunList.add(x509CertificateVerifier.TLS_CERT_04());
-			logger.debug(MICSVerifier.LOGGER_COMPONENT + "Finished running the test case TLS_CERT_04.");
-
-			// TLS_CERT_05
-			logger.debug(MICSVerifier.LOGGER_COMPONENT + "Running the test case TLS_CERT_05.");
-			testCaseRunList.add(x509CertificateVerifier.TLS_CERT_05());
-			logger.debug(MICSVerifier.LOGGER_COMPONENT + "Finished running the test case TLS_CERT_05.");
-
-			// TLS_CERT_06
-			logger.debug(MICSVerifier.LOGGER_COMPONENT + "Running the test case TLS_CERT_06.");
-			testCaseRunList.add(x509CertificateVerifier.TLS_CERT_06());
-			logger.debug(MICSVerifier.LOGGER_COMPONENT + "Finished running the test case TLS_CERT_06.");
-
-			// TLS_CERT_07
-			logger.debug(MICSVerifier.LOGGER_COMPONENT + "Running the test case TLS_CERT_07.");
-			testCaseRunList.add(x509CertificateVerifier.TLS_CERT_07());
-			logger.debug(MICSVerifier.LOGGER_COMPONENT + "Finished running the test case TLS_CERT_07.");
-
-			// TLS_CERT_08
-			logger.debug(MICSVerifier.LOGGER_COMPONENT + "Running the test case TLS_CERT_08.");
-			testCaseRunList.add(x509CertificateVerifier.TLS_CERT_08());
-			logger.debug(MICSVerifier.LOGGER_COMPONENT + "Finished running the test case TLS_CERT_08.");
-
-			// TLS_CERT_09
-			logger.debug(MICSVerifier.LOGGER_COMPONENT + "Running the test case TLS_CERT_09.");
-			testCaseRunList.add(x509CertificateVerifier.TLS_CERT_09());
-			logger.debug(MICSVerifier.LOGGER_COMPONENT + "Finished running the test case TLS_CERT_09.");
-
-			// TLS_CERT_10
-			logger.debug(MICSVerifier.LOGGER_COMPONENT + "Running the test case TLS_CERT_10.");
-			testCaseRunList.add(x509CertificateVerifier.TLS_CERT_10());
-			logger.debug(MICSVerifier.LOGGER_COMPONENT + "Finished running the test case TLS_CERT_10.");
-
-			// TLS_CERT_11
-			logger.debug(MICSVerifier.LOGGER_COMPONENT + "Running the test case TLS_CERT_11.");
-			testCaseRunList.add(x509CertificateVerifier.TLS_CERT_11());
-			logger.debug(MICSVerifier.LOGGER_COMPONENT + "Finished running the test case TLS_CERT_11.");
-
-			// TLS_CERT_12
-			logger.debug(MICSVerifier.LOGGER_COMPONENT + "Running the test case TLS_CERT_12.");
-			testCaseRunList.add(x509CertificateVerifier.TLS_CERT_12());
-			logger.debug(MICSVerifier.LOGGER_COMPONENT + "Finished running the test case TLS_CERT_12.");
+			var checks = new LinkedHashMap<String, Supplier<TestCaseRun>>();
+			checks.put("TLS_CERT_01", x509CertificateVerifier::TLS_CERT_01);
+			checks.put("TLS_CERT_02", x509CertificateVerifier::TLS_CERT_02);
+			checks.put("TLS_CERT_03", x509CertificateVerifier::TLS_CERT_03);
+			checks.put("TLS_CERT_04", x509CertificateVerifier::TLS_CERT_04);
+			checks.put("TLS_CERT_05", x509CertificateVerifier::TLS_CERT_05);
+			checks.put("TLS_CERT_06", x509CertificateVerifier::TLS_CERT_06);
+			checks.put("TLS_CERT_07", x509CertificateVerifier::TLS_CERT_07);
+			checks.put("TLS_CERT_08", x509CertificateVerifier::TLS_CERT_08);
+			checks.put("TLS_CERT_09", x509CertificateVerifier::TLS_CERT_09);
+			checks.put("TLS_CERT_10", x509CertificateVerifier::TLS_CERT_10);
+			checks.put("TLS_CERT_11", x509CertificateVerifier::TLS_CERT_11);
+			checks.put("TLS_CERT_12", x509CertificateVerifier::TLS_CERT_12);
+			runChecks(checks, testCaseRunList);
 
 		} catch (RuntimeException e) {
 			throw e;
@@ -206,7 +166,46 @@ class X509CertificateVerifier {
 		return testCaseRunList;
 	}
 
-	private static TestCaseRun certificateCheck(final MICS mics, final File... certificateFiles) {
+	/**
+	 * Run the given checks concurrently on a bounded pool of workers, see {@link LogScopedTaskRunner}. The log entries
+	 * and results of the checks are reported in the order of the given checks, independent of the order in which they
+	 * finish.
+	 *
+	 * @param checks the checks by test case name, in the order to report them
+	 * @param testCaseRunList receives the results of the checks
+	 * @throws InterruptedException if the current thread is interrupted while waiting for the checks
+	 */
+	private static void runChecks(final Map<String, Supplier<TestCaseRun>> checks,
+			final List<TestCaseRun> testCaseRunList) throws InterruptedException {
+		final List<Callable<TestCaseRun>> tasks = new ArrayList<>(checks.size());
+		checks.forEach((testCaseName, check) -> tasks.add(() -> runCheck(testCaseName, check)));
+		final int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors());
+		for (var outcome : LogScopedTaskRunner.run("CertificateCheckWorker", parallelism, tasks)) {
+			if (outcome.isFailed()) {
+				// The checks are suppliers, so they only throw unchecked exceptions.
+				throw (RuntimeException) outcome.getFailure();
+			}
+			testCaseRunList.add(outcome.getResult());
+		}
+	}
+
+	/**
+	 * Run a check.
+	 *
+	 * @param testCaseName the name of the check
+	 * @param check the check
+	 * @return the result of the check
+	 */
+	private static TestCaseRun runCheck(final String testCaseName, final Supplier<TestCaseRun> check) {
+		var logger = LoggingConnector.getInstance();
+		logger.debug(MICSVerifier.LOGGER_COMPONENT + "Running the test case " + testCaseName + ".");
+		final TestCaseRun testRun = check.get();
+		logger.debug(MICSVerifier.LOGGER_COMPONENT + "Finished running the test case " + testCaseName + ".");
+		return testRun;
+	}
+
+	private static TestCaseRun certificateCheck(final MICS mics, final List<CertificateFile> parsedCertificateFiles,
+			final File... certificateFiles) {
 		var logger = LoggingConnector.getInstance();
 		final String testCaseName = "Check Certificates for TLS_CERT";
 		final String testCaseDescription = "Check Certificates for TLS_CERT";
@@ -243,28 +242,26 @@ class X509CertificateVerifier {
 
 		}
 
-		var certFactory = new CertificateFactory();
 		for (var cert : mics.getCertificateChain()) {
 			boolean addedCert = false;
-			for (var certFile : certificateFiles) {
-				if (Arrays.areEqual(getFileFingerprint(certFile), cert.getFingerprint())) {
-					try {
-						var certInputStream = new FileInputStream(certFile);
-						var parsedCertificate = certFactory.engineGenerateCertificate(certInputStream);
-						if (parsedCertificate != null && parsedCertificate instanceof X509Certificate) {
-							addedCert = true;
-							break;
-						}
-						logger.error("X509CertificateVerifier: Unable to parse provided certificate Files. "
-								+ (null != parsedCertificate ? parsedCertificate.getClass().getName() : ""));
-						result = false;
-						testRun.increaseErrorCount();
-
-					} catch (Exception e) {
-						logger.error("X509CertificateVerifier: Unable to parse provided certificate Files.", e);
+			for (var certFile : parsedCertificateFiles) {
+				if (Arrays.areEqual(certFile.getFingerprint(), cert.getFingerprint())) {
+					var parsedCertificate = certFile.getParsedCertificate();
+					if (certFile.getParseError() != null) {
+						logger.error("X509CertificateVerifier: Unable to parse provided certificate Files.",
+								certFile.getParseError());
 						result = false;
 						testRun.increaseErrorCount();
+						continue;
+					}
+					if (parsedCertificate instanceof X509Certificate) {
+						addedCert = true;
+						break;
 					}
+					logger.error("X509CertificateVerifier: Unable to parse provided certificate Files. "
+							+ (null != parsedCertificate ? parsedCertificate.getClass().getName() : ""));
+					result = false;
+					testRun.increaseErrorCount();
 				}
 			}
 			if (!addedCert) {
@@ -1329,4 +1326,62 @@ class X509CertificateVerifier {
 		return FileUtils.getFileFingerprint(fileToHash);
 	}
 
+	/**
+	 * A provided certificate file with its fingerprint. The certificate is parsed by the BouncyCastle certificate
+	 * factory on first access and shared afterwards.
+	 */
+	static final class CertificateFile {
+		private final File file;
+		private final byte[] fingerprint;
+		private boolean parsed = false;
+		private Certificate parsedCertificate;
+		private Exception parseError;
+
+		private CertificateFile(final File file) {
+			this.file = file;
+			fingerprint = getFileFingerprint(file);
+		}
+
+		/**
+		 * @param certificateFiles the provided certificate files
+		 * @return the existing files of the given ones, in their order.
+		 */
+		static List<CertificateFile> of(final File... certificateFiles) {
+			var result = new ArrayList<CertificateFile>(certificateFiles.length);
+			for (var certFile : certificateFiles) {
+				if (certFile != null && certFile.isFile()) {
+					result.add(new CertificateFile(certFile));
+				}
+			}
+			return result;
+		}
+
+		byte[] getFingerprint() {
+			return fingerprint;
+		}
+
+		/**
+		 * @return the certificate parsed from the file, or null if it could not be parsed.
+		 */
+		synchronized Certificate getParsedCertificate() {
+			if (!parsed) {
+				parsed = true;
+				try (var certInputStream = new FileInputStream(file)) {
+					parsedCertificate = new CertificateFactory().engineGenerateCertificate(certInputStream);
+				} catch (Exception e) {
+					parseError = e;
+				}
+			}
+			return parsedCertificate;
+		}
+
+		/**
+		 * @return the error which occurred while parsing the file, or null.
+		 */
+		synchronized Exception getParseError() {
+			getParsedCertificate();
+			return parseError;
+		}
+	}
+
 }
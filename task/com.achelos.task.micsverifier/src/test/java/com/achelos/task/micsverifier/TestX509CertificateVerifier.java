@@ -0,0 +1,50 @@
+package com.achelos.task.micsverifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.File;
+import java.io.FileInputStream;
+
+import org.bouncycastle.jcajce.provider.asymmetric.x509.CertificateFactory;
+import org.junit.jupiter.api.Test;
+
+import com.achelos.task.micsverifier.X509CertificateVerifier.CertificateFile;
+
+
+class TestX509CertificateVerifier {
+
+	private static final File CERTIFICATE_DIRECTORY = new File("../data/input/certificates");
+
+	@Test
+	void testCertificateFilesAreParsedByBouncyCastle() throws Exception {
+		var files = CERTIFICATE_DIRECTORY.listFiles();
+		assertNotNull(files, "The certificate test data is missing.");
+		var certificateFiles = CertificateFile.of(files);
+		assertEquals(files.length, certificateFiles.size());
+
+		for (int i = 0; i < files.length; i++) {
+			var certificateFile = certificateFiles.get(i);
+			var parsedCertificate = certificateFile.getParsedCertificate();
+			assertNull(certificateFile.getParseError(), "Unable to parse " + files[i]);
+
+			try (var certInputStream = new FileInputStream(files[i])) {
+				var expected = new CertificateFactory().engineGenerateCertificate(certInputStream);
+				assertEquals(expected.getClass(), parsedCertificate.getClass(),
+						"The certificate file is not parsed by the BouncyCastle certificate factory.");
+				assertEquals(expected, parsedCertificate);
+			}
+			assertSame(parsedCertificate, certificateFile.getParsedCertificate(), "The file is parsed again.");
+		}
+	}
+
+	@Test
+	void testInvalidCertificateFileReportsParseError() {
+		var certificateFile = CertificateFile.of(new File("../data/input/ExampleMICS_Server.xml")).get(0);
+
+		assertNull(certificateFile.getParsedCertificate());
+		assertNotNull(certificateFile.getParseError());
+	}
+}
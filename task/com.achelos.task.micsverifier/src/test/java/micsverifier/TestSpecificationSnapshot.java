@@ -0,0 +1,136 @@
+package micsverifier;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.achelos.task.configuration.MICSConfiguration;
+import com.achelos.task.logging.LoggingConnector;
+import com.achelos.task.micsverifier.SpecificationSnapshot;
+
+class TestSpecificationSnapshot {
+
+	private final File serverSpec = new File(
+			"../data/specification/ApplicationSpecifications/TR-03116-4-SERVER-Specification.xml");
+	private final File appMapping = new File(
+			"../data/specification/ApplicationSpecificProfiles/TR-03116-4-AM-TLS-SERVER.xml");
+	private final File testCasesDir = new File("../data/specification/TestCases");
+	private final File tlsConfigData = new File("../data/specification/TlsConfigurationData.xml");
+
+	private Path workDirectory;
+	private File testProfiles;
+	private File globalConfig;
+
+	@BeforeEach
+	void prepareFiles() throws IOException {
+		LoggingConnector.getInstance("DEBUG");
+		SpecificationSnapshot.clear();
+		workDirectory = Files.createTempDirectory(null);
+		testProfiles = workDirectory.resolve("TestProfiles.xml").toFile();
+		Files.copy(Path.of("../data/specification/TestProfiles.xml"), testProfiles.toPath(),
+				StandardCopyOption.REPLACE_EXISTING);
+		globalConfig = workDirectory.resolve("GlobalConfig.xml").toFile();
+		Files.writeString(globalConfig.toPath(), createGlobalConfig());
+	}
+
+	@AfterEach
+	void clearSnapshots() {
+		SpecificationSnapshot.clear();
+	}
+
+	@Test
+	void testConfigurationIsReusedWithinProcess() {
+		var first = load(null);
+		var second = load(null);
+
+		assertSame(first, second);
+	}
+
+	@Test
+	void testConfigurationIsLoadedFromPersistedSnapshot() {
+		var snapshotDirectory = workDirectory.resolve("snapshots").toFile();
+		var parsed = load(snapshotDirectory);
+		assertEquals(1, snapshotDirectory.list().length);
+
+		SpecificationSnapshot.clear();
+		var loaded = load(snapshotDirectory);
+
+		assertNotSame(parsed, loaded);
+		assertEquals(parsed.testProfiles, loaded.testProfiles);
+		assertEquals(parsed.testCases.size(), loaded.testCases.size());
+		assertEquals(parsed.applicationSpecifications.get(0).getId(), loaded.applicationSpecifications.get(0).getId());
+		assertEquals(parsed.applicationSpecifications.get(0).getTlsVersionSupport().keySet(),
+				loaded.applicationSpecifications.get(0).getTlsVersionSupport().keySet());
+		assertEquals(parsed.allKeyLengths, loaded.allKeyLengths);
+	}
+
+	@Test
+	void testChangedFileInvalidatesSnapshots() throws IOException {
+		var snapshotDirectory = workDirectory.resolve("snapshots").toFile();
+		var first = load(snapshotDirectory);
+
+		Files.writeString(testProfiles.toPath(), System.lineSeparator() + "<!-- changed -->",
+				StandardOpenOption.APPEND);
+		var second = load(snapshotDirectory);
+		SpecificationSnapshot.clear();
+		var third = load(snapshotDirectory);
+
+		assertNotSame(first, second);
+		assertNotSame(second, third);
+		assertEquals(second.testProfiles, third.testProfiles);
+		assertEquals(1, snapshotDirectory.list().length);
+	}
+
+	@Test
+	void testSnapshotOfOtherFormatIsReplaced() throws IOException {
+		var snapshotDirectory = workDirectory.resolve("snapshots").toFile();
+		load(snapshotDirectory);
+		var snapshotFile = snapshotDirectory.listFiles()[0].toPath();
+		var persisted = Files.readAllBytes(snapshotFile);
+
+		// The format identity follows the stream header (4 bytes), the block data header (2 bytes), the format version
+		// (4 bytes) and its own length (2 bytes). Change its first hex digit.
+		var otherFormat = persisted.clone();
+		otherFormat[12] = (byte) (otherFormat[12] == '0' ? '1' : '0');
+		Files.write(snapshotFile, otherFormat);
+		SpecificationSnapshot.clear();
+		load(snapshotDirectory);
+
+		assertArrayEquals(persisted, Files.readAllBytes(snapshotFile), "The snapshot has not been parsed again.");
+	}
+
+	private MICSConfiguration load(final File snapshotDirectory) {
+		return SpecificationSnapshot.loadConfiguration(Arrays.asList(serverSpec), Arrays.asList(appMapping),
+				testCasesDir, testProfiles, globalConfig, tlsConfigData, snapshotDirectory);
+	}
+
+	private String createGlobalConfig() throws IOException {
+		var content = Files.readString(Path.of("../data/configuration/ExampleGlobalConfig.xml"));
+		content = replaceParameter(content, "tls_test_tool_path", "/path/to/tool");
+		content = replaceParameter(content, "report_directory", workDirectory.toAbsolutePath().toString());
+		content = replaceParameter(content, "specification_directory",
+				new File("../data/specification").getAbsolutePath());
+		return content;
+	}
+
+	private static String replaceParameter(final String content, final String id, final String value) {
+		return Pattern.compile("<parameter id=\"" + id + "\".*?parameter>", Pattern.DOTALL).matcher(content)
+				.replaceFirst(Matcher.quoteReplacement(
+						"<parameter id=\"" + id + "\"><string>" + value + "</string></parameter>"));
+	}
+}
@@ -1,5 +1,8 @@
 package com.achelos.task.reporting.datastructures;
 
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
 import java.time.ZonedDateTime;
 import java.util.LinkedList;
 import java.util.List;
@@ -18,6 +21,8 @@ import com.achelos.task.reporting.datastructures.Report.ReportMetadata;
 import com.achelos.task.reporting.datastructures.Report.TestCaseReport;
 import com.achelos.task.reporting.datastructures.Report.TestCaseResult;
 import com.achelos.task.reporting.datastructures.Report.TestSuiteReport;
+import com.achelos.task.reporting.xmlreport.StreamingXmlReportWriter;
+import com.achelos.task.reporting.xmlreport.XmlReport;
 import com.achelos.task.utilities.DateTimeUtils;
 
 import generated.jaxb.input.ICS;
@@ -27,13 +32,14 @@ import generated.jaxb.testrunplan.TestRunPlan;
 /**
  * This logger stores messages to into internal data structures to create reports (e.g. XML or PDF) afterwards.
  */
-public class ReportLogger extends BasicLogger {
+public class ReportLogger extends BasicLogger implements Closeable {
 
 	private final ReportMetadata metadata;
 	private final ReportDutInformation dutInformation;
 	private final List<TestSuiteReport> testSuites;
 	private InputParameters inputParameters;
 	private final List<LogEntry> testFrameworkLogMessages;
+	private final StreamingXmlReportWriter reportWriter;
 
 	private TestSuiteReportBuilder currentTestSuite;
 
@@ -41,7 +47,20 @@ public class ReportLogger extends BasicLogger {
 	 * Default constructor. Initializes empty internal data structures.
 	 */
 	public ReportLogger() {
+		this(null);
+	}
+
+	/**
+	 * Constructor using a writer, to which each test case and test suite is written as soon as it has finished. Only
+	 * the summary information of finished test cases is kept in memory, their log messages are discarded. Use
+	 * {@link #writeXmlReport(File)} to write the report, as the test suites are not contained in the report generated by
+	 * {@link #generateReport()}.
+	 *
+	 * @param reportWriter the writer for finished test cases and test suites, or null to keep them in memory.
+	 */
+	public ReportLogger(final StreamingXmlReportWriter reportWriter) {
 		super();
+		this.reportWriter = reportWriter;
 		metadata = new ReportMetadata();
 		dutInformation = new ReportDutInformation();
 		testSuites = new LinkedList<>();
@@ -63,6 +82,32 @@ public class ReportLogger extends BasicLogger {
 		return new Report(metadata, dutInformation, testSuites, inputParameters, testFrameworkLogMessages);
 	}
 
+	/**
+	 * Write the XML report with the stored information of this logger.
+	 *
+	 * @param xmlReportFile The File to write the XML Report into.
+	 * @throws IOException if the XML report could not be written by the streaming report writer.
+	 */
+	public void writeXmlReport(final File xmlReportFile) throws IOException {
+		if (reportWriter != null) {
+			reportWriter.writeReport(generateReport(), xmlReportFile);
+		} else {
+			XmlReport.fromReportInstance(generateReport()).writeToFile(xmlReportFile);
+		}
+	}
+
+	/**
+	 * Discard the test cases and test suites written to the streaming report writer, if they have not been written to
+	 * a report by {@link #writeXmlReport(File)}. Has to be called if the test run is aborted before the report is
+	 * written, so that no spool files are left behind.
+	 */
+	@Override
+	public void close() {
+		if (reportWriter != null) {
+			reportWriter.close();
+		}
+	}
+
 	@Override
 	public void log(final long timestamp, final long lvl, final String log, final Throwable t) {
 		if (lvl == BasicLogger.DEBUG) {
@@ -108,7 +153,7 @@ public class ReportLogger extends BasicLogger {
 				} else {
 					log(System.currentTimeMillis(), BasicLogger.WARNING,
 							"Logging: New test case shall be started, but no test suite was marked active.", null);
-					currentTestSuite = new TestSuiteReportBuilder("Unknown TestSuite", startTime);
+					currentTestSuite = new TestSuiteReportBuilder("Unknown TestSuite", startTime, reportWriter);
 				}
 				try {
 					currentTestSuite.startTestCase(testCaseName, startTime);
@@ -346,7 +391,12 @@ public class ReportLogger extends BasicLogger {
 		if (isCurrentTestSuiteActive()) {
 			currentTestSuite.setEndTime(endTime);
 			try {
-				testSuites.add(currentTestSuite.generateReport());
+				var testSuiteReport = currentTestSuite.generateReport();
+				if (reportWriter != null) {
+					reportWriter.writeTestSuite(testSuiteReport);
+				} else {
+					testSuites.add(testSuiteReport);
+				}
 			} catch (Exception e) {
 				testFrameworkLogMessages.add(new LogEntry(System.currentTimeMillis(), ERROR,
 						"Logging: Error generating test suite report.", e));
@@ -368,7 +418,7 @@ public class ReportLogger extends BasicLogger {
 					"Logging: New test suite shall be started, even though the current test Suite is not marked as finished yet. Aborting",
 					null));
 		} else {
-			currentTestSuite = new TestSuiteReportBuilder(testSuiteId, startTime);
+			currentTestSuite = new TestSuiteReportBuilder(testSuiteId, startTime, reportWriter);
 		}
 	}
 
@@ -381,6 +431,7 @@ public class ReportLogger extends BasicLogger {
 		private ZonedDateTime endTime;
 		private final List<TestCaseReport> testCases;
 		private final List<LogEntry> testSuiteLogMessages;
+		private final StreamingXmlReportWriter reportWriter;
 
 		private TestCaseReportBuilder currentTestCase;
 
@@ -389,10 +440,13 @@ public class ReportLogger extends BasicLogger {
 		 *
 		 * @param testSuiteId Identifier of Test Suite.
 		 * @param startTime Start time of Test Suite.
+		 * @param reportWriter Writer for finished test cases, or null to keep them in memory.
 		 */
-		protected TestSuiteReportBuilder(final String testSuiteId, final ZonedDateTime startTime) {
+		protected TestSuiteReportBuilder(final String testSuiteId, final ZonedDateTime startTime,
+				final StreamingXmlReportWriter reportWriter) {
 			this.testSuiteId = testSuiteId;
 			this.startTime = startTime;
+			this.reportWriter = reportWriter;
 			endTime = null;
 			testCases = new LinkedList<>();
 			testSuiteLogMessages = new LinkedList<>();
@@ -430,17 +484,26 @@ public class ReportLogger extends BasicLogger {
 			currentTestCase = new TestCaseReportBuilder(tcName, startTime);
 		}
 
-		public void finalizeTestCase(final ZonedDateTime endTime) {
+		public void finalizeTestCase(final ZonedDateTime endTime) throws IOException {
 			if (currentTestCase == null) {
 				throw new IllegalStateException(
 						"Command received to finalize test case report, but no test case report is active. Aborting.");
 			}
 			currentTestCase.setEndTime(endTime);
-			testCases.add(currentTestCase.generateReport());
+			var testCaseReport = currentTestCase.generateReport();
 			currentTestCase = null;
+			if (reportWriter != null) {
+				reportWriter.writeTestCase(testCaseReport);
+				// Only the information needed for the test suite summary is kept.
+				testCases.add(new TestCaseReport(testCaseReport.getTestCaseId(), testCaseReport.getDescription(),
+						testCaseReport.getPurpose(), testCaseReport.getTestCaseResult(), testCaseReport.getStartTime(),
+						testCaseReport.getEndTime(), List.of()));
+			} else {
+				testCases.add(testCaseReport);
+			}
 		}
 
-		public void finalizeTestCase(final ZonedDateTime endTime, final TestCaseResult tcResult) {
+		public void finalizeTestCase(final ZonedDateTime endTime, final TestCaseResult tcResult) throws IOException {
 			if (currentTestCase == null) {
 				throw new IllegalStateException(
 						"Command received to finalize test case report, but no test case report is active. Aborting.");
@@ -1,11 +1,15 @@
 package com.achelos.task.reporting.pdfreport;
 
 import java.io.File;
-import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.transform.Result;
+import javax.xml.transform.Source;
+import javax.xml.transform.Templates;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
@@ -25,10 +29,21 @@ import com.achelos.task.logging.LoggingConnector;
 
 /**
  * Class used for the handling of PDF Reports.
+ * <p>
+ * The FOP factory and the compiled XSLT stylesheets are thread-safe and shared between all conversions, so only the
+ * first conversion pays for their initialization.
+ * </p>
  */
 public class PdfReport {
 	private static final String RESOURCES_XLS = "pdfreport_stylesheet.xsl";
 
+	private static FopFactory fopFactory;
+	private static Templates defaultTemplates;
+	/**
+	 * Compiled alternate XSLT stylesheets by their absolute path.
+	 */
+	private static final Map<String, CompiledStylesheet> ALTERNATE_TEMPLATES = new ConcurrentHashMap<>();
+
 	/**
 	 * Convert an XML Report File into an PDF Report and store it in the same directory.
 	 * @param xmlReport The XML Report file to convert into a PDF report.
@@ -37,9 +52,7 @@ public class PdfReport {
 	 * @throws TransformerException If an error occurs.
 	 */
 	public static void convertToPDF(final File xmlReport) throws IOException, FOPException, TransformerException {
-		// the XSL FO file
-		var xsltAsStream = PdfReport.class.getClassLoader().getResourceAsStream(RESOURCES_XLS);
-		convertToPDF(xmlReport, xsltAsStream);
+		convertToPDF(new StreamSource(xmlReport), getPdfReportFile(xmlReport));
 	}
 
 	/**
@@ -51,31 +64,52 @@ public class PdfReport {
 	 * @throws TransformerException If an error occurs.
 	 */
 	public static void convertToPDF(final File xmlReport, final File xsltFile) throws IOException, FOPException, TransformerException {
-		// the XSL FO file
-		var xsltAsStream = new FileInputStream(xsltFile);
-		convertToPDF(xmlReport, xsltAsStream);
+		convertToPDF(new StreamSource(xmlReport), getPdfReportFile(xmlReport), xsltFile);
 	}
 
-	private static void convertToPDF(final File xmlReport, InputStream xsltAsStream) throws IOException, FOPException, TransformerException {
-		// The XML Report File
-		var xmlSource = new StreamSource(xmlReport);
+	/**
+	 * Convert an XML Report into an PDF Report, e.g. a report held in memory without writing it to disk first.
+	 * @param xmlReport The XML Report to convert into a PDF report.
+	 * @param pdfReport The PDF report file to write.
+	 * @throws IOException If an error occurs.
+	 * @throws FOPException If an error occurs.
+	 * @throws TransformerException If an error occurs.
+	 */
+	public static void convertToPDF(final Source xmlReport, final File pdfReport)
+			throws IOException, FOPException, TransformerException {
+		convertToPDF(xmlReport, pdfReport, getDefaultTemplates());
+	}
 
+	/**
+	 * Convert an XML Report into an PDF Report, e.g. a report held in memory without writing it to disk first. Uses an
+	 * alternate XSLT File to generate the PDF report.
+	 * @param xmlReport The XML Report to convert into a PDF report.
+	 * @param pdfReport The PDF report file to write.
+	 * @param xsltFile The alternate XSLT stylesheet file to be used to generate the PDF report.
+	 * @throws IOException If an error occurs.
+	 * @throws FOPException If an error occurs.
+	 * @throws TransformerException If an error occurs.
+	 */
+	public static void convertToPDF(final Source xmlReport, final File pdfReport, final File xsltFile)
+			throws IOException, FOPException, TransformerException {
+		convertToPDF(xmlReport, pdfReport, getTemplates(xsltFile));
+	}
+
+	private static void convertToPDF(final Source xmlSource, final File pdfReport, final Templates templates)
+			throws IOException, FOPException, TransformerException {
 		// Apache FOP Usage:
-		var fopFactory = FopFactory.newInstance(new File(".").toURI());
-		var foUserAgent = fopFactory.newFOUserAgent();
+		var foUserAgent = getFopFactory().newFOUserAgent();
 		foUserAgent.getEventBroadcaster().addEventListener(new LoggingEventListener());
 
 		// Setup output
-		var pdfReportName = xmlReport.getAbsolutePath().replace(".xml", ".pdf");
-		var out = new java.io.FileOutputStream(pdfReportName);
+		var out = new FileOutputStream(pdfReport);
 
 		try (out) {
 			// Construct fop with desired output format
-			Fop fop = fopFactory.newFop(org.apache.xmlgraphics.util.MimeConstants.MIME_PDF, foUserAgent, out);
+			Fop fop = getFopFactory().newFop(org.apache.xmlgraphics.util.MimeConstants.MIME_PDF, foUserAgent, out);
 
 			// Setup XSLT
-			TransformerFactory factory = TransformerFactory.newInstance();
-			Transformer transformer = factory.newTransformer(new StreamSource(xsltAsStream));
+			Transformer transformer = templates.newTransformer();
 
 			// Resulting SAX events (the generated FO) must be piped through to
 			// FOP
@@ -90,6 +124,66 @@ public class PdfReport {
 		}
 	}
 
+	/**
+	 * @param xmlReport The XML Report file.
+	 * @return the PDF report file in the same directory.
+	 */
+	private static File getPdfReportFile(final File xmlReport) {
+		return new File(xmlReport.getAbsolutePath().replace(".xml", ".pdf"));
+	}
+
+	/**
+	 * @return the FOP factory shared by all conversions.
+	 */
+	private static synchronized FopFactory getFopFactory() {
+		if (fopFactory == null) {
+			fopFactory = FopFactory.newInstance(new File(".").toURI());
+		}
+		return fopFactory;
+	}
+
+	/**
+	 * @return the compiled default XSLT stylesheet.
+	 * @throws IOException If the stylesheet could not be read.
+	 * @throws TransformerException If the stylesheet could not be compiled.
+	 */
+	private static synchronized Templates getDefaultTemplates() throws IOException, TransformerException {
+		if (defaultTemplates == null) {
+			try (InputStream xsltAsStream = PdfReport.class.getClassLoader().getResourceAsStream(RESOURCES_XLS)) {
+				defaultTemplates = TransformerFactory.newInstance().newTemplates(new StreamSource(xsltAsStream));
+			}
+		}
+		return defaultTemplates;
+	}
+
+	/**
+	 * @param xsltFile The alternate XSLT stylesheet file.
+	 * @return the compiled XSLT stylesheet, which is compiled again if the file has been modified since.
+	 * @throws TransformerException If the stylesheet could not be compiled.
+	 */
+	private static Templates getTemplates(final File xsltFile) throws TransformerException {
+		final String path = xsltFile.getAbsolutePath();
+		final long lastModified = xsltFile.lastModified();
+		final CompiledStylesheet cached = ALTERNATE_TEMPLATES.get(path);
+		if (cached != null && cached.lastModified == lastModified) {
+			return cached.templates;
+		}
+		final Templates templates = TransformerFactory.newInstance().newTemplates(new StreamSource(xsltFile));
+		ALTERNATE_TEMPLATES.put(path, new CompiledStylesheet(templates, lastModified));
+		return templates;
+	}
+
+	/** A compiled XSLT stylesheet and the modification time of its file. */
+	private static final class CompiledStylesheet {
+		private final Templates templates;
+		private final long lastModified;
+
+		CompiledStylesheet(final Templates templates, final long lastModified) {
+			this.templates = templates;
+			this.lastModified = lastModified;
+		}
+	}
+
 
 	/** A simple event listener that ignores non errors. */
 	private static class LoggingEventListener implements EventListener {
@@ -0,0 +1,358 @@
+package com.achelos.task.reporting.xmlreport;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import com.achelos.task.logging.BasicLogger;
+import com.achelos.task.logging.LoggingConnector.LogEntry;
+import com.achelos.task.logging.ReportDutInfoFields;
+import com.achelos.task.logging.ReportMetadataFields;
+import com.achelos.task.reporting.datastructures.Report;
+import com.achelos.task.reporting.datastructures.Report.TestCaseReport;
+import com.achelos.task.reporting.datastructures.Report.TestSuiteReport;
+import com.achelos.task.xmlparser.outputparsing.OutputPrinter;
+
+
+/**
+ * Writes an XML report incrementally. Each test case is written to a spool file as soon as it has finished, and each
+ * test suite as soon as it has finished, so that the log messages of a test case do not have to be kept in memory
+ * until the end of the test run. The final report file is assembled from the spool files by
+ * {@link #writeReport(Report, File)}.<br>
+ * The written report has the same structure as the report written by {@link XmlReport}, but is not validated against
+ * the XML report schema.
+ */
+public class StreamingXmlReportWriter implements Closeable {
+
+	private static final String ENCODING = "UTF-8";
+	private static final String INDENT = "    ";
+
+	private static final int TEST_SUITE_DEPTH = 1;
+	private static final int TEST_CASE_DEPTH = 3;
+
+	private final XMLOutputFactory outputFactory;
+
+	private File testCaseSpoolFile;
+	private OutputStream testCaseSpool;
+	private XMLStreamWriter testCaseWriter;
+
+	private File testSuiteSpoolFile;
+	private OutputStream testSuiteSpool;
+	private XMLStreamWriter testSuiteWriter;
+
+	/**
+	 * Default constructor. The spool files are created in the default temporary-file directory when the first test case
+	 * or test suite is written.
+	 */
+	public StreamingXmlReportWriter() {
+		outputFactory = XMLOutputFactory.newInstance();
+	}
+
+	/**
+	 * Append a finished test case to the spool file of the current test suite.
+	 *
+	 * @param testCaseReport the report of the finished test case.
+	 * @throws IOException if the test case could not be written.
+	 */
+	public synchronized void writeTestCase(final TestCaseReport testCaseReport) throws IOException {
+		try {
+			if (testCaseWriter == null) {
+				if (testCaseSpoolFile == null) {
+					testCaseSpoolFile = createSpoolFile("testcases");
+				}
+				testCaseSpool = new BufferedOutputStream(new FileOutputStream(testCaseSpoolFile));
+				testCaseWriter = outputFactory.createXMLStreamWriter(testCaseSpool, ENCODING);
+			}
+			writeTestCase(testCaseWriter, testCaseReport);
+			testCaseWriter.flush();
+		} catch (XMLStreamException e) {
+			throw new IOException("Unable to write test case " + testCaseReport.getTestCaseId() + ".", e);
+		}
+	}
+
+	/**
+	 * Append a finished test suite to the spool file of the report. The test cases of the test suite are taken from the
+	 * test cases written by {@link #writeTestCase(TestCaseReport)} since the last test suite, the test cases contained
+	 * in the given report are only used for its summary.
+	 *
+	 * @param testSuiteReport the report of the finished test suite.
+	 * @throws IOException if the test suite could not be written.
+	 */
+	public synchronized void writeTestSuite(final TestSuiteReport testSuiteReport) throws IOException {
+		try {
+			final boolean hasTestCases = testCaseWriter != null;
+			closeTestCaseSpool();
+			if (testSuiteWriter == null) {
+				testSuiteSpoolFile = createSpoolFile("testsuites");
+				testSuiteSpool = new BufferedOutputStream(new FileOutputStream(testSuiteSpoolFile));
+				testSuiteWriter = outputFactory.createXMLStreamWriter(testSuiteSpool, ENCODING);
+			}
+			var writer = testSuiteWriter;
+			var depth = TEST_SUITE_DEPTH;
+
+			startElement(writer, "TestSuite", depth);
+			writeElement(writer, "TestSuiteIdentifier", testSuiteReport.getTestSuiteId(), depth + 1);
+
+			var summary = testSuiteReport.getSummary();
+			startElement(writer, "Summary", depth + 1);
+			writeElement(writer, "TotalNoOfTestcases", summary.getTotalNumberOfTestcases().toString(), depth + 2);
+			writeElement(writer, "NoOfExecTestcases", summary.getNumberOfExecutedTestcases().toString(), depth + 2);
+			writeElement(writer, "NoOfPassedTestcases", summary.getNumberOfPassedTestcases().toString(), depth + 2);
+			writeElement(writer, "NoOfFailedTestcases", summary.getNumberOfFailedTestcases().toString(), depth + 2);
+			writeElement(writer, "NoOfTestcasesWithWarnings", summary.getNumberOfTestcasesWithWarnings().toString(),
+					depth + 2);
+			writeElement(writer, "StartTime", XmlReport.zonedDateTimeToTimestamp(summary.getStartTime()), depth + 2);
+			writeElement(writer, "EndTime", XmlReport.zonedDateTimeToTimestamp(summary.getEndTime()), depth + 2);
+			endElement(writer, depth + 1);
+
+			writeLogMessages(writer, "TestSuiteMessages", testSuiteReport.getTestSuiteLogMessages(), depth + 1);
+
+			startElement(writer, "TestCases", depth + 1);
+			if (hasTestCases) {
+				// Close the start tag before the spooled test cases are copied behind it.
+				writer.writeCharacters("");
+				writer.flush();
+				Files.copy(testCaseSpoolFile.toPath(), testSuiteSpool);
+			}
+			endElement(writer, depth + 1);
+
+			endElement(writer, depth);
+			writer.flush();
+		} catch (XMLStreamException e) {
+			throw new IOException("Unable to write test suite " + testSuiteReport.getTestSuiteId() + ".", e);
+		}
+	}
+
+	/**
+	 * Write the XML report file, consisting of the metadata, DUT information, framework messages and input parameters of
+	 * the given report and the test suites written to this writer before. The test suites contained in the given report
+	 * are ignored. This writer is closed afterwards.
+	 *
+	 * @param report the report containing the information which is not related to a test suite.
+	 * @param xmlReportFile the file to write the XML report into.
+	 * @throws IOException if the report could not be written.
+	 */
+	public synchronized void writeReport(final Report report, final File xmlReportFile) throws IOException {
+		try {
+			closeTestCaseSpool();
+			if (testSuiteWriter != null) {
+				testSuiteWriter.flush();
+				testSuiteSpool.flush();
+			}
+
+			var parent = xmlReportFile.getAbsoluteFile().getParentFile();
+			if (!parent.exists()) {
+				if (!parent.mkdirs()) {
+					throw new IOException("Failed to create output folder");
+				}
+			}
+
+			try (OutputStream out = new BufferedOutputStream(new FileOutputStream(xmlReportFile))) {
+				var writer = outputFactory.createXMLStreamWriter(out, ENCODING);
+				writer.writeStartDocument(ENCODING, "1.0");
+				startElement(writer, "TaSKReport", 0);
+
+				writeMetadata(writer, report);
+				writeDutInformation(writer, report);
+
+				if (testSuiteWriter != null) {
+					writer.flush();
+					Files.copy(testSuiteSpoolFile.toPath(), out);
+				}
+
+				writeLogMessages(writer, "TaSKFrameworkMessages", report.getTestFrameworkLogMessages(), 1);
+
+				startElement(writer, "InputParameters", 1);
+				var inputParameters = report.getInputParameters();
+				if (inputParameters != null) {
+					if (inputParameters.isMicsSet()) {
+						indent(writer, 2);
+						OutputPrinter.printXmlReportFragment(inputParameters.getMics(), writer);
+					}
+					if (inputParameters.isTestRunPlanSet()) {
+						indent(writer, 2);
+						OutputPrinter.printXmlReportFragment(inputParameters.getTestRunPlan(), writer);
+					}
+				}
+				endElement(writer, 1);
+
+				endElement(writer, 0);
+				writer.writeEndDocument();
+				writer.flush();
+				writer.close();
+			}
+		} catch (XMLStreamException e) {
+			throw new IOException("Unable to write XML report " + xmlReportFile + ".", e);
+		} finally {
+			close();
+		}
+	}
+
+	/**
+	 * Close the spool files and delete them.
+	 */
+	@Override
+	public synchronized void close() {
+		try {
+			closeTestCaseSpool();
+		} catch (XMLStreamException | IOException e) {
+			// Spool is discarded anyway.
+		}
+		if (testSuiteWriter != null) {
+			try {
+				testSuiteWriter.close();
+				testSuiteSpool.close();
+			} catch (XMLStreamException | IOException e) {
+				// Spool is discarded anyway.
+			}
+			testSuiteWriter = null;
+			testSuiteSpool = null;
+		}
+		testCaseSpoolFile = deleteSpoolFile(testCaseSpoolFile);
+		testSuiteSpoolFile = deleteSpoolFile(testSuiteSpoolFile);
+	}
+
+	private void closeTestCaseSpool() throws XMLStreamException, IOException {
+		if (testCaseWriter != null) {
+			try {
+				testCaseWriter.close();
+				testCaseSpool.close();
+			} finally {
+				testCaseWriter = null;
+				testCaseSpool = null;
+			}
+		}
+	}
+
+	private static File createSpoolFile(final String content) throws IOException {
+		var file = File.createTempFile("TaSKReport-", "." + content + ".xml");
+		file.deleteOnExit();
+		return file;
+	}
+
+	private static File deleteSpoolFile(final File file) {
+		if (file != null) {
+			try {
+				Files.deleteIfExists(file.toPath());
+			} catch (IOException e) {
+				// Deleted on exit.
+			}
+		}
+		return null;
+	}
+
+	private static void writeTestCase(final XMLStreamWriter writer, final TestCaseReport testCaseReport)
+			throws XMLStreamException {
+		var depth = TEST_CASE_DEPTH;
+		startElement(writer, "TestCase", depth);
+		writeElement(writer, "TestCaseId", testCaseReport.getTestCaseId(), depth + 1);
+		writeElement(writer, "Description", testCaseReport.getDescription(), depth + 1);
+		writeElement(writer, "Purpose", testCaseReport.getPurpose(), depth + 1);
+		writeElement(writer, "Result", testCaseReport.getTestCaseResult().name(), depth + 1);
+		writeElement(writer, "StartTime", XmlReport.zonedDateTimeToTimestamp(testCaseReport.getStartTime()),
+				depth + 1);
+		writeElement(writer, "EndTime", XmlReport.zonedDateTimeToTimestamp(testCaseReport.getEndTime()), depth + 1);
+		writeLogMessages(writer, "LogMessages", testCaseReport.getLogMessages(), depth + 1);
+		endElement(writer, depth);
+	}
+
+	private static void writeMetadata(final XMLStreamWriter writer, final Report report) throws XMLStreamException {
+		var metadata = new HashMap<ReportMetadataFields, String>();
+		if (report.listAvailableMetadata() != null) {
+			for (var entry : report.listAvailableMetadata()) {
+				metadata.put(entry.getKey(), entry.getValue());
+			}
+		}
+		startElement(writer, "Metadata", 1);
+		writeOptionalElement(writer, "TesterInCharge", metadata.get(ReportMetadataFields.TESTER_IN_CHARGE), 2);
+		writeOptionalElement(writer, "DateOfReportGeneration",
+				metadata.get(ReportMetadataFields.DATE_OF_REPORT_GENERATION), 2);
+		writeOptionalElement(writer, "ExecutionMachine", metadata.get(ReportMetadataFields.EXECUTION_MACHINE_NAME), 2);
+		writeOptionalElement(writer, "StartOfExecution", metadata.get(ReportMetadataFields.START_OF_EXECUTION), 2);
+		writeOptionalElement(writer, "EndOfExecution", metadata.get(ReportMetadataFields.END_OF_EXECUTION), 2);
+		writeOptionalElement(writer, "ExecutionType", metadata.get(ReportMetadataFields.EXECUTION_TYPE), 2);
+		endElement(writer, 1);
+	}
+
+	private static void writeDutInformation(final XMLStreamWriter writer, final Report report)
+			throws XMLStreamException {
+		var dutInformation = new HashMap<ReportDutInfoFields, String>();
+		if (report.listAvailableDutInformation() != null) {
+			for (var entry : report.listAvailableDutInformation()) {
+				dutInformation.put(entry.getKey(), entry.getValue());
+			}
+		}
+		startElement(writer, "DUTInformation", 1);
+		writeOptionalElement(writer, "Title", dutInformation.get(ReportDutInfoFields.TITLE), 2);
+		writeOptionalElement(writer, "ApplicationType", dutInformation.get(ReportDutInfoFields.APPLICATION_TYPE), 2);
+		writeOptionalElement(writer, "Version", dutInformation.get(ReportDutInfoFields.VERSION), 2);
+		writeOptionalElement(writer, "Description", dutInformation.get(ReportDutInfoFields.DESCRIPTION), 2);
+		writeOptionalElement(writer, "File", dutInformation.get(ReportDutInfoFields.FILE), 2);
+		writeOptionalElement(writer, "Fingerprint", dutInformation.get(ReportDutInfoFields.FINGERPRINT), 2);
+		endElement(writer, 1);
+	}
+
+	private static void writeLogMessages(final XMLStreamWriter writer, final String elementName,
+			final List<LogEntry> logMessages, final int depth) throws XMLStreamException {
+		startElement(writer, elementName, depth);
+		for (var message : logMessages != null ? logMessages : new ArrayList<LogEntry>()) {
+			indent(writer, depth + 1);
+			writer.writeStartElement("LogMessage");
+			writer.writeAttribute("LogLevel", BasicLogger.getName(message.getLogLevel()));
+			writer.writeAttribute("Timestamp", XmlReport.epochMillisecondsToTimestamp(message.getTimestamp()));
+			writeCharacters(writer, message.getMsg());
+			writer.writeEndElement();
+		}
+		endElement(writer, depth);
+	}
+
+	private static void writeOptionalElement(final XMLStreamWriter writer, final String elementName,
+			final String value, final int depth) throws XMLStreamException {
+		if (value != null) {
+			writeElement(writer, elementName, value, depth);
+		}
+	}
+
+	private static void writeElement(final XMLStreamWriter writer, final String elementName, final String value,
+			final int depth) throws XMLStreamException {
+		indent(writer, depth);
+		writer.writeStartElement(elementName);
+		writeCharacters(writer, value);
+		writer.writeEndElement();
+	}
+
+	private static void writeCharacters(final XMLStreamWriter writer, final String value) throws XMLStreamException {
+		if (value != null) {
+			writer.writeCharacters(value);
+		}
+	}
+
+	private static void startElement(final XMLStreamWriter writer, final String elementName, final int depth)
+			throws XMLStreamException {
+		indent(writer, depth);
+		writer.writeStartElement(elementName);
+	}
+
+	private static void endElement(final XMLStreamWriter writer, final int depth) throws XMLStreamException {
+		indent(writer, depth);
+		writer.writeEndElement();
+	}
+
+	private static void indent(final XMLStreamWriter writer, final int depth) throws XMLStreamException {
+		writer.writeCharacters("\n");
+		for (int i = 0; i < depth; i++) {
+			writer.writeCharacters(INDENT);
+		}
+	}
+}
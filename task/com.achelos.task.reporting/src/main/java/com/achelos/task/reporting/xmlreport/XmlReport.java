@@ -11,12 +11,7 @@ import generated.jaxb.xmlreport.TaSKReport.Metadata;
 import generated.jaxb.xmlreport.TaSKReport.TaSKFrameworkMessages;
 
 import java.io.File;
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
 import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Date;
-import java.util.TimeZone;
 
 
 /**
@@ -167,21 +162,17 @@ public class XmlReport {
 		OutputPrinter.printXmlReport(internalStructure, xmlReportFile);
 	}
 
-	private static String epochMillisecondsToTimestamp(final long epochMilliseconds) {
+	static String epochMillisecondsToTimestamp(final long epochMilliseconds) {
 		try {
-			var date = new Date(epochMilliseconds);
-			DateFormat formatter = new SimpleDateFormat(DateTimeUtils.ISO_8601_DATE_TIME_PATTERN);
-			formatter.setTimeZone(TimeZone.getDefault());
-			return formatter.format(date);
+			return DateTimeUtils.formatEpochMilliseconds(epochMilliseconds);
 		} catch (Exception e) {
 			return "An error occurred while calculating the Timestamp";
 		}
 	}
 
-	private static String zonedDateTimeToTimestamp(final ZonedDateTime dateTime) {
+	static String zonedDateTimeToTimestamp(final ZonedDateTime dateTime) {
 		try {
-			var formatter = DateTimeFormatter.ofPattern(DateTimeUtils.ISO_8601_DATE_TIME_PATTERN);
-			return dateTime.format(formatter);
+			return DateTimeUtils.formatDateTime(dateTime);
 		} catch (Exception e) {
 			return "An error occurred while calculating Timestamp";
 		}
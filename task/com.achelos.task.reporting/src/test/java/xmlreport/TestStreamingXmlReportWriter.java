@@ -0,0 +1,134 @@
+package xmlreport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.SchemaFactory;
+
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Element;
+
+import com.achelos.task.abstracttestsuite.RunState;
+import com.achelos.task.abstracttestsuite.TestCaseRun;
+import com.achelos.task.abstracttestsuite.TestSuiteRun;
+import com.achelos.task.logging.BasicLogger;
+import com.achelos.task.reporting.datastructures.ReportLogger;
+import com.achelos.task.reporting.xmlreport.StreamingXmlReportWriter;
+
+class TestStreamingXmlReportWriter {
+
+	private static final String REPORT_SCHEMA = "schemas/output/TaSKReport.xsd";
+
+	private static final List<String> TEST_SUITES = List.of("TLS_A1", "TLS_B1", "TLS_B2");
+	private static final int TEST_CASES_PER_SUITE = 3;
+
+	@Test
+	void testStreamedReportIsValid() throws Exception {
+		var spoolFiles = listSpoolFiles();
+		var reportLogger = new ReportLogger(new StreamingXmlReportWriter());
+		logTestRun(reportLogger);
+		var reportFile = File.createTempFile("Report", ".xml");
+		reportFile.deleteOnExit();
+		try {
+			reportLogger.writeXmlReport(reportFile);
+		} finally {
+			reportLogger.close();
+		}
+
+		var schemaUrl = getClass().getClassLoader().getResource(REPORT_SCHEMA);
+		assertNotNull(schemaUrl, "The report schema is not on the class path.");
+		var schema = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI).newSchema(schemaUrl);
+		schema.newValidator().validate(new StreamSource(reportFile));
+
+		var report = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(reportFile).getDocumentElement();
+		var testSuites = report.getElementsByTagName("TestSuite");
+		assertEquals(TEST_SUITES.size(), testSuites.getLength(), "Streamed test suites are missing.");
+		for (int i = 0; i < testSuites.getLength(); i++) {
+			var testSuite = (Element) testSuites.item(i);
+			var testSuiteId = TEST_SUITES.get(i);
+			assertEquals(testSuiteId, testSuite.getElementsByTagName("TestSuiteIdentifier").item(0).getTextContent());
+			assertEquals(Integer.toString(TEST_CASES_PER_SUITE),
+					testSuite.getElementsByTagName("TotalNoOfTestcases").item(0).getTextContent());
+			assertEquals("1", testSuite.getElementsByTagName("NoOfFailedTestcases").item(0).getTextContent());
+
+			// The test cases of a test suite must not be mixed up with the ones of the preceding test suites.
+			var testCases = testSuite.getElementsByTagName("TestCase");
+			assertEquals(TEST_CASES_PER_SUITE, testCases.getLength(), "Streamed test cases are missing.");
+			for (int j = 0; j < testCases.getLength(); j++) {
+				var testCase = (Element) testCases.item(j);
+				assertEquals(testCaseId(testSuiteId, j),
+						testCase.getElementsByTagName("TestCaseId").item(0).getTextContent());
+				assertEquals(testCaseId(testSuiteId, j) + " <&> executed.",
+						testCase.getElementsByTagName("LogMessage").item(0).getTextContent(),
+						"The log messages of the test case are not written.");
+			}
+		}
+		assertEquals(1, ((Element) report.getElementsByTagName("TaSKFrameworkMessages").item(0))
+				.getElementsByTagName("LogMessage").getLength(), "Framework messages are not written.");
+		assertEquals(spoolFiles, listSpoolFiles(), "The spool files are not deleted after writing the report.");
+	}
+
+	@Test
+	void testCloseDeletesSpoolFilesOfAbortedRun() throws IOException {
+		var spoolFiles = listSpoolFiles();
+		var reportLogger = new ReportLogger(new StreamingXmlReportWriter());
+		logTestRun(reportLogger);
+		reportLogger.close();
+
+		assertEquals(spoolFiles, listSpoolFiles(), "The spool files of an aborted run are not deleted.");
+	}
+
+	/**
+	 * Log the events of a test run with several test suites, each with several test cases of which one fails.
+	 */
+	private static void logTestRun(final ReportLogger reportLogger) {
+		var time = ZonedDateTime.now();
+		reportLogger.log(System.currentTimeMillis(), BasicLogger.INFO, "Test run started.", null);
+		for (var testSuiteId : TEST_SUITES) {
+			var testCaseIds = Stream.iterate(0, i -> i + 1).limit(TEST_CASES_PER_SUITE)
+					.map(i -> testCaseId(testSuiteId, i)).collect(Collectors.toList());
+			var testSuiteRun = new TestSuiteRun(testSuiteId, testCaseIds);
+			testSuiteRun.setStartTime(time);
+			reportLogger.tellLogger(BasicLogger.MSG_NEW_TESTSUITE, testSuiteRun);
+			for (var testCaseId : testCaseIds) {
+				var testCaseRun = new TestCaseRun(testCaseId, RunState.RUNNING, "Tester");
+				reportLogger.tellLogger(BasicLogger.MSG_NEW_TESTCASE, testCaseRun);
+				reportLogger.tellLogger(BasicLogger.MSG_TESTCASE_DESCRIPTION, "Description of " + testCaseId);
+				reportLogger.tellLogger(BasicLogger.MSG_TESTCASE_PURPOSE, "Purpose of " + testCaseId);
+				reportLogger.log(System.currentTimeMillis(), BasicLogger.INFO, testCaseId + " <&> executed.", null);
+				if (testCaseIds.indexOf(testCaseId) == 0) {
+					testCaseRun.increaseErrorCount();
+				}
+				testCaseRun.setState(RunState.FINISHED);
+				testCaseRun.setStopTime(time);
+				reportLogger.tellLogger(BasicLogger.MSG_TESTCASE_ENDED, testCaseRun);
+			}
+			testSuiteRun.setEndTime(time);
+			reportLogger.tellLogger(BasicLogger.MSG_TESTSUITE_ENDED, testSuiteRun);
+		}
+	}
+
+	private static String testCaseId(final String testSuiteId, final int index) {
+		return testSuiteId + "_" + String.format("%02d", index + 1);
+	}
+
+	private static Set<Path> listSpoolFiles() throws IOException {
+		try (var files = Files.list(new File(System.getProperty("java.io.tmpdir")).toPath())) {
+			return files.filter(file -> file.getFileName().toString().startsWith("TaSKReport-"))
+					.collect(Collectors.toSet());
+		}
+	}
+}
@@ -4,7 +4,7 @@ import com.achelos.task.abstractinterface.TaskTestTool;
 import com.achelos.task.logging.LoggingConnector;
 import com.achelos.task.reporting.datastructures.ReportLogger;
 import com.achelos.task.reporting.pdfreport.PdfReport;
-import com.achelos.task.reporting.xmlreport.XmlReport;
+import com.achelos.task.reporting.xmlreport.StreamingXmlReportWriter;
 import com.achelos.task.xmlparser.configparsing.ConfigParser;
 import com.achelos.task.xmlparser.datastructures.configuration.GlobalConfigParameter;
 import com.achelos.task.xmlparser.datastructures.configuration.GlobalConfigParameterNames;
@@ -84,7 +84,7 @@ public class TesttoolRunner implements Runnable{
 	}
 
 	private void executeMicsMode(final TaskRequestEntry requestEntry) {
-		var reportLogger = new ReportLogger();
+		var reportLogger = new ReportLogger(new StreamingXmlReportWriter());
 		LoggingConnector.addLogger(List.of(reportLogger));
 		try {
 			// Input Files
@@ -109,11 +109,12 @@ public class TesttoolRunner implements Runnable{
 			reportGeneration(reportLogger, reportDirectory);
 		} finally {
 			LoggingConnector.removeLogger(reportLogger);
+			reportLogger.close();
 		}
 	}
 
 	private void executeTrpMode(final TaskRequestEntry requestEntry) {
-		var reportLogger = new ReportLogger();
+		var reportLogger = new ReportLogger(new StreamingXmlReportWriter());
 		LoggingConnector.addLogger(List.of(reportLogger));
 		try {
 			// Check if file exists.
@@ -139,6 +140,7 @@ public class TesttoolRunner implements Runnable{
 			throw e;
 		} finally {
 			LoggingConnector.removeLogger(reportLogger);
+			reportLogger.close();
 		}
 	}
 
@@ -146,9 +148,8 @@ public class TesttoolRunner implements Runnable{
 								  final String reportDirectory) {
 		File xmlReportFileName;
 		try {
-			var xmlReport = XmlReport.fromReportInstance(reportLogger.generateReport());
 			xmlReportFileName = new File(reportDirectory, "Report.xml");
-			xmlReport.writeToFile(xmlReportFileName);
+			reportLogger.writeXmlReport(xmlReportFileName);
 		} catch (Exception e) {
 			throw new RuntimeException("An error occurred while generating XML Report.", e);
 		}
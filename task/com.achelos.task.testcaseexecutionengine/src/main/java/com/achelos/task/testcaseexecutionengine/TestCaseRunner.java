@@ -1,6 +1,8 @@
 package com.achelos.task.testcaseexecutionengine;
 
 import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.ArrayList;
@@ -13,6 +15,8 @@ import com.achelos.task.abstracttestsuite.ExecutionControl;
 import com.achelos.task.abstracttestsuite.Summary;
 import com.achelos.task.abstracttestsuite.TestCaseRun;
 import com.achelos.task.abstracttestsuite.TestSuiteRun;
+import com.achelos.task.commandlineexecution.genericcommandlineexecution.AsyncLogFileWriter;
+import com.achelos.task.commandlineexecution.genericcommandlineexecution.PortAllocator;
 import com.achelos.task.configuration.TestRunPlanConfiguration;
 import com.achelos.task.logging.BasicLogger;
 import com.achelos.task.logging.LoggingConnector;
@@ -25,14 +29,18 @@ public class TestCaseRunner {
 
 	private final static String LOCAL_TESTCASE_PREFIX = "com.achelos.task.tr03116ts.testcases.";
 	private final static String JAR_FILE_ENDING = ".jar";
+	private final static long LOG_FILE_DRAIN_TIMEOUT_MILLISECONDS = 60000;
 
 	private final LoggingConnector logger;
+	private final TestRunPlanConfiguration configuration;
 
 	/**
-	 * Constructor setting the LoggingConnector to use when running test cases.
+	 * Constructor setting the LoggingConnector and the configuration to use when running test cases.
+	 * @param configuration The configuration of the test run to execute.
 	 */
-	public TestCaseRunner() {
+	public TestCaseRunner(final TestRunPlanConfiguration configuration) {
 		this.logger = LoggingConnector.getInstance();
+		this.configuration = configuration;
 	}
 
 	/**
@@ -44,17 +52,55 @@ public class TestCaseRunner {
 		logger.tellLogger(BasicLogger.MSG_NEW_TESTSUITE, testSuite);
 		var testcases = testSuite.getTestCases();
 		int totalNoOfTestcases = testcases.size();
-		List<AbstractTestCase> testcasesClasses = getTestcaseClassesByNames(testcases, TestRunPlanConfiguration.getInstance());
+		// Lease the ports of the services for the whole test run, so other test runs of this or another process on the
+		// same host use other ports.
+		var portAllocator = PortAllocator.getInstance();
+		try (var tlsTestToolPort = portAllocator.leaseFreePort();
+				var ocspResponderPort = portAllocator.leaseFreePort();
+				var crlResponderPort = portAllocator.leaseFreePort()) {
+			var runConfiguration = configuration.withListenerPorts(tlsTestToolPort.getPort(),
+					ocspResponderPort.getPort(), crlResponderPort.getPort());
+			logger.debug("TaSK: Ports of the test run: TLS Test Tool " + runConfiguration.getTlsTestToolPort()
+					+ ", OCSP Responder " + runConfiguration.getOcspResponderPort() + ", CRL Responder "
+					+ runConfiguration.getCrlResponderPort() + ".");
+			executeTestCases(runConfiguration, testcases, totalNoOfTestcases);
+			awaitLogFiles(runConfiguration);
+		} catch (IOException e) {
+			logger.error("TaSK: Unable to lease the ports of the test run.", e);
+		}
+		testSuite.setEndTime();
+		logger.tellLogger(BasicLogger.MSG_TESTSUITE_ENDED, testSuite);
+	}
+
+	/**
+	 * Wait until the log files which the executors of the test run write in the background are complete.
+	 *
+	 * @param runConfiguration the configuration the test cases of the test run have been executed with
+	 */
+	private void awaitLogFiles(final TestRunPlanConfiguration runConfiguration) {
+		try {
+			if (!AsyncLogFileWriter.getInstance().drain(runConfiguration, LOG_FILE_DRAIN_TIMEOUT_MILLISECONDS)) {
+				logger.warning("TaSK: Not all log files have been written within "
+						+ LOG_FILE_DRAIN_TIMEOUT_MILLISECONDS + " ms.");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			logger.warning("TaSK: Waiting for the log files to be written has been interrupted.");
+		}
+	}
+
+	private void executeTestCases(final TestRunPlanConfiguration runConfiguration, final List<String> testcases,
+			final int totalNoOfTestcases) {
+		List<AbstractTestCase> testcasesClasses = getTestcaseClassesByNames(testcases, runConfiguration);
 
 		try {
 			ExecutionControl executionControl = ExecutionControl.getInstance();
-			List<TestCaseRun> testCaseRuns = executionControl.addAll(testcasesClasses);
+			List<TestCaseRun> testCaseRuns
+					= executionControl.addAll(testcasesClasses, runConfiguration.getTestCaseParallelism());
 			Summary.printTestSuiteSummary(testCaseRuns, "TR-03116-TS Testcases", totalNoOfTestcases);
 		} catch (Exception e) {
 			logger.error("Error occurred while executing the test case", e);
 		}
-		testSuite.setEndTime();
-		logger.tellLogger(BasicLogger.MSG_TESTSUITE_ENDED, testSuite);
 	}
 
 	private List<AbstractTestCase> getTestcaseClassesByNames(final List<String> testCaseNames, TestRunPlanConfiguration configuration) {
@@ -77,7 +123,7 @@ public class TestCaseRunner {
 					testCaseFQName = getTestCaseClassPath(testCaseName, LOCAL_TESTCASE_PREFIX);
 				}
 				try {
-					var testCaseImpl = getAbstractTestcaseImplForClass(testCaseFQName, classLoader);
+					var testCaseImpl = getAbstractTestcaseImplForClass(testCaseFQName, classLoader, configuration);
 					testcaseClasses.add(testCaseImpl);
 				} catch (Exception e) {
 					logger.error("TaSK: Error loading Test Case " + testCaseName + " from " + testCaseFQName, e);
@@ -143,16 +189,26 @@ public class TestCaseRunner {
 		return prefix.concat(moduleAlphabet).concat(moduleName).concat(testCaseClassName);
 	}
 	
-	private AbstractTestCase getAbstractTestcaseImplForClass(final String testCase, final ClassLoader classLoader) throws Exception {
+	private AbstractTestCase getAbstractTestcaseImplForClass(final String testCase, final ClassLoader classLoader,
+			final TestRunPlanConfiguration configuration) throws Exception {
 		// Load the class
 		Class<?> clazz = classLoader.loadClass(testCase);
 		
-		// Initialize the class constructor.
-		Object instance = clazz.getDeclaredConstructor().newInstance();
-		if (!(instance instanceof AbstractTestCase)) {
+		if (!AbstractTestCase.class.isAssignableFrom(clazz)) {
 			throw new RuntimeException("Test Case Object with Name " + testCase + " is not of type " + AbstractTestCase.class.getName());
 		}
-		return (AbstractTestCase) instance;
+
+		// Initialize the class constructor with the configuration of this test run.
+		Constructor<?> constructor;
+		try {
+			constructor = clazz.getDeclaredConstructor(TestRunPlanConfiguration.class);
+		} catch (NoSuchMethodException e) {
+			// Test suites without such a constructor get the configuration set after creating the test case.
+			var instance = (AbstractTestCase) clazz.getDeclaredConstructor().newInstance();
+			instance.setConfiguration(configuration);
+			return instance;
+		}
+		return (AbstractTestCase) constructor.newInstance(configuration);
 	}
 
 }
\ No newline at end of file
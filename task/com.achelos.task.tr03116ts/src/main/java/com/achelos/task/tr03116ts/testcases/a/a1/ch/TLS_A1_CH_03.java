@@ -11,6 +11,7 @@ import com.achelos.task.commons.certificatehelper.ManipulateForceCertificateUsag
 import com.achelos.task.commons.enums.TlsAlertLevel;
 import com.achelos.task.commons.enums.TlsCipherSuite;
 import com.achelos.task.commons.enums.TlsVersion;
+import com.achelos.task.configuration.TestRunPlanConfiguration;
 import com.achelos.task.configuration.TlsTestToolCertificateTypes;
 import com.achelos.task.tr03116ts.testfragments.TFAlertMessageCheck;
 import com.achelos.task.tr03116ts.testfragments.TFDUTClientNewConnection;
@@ -46,13 +47,14 @@ public class TLS_A1_CH_03 extends AbstractTestCase {
 	private final TFDUTClientNewConnection tFDutClientNewConnection;
 	private final TFAlertMessageCheck tfAlertMessageCheck;
 
-	public TLS_A1_CH_03() {
+	public TLS_A1_CH_03(final TestRunPlanConfiguration configuration) {
+		super(configuration);
 		setTestCaseId(TEST_CASE_ID);
 		setTestCaseDescription(TEST_CASE_DESCRIPTION);
 		setTestCasePurpose(TEST_CASE_PURPOSE);
 		
-		tfServerHello = new TFTLSServerHello(this);
-		tfserverCertificate = new TFServerCertificate(this);
+		tfServerHello = new TFTLSServerHello(this, configuration);
+		tfserverCertificate = new TFServerCertificate(this, configuration);
 		tfLocalServerClose = new TFLocalServerClose(this);
 		tFDutClientNewConnection = new TFDUTClientNewConnection(this);
 		tfAlertMessageCheck = new TFAlertMessageCheck(this);
@@ -60,10 +62,11 @@ public class TLS_A1_CH_03 extends AbstractTestCase {
 
 	@Override
 	protected final void prepareEnvironment() throws Exception {
-		testTool = new TlsTestToolExecutor(getTestCaseId(), logger);
-		tShark = new TSharkExecutor(getTestCaseId(), logger);
+		testTool = new TlsTestToolExecutor(getTestCaseId(), logger, configuration);
+		tShark = new TSharkExecutor(getTestCaseId(), logger, configuration);
 		tShark.start();
-		dutExecutor = new DUTExecutor(getTestCaseId(), logger, configuration.getDutCallCommandGenerator());
+		dutExecutor = new DUTExecutor(getTestCaseId(), logger, configuration,
+				configuration.getDutCallCommandGenerator());
 	}
 
 	/**
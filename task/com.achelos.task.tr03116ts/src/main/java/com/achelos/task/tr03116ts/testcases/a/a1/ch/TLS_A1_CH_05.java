@@ -11,12 +11,14 @@ import com.achelos.task.commandlineexecution.applications.ocsp.OCSPServerExecuto
 import com.achelos.task.commandlineexecution.applications.tlstesttool.TlsTestToolExecutor;
 import com.achelos.task.commandlineexecution.applications.tlstesttool.helper.CrlOcspCertificate;
 import com.achelos.task.commandlineexecution.applications.tshark.TSharkExecutor;
+import com.achelos.task.commandlineexecution.genericcommandlineexecution.PortAllocator;
 import com.achelos.task.commons.enums.TlsAlertLevel;
 import com.achelos.task.commons.enums.TlsCipherSuite;
 import com.achelos.task.commons.enums.TlsExtensionTypes;
 import com.achelos.task.commons.enums.TlsTestToolMode;
 import com.achelos.task.commons.enums.TlsTestToolTlsLibrary;
 import com.achelos.task.commons.enums.TlsVersion;
+import com.achelos.task.configuration.TestRunPlanConfiguration;
 import com.achelos.task.configuration.TlsTestToolCertificateTypes;
 import com.achelos.task.tr03116ts.testfragments.TFAlertMessageCheck;
 import com.achelos.task.tr03116ts.testfragments.TFDUTClientNewConnection;
@@ -52,13 +54,14 @@ public class TLS_A1_CH_05 extends AbstractTestCase {
 	private final TFDUTClientNewConnection tFDutClientNewConnection;
 	private final TFAlertMessageCheck tfAlertMessageCheck;
 
-	public TLS_A1_CH_05() {
+	public TLS_A1_CH_05(final TestRunPlanConfiguration configuration) {
+		super(configuration);
 		setTestCaseId(TEST_CASE_ID);
 		setTestCaseDescription(TEST_CASE_DESCRIPTION);
 		setTestCasePurpose(TEST_CASE_PURPOSE);
 		
-		tfServerHello = new TFTLSServerHello(this);
-		tfserverCertificate = new TFServerCertificate(this);
+		tfServerHello = new TFTLSServerHello(this, configuration);
+		tfserverCertificate = new TFServerCertificate(this, configuration);
 		tfLocalServerClose = new TFLocalServerClose(this);
 		tFDutClientNewConnection = new TFDUTClientNewConnection(this);
 		tfAlertMessageCheck = new TFAlertMessageCheck(this);
@@ -66,12 +69,15 @@ public class TLS_A1_CH_05 extends AbstractTestCase {
 
 	@Override
 	protected final void prepareEnvironment() throws Exception {
-		testTool = new TlsTestToolExecutor(getTestCaseId(), logger);
-		tShark = new TSharkExecutor(getTestCaseId(), logger);
+		testTool = new TlsTestToolExecutor(getTestCaseId(), logger, configuration);
+		tShark = new TSharkExecutor(getTestCaseId(), logger, configuration);
 		tShark.start();
-		dutExecutor = new DUTExecutor(getTestCaseId(), logger, configuration.getDutCallCommandGenerator());
-		ocsp = new OCSPServerExecutor(getTestCaseId(), logger);
-		ocspResponse = new OCSPRequestExecutor(getTestCaseId(), logger);
+		dutExecutor = new DUTExecutor(getTestCaseId(), logger, configuration,
+				configuration.getDutCallCommandGenerator());
+		// The stapled OCSP response is requested by the OCSP request executor, so the responder may use any free port.
+		var ocspPortLease = PortAllocator.getInstance().leaseFreePort();
+		ocsp = new OCSPServerExecutor(getTestCaseId(), logger, configuration, ocspPortLease);
+		ocspResponse = new OCSPRequestExecutor(getTestCaseId(), logger, configuration, ocspPortLease.getPort());
 	}
 
 	/**
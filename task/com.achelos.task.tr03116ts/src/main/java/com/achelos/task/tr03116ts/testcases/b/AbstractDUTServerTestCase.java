@@ -0,0 +1,49 @@
+package com.achelos.task.tr03116ts.testcases.b;
+
+import com.achelos.task.abstracttestsuite.AbstractTestCase;
+import com.achelos.task.configuration.TestRunPlanConfiguration;
+
+
+/**
+ * Foundation of the test cases in which the DUT acts as the TLS server.
+ * <p>
+ * The test operator only connects to the DUT as a TLS client. Neither the DUT nor any server or responder of the test
+ * operator is started, so no port of the test system is bound and every test case uses its own TLS connections. So
+ * these test cases do not belong to an execution group and may be executed concurrently to any other test case, unless
+ * <ul>
+ * <li>the network traffic is recorded by TShark, as the capture of the test case would contain the traffic of
+ * concurrently executed test cases, or</li>
+ * <li>the test case relies on the session cache of the DUT (see {@link #usesDutSessionCache()}).</li>
+ * </ul>
+ * These test cases are executed one after another in the {@link #DUT_EXECUTION_GROUP}.
+ * </p>
+ */
+public abstract class AbstractDUTServerTestCase extends AbstractTestCase {
+
+	/**
+	 * Performs basic test case initialization.
+	 *
+	 * @param configuration the configuration of the test run the test case belongs to
+	 */
+	protected AbstractDUTServerTestCase(final TestRunPlanConfiguration configuration) {
+		super(configuration);
+	}
+
+	@Override
+	public final String getExecutionGroup() {
+		if (configuration.isTsharkEnabled() || usesDutSessionCache()) {
+			return DUT_EXECUTION_GROUP;
+		}
+		return null;
+	}
+
+	/**
+	 * Whether the test case relies on the session cache of the DUT, e.g. to resume a session. The session cache is
+	 * shared by all connections to the DUT, so the test case must not be executed concurrently to other test cases.
+	 *
+	 * @return true if the test case relies on the session cache of the DUT, false otherwise.
+	 */
+	protected boolean usesDutSessionCache() {
+		return false;
+	}
+}
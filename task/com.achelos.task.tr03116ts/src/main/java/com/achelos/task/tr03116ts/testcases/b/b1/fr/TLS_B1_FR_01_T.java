@@ -3,7 +3,6 @@ package com.achelos.task.tr03116ts.testcases.b.b1.fr;
 import java.util.Arrays;
 import java.util.List;
 
-import com.achelos.task.abstracttestsuite.AbstractTestCase;
 import com.achelos.task.commandlineexecution.applications.tlstesttool.TlsTestToolExecutor;
 import com.achelos.task.commandlineexecution.applications.tlstesttool.messagetextresources.TestToolResource;
 import com.achelos.task.commandlineexecution.applications.tshark.TSharkExecutor;
@@ -11,6 +10,8 @@ import com.achelos.task.commons.enums.TlsCipherSuite;
 import com.achelos.task.commons.enums.TlsExtensionTypes;
 import com.achelos.task.commons.enums.TlsVersion;
 import com.achelos.task.commons.tlsextensions.TlsExtEncryptThenMac;
+import com.achelos.task.configuration.TestRunPlanConfiguration;
+import com.achelos.task.tr03116ts.testcases.b.AbstractDUTServerTestCase;
 import com.achelos.task.tr03116ts.testfragments.TFTCPIPCloseConnection;
 import com.achelos.task.tr03116ts.testfragments.TFTCPIPNewConnection;
 import com.achelos.task.tr03116ts.testfragments.TFTLSClientHello;
@@ -25,7 +26,7 @@ import com.achelos.task.tr03116ts.testfragments.TFTLSClientHello;
  * The test MUST be repeated for each combination of TLS version [TLS_VERSION], PFS algorithm [CIPHERSUITE] using ECDHE
  * and elliptic curve domain parameters [GROUP] supported by the DUT for incoming TLS connections.
  */
-public class TLS_B1_FR_01_T extends AbstractTestCase {
+public class TLS_B1_FR_01_T extends AbstractDUTServerTestCase {
 
 	private static final String TEST_CASE_ID = "TLS_B1_FR_01_T";
 	private static final String TEST_CASE_DESCRIPTION = "Encrypt-then-MAC extension";
@@ -39,21 +40,22 @@ public class TLS_B1_FR_01_T extends AbstractTestCase {
 	private final TFTCPIPCloseConnection tFTCPIPCloseConnection;
 	private final TFTLSClientHello tfClientHello;
 
-	public TLS_B1_FR_01_T() {
+	public TLS_B1_FR_01_T(final TestRunPlanConfiguration configuration) {
+		super(configuration);
 		setTestCaseId(TEST_CASE_ID);
 		setTestCaseDescription(TEST_CASE_DESCRIPTION);
 		setTestCasePurpose(TEST_CASE_PURPOSE);
 
 		tFTCPIPNewConnection = new TFTCPIPNewConnection(this);
 		tFTCPIPCloseConnection = new TFTCPIPCloseConnection(this);
-		tfClientHello = new TFTLSClientHello(this);
+		tfClientHello = new TFTLSClientHello(this, configuration);
 	}
 
 
 	@Override
 	protected final void prepareEnvironment() throws Exception {
-		testTool = new TlsTestToolExecutor(getTestCaseId(), logger);
-		tShark = new TSharkExecutor(getTestCaseId(), logger);
+		testTool = new TlsTestToolExecutor(getTestCaseId(), logger, configuration);
+		tShark = new TSharkExecutor(getTestCaseId(), logger, configuration);
 		tShark.start();
 	}
 
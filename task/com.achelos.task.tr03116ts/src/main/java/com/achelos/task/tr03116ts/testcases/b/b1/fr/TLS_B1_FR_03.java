@@ -4,13 +4,14 @@ import java.security.cert.X509Certificate;
 import java.util.Arrays;
 import java.util.List;
 
-import com.achelos.task.abstracttestsuite.AbstractTestCase;
 import com.achelos.task.commandlineexecution.applications.tlstesttool.TlsTestToolExecutor;
 import com.achelos.task.commandlineexecution.applications.tlstesttool.messagetextresources.TestToolResource;
 import com.achelos.task.commandlineexecution.applications.tshark.TSharkExecutor;
 import com.achelos.task.commons.certificatehelper.CertificateChecker;
 import com.achelos.task.commons.enums.TlsCipherSuite;
 import com.achelos.task.commons.enums.TlsVersion;
+import com.achelos.task.configuration.TestRunPlanConfiguration;
+import com.achelos.task.tr03116ts.testcases.b.AbstractDUTServerTestCase;
 import com.achelos.task.tr03116ts.testfragments.TFTCPIPCloseConnection;
 import com.achelos.task.tr03116ts.testfragments.TFTCPIPNewConnection;
 import com.achelos.task.tr03116ts.testfragments.TFTLSClientHello;
@@ -21,7 +22,7 @@ import com.achelos.task.tr03116ts.testfragments.TFTLSClientHello;
  * This test case checks the server certificate used by the DUT. In particular, the domain name and the signature are
  * verified.
  */
-public class TLS_B1_FR_03 extends AbstractTestCase {
+public class TLS_B1_FR_03 extends AbstractDUTServerTestCase {
 
 	private static final String TEST_CASE_ID = "TLS_B1_FR_03";
 	private static final String TEST_CASE_DESCRIPTION = "Check Server Certificate";
@@ -34,12 +35,13 @@ public class TLS_B1_FR_03 extends AbstractTestCase {
 	private final TFTCPIPNewConnection tFTCPIPNewConnection;
 	private final TFTCPIPCloseConnection tFTCPIPCloseConnection;
 
-	public TLS_B1_FR_03() {
+	public TLS_B1_FR_03(final TestRunPlanConfiguration configuration) {
+		super(configuration);
 		setTestCaseId(TEST_CASE_ID);
 		setTestCaseDescription(TEST_CASE_DESCRIPTION);
 		setTestCasePurpose(TEST_CASE_PURPOSE);
 
-		tfClientHello = new TFTLSClientHello(this);
+		tfClientHello = new TFTLSClientHello(this, configuration);
 		tFTCPIPNewConnection = new TFTCPIPNewConnection(this);
 		tFTCPIPCloseConnection = new TFTCPIPCloseConnection(this);
 	}
@@ -47,8 +49,8 @@ public class TLS_B1_FR_03 extends AbstractTestCase {
 
 	@Override
 	protected final void prepareEnvironment() throws Exception {
-		testTool = new TlsTestToolExecutor(getTestCaseId(), logger);
-		tShark = new TSharkExecutor(getTestCaseId(), logger);
+		testTool = new TlsTestToolExecutor(getTestCaseId(), logger, configuration);
+		tShark = new TSharkExecutor(getTestCaseId(), logger, configuration);
 		tShark.start();
 	}
 
@@ -4,13 +4,14 @@ import java.security.cert.X509Certificate;
 import java.util.Arrays;
 import java.util.List;
 
-import com.achelos.task.abstracttestsuite.AbstractTestCase;
 import com.achelos.task.commandlineexecution.applications.tlstesttool.TlsTestToolExecutor;
 import com.achelos.task.commandlineexecution.applications.tlstesttool.messagetextresources.TestToolResource;
 import com.achelos.task.commandlineexecution.applications.tshark.TSharkExecutor;
 import com.achelos.task.commons.certificatehelper.CertificateChecker;
 import com.achelos.task.commons.enums.TlsCipherSuite;
 import com.achelos.task.commons.enums.TlsVersion;
+import com.achelos.task.configuration.TestRunPlanConfiguration;
+import com.achelos.task.tr03116ts.testcases.b.AbstractDUTServerTestCase;
 import com.achelos.task.tr03116ts.testfragments.TFTCPIPCloseConnection;
 import com.achelos.task.tr03116ts.testfragments.TFTCPIPNewConnection;
 import com.achelos.task.tr03116ts.testfragments.TFTLSClientHello;
@@ -22,7 +23,7 @@ import com.achelos.task.tr03116ts.testfragments.TFTLSVersionCheck;
  * This test case checks the server certificate used by the DUT. The server certificate must be signed by a CA certified
  * according to [TR-03145].
  */
-public class TLS_B1_FR_04 extends AbstractTestCase {
+public class TLS_B1_FR_04 extends AbstractDUTServerTestCase {
 
 	private static final String TEST_CASE_ID = "TLS_B1_FR_04";
 	private static final String TEST_CASE_DESCRIPTION = "Certificate chain signatures";
@@ -36,22 +37,23 @@ public class TLS_B1_FR_04 extends AbstractTestCase {
 	private final TFTLSClientHello tfClientHello;
 	private final TFTLSVersionCheck tFTLSVersionCheck;
 
-	public TLS_B1_FR_04() {
+	public TLS_B1_FR_04(final TestRunPlanConfiguration configuration) {
+		super(configuration);
 		setTestCaseId(TEST_CASE_ID);
 		setTestCaseDescription(TEST_CASE_DESCRIPTION);
 		setTestCasePurpose(TEST_CASE_PURPOSE);
 
 		tFTCPIPNewConnection = new TFTCPIPNewConnection(this);
 		tFTCPIPCloseConnection = new TFTCPIPCloseConnection(this);
-		tfClientHello = new TFTLSClientHello(this);
+		tfClientHello = new TFTLSClientHello(this, configuration);
 		tFTLSVersionCheck = new TFTLSVersionCheck(this);
 	}
 
 
 	@Override
 	protected final void prepareEnvironment() throws Exception {
-		testTool = new TlsTestToolExecutor(getTestCaseId(), logger);
-		tShark = new TSharkExecutor(getTestCaseId(), logger);
+		testTool = new TlsTestToolExecutor(getTestCaseId(), logger, configuration);
+		tShark = new TSharkExecutor(getTestCaseId(), logger, configuration);
 		tShark.start();
 	}
 
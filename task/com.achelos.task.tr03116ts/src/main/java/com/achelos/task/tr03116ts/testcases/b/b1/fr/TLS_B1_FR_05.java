@@ -2,7 +2,6 @@ package com.achelos.task.tr03116ts.testcases.b.b1.fr;
 
 import java.util.List;
 
-import com.achelos.task.abstracttestsuite.AbstractTestCase;
 import com.achelos.task.commandlineexecution.applications.tlstesttool.TlsTestToolExecutor;
 import com.achelos.task.commandlineexecution.applications.tlstesttool.configuration.TlsTestToolConfigurationHandshakeType;
 import com.achelos.task.commandlineexecution.applications.tlstesttool.messagetextresources.TestToolResource;
@@ -10,6 +9,8 @@ import com.achelos.task.commandlineexecution.applications.tshark.TSharkExecutor;
 import com.achelos.task.commons.enums.TlsCipherSuite;
 import com.achelos.task.commons.enums.TlsTestToolTlsLibrary;
 import com.achelos.task.commons.enums.TlsVersion;
+import com.achelos.task.configuration.TestRunPlanConfiguration;
+import com.achelos.task.tr03116ts.testcases.b.AbstractDUTServerTestCase;
 import com.achelos.task.tr03116ts.testfragments.TFTLSClientHello;
 
 
@@ -18,7 +19,7 @@ import com.achelos.task.tr03116ts.testfragments.TFTLSClientHello;
  * This tests verifies that it is not possible to re-establish a TLS connection that is older than the maximum allowed
  * amount of time.
  */
-public class TLS_B1_FR_05 extends AbstractTestCase {
+public class TLS_B1_FR_05 extends AbstractDUTServerTestCase {
 
 	private static final String TEST_CASE_ID = "TLS_B1_FR_05";
 	private static final String TEST_CASE_DESCRIPTION = "Reconnect after maximum time";
@@ -30,19 +31,25 @@ public class TLS_B1_FR_05 extends AbstractTestCase {
 	private TSharkExecutor tShark = null;
 	private final TFTLSClientHello tfClientHello;
 
-	public TLS_B1_FR_05() {
+	public TLS_B1_FR_05(final TestRunPlanConfiguration configuration) {
+		super(configuration);
 		setTestCaseId(TEST_CASE_ID);
 		setTestCaseDescription(TEST_CASE_DESCRIPTION);
 		setTestCasePurpose(TEST_CASE_PURPOSE);
 
-		tfClientHello = new TFTLSClientHello(this);
+		tfClientHello = new TFTLSClientHello(this, configuration);
+	}
+
+	@Override
+	protected final boolean usesDutSessionCache() {
+		return true;
 	}
 
 
 	@Override
 	protected final void prepareEnvironment() throws Exception {
-		testTool = new TlsTestToolExecutor(getTestCaseId(), logger);
-		tShark = new TSharkExecutor(getTestCaseId(), logger);
+		testTool = new TlsTestToolExecutor(getTestCaseId(), logger, configuration);
+		tShark = new TSharkExecutor(getTestCaseId(), logger, configuration);
 		tShark.start();
 	}
 
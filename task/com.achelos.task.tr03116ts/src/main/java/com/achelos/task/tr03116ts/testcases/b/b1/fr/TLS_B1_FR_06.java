@@ -1,6 +1,5 @@
 package com.achelos.task.tr03116ts.testcases.b.b1.fr;
 
-import com.achelos.task.abstracttestsuite.AbstractTestCase;
 import com.achelos.task.commandlineexecution.applications.tlstesttool.TlsTestToolExecutor;
 import com.achelos.task.commandlineexecution.applications.tlstesttool.messagetextresources.TestToolResource;
 import com.achelos.task.commandlineexecution.applications.tshark.TSharkExecutor;
@@ -9,6 +8,8 @@ import com.achelos.task.commons.enums.TlsExtensionTypes;
 import com.achelos.task.commons.enums.TlsTestToolTlsLibrary;
 import com.achelos.task.commons.enums.TlsVersion;
 import com.achelos.task.commons.tlsextensions.TlsExtStatusRequest;
+import com.achelos.task.configuration.TestRunPlanConfiguration;
+import com.achelos.task.tr03116ts.testcases.b.AbstractDUTServerTestCase;
 import com.achelos.task.tr03116ts.testfragments.TFTLSClientHello;
 
 
@@ -16,7 +17,7 @@ import com.achelos.task.tr03116ts.testfragments.TFTLSClientHello;
  * <p>
  * This test case verifies that the DUT supports OCSP stapling.
  */
-public class TLS_B1_FR_06 extends AbstractTestCase {
+public class TLS_B1_FR_06 extends AbstractDUTServerTestCase {
 
 	private static final String TEST_CASE_ID = "TLS_B1_FR_06";
 	private static final String TEST_CASE_DESCRIPTION = "Support for OCSP Stapling";
@@ -28,19 +29,20 @@ public class TLS_B1_FR_06 extends AbstractTestCase {
 	private final TFTLSClientHello tfClientHello;
 
 
-	public TLS_B1_FR_06() {
+	public TLS_B1_FR_06(final TestRunPlanConfiguration configuration) {
+		super(configuration);
 		setTestCaseId(TEST_CASE_ID);
 		setTestCaseDescription(TEST_CASE_DESCRIPTION);
 		setTestCasePurpose(TEST_CASE_PURPOSE);
 
-		tfClientHello = new TFTLSClientHello(this);
+		tfClientHello = new TFTLSClientHello(this, configuration);
 	}
 
 
 	@Override
 	protected final void prepareEnvironment() throws Exception {
-		testTool = new TlsTestToolExecutor(getTestCaseId(), logger);
-		tShark = new TSharkExecutor(getTestCaseId(), logger);
+		testTool = new TlsTestToolExecutor(getTestCaseId(), logger, configuration);
+		tShark = new TSharkExecutor(getTestCaseId(), logger, configuration);
 		tShark.start();
 	}
 
@@ -2,7 +2,6 @@ package com.achelos.task.tr03116ts.testcases.b.b1.fr;
 
 import java.util.Arrays;
 
-import com.achelos.task.abstracttestsuite.AbstractTestCase;
 import com.achelos.task.commandlineexecution.applications.tlstesttool.TlsTestToolExecutor;
 import com.achelos.task.commandlineexecution.applications.tlstesttool.messagetextresources.TestToolResource;
 import com.achelos.task.commandlineexecution.applications.tshark.TSharkExecutor;
@@ -11,6 +10,8 @@ import com.achelos.task.commons.enums.TlsAlertLevel;
 import com.achelos.task.commons.enums.TlsCipherSuite;
 import com.achelos.task.commons.enums.TlsVersion;
 import com.achelos.task.commons.tools.StringTools;
+import com.achelos.task.configuration.TestRunPlanConfiguration;
+import com.achelos.task.tr03116ts.testcases.b.AbstractDUTServerTestCase;
 import com.achelos.task.tr03116ts.testfragments.TFAlertMessageCheck;
 import com.achelos.task.tr03116ts.testfragments.TFTCPIPCloseConnection;
 import com.achelos.task.tr03116ts.testfragments.TFTCPIPNewConnection;
@@ -21,7 +22,7 @@ import com.achelos.task.tr03116ts.testfragments.TFTLSClientHello;
  * <p>
  * This test verifies the correct behaviour of the DUT if the client sends heartbeat messages.
  */
-public class TLS_B1_FR_08 extends AbstractTestCase {
+public class TLS_B1_FR_08 extends AbstractDUTServerTestCase {
 
 	private static final String TEST_CASE_ID = "TLS_B1_FR_08";
 	private static final String TEST_CASE_DESCRIPTION = "Heartbeat-Message is ignored";
@@ -35,7 +36,8 @@ public class TLS_B1_FR_08 extends AbstractTestCase {
 	private final TFAlertMessageCheck tfAlertMessageCheck;
 	private final TFTLSClientHello tfClientHello;
 
-	public TLS_B1_FR_08() {
+	public TLS_B1_FR_08(final TestRunPlanConfiguration configuration) {
+		super(configuration);
 		setTestCaseId(TEST_CASE_ID);
 		setTestCaseDescription(TEST_CASE_DESCRIPTION);
 		setTestCasePurpose(TEST_CASE_PURPOSE);
@@ -43,14 +45,14 @@ public class TLS_B1_FR_08 extends AbstractTestCase {
 		tFTCPIPNewConnection = new TFTCPIPNewConnection(this);
 		tFTCPIPCloseConnection = new TFTCPIPCloseConnection(this);
 		tfAlertMessageCheck = new TFAlertMessageCheck(this);
-		tfClientHello = new TFTLSClientHello(this);
+		tfClientHello = new TFTLSClientHello(this, configuration);
 	}
 
 
 	@Override
 	protected final void prepareEnvironment() throws Exception {
-		testTool = new TlsTestToolExecutor(getTestCaseId(), logger);
-		tShark = new TSharkExecutor(getTestCaseId(), logger);
+		testTool = new TlsTestToolExecutor(getTestCaseId(), logger, configuration);
+		tShark = new TSharkExecutor(getTestCaseId(), logger, configuration);
 		tShark.start();
 	}
 
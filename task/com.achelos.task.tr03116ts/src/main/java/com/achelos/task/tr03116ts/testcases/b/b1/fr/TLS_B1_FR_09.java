@@ -3,13 +3,14 @@ package com.achelos.task.tr03116ts.testcases.b.b1.fr;
 import java.util.Arrays;
 import java.util.Collections;
 
-import com.achelos.task.abstracttestsuite.AbstractTestCase;
 import com.achelos.task.commandlineexecution.applications.tlstesttool.TlsTestToolExecutor;
 import com.achelos.task.commandlineexecution.applications.tlstesttool.messagetextresources.TestToolResource;
 import com.achelos.task.commandlineexecution.applications.tshark.TSharkExecutor;
 import com.achelos.task.commons.enums.TlsAlertLevel;
 import com.achelos.task.commons.enums.TlsCipherSuite;
 import com.achelos.task.commons.enums.TlsVersion;
+import com.achelos.task.configuration.TestRunPlanConfiguration;
+import com.achelos.task.tr03116ts.testcases.b.AbstractDUTServerTestCase;
 import com.achelos.task.tr03116ts.testfragments.TFAlertMessageCheck;
 import com.achelos.task.tr03116ts.testfragments.TFTCPIPCloseConnection;
 import com.achelos.task.tr03116ts.testfragments.TFTCPIPNewConnection;
@@ -20,7 +21,7 @@ import com.achelos.task.tr03116ts.testfragments.TFTLSClientHello;
  * <p>
  * This test verifies the correct behaviour of the DUT in case the client tries to renegotiate the parameters.
  */
-public class TLS_B1_FR_09 extends AbstractTestCase {
+public class TLS_B1_FR_09 extends AbstractDUTServerTestCase {
 
 	private static final String TEST_CASE_ID = "TLS_B1_FR_09";
 	private static final String TEST_CASE_DESCRIPTION = "Session renegotiation";
@@ -34,22 +35,23 @@ public class TLS_B1_FR_09 extends AbstractTestCase {
 	private final TFTLSClientHello tfClientHello;
 	private final TFAlertMessageCheck tfAlertMessageCheck;
 
-	public TLS_B1_FR_09() {
+	public TLS_B1_FR_09(final TestRunPlanConfiguration configuration) {
+		super(configuration);
 		setTestCaseId(TEST_CASE_ID);
 		setTestCaseDescription(TEST_CASE_DESCRIPTION);
 		setTestCasePurpose(TEST_CASE_PURPOSE);
 
 		tFTCPIPNewConnection = new TFTCPIPNewConnection(this);
 		tFTCPIPCloseConnection = new TFTCPIPCloseConnection(this);
-		tfClientHello = new TFTLSClientHello(this);
+		tfClientHello = new TFTLSClientHello(this, configuration);
 		tfAlertMessageCheck = new TFAlertMessageCheck(this);
 	}
 
 
 	@Override
 	protected final void prepareEnvironment() throws Exception {
-		testTool = new TlsTestToolExecutor(getTestCaseId(), logger);
-		tShark = new TSharkExecutor(getTestCaseId(), logger);
+		testTool = new TlsTestToolExecutor(getTestCaseId(), logger, configuration);
+		tShark = new TSharkExecutor(getTestCaseId(), logger, configuration);
 		tShark.start();
 	}
 
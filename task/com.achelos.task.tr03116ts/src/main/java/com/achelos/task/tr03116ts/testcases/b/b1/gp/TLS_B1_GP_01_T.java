@@ -2,12 +2,13 @@ package com.achelos.task.tr03116ts.testcases.b.b1.gp;
 
 import java.util.Arrays;
 
-import com.achelos.task.abstracttestsuite.AbstractTestCase;
 import com.achelos.task.commandlineexecution.applications.tlstesttool.TlsTestToolExecutor;
 import com.achelos.task.commandlineexecution.applications.tlstesttool.messagetextresources.TestToolResource;
 import com.achelos.task.commandlineexecution.applications.tshark.TSharkExecutor;
 import com.achelos.task.commons.enums.TlsCipherSuite;
 import com.achelos.task.commons.enums.TlsVersion;
+import com.achelos.task.configuration.TestRunPlanConfiguration;
+import com.achelos.task.tr03116ts.testcases.b.AbstractDUTServerTestCase;
 import com.achelos.task.tr03116ts.testfragments.TFTCPIPCloseConnection;
 import com.achelos.task.tr03116ts.testfragments.TFTCPIPNewConnection;
 import com.achelos.task.tr03116ts.testfragments.TFTLSClientHello;
@@ -23,7 +24,7 @@ import com.achelos.task.tr03116ts.testfragments.TFTLSVersionCheck;
  * The test MUST be repeated for each TLS version [TLS_VERSION] and non-ECC algorithm [CIPHERSUITE] combination
  * supported by the DUT for incoming TLS connections.
  */
-public class TLS_B1_GP_01_T extends AbstractTestCase {
+public class TLS_B1_GP_01_T extends AbstractDUTServerTestCase {
 
 	private static final String TEST_CASE_ID = "TLS_B1_GP_01_T";
 	private static final String TEST_CASE_DESCRIPTION = "Supported TLS versions";
@@ -38,8 +39,8 @@ public class TLS_B1_GP_01_T extends AbstractTestCase {
 	private final TFTCPIPCloseConnection tFTCPIPCloseConnection;
 	private final TFTLSClientHello tfClientHello;
 
-	public TLS_B1_GP_01_T() {
-		super();
+	public TLS_B1_GP_01_T(final TestRunPlanConfiguration configuration) {
+		super(configuration);
 		setTestCaseId(TEST_CASE_ID);
 		setTestCaseDescription(TEST_CASE_DESCRIPTION);
 		setTestCasePurpose(TEST_CASE_PURPOSE);
@@ -47,13 +48,13 @@ public class TLS_B1_GP_01_T extends AbstractTestCase {
 		tFTCPIPNewConnection = new TFTCPIPNewConnection(this);
 		tFTLSVersionCheck = new TFTLSVersionCheck(this);
 		tFTCPIPCloseConnection = new TFTCPIPCloseConnection(this);
-		tfClientHello = new TFTLSClientHello(this);
+		tfClientHello = new TFTLSClientHello(this, configuration);
 	}
 
 	@Override
 	protected final void prepareEnvironment() throws Exception {
-		testTool = new TlsTestToolExecutor(getTestCaseId(), logger);
-		tShark = new TSharkExecutor(getTestCaseId(), logger);
+		testTool = new TlsTestToolExecutor(getTestCaseId(), logger, configuration);
+		tShark = new TSharkExecutor(getTestCaseId(), logger, configuration);
 		tShark.start();
 	}
 
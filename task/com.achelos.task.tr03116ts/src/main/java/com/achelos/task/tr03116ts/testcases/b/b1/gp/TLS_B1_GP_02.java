@@ -2,13 +2,14 @@ package com.achelos.task.tr03116ts.testcases.b.b1.gp;
 
 import java.util.Arrays;
 
-import com.achelos.task.abstracttestsuite.AbstractTestCase;
 import com.achelos.task.commandlineexecution.applications.tlstesttool.TlsTestToolExecutor;
 import com.achelos.task.commandlineexecution.applications.tshark.TSharkExecutor;
 import com.achelos.task.commons.enums.TlsAlertDescription;
 import com.achelos.task.commons.enums.TlsAlertLevel;
 import com.achelos.task.commons.enums.TlsCipherSuite;
 import com.achelos.task.commons.enums.TlsVersion;
+import com.achelos.task.configuration.TestRunPlanConfiguration;
+import com.achelos.task.tr03116ts.testcases.b.AbstractDUTServerTestCase;
 import com.achelos.task.tr03116ts.testfragments.TFAlertMessageCheck;
 import com.achelos.task.tr03116ts.testfragments.TFTCPIPCloseConnection;
 import com.achelos.task.tr03116ts.testfragments.TFTCPIPNewConnection;
@@ -21,7 +22,7 @@ import com.achelos.task.tr03116ts.testfragments.TFTLSClientHello;
  * This test verifies that the connection is not established if the client offers only cipher suites that are not listed
  * in the ICS.
  */
-public class TLS_B1_GP_02 extends AbstractTestCase {
+public class TLS_B1_GP_02 extends AbstractDUTServerTestCase {
 
 	private static final String TEST_CASE_ID = "TLS_B1_GP_02";
 	private static final String TEST_CASE_DESCRIPTION = "Reject unsupported Cipher Suites";
@@ -36,7 +37,8 @@ public class TLS_B1_GP_02 extends AbstractTestCase {
 	private final TFTCPIPCloseConnection tFTCPIPCloseConnection;
 	private final TFTLSClientHello tfClientHello;
 
-	public TLS_B1_GP_02() {
+	public TLS_B1_GP_02(final TestRunPlanConfiguration configuration) {
+		super(configuration);
 		setTestCaseId(TEST_CASE_ID);
 		setTestCaseDescription(TEST_CASE_DESCRIPTION);
 		setTestCasePurpose(TEST_CASE_PURPOSE);
@@ -44,13 +46,13 @@ public class TLS_B1_GP_02 extends AbstractTestCase {
 		tFTCPIPNewConnection = new TFTCPIPNewConnection(this);
 		tFAlertMessageCheck = new TFAlertMessageCheck(this);
 		tFTCPIPCloseConnection = new TFTCPIPCloseConnection(this);
-		tfClientHello = new TFTLSClientHello(this);
+		tfClientHello = new TFTLSClientHello(this, configuration);
 	}
 
 	@Override
 	protected final void prepareEnvironment() throws Exception {
-		testTool = new TlsTestToolExecutor(getTestCaseId(), logger);
-		tShark = new TSharkExecutor(getTestCaseId(), logger);
+		testTool = new TlsTestToolExecutor(getTestCaseId(), logger, configuration);
+		tShark = new TSharkExecutor(getTestCaseId(), logger, configuration);
 		tShark.start();
 	}
 
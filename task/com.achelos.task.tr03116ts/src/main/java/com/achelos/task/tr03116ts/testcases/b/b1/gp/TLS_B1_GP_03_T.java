@@ -4,7 +4,6 @@ import java.security.cert.X509Certificate;
 import java.util.Arrays;
 import java.util.List;
 
-import com.achelos.task.abstracttestsuite.AbstractTestCase;
 import com.achelos.task.commandlineexecution.applications.tlstesttool.TlsTestToolExecutor;
 import com.achelos.task.commandlineexecution.applications.tlstesttool.messagetextresources.TestToolResource;
 import com.achelos.task.commandlineexecution.applications.tshark.TSharkExecutor;
@@ -12,6 +11,8 @@ import com.achelos.task.commons.certificatehelper.CertificateChecker;
 import com.achelos.task.commons.certificatehelper.TlsSignatureAlgorithmWithHash;
 import com.achelos.task.commons.enums.TlsCipherSuite;
 import com.achelos.task.commons.enums.TlsVersion;
+import com.achelos.task.configuration.TestRunPlanConfiguration;
+import com.achelos.task.tr03116ts.testcases.b.AbstractDUTServerTestCase;
 import com.achelos.task.tr03116ts.testfragments.TFTCPIPCloseConnection;
 import com.achelos.task.tr03116ts.testfragments.TFTCPIPNewConnection;
 import com.achelos.task.tr03116ts.testfragments.TFTLSClientHello;
@@ -26,7 +27,7 @@ import com.achelos.task.tr03116ts.testfragments.TFTLSVersionCheck;
  * <p>
  * The test MUST be repeated for each signature algorithm [SIG_ALGORITHM] supported by the DUT according to the ICS.
  */
-public class TLS_B1_GP_03_T extends AbstractTestCase {
+public class TLS_B1_GP_03_T extends AbstractDUTServerTestCase {
 
 	private static final String TEST_CASE_ID = "TLS_B1_GP_03_T";
 	private static final String TEST_CASE_DESCRIPTION = " signature_algorithms extension";
@@ -41,7 +42,8 @@ public class TLS_B1_GP_03_T extends AbstractTestCase {
 	private final TFTLSVersionCheck tFTLSVersionCheck;
 	private final TFTLSClientHello tfClientHello;
 
-	public TLS_B1_GP_03_T() {
+	public TLS_B1_GP_03_T(final TestRunPlanConfiguration configuration) {
+		super(configuration);
 		setTestCaseId(TEST_CASE_ID);
 		setTestCaseDescription(TEST_CASE_DESCRIPTION);
 		setTestCasePurpose(TEST_CASE_PURPOSE);
@@ -50,13 +52,13 @@ public class TLS_B1_GP_03_T extends AbstractTestCase {
 		tFTCPIPNewConnection = new TFTCPIPNewConnection(this);
 		tFTCPIPCloseConnection = new TFTCPIPCloseConnection(this);
 		tFTLSVersionCheck = new TFTLSVersionCheck(this);
-		tfClientHello = new TFTLSClientHello(this);
+		tfClientHello = new TFTLSClientHello(this, configuration);
 	}
 
 	@Override
 	protected final void prepareEnvironment() throws Exception {
-		testTool = new TlsTestToolExecutor(getTestCaseId(), logger);
-		tShark = new TSharkExecutor(getTestCaseId(), logger);
+		testTool = new TlsTestToolExecutor(getTestCaseId(), logger, configuration);
+		tShark = new TSharkExecutor(getTestCaseId(), logger, configuration);
 		tShark.start();
 	}
 
@@ -2,7 +2,6 @@ package com.achelos.task.tr03116ts.testcases.b.b1.gp;
 
 import java.util.Arrays;
 
-import com.achelos.task.abstracttestsuite.AbstractTestCase;
 import com.achelos.task.commandlineexecution.applications.tlstesttool.TlsTestToolExecutor;
 import com.achelos.task.commandlineexecution.applications.tshark.TSharkExecutor;
 import com.achelos.task.commons.enums.TlsAlertDescription;
@@ -10,6 +9,8 @@ import com.achelos.task.commons.enums.TlsAlertLevel;
 import com.achelos.task.commons.enums.TlsCipherSuite;
 import com.achelos.task.commons.enums.TlsNamedCurves;
 import com.achelos.task.commons.enums.TlsVersion;
+import com.achelos.task.configuration.TestRunPlanConfiguration;
+import com.achelos.task.tr03116ts.testcases.b.AbstractDUTServerTestCase;
 import com.achelos.task.tr03116ts.testfragments.TFAlertMessageCheck;
 import com.achelos.task.tr03116ts.testfragments.TFTCPIPCloseConnection;
 import com.achelos.task.tr03116ts.testfragments.TFTCPIPNewConnection;
@@ -22,7 +23,7 @@ import com.achelos.task.tr03116ts.testfragments.TFTLSClientHello;
  * This test ensures that the connection is not established if the client offers only elliptic curve cipher suites and
  * unsupported curves according to the ICS.
  */
-public class TLS_B1_GP_04 extends AbstractTestCase {
+public class TLS_B1_GP_04 extends AbstractDUTServerTestCase {
 
 	private static final String TEST_CASE_ID = "TLS_B1_GP_04";
 	private static final String TEST_CASE_DESCRIPTION = "Reject unsupported ECC curves";
@@ -39,22 +40,23 @@ public class TLS_B1_GP_04 extends AbstractTestCase {
 	private final TFAlertMessageCheck tFAlertMessageCheck;
 
 
-	public TLS_B1_GP_04() {
+	public TLS_B1_GP_04(final TestRunPlanConfiguration configuration) {
+		super(configuration);
 		setTestCaseId(TEST_CASE_ID);
 		setTestCaseDescription(TEST_CASE_DESCRIPTION);
 		setTestCasePurpose(TEST_CASE_PURPOSE);
 
 		tFTCPIPNewConnection = new TFTCPIPNewConnection(this);
 		tFTCPIPCloseConnection = new TFTCPIPCloseConnection(this);
-		tfClientHello = new TFTLSClientHello(this);
+		tfClientHello = new TFTLSClientHello(this, configuration);
 		tFAlertMessageCheck = new TFAlertMessageCheck(this);
 
 	}
 
 	@Override
 	protected final void prepareEnvironment() throws Exception {
-		testTool = new TlsTestToolExecutor(getTestCaseId(), logger);
-		tShark = new TSharkExecutor(getTestCaseId(), logger);
+		testTool = new TlsTestToolExecutor(getTestCaseId(), logger, configuration);
+		tShark = new TSharkExecutor(getTestCaseId(), logger, configuration);
 		tShark.start();
 	}
 
@@ -3,12 +3,13 @@ package com.achelos.task.tr03116ts.testcases.b.b1.gp;
 import java.util.Arrays;
 import java.util.List;
 
-import com.achelos.task.abstracttestsuite.AbstractTestCase;
 import com.achelos.task.commandlineexecution.applications.tlstesttool.TlsTestToolExecutor;
 import com.achelos.task.commandlineexecution.applications.tshark.TSharkExecutor;
 import com.achelos.task.commons.enums.TlsAlertLevel;
 import com.achelos.task.commons.enums.TlsCipherSuite;
 import com.achelos.task.commons.enums.TlsVersion;
+import com.achelos.task.configuration.TestRunPlanConfiguration;
+import com.achelos.task.tr03116ts.testcases.b.AbstractDUTServerTestCase;
 import com.achelos.task.tr03116ts.testfragments.TFAlertMessageCheck;
 import com.achelos.task.tr03116ts.testfragments.TFTCPIPCloseConnection;
 import com.achelos.task.tr03116ts.testfragments.TFTCPIPNewConnection;
@@ -22,7 +23,7 @@ import com.achelos.task.tr03116ts.testfragments.TFTLSClientHello;
  * <p>
  * The test MUST be repeated for each TLS version unsupported by the DUT according to the ICS (cf. Table 20).
  */
-public class TLS_B1_GP_05_T extends AbstractTestCase {
+public class TLS_B1_GP_05_T extends AbstractDUTServerTestCase {
 
 	private static final String TEST_CASE_ID = "TLS_B1_GP_05_T";
 	private static final String TEST_CASE_DESCRIPTION = "Reject unsupported TLS version";
@@ -36,7 +37,8 @@ public class TLS_B1_GP_05_T extends AbstractTestCase {
 	private final TFTCPIPCloseConnection tFTCPIPCloseConnection;
 	private final TFTLSClientHello tfClientHello;
 
-	public TLS_B1_GP_05_T() {
+	public TLS_B1_GP_05_T(final TestRunPlanConfiguration configuration) {
+		super(configuration);
 		setTestCaseId(TEST_CASE_ID);
 		setTestCaseDescription(TEST_CASE_DESCRIPTION);
 		setTestCasePurpose(TEST_CASE_PURPOSE);
@@ -44,13 +46,13 @@ public class TLS_B1_GP_05_T extends AbstractTestCase {
 		tFTCPIPNewConnection = new TFTCPIPNewConnection(this);
 		tfAlertMessageCheck = new TFAlertMessageCheck(this);
 		tFTCPIPCloseConnection = new TFTCPIPCloseConnection(this);
-		tfClientHello = new TFTLSClientHello(this);
+		tfClientHello = new TFTLSClientHello(this, configuration);
 	}
 
 	@Override
 	protected final void prepareEnvironment() throws Exception {
-		testTool = new TlsTestToolExecutor(getTestCaseId(), logger);
-		tShark = new TSharkExecutor(getTestCaseId(), logger);
+		testTool = new TlsTestToolExecutor(getTestCaseId(), logger, configuration);
+		tShark = new TSharkExecutor(getTestCaseId(), logger, configuration);
 		tShark.start();
 	}
 
@@ -3,13 +3,14 @@ package com.achelos.task.tr03116ts.testcases.b.b1.gp;
 import java.util.Arrays;
 import java.util.List;
 
-import com.achelos.task.abstracttestsuite.AbstractTestCase;
 import com.achelos.task.commandlineexecution.applications.tlstesttool.TlsTestToolExecutor;
 import com.achelos.task.commandlineexecution.applications.tlstesttool.messagetextresources.TestToolResource;
 import com.achelos.task.commandlineexecution.applications.tshark.TSharkExecutor;
 import com.achelos.task.commons.enums.TlsCipherSuite;
 import com.achelos.task.commons.enums.TlsNamedCurves;
 import com.achelos.task.commons.enums.TlsVersion;
+import com.achelos.task.configuration.TestRunPlanConfiguration;
+import com.achelos.task.tr03116ts.testcases.b.AbstractDUTServerTestCase;
 import com.achelos.task.tr03116ts.testfragments.TFTCPIPCloseConnection;
 import com.achelos.task.tr03116ts.testfragments.TFTCPIPNewConnection;
 import com.achelos.task.tr03116ts.testfragments.TFTLSClientHello;
@@ -26,7 +27,7 @@ import com.achelos.task.tr03116ts.testfragments.TFTLSVersionCheck;
  * The test MUST be repeated for each combination of TLS version [TLS_VERSION], PFS algorithm [CIPHERSUITE] using DHE
  * and DHE parameters [GROUP] supported by the DUT for incoming TLS connections.
  */
-public class TLS_B1_GP_07_T extends AbstractTestCase {
+public class TLS_B1_GP_07_T extends AbstractDUTServerTestCase {
 
 	private static final String TEST_CASE_ID = "TLS_B1_GP_07_T";
 	private static final String TEST_CASE_DESCRIPTION = "Perfect forward secrecy cipher suites";
@@ -42,12 +43,13 @@ public class TLS_B1_GP_07_T extends AbstractTestCase {
 	private final TFTCPIPCloseConnection tFTCPIPCloseConnection;
 	private final TFTLSVersionCheck tFTLSVersionCheck;
 
-	public TLS_B1_GP_07_T() {
+	public TLS_B1_GP_07_T(final TestRunPlanConfiguration configuration) {
+		super(configuration);
 		setTestCaseId(TEST_CASE_ID);
 		setTestCaseDescription(TEST_CASE_DESCRIPTION);
 		setTestCasePurpose(TEST_CASE_PURPOSE);
 
-		tfClientHello = new TFTLSClientHello(this);
+		tfClientHello = new TFTLSClientHello(this, configuration);
 		tFTCPIPNewConnection = new TFTCPIPNewConnection(this);
 		tFTCPIPCloseConnection = new TFTCPIPCloseConnection(this);
 		tFTLSVersionCheck = new TFTLSVersionCheck(this);
@@ -55,8 +57,8 @@ public class TLS_B1_GP_07_T extends AbstractTestCase {
 
 	@Override
 	protected final void prepareEnvironment() throws Exception {
-		testTool = new TlsTestToolExecutor(getTestCaseId(), logger);
-		tShark = new TSharkExecutor(getTestCaseId(), logger);
+		testTool = new TlsTestToolExecutor(getTestCaseId(), logger, configuration);
+		tShark = new TSharkExecutor(getTestCaseId(), logger, configuration);
 		tShark.start();
 	}
 
@@ -148,7 +150,7 @@ public class TLS_B1_GP_07_T extends AbstractTestCase {
 
 			// repeat test for all supported pfs cipher suites
 			for (TlsCipherSuite cipherSuite : cipherSuites) {
-				boolean isECDHECipherSuite = TlsCipherSuite.filterByName("TLS_ECDHE_").contains(cipherSuite);
+				boolean isECDHECipherSuite = TlsCipherSuite.getEcdheCipherSuites().contains(cipherSuite);
 				List<TlsNamedCurves> supportedGroups;
 				if (isECDHECipherSuite) {
 					supportedGroups = eccSupportedGroups;
@@ -190,7 +192,7 @@ public class TLS_B1_GP_07_T extends AbstractTestCase {
 			var eccSupportedGroups
 					= configuration.filterSupportedGroupsToEllipticCurveGroups(tlsVersion);
 			for (TlsCipherSuite cipherSuite : cipherSuites) {
-				boolean isECDHECipherSuite = TlsCipherSuite.filterByName("TLS_ECDHE_").contains(cipherSuite);
+				boolean isECDHECipherSuite = TlsCipherSuite.getEcdheCipherSuites().contains(cipherSuite);
 				List<TlsNamedCurves> supportedGroups;
 				if (isECDHECipherSuite) {
 					supportedGroups = eccSupportedGroups;
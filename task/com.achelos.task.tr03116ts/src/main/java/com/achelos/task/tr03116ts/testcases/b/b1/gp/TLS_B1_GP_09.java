@@ -1,14 +1,16 @@
 package com.achelos.task.tr03116ts.testcases.b.b1.gp;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 
-import com.achelos.task.abstracttestsuite.AbstractTestCase;
 import com.achelos.task.commandlineexecution.applications.tlstesttool.TlsTestToolExecutor;
 import com.achelos.task.commandlineexecution.applications.tlstesttool.messagetextresources.TestToolResource;
 import com.achelos.task.commandlineexecution.applications.tshark.TSharkExecutor;
 import com.achelos.task.commons.enums.TlsCipherSuite;
 import com.achelos.task.commons.enums.TlsVersion;
+import com.achelos.task.configuration.TestRunPlanConfiguration;
+import com.achelos.task.tr03116ts.testcases.b.AbstractDUTServerTestCase;
 import com.achelos.task.tr03116ts.testfragments.TFTCPIPCloseConnection;
 import com.achelos.task.tr03116ts.testfragments.TFTCPIPNewConnection;
 import com.achelos.task.tr03116ts.testfragments.TFTLSClientHello;
@@ -19,7 +21,7 @@ import com.achelos.task.tr03116ts.testfragments.TFTLSClientHello;
  * <p>
  * This positive test evaluates the ability of the DUT to select a stronger cipher suite given a choice.
  */
-public class TLS_B1_GP_09 extends AbstractTestCase {
+public class TLS_B1_GP_09 extends AbstractDUTServerTestCase {
 
 	private static final String TEST_CASE_ID = "TLS_B1_GP_09";
 	private static final String TEST_CASE_DESCRIPTION = "Select strongest cipher suite";
@@ -32,20 +34,21 @@ public class TLS_B1_GP_09 extends AbstractTestCase {
 	private final TFTCPIPNewConnection tFTCPIPNewConnection;
 	private final TFTCPIPCloseConnection tFTCPIPCloseConnection;
 
-	public TLS_B1_GP_09() {
+	public TLS_B1_GP_09(final TestRunPlanConfiguration configuration) {
+		super(configuration);
 		setTestCaseId(TEST_CASE_ID);
 		setTestCaseDescription(TEST_CASE_DESCRIPTION);
 		setTestCasePurpose(TEST_CASE_PURPOSE);
 
-		tfClientHello = new TFTLSClientHello(this);
+		tfClientHello = new TFTLSClientHello(this, configuration);
 		tFTCPIPNewConnection = new TFTCPIPNewConnection(this);
 		tFTCPIPCloseConnection = new TFTCPIPCloseConnection(this);
 	}
 
 	@Override
 	protected final void prepareEnvironment() throws Exception {
-		testTool = new TlsTestToolExecutor(getTestCaseId(), logger);
-		tShark = new TSharkExecutor(getTestCaseId(), logger);
+		testTool = new TlsTestToolExecutor(getTestCaseId(), logger, configuration);
+		tShark = new TSharkExecutor(getTestCaseId(), logger, configuration);
 		tShark.start();
 	}
 
@@ -109,7 +112,8 @@ public class TLS_B1_GP_09 extends AbstractTestCase {
 			return;
 		}
 
-		/* reverse the cipher suite order */
+		/* reverse the cipher suite order, the supported cipher suites are shared and must not be modified */
+		cipherSuites = new ArrayList<>(cipherSuites);
 		Collections.reverse(cipherSuites);
 		logger.debug("Supported Cipher suites:");
 		for (TlsCipherSuite cipherSuite : cipherSuites) {
@@ -82,7 +82,7 @@ public class TFDUTClientNewConnection extends AbstractTestFragment {
 		step(prefix, 1,
 				"Tester request: Please motivate the DUT to create a TLS connection over TCP/IP"
 						+ " to " + TlsTestToolExecutor.TLS_TEST_TOOL_LOCAL_HOST_AS_SERVER + ":"
-						+ testTool.getConfiguration().getTlsTestToolPort() + ".",
+						+ testTool.getServerPort() + ".",
 				"Tester confirms that the DUT was motivated.\r\nReceive a ClientHello message from the DUT.");
 
 		// Check if it's a handshake with session resumption. Do not check for TCP/IP connection in case of session
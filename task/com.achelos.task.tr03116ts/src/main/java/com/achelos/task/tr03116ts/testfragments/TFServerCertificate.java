@@ -23,9 +23,9 @@ public class TFServerCertificate extends AbstractTestFragment {
 
 	private final TestRunPlanConfiguration configuration;
 
-	public TFServerCertificate(final IStepExecution parentStepExec) {
+	public TFServerCertificate(final IStepExecution parentStepExec, final TestRunPlanConfiguration configuration) {
 		super(parentStepExec, "Server certificate");
-		configuration = TestRunPlanConfiguration.getInstance();
+		this.configuration = configuration;
 	}
 
 	@Override
@@ -30,10 +30,10 @@ public class TFTLSClientHello extends AbstractTestFragment {
 
 	TestRunPlanConfiguration configuration;
 
-	public TFTLSClientHello(final IStepExecution parentStepExec) {
+	public TFTLSClientHello(final IStepExecution parentStepExec, final TestRunPlanConfiguration configuration) {
 		super(parentStepExec, "TLS Client Hello");
 
-		configuration = TestRunPlanConfiguration.getInstance();
+		this.configuration = configuration;
 	}
 
 	/**
@@ -23,10 +23,10 @@ public class TFTLSServerHello extends AbstractTestFragment {
 	TestRunPlanConfiguration configuration;
 	
 
-	public TFTLSServerHello(final IStepExecution parentStepExec) {
+	public TFTLSServerHello(final IStepExecution parentStepExec, final TestRunPlanConfiguration configuration) {
 		super(parentStepExec, "TLS Server Hello");
 
-		configuration = TestRunPlanConfiguration.getInstance();
+		this.configuration = configuration;
 	}
 
 	/**
@@ -122,7 +122,7 @@ public class TFTLSServerHello extends AbstractTestFragment {
 		// basic configuration
 		int stepCounter = 1;
 		step(prefix, stepCounter, "The TlsTestTool acts as a server and is reachable via TCP/IP: " +
-				TlsTestToolExecutor.TLS_TEST_TOOL_LOCAL_HOST_AS_SERVER + ":" + configuration.getTlsTestToolPort(),
+				TlsTestToolExecutor.TLS_TEST_TOOL_LOCAL_HOST_AS_SERVER + ":" + testTool.getServerPort(),
 				"");
 		stepCounter++;
 		testTool.setMode(TlsTestToolMode.server);
@@ -1,10 +1,13 @@
 package com.achelos.task.utilities;
 
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
 
 /**
- * This class contains formatting methods for timestamps.
+ * This class contains formatting methods for timestamps. All methods are thread-safe.
  *
  */
 public class DateTimeUtils {
@@ -31,15 +34,33 @@ public class DateTimeUtils {
 	 */
 	public static final String ISO_8601_DATE_TIME_PATTERN_FOR_DIRECTORIES = "yyyy-MM-dd'T'HHmmss";
 
+	/**
+	 * Formatter for {@link #ISO_8601_DATE_TIME_PATTERN}.
+	 */
+	public static final DateTimeFormatter ISO_8601_DATE_TIME_FORMATTER
+			= DateTimeFormatter.ofPattern(ISO_8601_DATE_TIME_PATTERN);
+
+	/**
+	 * Formatter for {@link #ISO_8601_DATE_TIME_PATTERN_MILLISECONDS}.
+	 */
+	public static final DateTimeFormatter ISO_8601_DATE_TIME_FORMATTER_MILLISECONDS
+			= DateTimeFormatter.ofPattern(ISO_8601_DATE_TIME_PATTERN_MILLISECONDS);
+
+	/**
+	 * Formatter for {@link #ISO_8601_DATE_TIME_PATTERN_FOR_DIRECTORIES}.
+	 */
+	public static final DateTimeFormatter ISO_8601_DATE_TIME_FORMATTER_FOR_DIRECTORIES
+			= DateTimeFormatter.ofPattern(ISO_8601_DATE_TIME_PATTERN_FOR_DIRECTORIES);
+
+	private static final ThreadLocal<TimestampCache> TIMESTAMP_CACHE = ThreadLocal.withInitial(TimestampCache::new);
+
 	/**
 	 * Return the formatted current date and time e.g. yyyy-MM-dd'T'HHmmss.
 	 * Returned date and time shall be formatted like '2022-06-14T102656'
 	 * @return formatted current date and time e.g. yyyy-MM-dd'T'HHmmss
 	 */
 	public static String getTimeStampForFileAndDirectoryNames() {
-		return new SimpleDateFormat(ISO_8601_DATE_TIME_PATTERN_FOR_DIRECTORIES)
-				.format(new Date());
-
+		return ISO_8601_DATE_TIME_FORMATTER_FOR_DIRECTORIES.format(LocalDateTime.now());
 	}
 
 	/**
@@ -48,7 +69,70 @@ public class DateTimeUtils {
 	 * @return formatted current date and time e.g yyyy-MM-dd'T'HH:mm:ss
 	 */
 	public static String getISOFormattedTimeStamp() {
-		return new SimpleDateFormat(ISO_8601_DATE_TIME_PATTERN).format(new Date());
+		return ISO_8601_DATE_TIME_FORMATTER.format(LocalDateTime.now());
+	}
+
+	/**
+	 * Return the given date and time formatted like yyyy-MM-dd'T'HH:mm:ss.
+	 * @param dateTime the date and time to format
+	 * @return the formatted date and time, e.g. '2022-06-14T11:03:36'
+	 */
+	public static String formatDateTime(final TemporalAccessor dateTime) {
+		return ISO_8601_DATE_TIME_FORMATTER.format(dateTime);
+	}
+
+	/**
+	 * Return the given point in time in the default time zone formatted like yyyy-MM-dd'T'HH:mm:ss.
+	 * @param epochMilliseconds the milliseconds since the epoch
+	 * @return the formatted date and time, e.g. '2022-06-14T11:03:36'
+	 */
+	public static String formatEpochMilliseconds(final long epochMilliseconds) {
+		return TIMESTAMP_CACHE.get().format(epochMilliseconds, false);
+	}
+
+	/**
+	 * Return the given point in time in the default time zone formatted like yyyy-MM-dd'T'HH:mm:ss.SSS.
+	 * @param epochMilliseconds the milliseconds since the epoch
+	 * @return the formatted date and time, e.g. '2022-06-14T11:03:36.123'
+	 */
+	public static String formatEpochMillisecondsWithMilliseconds(final long epochMilliseconds) {
+		return TIMESTAMP_CACHE.get().format(epochMilliseconds, true);
+	}
+
+	/**
+	 * Per-thread formatting state. Log messages are usually formatted in chronological order, so the formatted second of
+	 * the previous call is reused as long as the second and the default time zone do not change.
+	 */
+	private static final class TimestampCache {
+		private final StringBuilder builder = new StringBuilder(ISO_8601_DATE_TIME_PATTERN_MILLISECONDS.length());
+		private ZoneId zone;
+		private long epochSecond;
+		private String formattedSecond;
+
+		private String format(final long epochMilliseconds, final boolean withMilliseconds) {
+			final long second = Math.floorDiv(epochMilliseconds, 1000L);
+			final var currentZone = ZoneId.systemDefault();
+			if (formattedSecond == null || second != epochSecond || !currentZone.equals(zone)) {
+				builder.setLength(0);
+				ISO_8601_DATE_TIME_FORMATTER.formatTo(Instant.ofEpochSecond(second).atZone(currentZone), builder);
+				formattedSecond = builder.toString();
+				epochSecond = second;
+				zone = currentZone;
+			}
+			if (!withMilliseconds) {
+				return formattedSecond;
+			}
+			final int millisecond = (int) Math.floorMod(epochMilliseconds, 1000L);
+			builder.setLength(0);
+			builder.append(formattedSecond).append('.');
+			if (millisecond < 100) {
+				builder.append('0');
+			}
+			if (millisecond < 10) {
+				builder.append('0');
+			}
+			return builder.append(millisecond).toString();
+		}
 	}
 
 }
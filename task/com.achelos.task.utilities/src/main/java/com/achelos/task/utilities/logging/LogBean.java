@@ -1,8 +1,12 @@
 package com.achelos.task.utilities.logging;
 
-import java.text.DateFormat;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
@@ -27,7 +31,33 @@ public class LogBean {
 		LOW;
 	}
 
-	private final Date timestamp;
+	/**
+	 * Value of {@link #timestamp} for log messages without timestamp.
+	 */
+	private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+	/**
+	 * Parser for "yyyy-MM-dd'T'HH:mm:ss.SSS", which also accepts fractions of a second with up to nine digits.
+	 */
+	private static final DateTimeFormatter TIMESTAMP_FORMATTER = new DateTimeFormatterBuilder()
+			.appendPattern(DateTimeUtils.ISO_8601_DATE_TIME_PATTERN)
+			.appendFraction(ChronoField.NANO_OF_SECOND, 3, 9, true)
+			.toFormatter();
+
+	/**
+	 * Length of a timestamp formatted as "yyyy-MM-dd'T'HH:mm:ss.SSS".
+	 */
+	private static final int TIMESTAMP_LENGTH = 23;
+
+	/**
+	 * Length of the date part "yyyy-MM-dd" of a timestamp.
+	 */
+	private static final int TIMESTAMP_DATE_LENGTH = 10;
+
+	/**
+	 * Log timestamp in milliseconds since the epoch or {@link #NO_TIMESTAMP}.
+	 */
+	private final long timestamp;
 	private final LogSeverity severity;
 	private final String origin;
 	private final String message;
@@ -41,8 +71,20 @@ public class LogBean {
 	 * @param message Log message.
 	 */
 	public LogBean(final Date timeStamp, final String severity, final String origin, final String message) {
-		timestamp = (Date) timeStamp.clone();
-		this.severity = LogSeverity.valueOf(severity);
+		this(timeStamp.getTime(), LogSeverity.valueOf(severity), origin, message);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param timeStamp Log timestamp in milliseconds since the epoch.
+	 * @param severity Log severity.
+	 * @param origin Log origin.
+	 * @param message Log message.
+	 */
+	private LogBean(final long timeStamp, final LogSeverity severity, final String origin, final String message) {
+		timestamp = timeStamp;
+		this.severity = severity;
 		this.origin = origin;
 		this.message = message;
 	}
@@ -53,7 +95,7 @@ public class LogBean {
 	 * @param message Log message.
 	 */
 	public LogBean(final String message) {
-		timestamp = null;
+		timestamp = NO_TIMESTAMP;
 		severity = null;
 		origin = null;
 		this.message = message;
@@ -61,22 +103,40 @@ public class LogBean {
 
 
 	/**
-	 * @return the timestamp
+	 * @return the timestamp or null if the log message has no timestamp.
 	 */
 	public final Date getTimestamp() {
-		if (timestamp != null) {
-			Date clone = (Date) timestamp.clone();
-			return clone;
+		if (hasTimestamp()) {
+			return new Date(timestamp);
 		}
 		return null;
 	}
 
 
 	/**
-	 * @return Formatted Date into a date/time string.
+	 * @return true if the log message has a timestamp.
+	 */
+	public final boolean hasTimestamp() {
+		return timestamp != NO_TIMESTAMP;
+	}
+
+
+	/**
+	 * @return the timestamp in milliseconds since the epoch. Only valid if {@link #hasTimestamp()} returns true.
+	 */
+	public final long getTimestampMillis() {
+		return timestamp;
+	}
+
+
+	/**
+	 * @return Formatted Date into a date/time string or null if the log message has no timestamp.
 	 */
 	public final String getTimestampString() {
-		return getDateFormat().format(timestamp);
+		if (!hasTimestamp()) {
+			return null;
+		}
+		return DateTimeUtils.formatEpochMillisecondsWithMilliseconds(timestamp);
 	}
 
 
@@ -106,54 +166,178 @@ public class LogBean {
 
 	@Override
 	public final String toString() {
-		if (timestamp == null) {
+		if (!hasTimestamp()) {
 			return message;
 		}
 		return getTimestampString() + " " + origin + " " + message;
 	}
 
-	private static DateFormat dateFormat = null;
+	/**
+	 * Converts the given logList into {@link LogBean} objects list. <br>
+	 * Each string element of the list is trimmed and split into fields using "\t" (tab) delimiter, see
+	 * {@link #parse(CharSequence)}. Elements with an invalid timestamp will be ignored and will not be added to the
+	 * returning list.
+	 *
+	 * @param logList The log list to convert.
+	 * @return the list containing TlsLogBean elements, empty if an empty list is passed.
+	 */
+	public static ArrayList<LogBean> convertToLogBeanList(final List<String> logList) {
+		final ArrayList<LogBean> result = new ArrayList<>(logList.size());
+		for (final String item : logList) {
+			final LogBean logBean = parse(item);
+			if (logBean != null) {
+				result.add(logBean);
+			}
+		}
+		return result;
+	}
 
 	/**
-	 * @return the formatted date "yyyy-MM-dd HH:mm:ss.SSS"
+	 * Parses a single log line. The line is trimmed and split into the fields timestamp, severity, origin and message
+	 * using "\t" (tab) delimiter, without copying the line. A line having less than four non-empty trailing fields is
+	 * returned as a message without timestamp, consisting of its first field only (e.g. CRLExecutor Server output).
+	 *
+	 * @param line The log line to parse.
+	 * @return the parsed log message or null if the timestamp of the line is invalid.
 	 */
-	private static DateFormat getDateFormat() {
-		if (null == dateFormat) {
-			dateFormat = new SimpleDateFormat(DateTimeUtils.ISO_8601_DATE_TIME_PATTERN_MILLISECONDS);
+	public static LogBean parse(final CharSequence line) {
+		int start = 0;
+		int end = line.length();
+		while (start < end && line.charAt(start) <= ' ') {
+			start++;
 		}
-		return dateFormat;
+		while (end > start && line.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		final int firstTab = indexOfTab(line, start, end);
+		final int secondTab = indexOfTab(line, firstTab + 1, end);
+		final int thirdTab = indexOfTab(line, secondTab + 1, end);
+		if (thirdTab == end || !hasNonTab(line, thirdTab + 1, end)) {
+			return new LogBean(line.subSequence(start, firstTab).toString());
+		}
+		final long timeStamp = parseTimestamp(line, start, firstTab);
+		if (timeStamp == NO_TIMESTAMP) {
+			return null;
+		}
+		return new LogBean(timeStamp, parseSeverity(line, firstTab + 1, secondTab),
+				line.subSequence(secondTab + 1, thirdTab).toString(),
+				line.subSequence(thirdTab + 1, indexOfTab(line, thirdTab + 1, end)).toString());
 	}
 
 	/**
-	 * Converts the given logList into {@link LogBean} objects list. <br>
-	 * This method Trims and then Splits each string element of the list using "\t" (tab) delimiter, Any list item
-	 * having less than 4 parts after spilt, will be ignored and will not be added to the returning list. As it is
-	 * required by {@link LogBean#LogBean(Date, String, String, String)}.
+	 * @return the position of the next tab within the given range of the line or the end of the range.
+	 */
+	private static int indexOfTab(final CharSequence line, final int from, final int end) {
+		for (int i = from; i < end; i++) {
+			if (line.charAt(i) == '\t') {
+				return i;
+			}
+		}
+		return end;
+	}
+
+	/**
+	 * @return true if the given range of the line contains any other character than tab.
+	 */
+	private static boolean hasNonTab(final CharSequence line, final int from, final int end) {
+		for (int i = from; i < end; i++) {
+			if (line.charAt(i) != '\t') {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return the severity within the given range of the line.
+	 * @throws IllegalArgumentException if the range does not contain a valid severity.
+	 */
+	private static LogSeverity parseSeverity(final CharSequence line, final int from, final int end) {
+		for (final LogSeverity severity : LogSeverity.values()) {
+			if (regionEquals(line, from, end, severity.name())) {
+				return severity;
+			}
+		}
+		throw new IllegalArgumentException("No log severity " + line.subSequence(from, end));
+	}
+
+	/**
+	 * @return true if the given range of the line equals the given text.
+	 */
+	private static boolean regionEquals(final CharSequence line, final int from, final int end, final String text) {
+		if (text.length() != end - from) {
+			return false;
+		}
+		for (int i = 0; i < text.length(); i++) {
+			if (line.charAt(from + i) != text.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Parses the timestamp "yyyy-MM-dd'T'HH:mm:ss.SSS" within the given range of the line. The timestamp may be
+	 * followed by a zone offset, e.g. "Z" as written by the TLS Test Tool or "+01:00". Without an offset the timestamp
+	 * is interpreted in the default time zone.
 	 *
-	 * @param logList The log list to convert.
-	 * @return the list containing TlsLogBean elements or null if an empty list is passed.
+	 * @return the timestamp in milliseconds since the epoch or {@link #NO_TIMESTAMP} if the timestamp is invalid.
 	 */
-	public static ArrayList<LogBean> convertToLogBeanList(final List<String> logList) {
-		final ArrayList<LogBean> result = new ArrayList<>();
-		final SimpleDateFormat simpleDateFormat = new SimpleDateFormat(
-				DateTimeUtils.ISO_8601_DATE_TIME_PATTERN_MILLISECONDS);
-		if (logList.isEmpty()) {
-			return result;
+	private static long parseTimestamp(final CharSequence line, final int from, final int end) {
+		final int offsetStart = indexOfOffset(line, from, end);
+		final LocalDateTime dateTime;
+		final ZoneId zone;
+		try {
+			if (offsetStart - from == TIMESTAMP_LENGTH && line.charAt(from + 4) == '-' && line.charAt(from + 7) == '-'
+					&& line.charAt(from + 10) == 'T' && line.charAt(from + 13) == ':' && line.charAt(from + 16) == ':'
+					&& line.charAt(from + 19) == '.') {
+				dateTime = LocalDateTime.of(digits(line, from, 4), digits(line, from + 5, 2),
+						digits(line, from + 8, 2), digits(line, from + 11, 2), digits(line, from + 14, 2),
+						digits(line, from + 17, 2), digits(line, from + 20, 3) * 1_000_000);
+			} else {
+				dateTime = LocalDateTime.parse(line.subSequence(from, offsetStart), TIMESTAMP_FORMATTER);
+			}
+			if (offsetStart == end) {
+				zone = ZoneId.systemDefault();
+			} else if (end - offsetStart == 1 && line.charAt(offsetStart) == 'Z') {
+				zone = ZoneOffset.UTC;
+			} else {
+				zone = ZoneOffset.of(line.subSequence(offsetStart, end).toString());
+			}
+		} catch (DateTimeException | NumberFormatException e) {
+			return NO_TIMESTAMP;
 		}
-		for (final String item : logList) {
-			final String[] parts = item.trim().split("\t");
-			if (parts.length < 4) { // CRLExecutor Server output.
-				result.add(new LogBean(parts[0]));
-				continue;
+		return dateTime.atZone(zone).toInstant().toEpochMilli();
+	}
+
+	/**
+	 * @return the position of the zone offset ("Z", "+" or "-" after the time) within the given range of the line or
+	 *         the end of the range if the timestamp has no zone offset.
+	 */
+	private static int indexOfOffset(final CharSequence line, final int from, final int end) {
+		// The date contains '-' as well, so the offset is only searched after it.
+		for (int i = Math.min(from + TIMESTAMP_DATE_LENGTH, end); i < end; i++) {
+			final char c = line.charAt(i);
+			if (c == 'Z' || c == '+' || c == '-') {
+				return i;
 			}
-			Date date;
-			try {
-				date = simpleDateFormat.parse(parts[0]);
-			} catch (final ParseException e) {
-				continue;
+		}
+		return end;
+	}
+
+	/**
+	 * @return the value of the given number of decimal digits starting at the given position of the line.
+	 * @throws NumberFormatException if any of the characters is not a decimal digit.
+	 */
+	private static int digits(final CharSequence line, final int from, final int count) {
+		int value = 0;
+		for (int i = from; i < from + count; i++) {
+			final char c = line.charAt(i);
+			if (c < '0' || c > '9') {
+				throw new NumberFormatException("Invalid digit " + c);
 			}
-			result.add(new LogBean(date, parts[1], parts[2], parts[3]));
+			value = value * 10 + c - '0';
 		}
-		return result;
+		return value;
 	}
 }
@@ -0,0 +1,85 @@
+package logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.achelos.task.utilities.logging.LogBean;
+import com.achelos.task.utilities.logging.LogBean.LogSeverity;
+
+class TestLogBean {
+
+	/**
+	 * Lines as written by the TLS Test Tool, i.e. "%Y-%m-%dT%H:%M:%S.mmmZ" in UTC followed by tab separated fields.
+	 */
+	private static final List<String> TLS_TEST_TOOL_LOG = List.of(
+			"2024-01-01T10:00:00.123Z\tLOW\tTool(main.cpp:143)\tTLS Test Tool started.",
+			"2024-01-01T10:00:00.456Z\tMEDIUM\tNetwork(TcpServer.cpp:88)\tWaiting for TCP/IP connection on port 4433.",
+			"2024-01-01T10:00:01.007Z\tHIGH\tTLS(MbedTlsSession.cpp:310)\tServerHello.cipher_suite=00 2F",
+			"2024-01-01T10:00:01.999Z\tHIGH\tTLS(MbedTlsSession.cpp:325)\tServerHello.extensions=ff 01 00 01 00\n");
+
+	@Test
+	void testParseTlsTestToolLines() {
+		var logBeans = LogBean.convertToLogBeanList(TLS_TEST_TOOL_LOG);
+
+		assertEquals(TLS_TEST_TOOL_LOG.size(), logBeans.size(), "Log lines of the TLS Test Tool are dropped.");
+		var logBean = logBeans.get(2);
+		assertTrue(logBean.hasTimestamp());
+		assertEquals(Instant.parse("2024-01-01T10:00:01.007Z").toEpochMilli(), logBean.getTimestampMillis(),
+				"The timestamp is not interpreted as UTC.");
+		assertEquals(LogSeverity.HIGH, logBean.getSeverity());
+		assertEquals("TLS(MbedTlsSession.cpp:310)", logBean.getOrigin());
+		assertEquals("ServerHello.cipher_suite=00 2F", logBean.getMessage());
+		assertEquals("ServerHello.extensions=ff 01 00 01 00", logBeans.get(3).getMessage());
+	}
+
+	@Test
+	void testParseTimestampWithoutOffsetInDefaultTimeZone() {
+		var logBean = LogBean.parse("2024-01-01T10:00:00.123\tLOW\tTaSK\tmessage");
+
+		assertNotNull(logBean);
+		var expected = LocalDateTime.of(2024, 1, 1, 10, 0, 0, 123_000_000).atZone(ZoneId.systemDefault());
+		assertEquals(expected.toInstant().toEpochMilli(), logBean.getTimestampMillis());
+	}
+
+	@Test
+	void testParseTimestampWithOffset() {
+		var logBean = LogBean.parse("2024-01-01T11:00:00.123+01:00\tLOW\tTaSK\tmessage");
+
+		assertNotNull(logBean);
+		assertEquals(Instant.parse("2024-01-01T10:00:00.123Z").toEpochMilli(), logBean.getTimestampMillis());
+	}
+
+	@Test
+	void testParseTimestampWithLongFraction() {
+		var logBean = LogBean.parse("2024-01-01T10:00:00.123456Z\tLOW\tTaSK\tmessage");
+
+		assertNotNull(logBean);
+		assertEquals(Instant.parse("2024-01-01T10:00:00.123Z").toEpochMilli(), logBean.getTimestampMillis());
+	}
+
+	@Test
+	void testInvalidTimestampIsIgnored() {
+		assertNull(LogBean.parse("2024-01-01T10:00:00.123X\tLOW\tTaSK\tmessage"));
+		assertNull(LogBean.parse("2024-13-01T10:00:00.123Z\tLOW\tTaSK\tmessage"));
+		assertNull(LogBean.parse("yesterday\tLOW\tTaSK\tmessage"));
+	}
+
+	@Test
+	void testLineWithoutFieldsIsMessageOnly() {
+		var logBean = LogBean.parse("  CRL responder started  ");
+
+		assertNotNull(logBean);
+		assertFalse(logBean.hasTimestamp());
+		assertEquals("CRL responder started", logBean.getMessage());
+	}
+}
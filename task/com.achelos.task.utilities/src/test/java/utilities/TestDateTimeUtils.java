@@ -0,0 +1,99 @@
+package utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.achelos.task.utilities.DateTimeUtils;
+
+
+class TestDateTimeUtils {
+
+	private static final ZoneId BERLIN = ZoneId.of("Europe/Berlin");
+	private static final DateTimeFormatter SECONDS = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+	private static final DateTimeFormatter MILLISECONDS = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS");
+
+	private TimeZone defaultTimeZone;
+
+	@BeforeEach
+	void setTimeZone() {
+		defaultTimeZone = TimeZone.getDefault();
+		TimeZone.setDefault(TimeZone.getTimeZone(BERLIN));
+	}
+
+	@AfterEach
+	void restoreTimeZone() {
+		TimeZone.setDefault(defaultTimeZone);
+	}
+
+	@Test
+	void testEveryMillisecondAcrossSecondBoundaries() {
+		var start = toEpochMilliseconds(LocalDateTime.of(2024, 6, 14, 11, 3, 35, 990000000));
+		for (long epochMilliseconds = start; epochMilliseconds < start + 2020; epochMilliseconds++) {
+			assertFormattedLikeFormatter(epochMilliseconds);
+		}
+	}
+
+	@Test
+	void testDayBoundaries() {
+		var timestamps = new ArrayList<Long>();
+		// End of a day, a month and a year.
+		timestamps.add(toEpochMilliseconds(LocalDateTime.of(2024, 6, 14, 23, 59, 59, 999000000)));
+		timestamps.add(toEpochMilliseconds(LocalDateTime.of(2024, 2, 29, 23, 59, 59, 999000000)));
+		timestamps.add(toEpochMilliseconds(LocalDateTime.of(2023, 12, 31, 23, 59, 59, 999000000)));
+		// Switch to and from daylight saving time.
+		timestamps.add(toEpochMilliseconds(LocalDateTime.of(2024, 3, 31, 1, 59, 59, 999000000)));
+		timestamps.add(toEpochMilliseconds(LocalDateTime.of(2024, 10, 27, 2, 59, 59, 999000000)));
+		// Before the epoch, the milliseconds are still counted upwards within the second.
+		timestamps.add(-1001L);
+		for (var timestamp : timestamps) {
+			for (long epochMilliseconds = timestamp - 1; epochMilliseconds <= timestamp + 2; epochMilliseconds++) {
+				assertFormattedLikeFormatter(epochMilliseconds);
+			}
+		}
+	}
+
+	@Test
+	void testTimestampsOutOfOrder() {
+		var start = toEpochMilliseconds(LocalDateTime.of(2024, 6, 14, 11, 3, 36));
+		for (var offset : List.of(0L, 999L, 1000L, -1L, 86400000L, 1L, -86400000L, 0L)) {
+			assertFormattedLikeFormatter(start + offset);
+		}
+	}
+
+	@Test
+	void testChangedDefaultTimeZone() {
+		var epochMilliseconds = toEpochMilliseconds(LocalDateTime.of(2024, 6, 14, 11, 3, 36, 123000000));
+		assertEquals("2024-06-14T11:03:36.123",
+				DateTimeUtils.formatEpochMillisecondsWithMilliseconds(epochMilliseconds));
+
+		TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+
+		assertEquals("2024-06-14T09:03:36.123",
+				DateTimeUtils.formatEpochMillisecondsWithMilliseconds(epochMilliseconds));
+		assertEquals("2024-06-14T09:03:36", DateTimeUtils.formatEpochMilliseconds(epochMilliseconds));
+	}
+
+	private static long toEpochMilliseconds(final LocalDateTime dateTime) {
+		return dateTime.atZone(BERLIN).toInstant().toEpochMilli();
+	}
+
+	private static void assertFormattedLikeFormatter(final long epochMilliseconds) {
+		var dateTime = Instant.ofEpochMilli(epochMilliseconds).atZone(ZoneId.systemDefault());
+		assertEquals(MILLISECONDS.format(dateTime),
+				DateTimeUtils.formatEpochMillisecondsWithMilliseconds(epochMilliseconds),
+				"Wrong timestamp for " + epochMilliseconds + " ms.");
+		assertEquals(SECONDS.format(dateTime), DateTimeUtils.formatEpochMilliseconds(epochMilliseconds),
+				"Wrong timestamp for " + epochMilliseconds + " ms.");
+	}
+}
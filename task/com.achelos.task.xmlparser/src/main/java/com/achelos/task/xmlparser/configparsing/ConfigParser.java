@@ -55,16 +55,14 @@ public class ConfigParser {
 
 	/**
 	 * Parse a list of TLS specifications XML files and return a list of internal data structure representation of them.
+	 * The files are parsed concurrently.
 	 *
 	 * @param xmlFileList the list of TLS specifications XML files
-	 * @return a list of internal data structure representation of {@link TlsSpecification}
+	 * @return a list of internal data structure representation of {@link TlsSpecification}, in the order of the files
+	 * @throws IllegalArgumentException if at least one of the files cannot be parsed
 	 */
 	public static List<TlsSpecification> parseSpecificationList(final List<File> xmlFileList) {
-		var listOfSpecs = new ArrayList<TlsSpecification>();
-		for (var xmlFile : xmlFileList) {
-			listOfSpecs.add(parseSpecification(xmlFile));
-		}
-		return listOfSpecs;
+		return ParallelFileParser.parse(xmlFileList, ConfigParser::parseSpecification);
 	}
 
 	/**
@@ -91,71 +89,44 @@ public class ConfigParser {
 
 	/**
 	 * Parse a list of ApplicationMapping XML files and return a list of internal data structure representation of them.
+	 * The files are parsed concurrently.
 	 *
 	 * @param xmlFileList list of ApplicationMappings XML files
-	 * @return a list of internal data structure representation of ApplicationMapping
+	 * @return a list of internal data structure representation of ApplicationMapping, in the order of the files
+	 * @throws IllegalArgumentException if at least one of the files cannot be parsed
 	 */
 	public static List<AppMapping> parseApplicationMappingList(final List<File> xmlFileList) {
-		var listOfAppMappings = new ArrayList<AppMapping>();
-		for (var xmlFile : xmlFileList) {
-			listOfAppMappings.add(parseApplicationMapping(xmlFile));
-		}
-		return listOfAppMappings;
+		return ParallelFileParser.parse(xmlFileList, ConfigParser::parseApplicationMapping);
 	}
 
 	/**
-	 * Parse a list of TestCase XML files and return a list of internal data structure representation of them.
+	 * Parse a list of TestCase XML files and return a list of internal data structure representation of them. The
+	 * files contained in all of the given directories are parsed concurrently.
 	 *
-	 * @param xmlFileList list of TestCase XML files
-	 * @return a list of internal data structure representation of TestCases
+	 * @param xmlFileList list of TestCase XML files or directories containing them
+	 * @return a list of internal data structure representation of TestCases, in the order of the files
+	 * @throws IllegalArgumentException if at least one of the files cannot be parsed
 	 */
 	public static List<TestCaseInfo> parseTestCaseList(final List<File> xmlFileList) {
-		var listOfTestCases = new ArrayList<TestCaseInfo>();
+		var testCaseFiles = new ArrayList<File>();
 		for (var xmlFile : xmlFileList) {
-			listOfTestCases.addAll(parseTestCases(xmlFile));
+			collectTestCaseFiles(xmlFile, testCaseFiles);
 		}
-		return listOfTestCases;
+		return ParallelFileParser.parse(testCaseFiles, ConfigParser::parseTestCase);
 	}
 
 	/**
-	 * Parse a list of TestCase XML files and return a list of internal data structure representation of them.
+	 * Parse a list of TestCase XML files and return a list of internal data structure representation of them. The
+	 * files are parsed concurrently.
 	 *
 	 * @param directoryPath Path to a directory containing TestCase XML files
-	 * @return a list of internal data structure representation of contained TestCases
+	 * @return a list of internal data structure representation of contained TestCases, in the order of the files
+	 * @throws IllegalArgumentException if at least one of the files cannot be parsed
 	 */
 	public static List<TestCaseInfo> parseTestCases(final File directoryPath) {
-		var testCaseList = new ArrayList<TestCaseInfo>();
-
-		if (!directoryPath.isDirectory()) {
-			var testCaseInfo = parseTestCase(directoryPath);
-			testCaseList.add(testCaseInfo);
-			return testCaseList;
-		}
-
-		FileFilter fileFilter = pathname -> {
-			if (pathname.isDirectory()) {
-				return true;
-			}
-			return pathname.getName().endsWith(".xml");
-		};
-
-		var fileList = directoryPath.listFiles(fileFilter);
-		if (fileList != null) {
-			for (var file : fileList) {
-				if (file == null) {
-					continue;
-				}
-				if (file.isDirectory()) {
-					var subDirTestCaseList = parseTestCases(file);
-					testCaseList.addAll(subDirTestCaseList);
-				} else {
-					var testCaseInfo = parseTestCase(file);
-					testCaseList.add(testCaseInfo);
-				}
-			}
-		}
-
-		return testCaseList;
+		var testCaseFiles = new ArrayList<File>();
+		collectTestCaseFiles(directoryPath, testCaseFiles);
+		return ParallelFileParser.parse(testCaseFiles, ConfigParser::parseTestCase);
 	}
 
 	/**
@@ -191,6 +162,35 @@ public class ConfigParser {
 		return rawConfigData.getRSADSADHEKeyLengths().getRSADSADHEKeyLength();
 	}
 
+	/**
+	 * Collect the TestCase XML files in a directory and its subdirectories, or the given file if it is no directory.
+	 *
+	 * @param directoryPath Path to a directory containing TestCase XML files
+	 * @param testCaseFiles receives the TestCase XML files
+	 */
+	private static void collectTestCaseFiles(final File directoryPath, final List<File> testCaseFiles) {
+		if (!directoryPath.isDirectory()) {
+			testCaseFiles.add(directoryPath);
+			return;
+		}
+
+		FileFilter fileFilter = pathname -> {
+			if (pathname.isDirectory()) {
+				return true;
+			}
+			return pathname.getName().endsWith(".xml");
+		};
+
+		var fileList = directoryPath.listFiles(fileFilter);
+		if (fileList != null) {
+			for (var file : fileList) {
+				if (file != null) {
+					collectTestCaseFiles(file, testCaseFiles);
+				}
+			}
+		}
+	}
+
 	/**
 	 * Parse a TestCase from an XML file and return the internal data structure representation of it.
 	 *
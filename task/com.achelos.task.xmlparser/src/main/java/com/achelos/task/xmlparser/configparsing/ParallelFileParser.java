@@ -0,0 +1,85 @@
+package com.achelos.task.xmlparser.configparsing;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+
+import com.achelos.task.logging.LogScopedTaskRunner;
+
+
+/**
+ * Helper class, which parses independent XML files concurrently on a bounded pool of workers, see
+ * {@link LogScopedTaskRunner}.
+ * <p>
+ * The results and the log entries of the files are reported in the order of the given files, independent of the order
+ * in which they finish. A file which cannot be parsed does not stop the parsing of the other files. All failed files
+ * are reported together, after the remaining files have been parsed.
+ * </p>
+ */
+final class ParallelFileParser {
+
+	// Hide Constructor.
+	private ParallelFileParser() {
+		// Empty.
+	}
+
+
+	/**
+	 * Parse the given files concurrently.
+	 *
+	 * @param <T> type of the parsed files
+	 * @param xmlFiles the files to parse
+	 * @param parser parses a single file. It is called concurrently. A null result is treated as a failure.
+	 * @return the parsed files, in the order of the given files
+	 * @throws IllegalArgumentException if at least one of the files cannot be parsed. The message names all of them,
+	 *             the first error is attached as cause and the further errors as suppressed exceptions.
+	 */
+	static <T> List<T> parse(final List<File> xmlFiles, final Function<File, T> parser) {
+		final var tasks = new ArrayList<Callable<T>>(xmlFiles.size());
+		for (var xmlFile : xmlFiles) {
+			tasks.add(() -> parseFile(xmlFile, parser));
+		}
+		final int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors());
+		final List<LogScopedTaskRunner.Outcome<T>> outcomes;
+		try {
+			outcomes = LogScopedTaskRunner.run("XmlParserWorker", parallelism, tasks);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while parsing XML files.", e);
+		}
+
+		final var values = new ArrayList<T>(outcomes.size());
+		final var failedFiles = new ArrayList<String>();
+		final var failures = new ArrayList<Exception>();
+		for (int i = 0; i < outcomes.size(); i++) {
+			final LogScopedTaskRunner.Outcome<T> outcome = outcomes.get(i);
+			if (outcome.isFailed()) {
+				failedFiles.add(xmlFiles.get(i).getPath());
+				failures.add(outcome.getFailure());
+			} else {
+				values.add(outcome.getResult());
+			}
+		}
+		if (failures.isEmpty()) {
+			return values;
+		}
+
+		final var exception = new IllegalArgumentException("Unable to parse " + failedFiles.size() + " of "
+				+ xmlFiles.size() + " XML files: " + String.join(", ", failedFiles), failures.get(0));
+		for (var failure : failures.subList(1, failures.size())) {
+			exception.addSuppressed(failure);
+		}
+		throw exception;
+	}
+
+
+	private static <T> T parseFile(final File xmlFile, final Function<File, T> parser) {
+		final T value = parser.apply(xmlFile);
+		if (value == null) {
+			throw new IllegalArgumentException("Unable to parse XML file " + xmlFile.getPath() + ".");
+		}
+		return value;
+	}
+}
@@ -1,5 +1,6 @@
 package com.achelos.task.xmlparser.datastructures.applicationmapping;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedList;
@@ -13,7 +14,8 @@ import generated.jaxb.configuration.ApplicationMapping;
 /**
  * Internal data structure representing the mapping of Application Specifications to a list of mandatory and recommended test profiles.
  */
-public class AppMapping {
+public class AppMapping implements Serializable {
+	private static final long serialVersionUID = 1L;
 
 	/**
 	 * The ID of the Application Mapping.
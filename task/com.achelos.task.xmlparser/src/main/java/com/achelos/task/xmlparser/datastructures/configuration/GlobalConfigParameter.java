@@ -1,6 +1,7 @@
 package com.achelos.task.xmlparser.datastructures.configuration;
 
 import java.io.File;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -12,7 +13,8 @@ import jakarta.xml.bind.DatatypeConverter;
 /**
  * Class representing a Parameter of a GlobalConfiguration.
  */
-public class GlobalConfigParameter {
+public class GlobalConfigParameter implements Serializable {
+	private static final long serialVersionUID = 1L;
 
 	/**
 	 * Enumeration specifying the potential types of a ConfigParameter.
@@ -42,7 +42,16 @@ public enum GlobalConfigParameterNames {
 	RestApiPort("rest_api_port", false, GlobalConfigParameter.ConfigParameterType.INT,
 			new GlobalConfigParameter("8088", GlobalConfigParameter.ConfigParameterType.INT, "rest_api_port")),
 	DutExecutableTimeout("dut_executable_timeout", false, GlobalConfigParameter.ConfigParameterType.INT,
-			new GlobalConfigParameter("5", GlobalConfigParameter.ConfigParameterType.INT, "dut_executable_timeout_milliseconds"));
+			new GlobalConfigParameter("5", GlobalConfigParameter.ConfigParameterType.INT, "dut_executable_timeout_milliseconds")),
+	TestCaseParallelism("test_case_parallelism", false, GlobalConfigParameter.ConfigParameterType.INT,
+			new GlobalConfigParameter("1", GlobalConfigParameter.ConfigParameterType.INT, "test_case_parallelism")),
+	CompressExecutorLogs("compress_executor_logs", false, GlobalConfigParameter.ConfigParameterType.BOOLEAN,
+			new GlobalConfigParameter("false", GlobalConfigParameter.ConfigParameterType.BOOLEAN,
+					"compress_executor_logs")),
+	SpecificationSnapshotDirectory("specification_snapshot_directory", false,
+			GlobalConfigParameter.ConfigParameterType.STRING,
+			new GlobalConfigParameter("", GlobalConfigParameter.ConfigParameterType.STRING,
+					"specification_snapshot_directory"));
 
 	private final String parameterName;
 	private final boolean mandatory;
@@ -0,0 +1,274 @@
+package com.achelos.task.xmlparser.datastructures.testrunplan;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import com.achelos.task.commons.enums.TlsCipherSuite;
+import com.achelos.task.commons.enums.TlsDHGroup;
+import com.achelos.task.commons.enums.TlsNamedCurves;
+import com.achelos.task.commons.enums.TlsVersion;
+
+
+/**
+ * Capabilities of the DUT for a single TLS version, derived from the TLS configuration of a Test Run Plan once when it
+ * is loaded.
+ * <p>
+ * All lists are unmodifiable and keep the order of the TLS configuration, i.e. the preferences of the DUT. The sets are
+ * unmodifiable views of {@link EnumSet}s, which allow membership tests in constant time.
+ * </p>
+ */
+final class RunPlanCapabilities {
+
+	/** Cipher suites whose identifier contains '_ECDH'. */
+	static final Set<TlsCipherSuite> ECC_CIPHER_SUITES = cipherSuitesContaining("_ECDH");
+	/** Cipher suites whose identifier contains '_ECDSA'. */
+	static final Set<TlsCipherSuite> ECDSA_CIPHER_SUITES = cipherSuitesContaining("_ECDSA");
+	/** Cipher suites whose identifier contains '_RSA'. */
+	static final Set<TlsCipherSuite> RSA_CIPHER_SUITES = cipherSuitesContaining("_RSA");
+	/** Cipher suites whose identifier contains '_DSA'. */
+	static final Set<TlsCipherSuite> DSA_CIPHER_SUITES = cipherSuitesContaining("_DSA");
+	/** Cipher suites whose identifier contains '_DHE_'. */
+	static final Set<TlsCipherSuite> FFDHE_CIPHER_SUITES = cipherSuitesContaining("_DHE_");
+	/** Cipher suites whose identifier contains '_ECDHE_' or '_DHE_'. */
+	static final Set<TlsCipherSuite> PFS_CIPHER_SUITES = union(cipherSuitesContaining("_ECDHE_"), FFDHE_CIPHER_SUITES);
+	/** Cipher suites whose identifier contains '_CBC_'. */
+	static final Set<TlsCipherSuite> CBC_CIPHER_SUITES = cipherSuitesContaining("_CBC_");
+	/** Cipher suites whose identifier contains '_PSK_'. */
+	static final Set<TlsCipherSuite> PSK_CIPHER_SUITES = cipherSuitesContaining("_PSK_");
+
+	private final List<TlsCipherSuite> supportedCipherSuites;
+	private final Set<TlsCipherSuite> supportedCipherSuiteSet;
+	private final List<TlsCipherSuite> notSupportedCipherSuites;
+	private final List<TlsCipherSuite> cbcCipherSuites;
+	private final List<TlsCipherSuite> eccCipherSuites;
+	private final List<TlsCipherSuite> nonEccCipherSuites;
+	private final List<TlsCipherSuite> ecdsaCipherSuites;
+	private final List<TlsCipherSuite> rsaCipherSuites;
+	private final List<TlsCipherSuite> dsaCipherSuites;
+	private final List<TlsCipherSuite> pfsCipherSuites;
+	private final List<TlsCipherSuite> ffdheCipherSuites;
+	private final List<TlsCipherSuite> pskCipherSuites;
+
+	private final List<TlsNamedCurves> supportedGroups;
+	private final Set<TlsNamedCurves> supportedGroupSet;
+	private final List<TlsNamedCurves> ellipticCurveGroups;
+	private final List<TlsNamedCurves> ffdheGroups;
+	private final List<TlsNamedCurves> notSupportedEllipticCurves;
+	private final List<TlsNamedCurves> notSupportedDheGroups;
+
+	private final List<TlsDHGroup> sufficientDheKeyLengths;
+	private final List<TlsDHGroup> insufficientDheKeyLengths;
+	/**
+	 * The first supported respectively not supported DHE key length without a matching DH group, or null. A Test Run
+	 * Plan containing such a key length can still be loaded, only the test cases using the DHE key lengths fail.
+	 */
+	private final Integer unmatchedSufficientDheKeyLength;
+	private final Integer unmatchedInsufficientDheKeyLength;
+
+	/**
+	 * Derive the capabilities of the DUT for the specified TLS version from the TLS configuration.
+	 *
+	 * @param tlsConfiguration the TLS configuration of the Test Run Plan
+	 * @param tlsVersion the TLS version, which has to be contained in the TLS configuration
+	 */
+	RunPlanCapabilities(final RunPlanTlsConfiguration tlsConfiguration, final TlsVersion tlsVersion) {
+		supportedCipherSuites = unmodifiableCopy(tlsConfiguration.getSupportedCipherSuites(tlsVersion));
+		supportedCipherSuiteSet = unmodifiableEnumSet(supportedCipherSuites, TlsCipherSuite.class);
+		cbcCipherSuites = filter(supportedCipherSuites, CBC_CIPHER_SUITES::contains);
+		eccCipherSuites = filter(supportedCipherSuites, ECC_CIPHER_SUITES::contains);
+		nonEccCipherSuites = filter(supportedCipherSuites, cipherSuite -> !ECC_CIPHER_SUITES.contains(cipherSuite));
+		ecdsaCipherSuites = filter(supportedCipherSuites, ECDSA_CIPHER_SUITES::contains);
+		rsaCipherSuites = filter(supportedCipherSuites, RSA_CIPHER_SUITES::contains);
+		dsaCipherSuites = filter(supportedCipherSuites, DSA_CIPHER_SUITES::contains);
+		pfsCipherSuites = filter(supportedCipherSuites, PFS_CIPHER_SUITES::contains);
+		ffdheCipherSuites = filter(supportedCipherSuites, FFDHE_CIPHER_SUITES::contains);
+		pskCipherSuites = filter(supportedCipherSuites, PSK_CIPHER_SUITES::contains);
+		notSupportedCipherSuites = filter(TlsCipherSuite.getCipherSuitesByVersions(tlsVersion),
+				cipherSuite -> cipherSuite != TlsCipherSuite.TLS_NULL_WITH_NULL_NULL
+						&& !supportedCipherSuiteSet.contains(cipherSuite));
+
+		supportedGroups = unmodifiableCopy(tlsConfiguration.getSupportedGroups(tlsVersion));
+		supportedGroupSet = unmodifiableEnumSet(supportedGroups, TlsNamedCurves.class);
+		ellipticCurveGroups = filter(supportedGroups, group -> !group.isFFDHEGroup());
+		ffdheGroups = filter(supportedGroups, TlsNamedCurves::isFFDHEGroup);
+		final var notSupportedGroups = tlsConfiguration.getNotSupportedGroups(tlsVersion);
+		notSupportedEllipticCurves = filter(notSupportedGroups, group -> !group.isFFDHEGroup());
+		notSupportedDheGroups = filter(notSupportedGroups, TlsNamedCurves::isFFDHEGroup);
+
+		final var dheKeyLengths = tlsConfiguration.getKeyLengthsSupport().getDheKeyLengths().get(tlsVersion);
+		sufficientDheKeyLengths = dhGroups(dheKeyLengths, true);
+		insufficientDheKeyLengths = dhGroups(dheKeyLengths, false);
+		unmatchedSufficientDheKeyLength = findUnmatchedKeyLength(dheKeyLengths, true);
+		unmatchedInsufficientDheKeyLength = findUnmatchedKeyLength(dheKeyLengths, false);
+	}
+
+	List<TlsCipherSuite> getSupportedCipherSuites() {
+		return supportedCipherSuites;
+	}
+
+	Set<TlsCipherSuite> getSupportedCipherSuiteSet() {
+		return supportedCipherSuiteSet;
+	}
+
+	List<TlsCipherSuite> getNotSupportedCipherSuites() {
+		return notSupportedCipherSuites;
+	}
+
+	List<TlsCipherSuite> getCbcCipherSuites() {
+		return cbcCipherSuites;
+	}
+
+	List<TlsCipherSuite> getEccCipherSuites() {
+		return eccCipherSuites;
+	}
+
+	List<TlsCipherSuite> getNonEccCipherSuites() {
+		return nonEccCipherSuites;
+	}
+
+	List<TlsCipherSuite> getEcdsaCipherSuites() {
+		return ecdsaCipherSuites;
+	}
+
+	List<TlsCipherSuite> getRsaCipherSuites() {
+		return rsaCipherSuites;
+	}
+
+	List<TlsCipherSuite> getDsaCipherSuites() {
+		return dsaCipherSuites;
+	}
+
+	List<TlsCipherSuite> getPfsCipherSuites() {
+		return pfsCipherSuites;
+	}
+
+	List<TlsCipherSuite> getFfdheCipherSuites() {
+		return ffdheCipherSuites;
+	}
+
+	List<TlsCipherSuite> getPskCipherSuites() {
+		return pskCipherSuites;
+	}
+
+	List<TlsNamedCurves> getSupportedGroups() {
+		return supportedGroups;
+	}
+
+	Set<TlsNamedCurves> getSupportedGroupSet() {
+		return supportedGroupSet;
+	}
+
+	List<TlsNamedCurves> getEllipticCurveGroups() {
+		return ellipticCurveGroups;
+	}
+
+	List<TlsNamedCurves> getFfdheGroups() {
+		return ffdheGroups;
+	}
+
+	List<TlsNamedCurves> getNotSupportedEllipticCurves() {
+		return notSupportedEllipticCurves;
+	}
+
+	List<TlsNamedCurves> getNotSupportedDheGroups() {
+		return notSupportedDheGroups;
+	}
+
+	/**
+	 * @return the DH groups of the supported DHE key lengths.
+	 * @throws RuntimeException if there is no DH group for one of the supported DHE key lengths.
+	 */
+	List<TlsDHGroup> getSufficientDheKeyLengths() {
+		checkDhGroupFound(unmatchedSufficientDheKeyLength);
+		return sufficientDheKeyLengths;
+	}
+
+	/**
+	 * @return the DH groups of the not supported DHE key lengths.
+	 * @throws RuntimeException if there is no DH group for one of the not supported DHE key lengths.
+	 */
+	List<TlsDHGroup> getInsufficientDheKeyLengths() {
+		checkDhGroupFound(unmatchedInsufficientDheKeyLength);
+		return insufficientDheKeyLengths;
+	}
+
+	private static void checkDhGroupFound(final Integer unmatchedKeyLength) {
+		if (unmatchedKeyLength != null) {
+			throw new RuntimeException("No matching DH Group found for key length: " + unmatchedKeyLength);
+		}
+	}
+
+	/**
+	 * @return the DH groups of the supported respectively not supported key lengths which have a matching DH group.
+	 */
+	private static List<TlsDHGroup> dhGroups(final List<RunPlanTlsKeyLengths.KeyLengths> keyLengths,
+			final boolean isSupported) {
+		final var dhGroups = new ArrayList<TlsDHGroup>();
+		for (RunPlanTlsKeyLengths.KeyLengths keyLength : keyLengths) {
+			if (isSupported == keyLength.isSupported()) {
+				TlsDHGroup group = TlsDHGroup.findMatchingKeyLengthGroup(keyLength.getKeyLength());
+				if (group != null) {
+					dhGroups.add(group);
+				}
+			}
+		}
+		return Collections.unmodifiableList(dhGroups);
+	}
+
+	/**
+	 * @return the first supported respectively not supported key length without a matching DH group, or null.
+	 */
+	private static Integer findUnmatchedKeyLength(final List<RunPlanTlsKeyLengths.KeyLengths> keyLengths,
+			final boolean isSupported) {
+		for (RunPlanTlsKeyLengths.KeyLengths keyLength : keyLengths) {
+			if (isSupported == keyLength.isSupported()
+					&& TlsDHGroup.findMatchingKeyLengthGroup(keyLength.getKeyLength()) == null) {
+				return keyLength.getKeyLength();
+			}
+		}
+		return null;
+	}
+
+	private static <T> List<T> filter(final Collection<T> elements, final Predicate<T> predicate) {
+		final var filtered = new ArrayList<T>();
+		for (var element : elements) {
+			if (predicate.test(element)) {
+				filtered.add(element);
+			}
+		}
+		return Collections.unmodifiableList(filtered);
+	}
+
+	private static <T> List<T> unmodifiableCopy(final Collection<T> elements) {
+		return Collections.unmodifiableList(new ArrayList<>(elements));
+	}
+
+	private static <E extends Enum<E>> Set<E> unmodifiableEnumSet(final Collection<E> elements,
+			final Class<E> elementType) {
+		final var set = EnumSet.noneOf(elementType);
+		set.addAll(elements);
+		return Collections.unmodifiableSet(set);
+	}
+
+	private static Set<TlsCipherSuite> cipherSuitesContaining(final String tag) {
+		final var cipherSuites = EnumSet.noneOf(TlsCipherSuite.class);
+		for (var cipherSuite : TlsCipherSuite.values()) {
+			if (cipherSuite.name().contains(tag)) {
+				cipherSuites.add(cipherSuite);
+			}
+		}
+		return Collections.unmodifiableSet(cipherSuites);
+	}
+
+	private static Set<TlsCipherSuite> union(final Set<TlsCipherSuite> first, final Set<TlsCipherSuite> second) {
+		final var cipherSuites = EnumSet.noneOf(TlsCipherSuite.class);
+		cipherSuites.addAll(first);
+		cipherSuites.addAll(second);
+		return Collections.unmodifiableSet(cipherSuites);
+	}
+}
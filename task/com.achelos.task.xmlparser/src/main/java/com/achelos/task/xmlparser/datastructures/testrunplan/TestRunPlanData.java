@@ -3,9 +3,10 @@ package com.achelos.task.xmlparser.datastructures.testrunplan;
 import java.io.File;
 import java.time.Duration;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 import com.achelos.task.commons.certificatehelper.TlsSignatureAlgorithmWithHash;
 import com.achelos.task.commons.enums.TlsCipherSuite;
@@ -24,6 +25,10 @@ import generated.jaxb.testrunplan.TestRunPlan;
 
 /**
  * Data Structure class containing the information included in an TestRunPlan XML file.
+ * <p>
+ * The capabilities of the DUT, which are derived from the TLS configuration, are computed once when the TestRunPlan is
+ * parsed. The returned lists are unmodifiable and shared between all callers.
+ * </p>
  */
 public class TestRunPlanData {
 
@@ -32,6 +37,9 @@ public class TestRunPlanData {
 	private TestConfiguration testConfiguration;
 	private RunPlanMicsInfo micsInfo;
 	private RunPlanTlsConfiguration tlsConfiguration;
+	private List<TlsVersion> supportedTlsVersions;
+	private List<TlsVersion> notSupportedTlsVersions;
+	private Map<TlsVersion, RunPlanCapabilities> capabilities;
 
 	/**
 	 * Hidden Constructor
@@ -95,16 +103,7 @@ public class TestRunPlanData {
 	 * @return list of supported TLS versions.
 	 */
 	public List<TlsVersion> getSupportedTLSVersions() {
-		var listOfSupported = new ArrayList<TlsVersion>();
-		// for (var tlsVersion : this.tlsConfiguration.getTlsVersions().keySet()) {
-		// if (this.tlsConfiguration.getTlsVersions().get(tlsVersion)) {
-		// listOfSupported.add(tlsVersion);
-		// }
-		// }
-		// According to the BSI this should be TLS 1.2 for now
-		listOfSupported.add(TlsVersion.TLS_V1_2);
-
-		return listOfSupported;
+		return supportedTlsVersions;
 	}
 
 	/**
@@ -114,13 +113,7 @@ public class TestRunPlanData {
 	 * @return A list of not supported TLS versions.
 	 */
 	public List<TlsVersion> getNotSupportedTLSVersions() {
-		var listOfNotSupported = new ArrayList<TlsVersion>();
-		for (var tlsVersion : tlsConfiguration.getTlsVersions().keySet()) {
-			if (!tlsConfiguration.getTlsVersions().get(tlsVersion) && tlsVersion != TlsVersion.TLS_V1_3) {
-				listOfNotSupported.add(tlsVersion);
-			}
-		}
-		return listOfNotSupported;
+		return notSupportedTlsVersions;
 	}
 
 	/**
@@ -151,13 +144,7 @@ public class TestRunPlanData {
 	 * identifier.
 	 */
 	public List<TlsCipherSuite> getCBCBasedSupportedCipherSuites(final TlsVersion tlsVersion) {
-		var cBCBasedSupportedCipherSuites = new ArrayList<TlsCipherSuite>();
-		for (var tlsCipherSuite : getSupportedCipherSuites(tlsVersion)) {
-			if (tlsCipherSuite.name().contains("_CBC_")) {
-				cBCBasedSupportedCipherSuites.add(tlsCipherSuite);
-			}
-		}
-		return cBCBasedSupportedCipherSuites;
+		return getCapabilities(tlsVersion).getCbcCipherSuites();
 	}
 
 	/**
@@ -170,7 +157,21 @@ public class TestRunPlanData {
 	public List<TlsCipherSuite> getSupportedCipherSuites(final TlsVersion tlsVersion) {
 		// Order determines the preference
 		// PSK cipher suites are only returned for getSupportedPSKCipherSuites?
-		return tlsConfiguration.getSupportedCipherSuites(tlsVersion);
+		var versionCapabilities = capabilities.get(tlsVersion);
+		return versionCapabilities == null ? null : versionCapabilities.getSupportedCipherSuites();
+	}
+
+	/**
+	 * Checks whether the DUT supports the cipher suite for the specified TLS version according to Table 5 of the
+	 * TR-03116-TS ICS document.
+	 *
+	 * @param tlsVersion The TLS version the cipher suite should be applicable for.
+	 * @param cipherSuite The cipher suite to check.
+	 * @return true, if the cipher suite is supported for the specified TLS version
+	 */
+	public boolean isSupportedCipherSuite(final TlsVersion tlsVersion, final TlsCipherSuite cipherSuite) {
+		var versionCapabilities = capabilities.get(tlsVersion);
+		return versionCapabilities != null && versionCapabilities.getSupportedCipherSuiteSet().contains(cipherSuite);
 	}
 
 	/**
@@ -181,7 +182,21 @@ public class TestRunPlanData {
 	 * @return A list of all supported Elliptic Curves and DH Groups for the specified TlsVersion.
 	 */
 	public List<TlsNamedCurves> getSupportedEllipticCurvesAndFFDHE(final TlsVersion tlsVersion) {
-		return tlsConfiguration.getSupportedGroups(tlsVersion);
+		var versionCapabilities = capabilities.get(tlsVersion);
+		return versionCapabilities == null ? null : versionCapabilities.getSupportedGroups();
+	}
+
+	/**
+	 * Checks whether the DUT supports the Elliptic Curve or DH Group for the specified TLS version according to Table 7
+	 * of the TR-03116-TS ICS document.
+	 *
+	 * @param tlsVersion The TLS version the group should be applicable for.
+	 * @param group The Elliptic Curve or DH Group to check.
+	 * @return true, if the group is supported for the specified TLS version
+	 */
+	public boolean isSupportedGroup(final TlsVersion tlsVersion, final TlsNamedCurves group) {
+		var versionCapabilities = capabilities.get(tlsVersion);
+		return versionCapabilities != null && versionCapabilities.getSupportedGroupSet().contains(group);
 	}
 
 	/**
@@ -192,38 +207,15 @@ public class TestRunPlanData {
 	 * @return A list of all supported Elliptic Curves and DH Groups for the specified TlsVersion.
 	 */
 	public List<TlsNamedCurves> filterSupportedGroupsToEllipticCurveGroups(final TlsVersion tlsVersion) {
-		List<TlsNamedCurves> eccGroups = new ArrayList<>();
-
-		for (TlsNamedCurves supportedGroup : tlsConfiguration.getSupportedGroups(tlsVersion)) {
-			if (!supportedGroup.isFFDHEGroup()) {
-				eccGroups.add(supportedGroup);
-			}
-		}
-		return eccGroups;
+		return getCapabilities(tlsVersion).getEllipticCurveGroups();
 	}
 
 	public List<TlsDHGroup> getInsufficientDHEKeyLengths(final TlsVersion tlsVersion) {
-		return getDHEKeyLengths(tlsVersion, false);
+		return getCapabilities(tlsVersion).getInsufficientDheKeyLengths();
 	}
 
 	public List<TlsDHGroup> getSufficientDHEKeyLengths(final TlsVersion tlsVersion) {
-		return getDHEKeyLengths(tlsVersion, true);
-	}
-	
-	private List<TlsDHGroup> getDHEKeyLengths(final TlsVersion tlsVersion, final boolean isSupported) {
-		List<TlsDHGroup> dhGroupsInsufficientKeyLength = new ArrayList<>();
-		var keyLengths = tlsConfiguration.getKeyLengthsSupport().getDheKeyLengths().get(tlsVersion);
-		for (RunPlanTlsKeyLengths.KeyLengths keyLength : keyLengths) {
-			if (isSupported == keyLength.isSupported()) {
-				TlsDHGroup group = TlsDHGroup.findMatchingKeyLengthGroup(keyLength.getKeyLength());
-				if (group == null) {
-					throw new RuntimeException("No matching DH Group found for key length: "
-							+ keyLength.getKeyLength());
-				}
-				dhGroupsInsufficientKeyLength.add(group);
-			}
-		}
-		return dhGroupsInsufficientKeyLength;
+		return getCapabilities(tlsVersion).getSufficientDheKeyLengths();
 	}
 
 	/**
@@ -234,14 +226,7 @@ public class TestRunPlanData {
 	 * @return A list of all supported Elliptic Curves and DH Groups for the specified TlsVersion.
 	 */
 	public List<TlsNamedCurves> filterSupportedGroupsToFFDHEGroups(final TlsVersion tlsVersion) {
-		List<TlsNamedCurves> ffdheGroups = new ArrayList<>();
-
-		for (TlsNamedCurves supportedGroup : tlsConfiguration.getSupportedGroups(tlsVersion)) {
-			if (supportedGroup.isFFDHEGroup()) {
-				ffdheGroups.add(supportedGroup);
-			}
-		}
-		return ffdheGroups;
+		return getCapabilities(tlsVersion).getFfdheGroups();
 	}
 
 	/**
@@ -253,11 +238,11 @@ public class TestRunPlanData {
 	 * @return A list of all Elliptic Curves which are not supported by the DUT for the specified TlsVersion
 	 */
 	public List<TlsNamedCurves> getNotSupportedEllipticCurves(final TlsVersion tlsVersion) {
-		return tlsConfiguration.getNotSupportedGroups(tlsVersion).stream().filter(group -> !(group.isFFDHEGroup())).collect(Collectors.toList());
+		return getCapabilities(tlsVersion).getNotSupportedEllipticCurves();
 	}
 
 	public List<TlsNamedCurves> getNotSupportedDHEGroups(TlsVersion tlsVersion) {
-		return tlsConfiguration.getNotSupportedGroups(tlsVersion).stream().filter(TlsNamedCurves::isFFDHEGroup).collect(Collectors.toList());
+		return getCapabilities(tlsVersion).getNotSupportedDheGroups();
 	}
 
 	/**
@@ -290,10 +275,8 @@ public class TestRunPlanData {
 	 * supported for the provided TlsVersion.
 	 */
 	public TlsCipherSuite getSingleSupportedCipherSuite(final TlsVersion tlsVersion) {
-		if (getSupportedCipherSuites(tlsVersion).isEmpty()) {
-			return null;
-		}
-		return getSupportedCipherSuites(tlsVersion).get(0);
+		var supportedCipherSuites = getCapabilities(tlsVersion).getSupportedCipherSuites();
+		return supportedCipherSuites.isEmpty() ? null : supportedCipherSuites.get(0);
 	}
 
 	/**
@@ -305,13 +288,8 @@ public class TestRunPlanData {
 	 * cipher suites are supported for the provided {@link TlsVersion}.
 	 */
 	public TlsCipherSuite getSingleSupportedECCCipherSuite(final TlsVersion tlsVersion) {
-		for (var tlsCipherSuite : getSupportedCipherSuites(tlsVersion)) {
-			if (isECCCipherSuite(tlsCipherSuite)) {
-				return tlsCipherSuite;
-			}
-
-		}
-		return null;
+		var eccCipherSuites = getCapabilities(tlsVersion).getEccCipherSuites();
+		return eccCipherSuites.isEmpty() ? null : eccCipherSuites.get(0);
 	}
 
 	/**
@@ -324,13 +302,7 @@ public class TestRunPlanData {
 	 * @return A list of ecc cipher suites, which are supported by the DUT.
 	 */
 	public List<TlsCipherSuite> getSupportedECCCipherSuites(final TlsVersion tlsVersion) {
-		var eccCipherSuites = new ArrayList<TlsCipherSuite>();
-		for (var tlsCipherSuite : getSupportedCipherSuites(tlsVersion)) {
-			if (isECCCipherSuite(tlsCipherSuite)) {
-				eccCipherSuites.add(tlsCipherSuite);
-			}
-		}
-		return eccCipherSuites;
+		return getCapabilities(tlsVersion).getEccCipherSuites();
 	}
 
 	/**
@@ -343,13 +315,7 @@ public class TestRunPlanData {
 	 * @return A list of ecc cipher suites, which are supported by the DUT.
 	 */
 	public List<TlsCipherSuite> getSupportedEcdsaCipherSuites(final TlsVersion tlsVersion) {
-		var ecdsaCipherSuites = new ArrayList<TlsCipherSuite>();
-		for (var tlsCipherSuite : getSupportedCipherSuites(tlsVersion)) {
-			if (isEcdsaCipherSuite(tlsCipherSuite)) {
-				ecdsaCipherSuites.add(tlsCipherSuite);
-			}
-		}
-		return ecdsaCipherSuites;
+		return getCapabilities(tlsVersion).getEcdsaCipherSuites();
 	}
 
 	/**
@@ -362,13 +328,7 @@ public class TestRunPlanData {
 	 * @return A list of ecc cipher suites, which are supported by the DUT.
 	 */
 	public List<TlsCipherSuite> getSupportedRsaCipherSuites(final TlsVersion tlsVersion) {
-		var ecdsaCipherSuites = new ArrayList<TlsCipherSuite>();
-		for (var tlsCipherSuite : getSupportedCipherSuites(tlsVersion)) {
-			if (isRsaCipherSuite(tlsCipherSuite)) {
-				ecdsaCipherSuites.add(tlsCipherSuite);
-			}
-		}
-		return ecdsaCipherSuites;
+		return getCapabilities(tlsVersion).getRsaCipherSuites();
 	}
 
 	/**
@@ -381,13 +341,7 @@ public class TestRunPlanData {
 	 * @return A list of ecc cipher suites, which are supported by the DUT.
 	 */
 	public List<TlsCipherSuite> getSupportedDsaCipherSuites(final TlsVersion tlsVersion) {
-		var ecdsaCipherSuites = new ArrayList<TlsCipherSuite>();
-		for (var tlsCipherSuite : getSupportedCipherSuites(tlsVersion)) {
-			if (isDsaCipherSuite(tlsCipherSuite)) {
-				ecdsaCipherSuites.add(tlsCipherSuite);
-			}
-		}
-		return ecdsaCipherSuites;
+		return getCapabilities(tlsVersion).getDsaCipherSuites();
 	}
 
 
@@ -401,13 +355,7 @@ public class TestRunPlanData {
 	 * @return A list of ecc cipher suites, which are supported by the DUT.
 	 */
 	public List<TlsCipherSuite> getSupportedNonECCCipherSuites(final TlsVersion tlsVersion) {
-		var nonECCCipherSuites = new ArrayList<TlsCipherSuite>();
-		for (var tlsCipherSuite : getSupportedCipherSuites(tlsVersion)) {
-			if (!isECCCipherSuite(tlsCipherSuite)) {
-				nonECCCipherSuites.add(tlsCipherSuite);
-			}
-		}
-		return nonECCCipherSuites;
+		return getCapabilities(tlsVersion).getNonEccCipherSuites();
 	}
 
 	/**
@@ -417,7 +365,7 @@ public class TestRunPlanData {
 	 * @return true, if the given cipher suite supports elliptic curve algorithms
 	 */
 	public boolean isECCCipherSuite(final TlsCipherSuite cipherSuite) {
-		return cipherSuite.name().contains("_ECDH");
+		return RunPlanCapabilities.ECC_CIPHER_SUITES.contains(cipherSuite);
 	}
 
 	/**
@@ -427,7 +375,7 @@ public class TestRunPlanData {
 	 * @return true, if the given cipher suite supports ECDSA
 	 */
 	public boolean isEcdsaCipherSuite(final TlsCipherSuite cipherSuite) {
-		return cipherSuite.name().contains("_ECDSA");
+		return RunPlanCapabilities.ECDSA_CIPHER_SUITES.contains(cipherSuite);
 	}
 
 	/**
@@ -437,7 +385,7 @@ public class TestRunPlanData {
 	 * @return true, if the given cipher suite supports RSA
 	 */
 	public boolean isRsaCipherSuite(final TlsCipherSuite cipherSuite) {
-		return cipherSuite.name().contains("_RSA");
+		return RunPlanCapabilities.RSA_CIPHER_SUITES.contains(cipherSuite);
 	}
 
 	/**
@@ -447,7 +395,7 @@ public class TestRunPlanData {
 	 * @return true, if the given cipher suite supports DSA
 	 */
 	public boolean isDsaCipherSuite(final TlsCipherSuite cipherSuite) {
-		return cipherSuite.name().contains("_DSA");
+		return RunPlanCapabilities.DSA_CIPHER_SUITES.contains(cipherSuite);
 	}
 
 	/**
@@ -472,7 +420,7 @@ public class TestRunPlanData {
 	 * @return true, if the given cipher suite supports elliptic curve algorithms
 	 */
 	public boolean isPFSCipherSuite(final TlsCipherSuite cipherSuite) {
-		return cipherSuite.name().contains("_ECDHE_") || cipherSuite.name().contains("_DHE_");
+		return RunPlanCapabilities.PFS_CIPHER_SUITES.contains(cipherSuite);
 	}
 
 	public boolean containsPFSCipherSuite(final List<TlsCipherSuite> cipherSuites) {
@@ -495,13 +443,7 @@ public class TestRunPlanData {
 	 * @return a list of by the DUT supported PFS cipher suites for the specified TlsVersion.
 	 */
 	public List<TlsCipherSuite> getSupportedPFSCipherSuites(final TlsVersion tlsVersion) {
-		var pFSSupportedCipherSuites = new ArrayList<TlsCipherSuite>();
-		for (var tlsCipherSuite : getSupportedCipherSuites(tlsVersion)) {
-			if (tlsCipherSuite.name().contains("_DHE_") || tlsCipherSuite.name().contains("_ECDHE_")) {
-				pFSSupportedCipherSuites.add(tlsCipherSuite);
-			}
-		}
-		return pFSSupportedCipherSuites;
+		return getCapabilities(tlsVersion).getPfsCipherSuites();
 	}
 
 	/**
@@ -514,13 +456,7 @@ public class TestRunPlanData {
 	 * @return a list of by the DUT supported FFDHE cipher suites for the specified TlsVersion.
 	 */
 	public List<TlsCipherSuite> getSupportedFFDHECipherSuites(final TlsVersion tlsVersion) {
-		var ffdheBasedSupportedCipherSuites = new ArrayList<TlsCipherSuite>();
-		for (var tlsCipherSuite : getSupportedCipherSuites(tlsVersion)) {
-			if (tlsCipherSuite.name().contains("_DHE_")) {
-				ffdheBasedSupportedCipherSuites.add(tlsCipherSuite);
-			}
-		}
-		return ffdheBasedSupportedCipherSuites;
+		return getCapabilities(tlsVersion).getFfdheCipherSuites();
 	}
 
 	/**
@@ -533,12 +469,8 @@ public class TestRunPlanData {
 	 * @return A list of by the DUT supported FFDHE cipher suites for the specified TlsVersion.
 	 */
 	public TlsCipherSuite getSingleSupportedFFDHECipherSuite(final TlsVersion tlsVersion) {
-		for (var tlsCipherSuite : getSupportedCipherSuites(tlsVersion)) {
-			if (tlsCipherSuite.name().contains("_DHE_")) {
-				return tlsCipherSuite;
-			}
-		}
-		return null;
+		var ffdheCipherSuites = getCapabilities(tlsVersion).getFfdheCipherSuites();
+		return ffdheCipherSuites.isEmpty() ? null : ffdheCipherSuites.get(0);
 	}
 
 	/**
@@ -551,13 +483,7 @@ public class TestRunPlanData {
 	 * @return A list of by the DUT supported PSK cipher suites for the specified TlsVersion.
 	 */
 	public List<TlsCipherSuite> getSupportedPSKCipherSuites(final TlsVersion tlsVersion) {
-		var pskBasedSupportedCipherSuites = new ArrayList<TlsCipherSuite>();
-		for (var tlsCipherSuite : getSupportedCipherSuites(tlsVersion)) {
-			if (tlsCipherSuite.name().contains("_PSK_")) {
-				pskBasedSupportedCipherSuites.add(tlsCipherSuite);
-			}
-		}
-		return pskBasedSupportedCipherSuites;
+		return getCapabilities(tlsVersion).getPskCipherSuites();
 	}
 
 	/**
@@ -569,11 +495,7 @@ public class TestRunPlanData {
 	 * @return a list of cipher suites which are not supported by the DUT
 	 */
 	public List<TlsCipherSuite> getNotSupportedCipherSuites(final TlsVersion tlsVersion) {
-		ArrayList<TlsCipherSuite> allCipherSuites
-				= new ArrayList<>(TlsCipherSuite.getCipherSuitesByVersions(tlsVersion));
-		allCipherSuites.removeAll(getSupportedCipherSuites(tlsVersion));
-		allCipherSuites.remove(TlsCipherSuite.TLS_NULL_WITH_NULL_NULL);
-		return allCipherSuites;
+		return getCapabilities(tlsVersion).getNotSupportedCipherSuites();
 	}
 
 	/**
@@ -805,6 +727,37 @@ public class TestRunPlanData {
 			throw new IllegalArgumentException("Test Run Plans TLS configuration is \"null\"!");
 		}
 		tlsConfiguration = RunPlanTlsConfiguration.parseFromJaxb(tlsConfig);
+
+		// According to the BSI this should be TLS 1.2 for now
+		supportedTlsVersions = List.of(TlsVersion.TLS_V1_2);
+		var listOfNotSupported = new ArrayList<TlsVersion>();
+		for (var tlsVersion : tlsConfiguration.getTlsVersions().entrySet()) {
+			if (!tlsVersion.getValue() && tlsVersion.getKey() != TlsVersion.TLS_V1_3) {
+				listOfNotSupported.add(tlsVersion.getKey());
+			}
+		}
+		notSupportedTlsVersions = Collections.unmodifiableList(listOfNotSupported);
+
+		capabilities = new EnumMap<>(TlsVersion.class);
+		for (var tlsVersion : tlsConfiguration.getTlsVersions().keySet()) {
+			capabilities.put(tlsVersion, new RunPlanCapabilities(tlsConfiguration, tlsVersion));
+		}
+	}
+
+	/**
+	 * Return the capabilities of the DUT for the specified TLS version.
+	 *
+	 * @param tlsVersion The TLS version to get the capabilities for.
+	 * @return the capabilities of the DUT for the specified TLS version.
+	 * @throws IllegalArgumentException if the TLS version is not contained in the TestRunPlan.
+	 */
+	private RunPlanCapabilities getCapabilities(final TlsVersion tlsVersion) {
+		var versionCapabilities = capabilities.get(tlsVersion);
+		if (versionCapabilities == null) {
+			throw new IllegalArgumentException(
+					"The TLS version " + tlsVersion + " is not contained in the test run plan.");
+		}
+		return versionCapabilities;
 	}
 
 	/**
@@ -1,9 +1,13 @@
 package com.achelos.task.xmlparser.datastructures.tlsspecification;
 
+import java.io.Serializable;
+
 /**
  * Internal data structure representing information on a HandshakeMode in an Application Specification.
  */
-public class HandshakeMode {
+public class HandshakeMode implements Serializable {
+	private static final long serialVersionUID = 1L;
+
 	/**
 	 * The identifier of the HandshakeMode.
 	 */
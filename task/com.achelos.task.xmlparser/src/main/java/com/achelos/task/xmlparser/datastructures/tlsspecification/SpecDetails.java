@@ -1,10 +1,13 @@
 package com.achelos.task.xmlparser.datastructures.tlsspecification;
 
+import java.io.Serializable;
+
 /**
  * Abstract class representing a basic specification information in an Application Specification.
  * This is subclassed by the more specific data fields, such as e.g. CipherSuites.
  */
-public abstract class SpecDetails {
+public abstract class SpecDetails implements Serializable {
+	private static final long serialVersionUID = 1L;
 
 	protected RestrictionLevel restriction;
 	protected String description;
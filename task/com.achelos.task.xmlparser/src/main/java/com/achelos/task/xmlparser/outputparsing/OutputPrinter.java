@@ -2,6 +2,8 @@ package com.achelos.task.xmlparser.outputparsing;
 
 import java.io.File;
 
+import javax.xml.stream.XMLStreamWriter;
+
 import com.achelos.task.xmlparser.xmlparsing.XmlPrinting;
 
 import generated.jaxb.xmlreport.TaSKReport;
@@ -24,4 +26,18 @@ public class OutputPrinter {
 			throw new RuntimeException("XML report printing: Unable to print TaSK report XML.", e);
 		}
 	}
+
+	/**
+	 * Print an element of the input parameters of a TaSK report into an XML stream.
+	 *
+	 * @param element element to print, e.g. the MICS or the test run plan.
+	 * @param writer XML stream to print the element into.
+	 */
+	public static void printXmlReportFragment(final Object element, final XMLStreamWriter writer) {
+		try {
+			XmlPrinting.printXmlReportFragment(element, writer);
+		} catch (Exception e) {
+			throw new RuntimeException("XML report printing: Unable to print input parameter XML.", e);
+		}
+	}
 }
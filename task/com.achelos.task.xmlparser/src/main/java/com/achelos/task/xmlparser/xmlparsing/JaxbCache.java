@@ -0,0 +1,123 @@
+package com.achelos.task.xmlparser.xmlparsing;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+
+import org.xml.sax.SAXException;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Unmarshaller;
+
+
+/**
+ * Cache for the JAXB contexts and compiled XSD schemas used by the XmlParser module. Creating a JAXB context and
+ * compiling a schema are expensive, while both are thread-safe and immutable once created, so each is created only once
+ * per bound type or schema resource. Unmarshallers and XML input factories are not thread-safe and are therefore reused
+ * per thread.
+ */
+final class JaxbCache {
+
+	private static final Map<String, JAXBContext> CONTEXTS = new ConcurrentHashMap<>();
+	private static final Map<String, Schema> SCHEMAS = new ConcurrentHashMap<>();
+	private static final ThreadLocal<Map<String, Unmarshaller>> UNMARSHALLERS = ThreadLocal.withInitial(HashMap::new);
+	private static final ThreadLocal<XMLInputFactory> XML_INPUT_FACTORY
+			= ThreadLocal.withInitial(XMLInputFactory::newInstance);
+
+	/**
+	 * Hidden Constructor.
+	 */
+	private JaxbCache() {
+		// Empty.
+	}
+
+	/**
+	 * @param type the class to be bound
+	 * @return the JAXB context for the given class.
+	 * @throws JAXBException if the context could not be created.
+	 */
+	static JAXBContext getContext(final Class<?> type) throws JAXBException {
+		final JAXBContext context = CONTEXTS.get(type.getName());
+		if (context != null) {
+			return context;
+		}
+		final JAXBContext created = JAXBContext.newInstance(type);
+		final JAXBContext previous = CONTEXTS.putIfAbsent(type.getName(), created);
+		return previous != null ? previous : created;
+	}
+
+	/**
+	 * @param contextPath the colon separated list of packages to be bound
+	 * @return the JAXB context for the given packages.
+	 * @throws JAXBException if the context could not be created.
+	 */
+	static JAXBContext getContext(final String contextPath) throws JAXBException {
+		final JAXBContext context = CONTEXTS.get(contextPath);
+		if (context != null) {
+			return context;
+		}
+		final JAXBContext created = JAXBContext.newInstance(contextPath);
+		final JAXBContext previous = CONTEXTS.putIfAbsent(contextPath, created);
+		return previous != null ? previous : created;
+	}
+
+	/**
+	 * @param resourcePath the resource path of the XSD schema, see {@link Constants}
+	 * @return the compiled schema.
+	 * @throws SAXException if the schema could not be read or compiled.
+	 */
+	static Schema getSchema(final String resourcePath) throws SAXException {
+		final Schema schema = SCHEMAS.get(resourcePath);
+		if (schema != null) {
+			return schema;
+		}
+		final Schema created;
+		try (InputStream schemaStream = Constants.getResourceAsStream(resourcePath)) {
+			final SchemaFactory sf = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+			created = sf.newSchema(new StreamSource(schemaStream));
+		} catch (IOException e) {
+			throw new SAXException("Unable to read the schema " + resourcePath, e);
+		}
+		final Schema previous = SCHEMAS.putIfAbsent(resourcePath, created);
+		return previous != null ? previous : created;
+	}
+
+	/**
+	 * Returns an unmarshaller for the given class validating against the given schema. The unmarshaller is reused by
+	 * subsequent calls of the same thread and must not be passed to other threads.
+	 *
+	 * @param type the class to be bound
+	 * @param schemaResourcePath the resource path of the XSD schema, see {@link Constants}
+	 * @return the unmarshaller of the current thread.
+	 * @throws JAXBException if the unmarshaller could not be created.
+	 * @throws SAXException if the schema could not be read or compiled.
+	 */
+	static Unmarshaller getUnmarshaller(final Class<?> type, final String schemaResourcePath)
+			throws JAXBException, SAXException {
+		final Map<String, Unmarshaller> unmarshallers = UNMARSHALLERS.get();
+		final String key = type.getName() + ":" + schemaResourcePath;
+		Unmarshaller unmarshaller = unmarshallers.get(key);
+		if (unmarshaller == null) {
+			unmarshaller = getContext(type).createUnmarshaller();
+			unmarshaller.setSchema(getSchema(schemaResourcePath));
+			unmarshallers.put(key, unmarshaller);
+		}
+		return unmarshaller;
+	}
+
+	/**
+	 * @return the XML input factory of the current thread, which must not be passed to other threads.
+	 */
+	static XMLInputFactory getXmlInputFactory() {
+		return XML_INPUT_FACTORY.get();
+	}
+}
@@ -1,14 +1,10 @@
 package com.achelos.task.xmlparser.xmlparsing;
 
 import java.io.File;
-import java.io.InputStream;
 
-import javax.xml.XMLConstants;
-import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.stream.StreamSource;
-import javax.xml.validation.Schema;
-import javax.xml.validation.SchemaFactory;
 
 import org.xml.sax.SAXException;
 
@@ -22,7 +18,6 @@ import generated.jaxb.configuration.TestProfiles;
 import generated.jaxb.configuration.TlsConfigurationData;
 import generated.jaxb.input.ICS;
 import generated.jaxb.testrunplan.TestRunPlan;
-import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBException;
 import jakarta.xml.bind.Unmarshaller;
 
@@ -120,24 +115,15 @@ public class XmlParsing {
 	}
 
 	private static <T> T unmarshallObject(final File xmlFile, final String pathToSchema, final Class<T> type) {
-		return unmarshallObject(xmlFile, Constants.getResourceAsStream(pathToSchema), type);
-	}
-
-	private static <T> T unmarshallObject(final File xmlFile, final InputStream schemaStream, final Class<T> type) {
 		var logger = LoggingConnector.getInstance();
+		XMLStreamReader xmlStreamReader = null;
 		try {
-			// Create Unmarshaller from Class type *.class.
-			JAXBContext jc = JAXBContext.newInstance(type);
-			Unmarshaller unmarshaller = jc.createUnmarshaller();
-
-			// Set Schema
-			SchemaFactory sf = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-			Schema schema = sf.newSchema(new StreamSource(schemaStream));
-			unmarshaller.setSchema(schema);
+			// Reuse the Unmarshaller of this thread for Class type *.class, validating against the cached Schema.
+			Unmarshaller unmarshaller = JaxbCache.getUnmarshaller(type, pathToSchema);
 
 			// Create xmlStreamReader from StreamSource (important for keeping location of
 			// file correct)
-			var xmlStreamReader = XMLInputFactory.newInstance().createXMLStreamReader(new StreamSource(xmlFile));
+			xmlStreamReader = JaxbCache.getXmlInputFactory().createXMLStreamReader(new StreamSource(xmlFile));
 
 			// Parse the input into JAXB Classes and return TLS specification
 			var spec = unmarshaller.unmarshal(xmlStreamReader, type);
@@ -151,6 +137,14 @@ public class XmlParsing {
 		} catch (SAXException e) {
 			logger.error("An error occurred while reading the schema file.", e);
 			return null;
+		} finally {
+			if (xmlStreamReader != null) {
+				try {
+					xmlStreamReader.close();
+				} catch (XMLStreamException e) {
+					logger.debug("Unable to close the XML object: " + xmlFile.getAbsolutePath());
+				}
+			}
 		}
 	}
 
@@ -1,18 +1,13 @@
 package com.achelos.task.xmlparser.xmlparsing;
 
 import java.io.File;
-import java.io.InputStream;
 
-import javax.xml.XMLConstants;
-import javax.xml.transform.stream.StreamSource;
-import javax.xml.validation.Schema;
-import javax.xml.validation.SchemaFactory;
+import javax.xml.stream.XMLStreamWriter;
 
 import org.xml.sax.SAXException;
 
 import generated.jaxb.testrunplan.TestRunPlan;
 import generated.jaxb.xmlreport.TaSKReport;
-import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBException;
 import jakarta.xml.bind.Marshaller;
 
@@ -30,16 +25,12 @@ public class XmlPrinting {
 
 	public static void printXmlReport(final TaSKReport taskReport, final File fileToWrite)
 			throws JAXBException, SAXException {
-		var schemaStream = Constants.getResourceAsStream(Constants.RESOURCE_TASK_REPORT_XSD);
-
-		JAXBContext jc = JAXBContext
-				.newInstance("generated.jaxb.xmlreport:generated.jaxb.input:generated.jaxb.testrunplan");
-		var marshaller = jc.createMarshaller();
+		var marshaller = JaxbCache
+				.getContext("generated.jaxb.xmlreport:generated.jaxb.input:generated.jaxb.testrunplan")
+				.createMarshaller();
 
 		// Set Schema
-		SchemaFactory sf = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-		Schema schema = sf.newSchema(new StreamSource(schemaStream));
-		marshaller.setSchema(schema);
+		marshaller.setSchema(JaxbCache.getSchema(Constants.RESOURCE_TASK_REPORT_XSD));
 		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
 
 		// fileToWrite
@@ -54,6 +45,24 @@ public class XmlPrinting {
 		marshaller.marshal(taskReport, fileToWrite);
 	}
 
+	/**
+	 * Print an element of the input parameters of a TaSK report, e.g. the MICS or the test run plan, as a fragment into
+	 * an XML stream which is written by the caller.
+	 *
+	 * @param element the element to print
+	 * @param writer the XML stream to print the element into
+	 * @throws JAXBException if the element could not be printed.
+	 */
+	public static void printXmlReportFragment(final Object element, final XMLStreamWriter writer)
+			throws JAXBException {
+		var marshaller = JaxbCache
+				.getContext("generated.jaxb.xmlreport:generated.jaxb.input:generated.jaxb.testrunplan")
+				.createMarshaller();
+		marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+
+		marshaller.marshal(element, writer);
+	}
+
 	public static void printTestRunPlanXml(final TestRunPlan testRunPlan, final File fileToWrite)
 			throws JAXBException, SAXException {
 		marshallObject(testRunPlan, Constants.RESOURCE_TEST_RUN_PLAN_XSD, fileToWrite);
@@ -61,19 +70,11 @@ public class XmlPrinting {
 
 	private static <T> void marshallObject(final T object, final String pathToSchema, final File fileToWrite)
 			throws JAXBException, SAXException {
-		marshallObject(object, Constants.getResourceAsStream(pathToSchema), fileToWrite);
-	}
-
-	private static <T> void marshallObject(final T object, final InputStream schemaStream, final File fileToWrite)
-			throws JAXBException, SAXException {
-		// Create Marshaller from Class type *.class.
-		JAXBContext jc = JAXBContext.newInstance(object.getClass());
-		var marshaller = jc.createMarshaller();
+		// Create Marshaller from the cached context of Class type *.class.
+		var marshaller = JaxbCache.getContext(object.getClass()).createMarshaller();
 
 		// Set Schema
-		SchemaFactory sf = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-		Schema schema = sf.newSchema(new StreamSource(schemaStream));
-		marshaller.setSchema(schema);
+		marshaller.setSchema(JaxbCache.getSchema(pathToSchema));
 		marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
 
 		// fileToWrite
@@ -6,6 +6,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.io.FileFilter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
 
 import com.achelos.task.logging.LoggingConnector;
 import org.junit.jupiter.api.Assertions;
@@ -180,6 +183,48 @@ class TestConfigParser {
 
 	}
 
+	@Test
+	void testParseSpecificationListKeepsOrder() {
+		var specDir = "../data/specification/ApplicationSpecifications/";
+		var xmlSpecFiles = List.of(new File(specDir + "TR-03124-1-EID-CLIENT-Specification-TLS-2.xml"),
+				new File(specDir + "TR-03116-4-SERVER-Specification.xml"),
+				new File(specDir + "TR-03124-1-EID-CLIENT-Specification-TLS-1-2.xml"),
+				new File(specDir + "TR-03116-4-CLIENT-Specification.xml"));
+
+		var specs = ConfigParser.parseSpecificationList(xmlSpecFiles);
+
+		assertEquals(4, specs.size(), "Number of parsed specifications does not match.");
+		assertEquals("TR-03124-1-EID-CLIENT-TLS-2", specs.get(0).getId(), "Order of parsed specifications is wrong.");
+		assertEquals("TR-03116-4-SERVER", specs.get(1).getId(), "Order of parsed specifications is wrong.");
+		assertEquals("TR-03124-1-EID-CLIENT-TLS-1-2", specs.get(2).getId(), "Order of parsed specifications is wrong.");
+		assertEquals("TR-03116-4-CLIENT", specs.get(3).getId(), "Order of parsed specifications is wrong.");
+	}
+
+	@Test
+	void testTestCaseListParsingReportsAllFailures() throws IOException {
+		var testCaseDirectory = new File("../data/specification/TestCases");
+		long testCaseFileCount;
+		try (var files = Files.walk(testCaseDirectory.toPath())) {
+			testCaseFileCount = files.filter(file -> file.getFileName().toString().endsWith(".xml")).count();
+		}
+		var brokenFile = Files.createTempFile("TestCase", ".xml").toFile();
+		var missingFile = new File(brokenFile.getParentFile(), brokenFile.getName() + ".missing.xml");
+		try {
+			Files.writeString(brokenFile.toPath(), "<TestCase>");
+			var exception = Assertions.assertThrows(IllegalArgumentException.class,
+					() -> ConfigParser.parseTestCaseList(List.of(brokenFile, testCaseDirectory, missingFile)));
+
+			assertTrue(exception.getMessage().contains("2 of " + (testCaseFileCount + 2)),
+					"Number of failed files is not reported.");
+			assertTrue(exception.getMessage().contains(brokenFile.getPath()), "Broken file is not reported.");
+			assertTrue(exception.getMessage().contains(missingFile.getPath()), "Missing file is not reported.");
+			assertNotNull(exception.getCause(), "Error of the first failed file is not attached.");
+			assertEquals(1, exception.getSuppressed().length, "Error of the second failed file is not attached.");
+		} finally {
+			brokenFile.delete();
+		}
+	}
+
 	@Test
 	void testConfigParsing() {
 		var exampleConfigPath = new File("../data/configuration/ExampleGlobalConfig.xml");
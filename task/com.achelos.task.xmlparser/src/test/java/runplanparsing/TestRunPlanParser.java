@@ -0,0 +1,48 @@
+package runplanparsing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.achelos.task.commons.enums.TlsVersion;
+import com.achelos.task.logging.LoggingConnector;
+import com.achelos.task.xmlparser.runplanparsing.RunPlanParser;
+
+
+class TestRunPlanParser {
+
+	private static final File EXAMPLE_RUN_PLAN = new File("../data/testrunplan/TRP_ExampleMICS_Client.xml");
+
+	@BeforeAll
+	static void initLogging() {
+		LoggingConnector.getInstance("DEBUG");
+	}
+
+	@Test
+	void testUnmatchedDheKeyLengthOnlyFailsItsGetter() throws IOException {
+		assertTrue(EXAMPLE_RUN_PLAN.exists(), "Test run plan file does not exist.");
+		var runPlan = Files.readString(EXAMPLE_RUN_PLAN.toPath(), StandardCharsets.UTF_8);
+		var dheKeyLength = "<KeyLength supported=\"false\" tlsVersion=\"TLSv1.2\">1536</KeyLength>";
+		assertTrue(runPlan.contains(dheKeyLength), "Test run plan file does not contain the DHE key length.");
+		var runPlanFile = File.createTempFile("TRP_UnmatchedDheKeyLength", ".xml");
+		runPlanFile.deleteOnExit();
+		Files.writeString(runPlanFile.toPath(), runPlan.replace(dheKeyLength, dheKeyLength.replace("1536", "1000")),
+				StandardCharsets.UTF_8);
+
+		var runPlanData = RunPlanParser.parseRunPlan(runPlanFile);
+
+		var exception = assertThrows(RuntimeException.class,
+				() -> runPlanData.getInsufficientDHEKeyLengths(TlsVersion.TLS_V1_2));
+		assertEquals("No matching DH Group found for key length: 1000", exception.getMessage());
+		assertTrue(runPlanData.getSufficientDHEKeyLengths(TlsVersion.TLS_V1_2).isEmpty(),
+				"The supported DHE key lengths are affected by the unmatched key length.");
+	}
+}